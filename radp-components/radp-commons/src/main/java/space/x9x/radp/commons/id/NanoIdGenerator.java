@@ -16,9 +16,12 @@
 
 package space.x9x.radp.commons.id;
 
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.function.Supplier;
 
+import lombok.Getter;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -30,6 +33,13 @@ import lombok.experimental.UtilityClass;
  * The default implementation uses a secure random number generator and a URL-friendly
  * alphabet to create identifiers that are safe for use in URLs and filenames.
  *
+ * <p>
+ * Alphabet and size are compiled once into a {@link Spec}, which also keeps per-thread
+ * byte and char buffers, so generating an ID only allocates the resulting string. Random
+ * bytes are drawn from an {@link EntropySource}; the default one uses a per-thread
+ * {@code DRBG} (or {@code SHA1PRNG} before JDK 9) seeded once, instead of a shared,
+ * internally synchronized {@link SecureRandom}.
+ *
  * @author RADP x9x
  * @since 2024-12-27 12:08
  */
@@ -55,15 +65,44 @@ public class NanoIdGenerator {
 	 */
 	public static final int DEFAULT_SIZE = 21;
 
+	/**
+	 * The default spec: {@link #DEFAULT_SIZE} characters of the URL-friendly alphabet.
+	 */
+	public static final Spec DEFAULT_SPEC = Spec.of(DEFAULT_ALPHABET, DEFAULT_SIZE);
+
+	/**
+	 * The default entropy source, per-thread secure random number generators seeded once.
+	 */
+	public static final EntropySource DEFAULT_ENTROPY_SOURCE = EntropySource.drbg();
+
 	/**
 	 * Generates a random NanoID using default settings.
 	 * <p>
-	 * This method uses the default random number generator, alphabet, and size to create
-	 * a secure, URL-friendly, unique identifier.
+	 * This method uses the default entropy source, alphabet, and size to create a secure,
+	 * URL-friendly, unique identifier.
 	 * @return a randomly generated NanoID string
 	 */
 	public static String randomNanoId() {
-		return randomNanoId(DEFAULT_NUMBER_GENERATOR, DEFAULT_ALPHABET, DEFAULT_SIZE);
+		return DEFAULT_SPEC.generate(DEFAULT_ENTROPY_SOURCE);
+	}
+
+	/**
+	 * Generates a random NanoID of the given spec using the default entropy source.
+	 * @param spec the compiled alphabet and size
+	 * @return a randomly generated NanoID string
+	 */
+	public static String randomNanoId(Spec spec) {
+		return spec.generate(DEFAULT_ENTROPY_SOURCE);
+	}
+
+	/**
+	 * Generates a random NanoID of the given spec.
+	 * @param spec the compiled alphabet and size
+	 * @param entropySource the source of random bytes
+	 * @return a randomly generated NanoID string
+	 */
+	public static String randomNanoId(Spec spec, EntropySource entropySource) {
+		return spec.generate(entropySource);
 	}
 
 	/**
@@ -71,45 +110,239 @@ public class NanoIdGenerator {
 	 * <p>
 	 * This method allows customization of the random number generator, alphabet, and size
 	 * of the generated ID. It implements the NanoID algorithm to create
-	 * collision-resistant, unique identifiers.
+	 * collision-resistant, unique identifiers. Prefer a precompiled {@link Spec} when the
+	 * same alphabet and size are used repeatedly.
 	 * @param random the random number generator to use
 	 * @param alphabet the characters to use for the ID
 	 * @param size the length of the ID to generate
 	 * @return a randomly generated NanoID string
 	 * @throws IllegalArgumentException if any parameter is invalid
 	 */
-	@SuppressWarnings("t")
 	public static String randomNanoId(final Random random, final char[] alphabet, final int size) {
 		if (random == null) {
 			throw new IllegalArgumentException("random cannot be null.");
 		}
-		if (alphabet == null) {
-			throw new IllegalArgumentException("alphabet cannot be null.");
+		Spec spec = Spec.of(alphabet, size);
+		return spec.generate(random::nextBytes, new byte[spec.step], new char[size]);
+	}
+
+	/**
+	 * Fills the given array with random NanoIDs using default settings.
+	 * @param out the array to fill
+	 */
+	public static void fill(String[] out) {
+		fill(out, DEFAULT_SPEC, DEFAULT_ENTROPY_SOURCE);
+	}
+
+	/**
+	 * Fills the given array with random NanoIDs of the given spec.
+	 * @param out the array to fill
+	 * @param spec the compiled alphabet and size
+	 * @param entropySource the source of random bytes
+	 */
+	public static void fill(String[] out, Spec spec, EntropySource entropySource) {
+		Spec.Buffer buffer = spec.buffers.get();
+		for (int i = 0; i < out.length; i++) {
+			out[i] = spec.generate(entropySource, buffer.bytes, buffer.chars);
+		}
+	}
+
+	/**
+	 * Source of the random bytes NanoIDs are generated from.
+	 */
+	@FunctionalInterface
+	public interface EntropySource {
+
+		/**
+		 * Fills the given array with random bytes.
+		 * @param bytes the array to fill
+		 */
+		void nextBytes(byte[] bytes);
+
+		/**
+		 * Creates an entropy source drawing from a single, shared random number
+		 * generator.
+		 * @param random the random number generator
+		 * @return the entropy source
+		 */
+		static EntropySource of(Random random) {
+			if (random == null) {
+				throw new IllegalArgumentException("random cannot be null.");
+			}
+			return random::nextBytes;
+		}
+
+		/**
+		 * Creates an entropy source using one random number generator per thread.
+		 * @param factory creates the random number generator of a thread
+		 * @return the entropy source
+		 */
+		static EntropySource threadLocal(Supplier<? extends Random> factory) {
+			ThreadLocal<Random> randoms = ThreadLocal.withInitial(factory);
+			return (bytes) -> randoms.get().nextBytes(bytes);
+		}
+
+		/**
+		 * Creates an entropy source using one deterministic random bit generator per
+		 * thread ({@code DRBG}, or {@code SHA1PRNG} before JDK 9), each seeded once from
+		 * {@link #DEFAULT_NUMBER_GENERATOR}. Unlike the default {@link SecureRandom} on
+		 * Linux, these generators do not share a global lock.
+		 * @return the entropy source
+		 */
+		static EntropySource drbg() {
+			return threadLocal(() -> {
+				SecureRandom random = newDrbg();
+				byte[] seed = new byte[32];
+				DEFAULT_NUMBER_GENERATOR.nextBytes(seed);
+				random.setSeed(seed);
+				return random;
+			});
+		}
+
+		/**
+		 * Creates a new deterministic random bit generator.
+		 * @return the random number generator
+		 */
+		static SecureRandom newDrbg() {
+			try {
+				return SecureRandom.getInstance("DRBG");
+			}
+			catch (NoSuchAlgorithmException ex) {
+				try {
+					return SecureRandom.getInstance("SHA1PRNG");
+				}
+				catch (NoSuchAlgorithmException ex2) {
+					return new SecureRandom();
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Compiled NanoID alphabet and size: the bit mask and the number of random bytes drawn
+	 * per step are computed once, and each thread reuses its own buffers.
+	 */
+	public static final class Spec {
+
+		private final char[] alphabet;
+
+		/**
+		 * The length of generated IDs.
+		 */
+		@Getter
+		private final int size;
+
+		/**
+		 * The bit mask applied to random bytes, the smallest {@code 2^n - 1} covering the
+		 * alphabet.
+		 */
+		@Getter
+		private final int mask;
+
+		/**
+		 * The number of random bytes drawn per step.
+		 */
+		@Getter
+		private final int step;
+
+		private final ThreadLocal<Buffer> buffers;
+
+		private Spec(char[] alphabet, int size) {
+			this.alphabet = alphabet;
+			this.size = size;
+			this.mask = (2 << (31 - Integer.numberOfLeadingZeros((alphabet.length - 1) | 1))) - 1;
+			this.step = (int) Math.ceil(1.6 * this.mask * size / alphabet.length);
+			this.buffers = ThreadLocal.withInitial(() -> new Buffer(this.step, size));
+		}
+
+		/**
+		 * Compiles a spec.
+		 * @param alphabet the characters to use for the ID
+		 * @param size the length of the ID to generate
+		 * @return the spec
+		 * @throws IllegalArgumentException if any parameter is invalid
+		 */
+		public static Spec of(char[] alphabet, int size) {
+			if (alphabet == null) {
+				throw new IllegalArgumentException("alphabet cannot be null.");
+			}
+			if (alphabet.length == 0 || alphabet.length >= 256) {
+				throw new IllegalArgumentException("alphabet must contain between 1 and 255 symbols.");
+			}
+			if (size <= 0) {
+				throw new IllegalArgumentException("size must be greater than zero.");
+			}
+			return new Spec(alphabet.clone(), size);
+		}
+
+		/**
+		 * Compiles a spec.
+		 * @param alphabet the characters to use for the ID
+		 * @param size the length of the ID to generate
+		 * @return the spec
+		 * @throws IllegalArgumentException if any parameter is invalid
+		 */
+		public static Spec of(String alphabet, int size) {
+			if (alphabet == null) {
+				throw new IllegalArgumentException("alphabet cannot be null.");
+			}
+			return of(alphabet.toCharArray(), size);
 		}
-		if (alphabet.length == 0 || alphabet.length >= 256) {
-			throw new IllegalArgumentException("alphabet must contain between 1 and 255 symbols.");
+
+		/**
+		 * Returns the characters used for IDs.
+		 * @return a copy of the alphabet
+		 */
+		public char[] getAlphabet() {
+			return this.alphabet.clone();
 		}
-		if (size <= 0) {
-			throw new IllegalArgumentException("size must be greater than zero.");
+
+		String generate(EntropySource entropySource) {
+			Buffer buffer = this.buffers.get();
+			return generate(entropySource, buffer.bytes, buffer.chars);
 		}
 
-		final int mask = (2 << (int) Math.floor(Math.log(alphabet.length - 1) / Math.log(2))) - 1;
-		final int step = (int) Math.ceil(1.6 * mask * size / alphabet.length);
-
-		final StringBuilder idBuilder = new StringBuilder();
-		while (true) {
-			final byte[] bytes = new byte[step];
-			random.nextBytes(bytes);
-			for (int i = 0; i < step; i++) {
-				final int alphabetIndex = bytes[i] & mask;
-				if (alphabetIndex < alphabet.length) {
-					idBuilder.append(alphabet[alphabetIndex]);
-					if (idBuilder.length() == size) {
-						return idBuilder.toString();
+		String generate(EntropySource entropySource, byte[] bytes, char[] chars) {
+			char[] alphabet = this.alphabet;
+			int length = alphabet.length;
+			int mask = this.mask;
+			int count = 0;
+			while (true) {
+				entropySource.nextBytes(bytes);
+				for (byte b : bytes) {
+					int alphabetIndex = b & mask;
+					if (alphabetIndex < length) {
+						chars[count++] = alphabet[alphabetIndex];
+						if (count == chars.length) {
+							return new String(chars);
+						}
 					}
 				}
 			}
 		}
+
+		@Override
+		public String toString() {
+			return "Spec(alphabet=" + new String(this.alphabet) + ", size=" + this.size + ")";
+		}
+
+		/**
+		 * Per-thread buffers of a spec.
+		 */
+		private static final class Buffer {
+
+			private final byte[] bytes;
+
+			private final char[] chars;
+
+			Buffer(int step, int size) {
+				this.bytes = new byte[step];
+				this.chars = new char[size];
+			}
+
+		}
+
 	}
 
 }
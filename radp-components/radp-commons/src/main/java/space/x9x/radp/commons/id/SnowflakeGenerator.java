@@ -16,13 +16,18 @@
 
 package space.x9x.radp.commons.id;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
 
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Synchronized;
 
 /**
  * Twitter Snowflake ID Generator.
@@ -53,6 +58,11 @@ import lombok.Synchronized;
  * }
  * }</pre>
  *
+ * <p>
+ * 生成器是无锁的: 上次生成的时间戳与序列号打包在同一个 {@link AtomicLong} 中, 通过 CAS
+ * 推进, 高并发下不再串行化在对象锁上. {@link #nextIds(int)} 一次 CAS 预留一段连续的序列号,
+ * 适用于批量插入. 时钟回拨的处理方式见 {@link ClockBackwardsPolicy}.
+ *
  * @author RADP x9x
  * @since 2024-12-27 12:36
  */
@@ -109,10 +119,20 @@ public class SnowflakeGenerator {
 	private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS); // 4095
 
 	/**
-	 * 允许容忍的最大回拨毫秒数 (<=5ms 等待, >5ms 才报错)
+	 * 默认允许容忍的最大回拨毫秒数 (<=5ms 等待, >5ms 才报错)
 	 */
 	private static final long MAX_BACKWARD_MS = 5L;
 
+	/**
+	 * {@code Thread.onSpinWait()} (JDK 9+), 只在类加载时解析一次.
+	 */
+	private static final MethodHandle ON_SPIN_WAIT = findOnSpinWait();
+
+	/**
+	 * 缓存 SnowflakeGenerator, 复用创建过的 generator, 避免每次 new 带来丢状态/重复的风险.
+	 */
+	private static final ConcurrentHashMap<Long, SnowflakeGenerator> REGISTRY = new ConcurrentHashMap<>();
+
 	/**
 	 * 机器 ID
 	 */
@@ -126,30 +146,62 @@ public class SnowflakeGenerator {
 	private final long dataCenterId;
 
 	/**
-	 * 毫秒内序列号
+	 * 时钟回拨处理策略
+	 */
+	@Getter
+	private final ClockBackwardsPolicy clockBackwardsPolicy;
+
+	/**
+	 * 允许容忍的最大回拨 (或预借) 毫秒数
 	 */
-	private long sequence = 0L;
+	@Getter
+	private final long maxBackwardMillis;
 
 	/**
-	 * 上次生成 ID 的时间截
+	 * 预先移位的数据中心 ID 与机器 ID
 	 */
-	private long lastTimestamp = -1L;
+	private final long machineBits;
+
+	/**
+	 * 上次生成 ID 的状态: 高位为相对 {@link #EPOCH} 的时间截, 低 12 位为毫秒内序列号. 序列号溢出时
+	 * 自然进位到下一毫秒.
+	 */
+	private final AtomicLong state = new AtomicLong();
 
 	/**
 	 * 构造函数
 	 * @param dataCenterId 数据中心 ID
 	 * @param workerId 工作 ID
 	 */
-	@Builder
 	public SnowflakeGenerator(long dataCenterId, long workerId) {
+		this(dataCenterId, workerId, null, null);
+	}
+
+	/**
+	 * 构造函数
+	 * @param dataCenterId 数据中心 ID
+	 * @param workerId 工作 ID
+	 * @param clockBackwardsPolicy 时钟回拨处理策略, 为 {@code null} 时使用
+	 * {@link ClockBackwardsPolicy#WAIT}
+	 * @param maxBackward 允许容忍的最大回拨, 为 {@code null} 时为 5ms
+	 */
+	@Builder
+	public SnowflakeGenerator(long dataCenterId, long workerId, ClockBackwardsPolicy clockBackwardsPolicy,
+			Duration maxBackward) {
 		if (dataCenterId > MAX_DATACENTER_ID || dataCenterId < 0) {
 			throw new IllegalArgumentException(String.format("dataCenterId 不能大于 %d 或者小于 0", MAX_DATACENTER_ID));
 		}
 		if (workerId > MAX_WORKER_ID || workerId < 0) {
 			throw new IllegalArgumentException(String.format("workerId 不能大于 %d 或者小于 0", MAX_WORKER_ID));
 		}
+		if (maxBackward != null && maxBackward.isNegative()) {
+			throw new IllegalArgumentException("maxBackward 不能小于 0");
+		}
 		this.dataCenterId = dataCenterId;
 		this.workerId = workerId;
+		this.clockBackwardsPolicy = (clockBackwardsPolicy != null) ? clockBackwardsPolicy : ClockBackwardsPolicy.WAIT;
+		this.maxBackwardMillis = (maxBackward != null) ? maxBackward.toMillis() : MAX_BACKWARD_MS;
+		this.machineBits = (dataCenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT);
 	}
 
 	/**
@@ -168,44 +220,99 @@ public class SnowflakeGenerator {
 	 * 获得下一个 ID
 	 * @return snowflakeId
 	 */
-	@Synchronized
 	public long nextId() {
-		long ts = currentTime();
+		return toId(reserve(1));
+	}
 
-		// 处理时钟回拨
-		if (ts < this.lastTimestamp) {
-			long diff = this.lastTimestamp - ts;
-			if (diff <= MAX_BACKWARD_MS) {
-				ts = waitUntil(this.lastTimestamp); // 等到不小于 lastTimestamp
-			}
-			else {
-				throw new IllegalStateException("检测到时钟回拨 " + diff + "ms，大于允许阈值 " + MAX_BACKWARD_MS + "ms");
+	/**
+	 * 批量获得 ID. 一次 CAS 预留 {@code n} 个连续的序列号, 返回的 ID 严格递增. 超过单毫秒容量
+	 * (4096) 时使用上次生成之后未被使用的毫秒, 仍不足时等待时钟 (或按
+	 * {@link ClockBackwardsPolicy#BORROW} 预借).
+	 * @param n ID 个数
+	 * @return snowflakeIds
+	 * @throws IllegalArgumentException n 小于 0 时
+	 */
+	public long[] nextIds(int n) {
+		checkCount(n);
+		long[] ids = new long[n];
+		if (n > 0) {
+			long first = reserve(n) - n + 1;
+			for (int i = 0; i < n; i++) {
+				ids[i] = toId(first + i);
 			}
 		}
+		return ids;
+	}
 
-		if (ts == this.lastTimestamp) {
-			// 同一毫秒内递增
-			this.sequence = (this.sequence + 1) & SEQUENCE_MASK;
-			if (this.sequence == 0) {
-				// 溢出，等到下一毫秒
-				ts = waitUntil(this.lastTimestamp + 1);
-			}
-		}
-		else {
-			this.sequence = 0L; // 新毫秒，序列归零（也可改为随机起点减冲突，但非必须）
+	/**
+	 * 批量获得 ID, 预留方式同 {@link #nextIds(int)}. 序列号在调用时即已预留, 流可以延迟消费.
+	 * @param n ID 个数
+	 * @return snowflakeId 流
+	 * @throws IllegalArgumentException n 小于 0 时
+	 */
+	public LongStream idStream(int n) {
+		checkCount(n);
+		if (n == 0) {
+			return LongStream.empty();
 		}
+		long last = reserve(n);
+		return LongStream.rangeClosed(last - n + 1, last).map(this::toId);
+	}
 
-		this.lastTimestamp = ts;
+	private static void checkCount(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException(String.format("n 不能小于 0: %d", n));
+		}
+	}
 
-		// 组装 64 位 ID（最高位始终为 0）
-		return ((ts - EPOCH) << TIMESTAMP_LEFT_SHIFT) | (this.dataCenterId << DATACENTER_ID_SHIFT)
-				| (this.workerId << WORKER_ID_SHIFT) | this.sequence;
+	/**
+	 * 解析 ID 中的时间截
+	 * @param id snowflakeId
+	 * @return 生成 ID 时的时间截 (毫秒)
+	 */
+	public static long getTimestamp(long id) {
+		return (id >>> TIMESTAMP_LEFT_SHIFT) + EPOCH;
 	}
 
 	/**
-	 * 缓存 SnowflakeGenerator, 复用创建过的 generator, 避免每次 new 带来丢状态/重复的风险.
+	 * 预留 {@code n} 个序列号.
+	 * @param n 序列号个数
+	 * @return 预留的最后一个状态值
 	 */
-	private static final ConcurrentHashMap<Long, SnowflakeGenerator> REGISTRY = new ConcurrentHashMap<>();
+	private long reserve(int n) {
+		long borrowLimit = (this.clockBackwardsPolicy == ClockBackwardsPolicy.BORROW) ? this.maxBackwardMillis : 0;
+		for (;;) {
+			long current = this.state.get();
+			long last = current >>> SEQUENCE_BITS;
+			long now = currentTime() - EPOCH;
+			// 新毫秒, 序列归零; 否则在上次状态上递增, 溢出时进位到下一毫秒.
+			// 批量预留超出当前毫秒时, 优先使用上次状态之后尚未使用的过去毫秒, 而不是预借未来毫秒
+			long next = current + n;
+			if (now > last) {
+				long base = now << SEQUENCE_BITS;
+				next = Math.max(next, Math.min(base - 1 + n, base | SEQUENCE_MASK));
+			}
+			long ahead = (next >>> SEQUENCE_BITS) - now;
+			if (ahead > borrowLimit) {
+				// 时钟回拨, 或序列号已用到了当前时钟之后
+				long backwards = last - now;
+				if (backwards > 0 && (this.clockBackwardsPolicy == ClockBackwardsPolicy.FAIL
+						|| backwards > this.maxBackwardMillis)) {
+					throw new IllegalStateException(
+							"检测到时钟回拨 " + backwards + "ms，大于允许阈值 " + this.maxBackwardMillis + "ms");
+				}
+				waitUntil(EPOCH + now + ahead - borrowLimit);
+			}
+			else if (this.state.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+
+	private long toId(long value) {
+		// 组装 64 位 ID（最高位始终为 0）
+		return ((value >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT) | this.machineBits | (value & SEQUENCE_MASK);
+	}
 
 	private static long key(long dataCenterId, long workerId) {
 		return (dataCenterId << 5) | workerId;
@@ -219,19 +326,55 @@ public class SnowflakeGenerator {
 		long now = currentTime();
 		while (now < targetTime) {
 			relax();
-			now = System.currentTimeMillis();
+			now = currentTime();
 		}
 		return now;
 	}
 
 	private static void relax() {
+		if (ON_SPIN_WAIT != null) {
+			try {
+				ON_SPIN_WAIT.invokeExact();
+				return;
+			}
+			catch (Throwable ignore) {
+				// fall through
+			}
+		}
+		LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100)); // -0.1ms
+	}
+
+	private static MethodHandle findOnSpinWait() {
 		try {
-			Method method = Thread.class.getMethod("onSpinWait");
-			method.invoke(null);
+			return MethodHandles.lookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
 		}
-		catch (Exception ignore) {
-			LockSupport.parkNanos(100_000L); // -0.1ms
+		catch (NoSuchMethodException | IllegalAccessException ex) {
+			return null;
 		}
 	}
 
+	/**
+	 * 时钟回拨处理策略. 回拨超过 {@code maxBackward} 时, 所有策略都会抛出
+	 * {@link IllegalStateException}.
+	 */
+	public enum ClockBackwardsPolicy {
+
+		/**
+		 * 等待时钟追上上次生成 ID 的时间截.
+		 */
+		WAIT,
+
+		/**
+		 * 不等待, 继续使用上次的时间截并预借后续毫秒的序列号. 序列号溢出时同样预借, 最多领先时钟
+		 * {@code maxBackward}.
+		 */
+		BORROW,
+
+		/**
+		 * 立即抛出 {@link IllegalStateException}.
+		 */
+		FAIL
+
+	}
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.io;
+
+import java.io.IOException;
+
+/**
+ * Signals that a {@link TruncatingWriter} or {@link TruncatingOutputStream} has reached
+ * its limit, so that the producer writing to it, typically a serializer, stops early.
+ * <p>
+ * It is control flow rather than an error and therefore carries no stack trace. Callers
+ * catching a library exception can recognize the signal among its causes with
+ * {@link #isCause(Throwable)}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:45
+ */
+public class LimitExceededException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates the signal.
+	 * @param limit the limit that was reached
+	 */
+	public LimitExceededException(int limit) {
+		super("Limit of " + limit + " characters reached");
+	}
+
+	/**
+	 * Checks whether the throwable is, or was caused by, a {@link LimitExceededException}.
+	 * @param throwable the throwable to check, may be {@code null}
+	 * @return {@code true} if the throwable signals a reached limit
+	 */
+	public static boolean isCause(Throwable throwable) {
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+			if (cause instanceof LimitExceededException) {
+				return true;
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+}
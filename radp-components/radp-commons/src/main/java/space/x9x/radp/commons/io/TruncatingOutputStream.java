@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.io;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Output stream keeping the first characters of the UTF-8 text written to it and
+ * rejecting the rest.
+ * <p>
+ * The limit counts characters (code points) rather than bytes, so a text is never cut
+ * within a multi-byte sequence. Once the limit is reached the stream is
+ * {@linkplain #isTruncated() truncated} and every further write throws a
+ * {@link LimitExceededException}, so a serializer streaming a large value to it stops
+ * after little more than the retained prefix. Not thread-safe.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:45
+ */
+public class TruncatingOutputStream extends OutputStream {
+
+	private final int limit;
+
+	private byte[] buffer;
+
+	private int count;
+
+	private int characters;
+
+	private boolean truncated;
+
+	/**
+	 * Creates a stream keeping at most the given number of characters.
+	 * @param limit the maximum number of characters to keep
+	 */
+	public TruncatingOutputStream(int limit) {
+		this.limit = Math.max(0, limit);
+		this.buffer = new byte[Math.min(this.limit, 256)];
+	}
+
+	@Override
+	public void write(int b) throws LimitExceededException {
+		if (!isContinuation(b)) {
+			if (this.characters == this.limit) {
+				this.truncated = true;
+				throw new LimitExceededException(this.limit);
+			}
+			this.characters++;
+		}
+		if (this.count == this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(16, this.buffer.length * 2));
+		}
+		this.buffer[this.count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws LimitExceededException {
+		for (int i = off; i < off + len; i++) {
+			write(b[i]);
+		}
+	}
+
+	/**
+	 * Checks whether characters were rejected.
+	 * @return {@code true} if the written text exceeded the limit
+	 */
+	public boolean isTruncated() {
+		return this.truncated;
+	}
+
+	/**
+	 * Returns the characters kept.
+	 * @return the written text decoded as UTF-8, cut at the limit
+	 */
+	@Override
+	public String toString() {
+		return new String(this.buffer, 0, this.count, StandardCharsets.UTF_8);
+	}
+
+	private static boolean isContinuation(int b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+}
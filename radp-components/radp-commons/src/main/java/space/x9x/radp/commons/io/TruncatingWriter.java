@@ -0,0 +1,149 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.io;
+
+import java.io.Writer;
+
+/**
+ * Writer keeping the first characters written to it and rejecting the rest.
+ * <p>
+ * Once the limit is reached the writer is {@linkplain #isTruncated() truncated} and
+ * every further write throws a {@link LimitExceededException}, so rendering a large value
+ * costs no more than its retained prefix. Not thread-safe.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:45
+ */
+public class TruncatingWriter extends Writer {
+
+	private final StringBuilder buffer;
+
+	private final int limit;
+
+	private boolean truncated;
+
+	/**
+	 * Creates a writer keeping at most the given number of characters.
+	 * @param limit the maximum number of characters to keep
+	 */
+	public TruncatingWriter(int limit) {
+		this.limit = Math.max(0, limit);
+		this.buffer = new StringBuilder(Math.min(this.limit, 256));
+	}
+
+	@Override
+	public void write(int c) throws LimitExceededException {
+		ensureCapacity(1);
+		this.buffer.append((char) c);
+	}
+
+	@Override
+	public void write(String str) throws LimitExceededException {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws LimitExceededException {
+		int accepted = ensureCapacity(len);
+		this.buffer.append(cbuf, off, accepted);
+		checkTruncated();
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws LimitExceededException {
+		int accepted = ensureCapacity(len);
+		this.buffer.append(str, off, off + accepted);
+		checkTruncated();
+	}
+
+	@Override
+	public TruncatingWriter append(CharSequence csq) throws LimitExceededException {
+		CharSequence value = (csq != null) ? csq : "null";
+		return append(value, 0, value.length());
+	}
+
+	@Override
+	public TruncatingWriter append(CharSequence csq, int start, int end) throws LimitExceededException {
+		CharSequence value = (csq != null) ? csq : "null";
+		int accepted = ensureCapacity(end - start);
+		this.buffer.append(value, start, start + accepted);
+		checkTruncated();
+		return this;
+	}
+
+	@Override
+	public TruncatingWriter append(char c) throws LimitExceededException {
+		write(c);
+		return this;
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * Checks whether characters were rejected.
+	 * @return {@code true} if the written text exceeded the limit
+	 */
+	public boolean isTruncated() {
+		return this.truncated;
+	}
+
+	/**
+	 * Returns the number of characters kept.
+	 * @return the length of the kept text
+	 */
+	public int length() {
+		return this.buffer.length();
+	}
+
+	/**
+	 * Returns the characters kept.
+	 * @return the written text, cut at the limit
+	 */
+	@Override
+	public String toString() {
+		return this.buffer.toString();
+	}
+
+	/**
+	 * Returns how many of the requested characters fit, marking the writer as truncated
+	 * if not all of them do.
+	 */
+	private int ensureCapacity(int requested) throws LimitExceededException {
+		int remaining = this.limit - this.buffer.length();
+		if (requested <= remaining) {
+			return requested;
+		}
+		this.truncated = true;
+		if (remaining == 0) {
+			throw new LimitExceededException(this.limit);
+		}
+		return remaining;
+	}
+
+	private void checkTruncated() throws LimitExceededException {
+		if (this.truncated) {
+			throw new LimitExceededException(this.limit);
+		}
+	}
+
+}
@@ -18,12 +18,17 @@ package space.x9x.radp.commons.json;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
-import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -38,6 +43,8 @@ import lombok.extern.slf4j.Slf4j;
 import space.x9x.radp.commons.json.jackson.exception.JacksonException;
 import space.x9x.radp.commons.json.jackson.mapper.DefaultObjectMapper;
 import space.x9x.radp.commons.json.jackson.mapper.DefaultXmlMapper;
+import space.x9x.radp.commons.json.jackson.mapper.ObjectMapperRegistry;
+import space.x9x.radp.commons.json.jackson.stream.JsonArrayIterator;
 import space.x9x.radp.commons.lang.StringUtil;
 
 /**
@@ -46,6 +53,15 @@ import space.x9x.radp.commons.lang.StringUtil;
  * strings, as well as parsing JSON and XML. It includes methods for pretty-printing,
  * handling Optional results, and working with various data structures like Maps and
  * Lists.
+ * <p>
+ * The mappers are never reconfigured: writers and readers come from the
+ * {@link ObjectMapperRegistry} of the mapper in use, which builds them once per
+ * inclusion, pretty printing and target type.
+ * <p>
+ * Large JSON arrays can be read incrementally with
+ * {@link #parseIterator(InputStream, Class)} and
+ * {@link #forEachBatch(Path, Class, int, Consumer)} instead of being materialized as a
+ * whole.
  *
  * @author RADP x9x
  * @since 2024-09-23 13:45
@@ -57,14 +73,15 @@ public class JacksonUtils {
 
 	/**
 	 * The default ObjectMapper instance used for JSON operations. This mapper is
-	 * configured with the settings defined in DefaultObjectMapper.
+	 * configured with the settings defined in DefaultObjectMapper and must not be
+	 * reconfigured.
 	 */
 	@Getter
 	private static final ObjectMapper defaultObjectMapper = new DefaultObjectMapper();
 
 	/**
 	 * The default XmlMapper instance used for XML operations. This mapper is configured
-	 * with the settings defined in DefaultXmlMapper.
+	 * with the settings defined in DefaultXmlMapper and must not be reconfigured.
 	 */
 	@Getter
 	private static final XmlMapper defaultXmlMapper = new DefaultXmlMapper();
@@ -156,7 +173,7 @@ public class JacksonUtils {
 			xmlMapper = getDefaultXmlMapper();
 		}
 		try {
-			Object object = xmlMapper.setSerializationInclusion(include).readValue(text, cls);
+			Object object = ObjectMapperRegistry.of(xmlMapper).getReader(cls).readValue(text);
 			return toJSONString(object, include, objectMapper);
 		}
 		catch (JsonProcessingException ex) {
@@ -204,15 +221,78 @@ public class JacksonUtils {
 			objectMapper = getDefaultObjectMapper();
 		}
 		try {
-			return objectMapper.setSerializationInclusion(include)
-				.writerWithDefaultPrettyPrinter()
-				.writeValueAsString(object);
+			return ObjectMapperRegistry.of(objectMapper).getWriter(include, true).writeValueAsString(object);
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
 		}
 	}
 
+	// ============================ to JSONBytes ============================
+
+	/**
+	 * Converts an object to UTF-8 encoded JSON bytes using default inclusion settings,
+	 * without an intermediate string.
+	 * @param <T> the type of the object
+	 * @param object the object to convert
+	 * @return the UTF-8 encoded JSON representation of the object
+	 */
+	public static <T> byte[] toJSONBytes(T object) {
+		return toJSONBytes(object, JsonInclude.Include.USE_DEFAULTS, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Converts an object to UTF-8 encoded JSON bytes with specified inclusion settings
+	 * and object mapper.
+	 * @param <T> the type of the object
+	 * @param object the object to convert
+	 * @param include the inclusion strategy for properties
+	 * @param objectMapper the object mapper to use for conversion
+	 * @return the UTF-8 encoded JSON representation of the object
+	 * @throws JacksonException if an error occurs during JSON processing
+	 */
+	public static <T> byte[] toJSONBytes(T object, JsonInclude.Include include, ObjectMapper objectMapper) {
+		if (objectMapper == null) {
+			objectMapper = getDefaultObjectMapper();
+		}
+		try {
+			return getObjectWriter(include, objectMapper).writeValueAsBytes(object);
+		}
+		catch (JsonProcessingException ex) {
+			throw new JacksonException(ex);
+		}
+	}
+
+	/**
+	 * Writes an object as UTF-8 encoded JSON to an output stream using default inclusion
+	 * settings. The stream is flushed but not closed.
+	 * @param <T> the type of the object
+	 * @param object the object to write
+	 * @param out the output stream to write to
+	 * @throws IOException if an I/O error occurs or the object cannot be serialized
+	 */
+	public static <T> void writeTo(T object, OutputStream out) throws IOException {
+		writeTo(object, out, JsonInclude.Include.USE_DEFAULTS, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Writes an object as UTF-8 encoded JSON to an output stream with specified inclusion
+	 * settings and object mapper. The stream is flushed but not closed.
+	 * @param <T> the type of the object
+	 * @param object the object to write
+	 * @param out the output stream to write to
+	 * @param include the inclusion strategy for properties
+	 * @param objectMapper the object mapper to use for conversion
+	 * @throws IOException if an I/O error occurs or the object cannot be serialized
+	 */
+	public static <T> void writeTo(T object, OutputStream out, JsonInclude.Include include,
+			ObjectMapper objectMapper) throws IOException {
+		if (objectMapper == null) {
+			objectMapper = getDefaultObjectMapper();
+		}
+		getObjectWriter(include, objectMapper).writeValue(out, object);
+	}
+
 	// ============================ jsonString -> T ============================
 
 	/**
@@ -241,7 +321,7 @@ public class JacksonUtils {
 			return null;
 		}
 		try {
-			return objectMapper.readValue(text, typeReference);
+			return ObjectMapperRegistry.of(objectMapper).getReader(typeReference).readValue(text);
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
@@ -274,7 +354,7 @@ public class JacksonUtils {
 			return null;
 		}
 		try {
-			return objectMapper.readValue(text, cls);
+			return ObjectMapperRegistry.of(objectMapper).getReader(cls).readValue(text);
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
@@ -308,7 +388,7 @@ public class JacksonUtils {
 			return null;
 		}
 		try {
-			return objectMapper.readValue(file, cls);
+			return ObjectMapperRegistry.of(objectMapper).getReader(cls).readValue(file);
 		}
 		catch (IOException ex) {
 			throw new JacksonException(ex);
@@ -342,7 +422,7 @@ public class JacksonUtils {
 			return null;
 		}
 		try {
-			return objectMapper.readValue(url, cls);
+			return ObjectMapperRegistry.of(objectMapper).getReader(cls).readValue(url);
 		}
 		catch (IOException ex) {
 			throw new JacksonException(ex);
@@ -412,7 +492,7 @@ public class JacksonUtils {
 			return Optional.empty();
 		}
 		try {
-			return Optional.ofNullable(objectMapper.readValue(text, typeReference));
+			return Optional.ofNullable(ObjectMapperRegistry.of(objectMapper).getReader(typeReference).readValue(text));
 		}
 		catch (JsonProcessingException ex) {
 			log.error("json parse err, json:{}", text, ex);
@@ -448,7 +528,7 @@ public class JacksonUtils {
 			return Optional.empty();
 		}
 		try {
-			return Optional.ofNullable(objectMapper.readValue(text, clazz));
+			return Optional.ofNullable(ObjectMapperRegistry.of(objectMapper).getReader(clazz).readValue(text));
 		}
 		catch (JsonProcessingException ex) {
 			log.error("json parse err, json:{}", text, ex);
@@ -480,13 +560,12 @@ public class JacksonUtils {
 	 * @return a Map containing the parsed data, or an empty Map if the input is empty
 	 * @throws JacksonException if a parsing error occurs
 	 */
-	@SuppressWarnings("unchecked")
 	public static <K, V> Map<K, V> parseMap(String text, ObjectMapper objectMapper) {
 		if (StringUtil.isEmpty(text)) {
 			return Collections.emptyMap();
 		}
 		try {
-			return objectMapper.readValue(text, Map.class);
+			return ObjectMapperRegistry.of(objectMapper).getReader(Map.class).readValue(text);
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
@@ -523,19 +602,271 @@ public class JacksonUtils {
 		if (StringUtil.isEmpty(text)) {
 			return Collections.emptyList();
 		}
-		List<Map<Object, Object>> list;
 		try {
-			list = objectMapper.readValue(text, new TypeReference<List<Map<Object, Object>>>() {
-			});
+			List<T> list = ObjectMapperRegistry.of(objectMapper).getListReader(cls).readValue(text);
+			return (list != null) ? list : Collections.emptyList();
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
 		}
-		List<T> result = new ArrayList<>();
-		for (Map<Object, Object> map : list) {
-			result.add(parseObject(map, cls, objectMapper));
+	}
+
+	// ============================ bytes/stream -> T ============================
+
+	/**
+	 * Parses UTF-8 encoded JSON bytes into an object of the specified class type.
+	 * @param <T> the target type
+	 * @param bytes the JSON bytes to parse
+	 * @param cls the class of the target type
+	 * @return the parsed object, or null if the input is empty
+	 */
+	public static <T> T parseObject(byte[] bytes, Class<T> cls) {
+		return parseObject(bytes, cls, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Parses UTF-8 encoded JSON bytes into an object of the specified class type using a
+	 * custom object mapper.
+	 * @param <T> the target type
+	 * @param bytes the JSON bytes to parse
+	 * @param cls the class of the target type
+	 * @param objectMapper the object mapper to use for parsing
+	 * @return the parsed object, or null if the input is empty
+	 * @throws JacksonException if an error occurs during JSON processing
+	 */
+	public static <T> T parseObject(byte[] bytes, Class<T> cls, ObjectMapper objectMapper) {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		try {
+			return ObjectMapperRegistry.of(objectMapper).getReader(cls).readValue(bytes);
+		}
+		catch (IOException ex) {
+			throw new JacksonException(ex);
+		}
+	}
+
+	/**
+	 * Parses JSON content from an input stream into an object of the specified class
+	 * type. The stream is not closed.
+	 * @param <T> the target type
+	 * @param in the input stream to read from
+	 * @param cls the class of the target type
+	 * @return the parsed object, or null if the stream is null
+	 * @throws IOException if an I/O error occurs or the content cannot be parsed
+	 */
+	public static <T> T parseObject(InputStream in, Class<T> cls) throws IOException {
+		return parseObject(in, cls, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Parses JSON content from an input stream into an object of the specified class type
+	 * using a custom object mapper. The stream is not closed.
+	 * @param <T> the target type
+	 * @param in the input stream to read from
+	 * @param cls the class of the target type
+	 * @param objectMapper the object mapper to use for parsing
+	 * @return the parsed object, or null if the stream is null
+	 * @throws IOException if an I/O error occurs or the content cannot be parsed
+	 */
+	public static <T> T parseObject(InputStream in, Class<T> cls, ObjectMapper objectMapper) throws IOException {
+		if (in == null) {
+			return null;
+		}
+		return ObjectMapperRegistry.of(objectMapper).getReader(cls).readValue(in);
+	}
+
+	/**
+	 * Parses a JSON array from an input stream into a List containing objects of the
+	 * specified class. The stream is not closed.
+	 * @param <T> the type of elements in the list
+	 * @param in the input stream to read from
+	 * @param cls the class of the elements to create
+	 * @return a List containing the parsed objects, or an empty List if the stream is
+	 * null
+	 * @throws IOException if an I/O error occurs or the content cannot be parsed
+	 */
+	public static <T> List<T> parseList(InputStream in, Class<T> cls) throws IOException {
+		return parseList(in, cls, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Parses a JSON array from an input stream into a List containing objects of the
+	 * specified class using a custom object mapper. The stream is not closed.
+	 * @param <T> the type of elements in the list
+	 * @param in the input stream to read from
+	 * @param cls the class of the elements to create
+	 * @param objectMapper the ObjectMapper to use for parsing
+	 * @return a List containing the parsed objects, or an empty List if the stream is
+	 * null
+	 * @throws IOException if an I/O error occurs or the content cannot be parsed
+	 */
+	public static <T> List<T> parseList(InputStream in, Class<T> cls, ObjectMapper objectMapper) throws IOException {
+		if (in == null) {
+			return Collections.emptyList();
+		}
+		List<T> list = ObjectMapperRegistry.of(objectMapper).getListReader(cls).readValue(in);
+		return (list != null) ? list : Collections.emptyList();
+	}
+
+	// ============================ stream -> Iterator<T> ============================
+
+	/**
+	 * Opens an incremental iterator over a JSON array read from an input stream. Elements
+	 * are bound one at a time, so memory use does not depend on the size of the array.
+	 * Closing the iterator does not close the stream.
+	 * @param <T> the type of the elements
+	 * @param in the input stream to read from, may be null
+	 * @param cls the class of the elements to create
+	 * @return the iterator, empty if the stream is null or has no content
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> JsonArrayIterator<T> parseIterator(InputStream in, Class<T> cls) throws IOException {
+		return parseIterator(in, cls, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Opens an incremental iterator over a JSON array read from an input stream using a
+	 * custom object mapper. Closing the iterator does not close the stream.
+	 * @param <T> the type of the elements
+	 * @param in the input stream to read from, may be null
+	 * @param cls the class of the elements to create
+	 * @param objectMapper the ObjectMapper to use for parsing
+	 * @return the iterator, empty if the stream is null or has no content
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> JsonArrayIterator<T> parseIterator(InputStream in, Class<T> cls, ObjectMapper objectMapper)
+			throws IOException {
+		if (objectMapper == null) {
+			objectMapper = getDefaultObjectMapper();
+		}
+		return JsonArrayIterator.open(ObjectMapperRegistry.of(objectMapper).getReader(cls), in, false);
+	}
+
+	/**
+	 * Opens an incremental iterator over a JSON array read from a file. Closing the
+	 * iterator closes the file.
+	 * @param <T> the type of the elements
+	 * @param path the JSON file to read, may be null
+	 * @param cls the class of the elements to create
+	 * @return the iterator, empty if the path is null or the file is empty
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> JsonArrayIterator<T> parseIterator(Path path, Class<T> cls) throws IOException {
+		return parseIterator(path, cls, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Opens an incremental iterator over a JSON array read from a file using a custom
+	 * object mapper. Closing the iterator closes the file.
+	 * @param <T> the type of the elements
+	 * @param path the JSON file to read, may be null
+	 * @param cls the class of the elements to create
+	 * @param objectMapper the ObjectMapper to use for parsing
+	 * @return the iterator, empty if the path is null or the file is empty
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> JsonArrayIterator<T> parseIterator(Path path, Class<T> cls, ObjectMapper objectMapper)
+			throws IOException {
+		if (objectMapper == null) {
+			objectMapper = getDefaultObjectMapper();
+		}
+		InputStream in = (path != null) ? Files.newInputStream(path) : null;
+		return JsonArrayIterator.open(ObjectMapperRegistry.of(objectMapper).getReader(cls), in, true);
+	}
+
+	/**
+	 * Opens an incremental iterator over a JSON array read from a file. Closing the
+	 * iterator closes the file.
+	 * @param <T> the type of the elements
+	 * @param file the JSON file to read, may be null
+	 * @param cls the class of the elements to create
+	 * @return the iterator, empty if the file is null or empty
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> JsonArrayIterator<T> parseIterator(File file, Class<T> cls) throws IOException {
+		return parseIterator((file != null) ? file.toPath() : null, cls, getDefaultObjectMapper());
+	}
+
+	/**
+	 * Streams the elements of a JSON array read from an input stream. The returned stream
+	 * must be closed; closing it does not close the input stream.
+	 * @param <T> the type of the elements
+	 * @param in the input stream to read from, may be null
+	 * @param cls the class of the elements to create
+	 * @return a sequential stream of the elements
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> Stream<T> parseStream(InputStream in, Class<T> cls) throws IOException {
+		return parseIterator(in, cls).stream();
+	}
+
+	/**
+	 * Streams the elements of a JSON array read from a file. The returned stream must be
+	 * closed, which closes the file.
+	 * @param <T> the type of the elements
+	 * @param path the JSON file to read, may be null
+	 * @param cls the class of the elements to create
+	 * @return a sequential stream of the elements
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 */
+	public static <T> Stream<T> parseStream(Path path, Class<T> cls) throws IOException {
+		return parseIterator(path, cls).stream();
+	}
+
+	/**
+	 * Reads a JSON array from an input stream and feeds its elements to the consumer in
+	 * batches, holding at most one batch in memory. The stream is not closed.
+	 * @param <T> the type of the elements
+	 * @param in the input stream to read from, may be null
+	 * @param cls the class of the elements to create
+	 * @param batchSize the maximum number of elements per batch
+	 * @param consumer the consumer of the batches
+	 * @return the number of elements read
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 * @see JsonArrayIterator#forEachBatch(int, Consumer)
+	 */
+	public static <T> long forEachBatch(InputStream in, Class<T> cls, int batchSize,
+			Consumer<? super List<T>> consumer) throws IOException {
+		try (JsonArrayIterator<T> iterator = parseIterator(in, cls)) {
+			return iterator.forEachBatch(batchSize, consumer);
 		}
-		return result;
+	}
+
+	/**
+	 * Reads a JSON array from a file and feeds its elements to the consumer in batches,
+	 * holding at most one batch in memory.
+	 * @param <T> the type of the elements
+	 * @param path the JSON file to read, may be null
+	 * @param cls the class of the elements to create
+	 * @param batchSize the maximum number of elements per batch
+	 * @param consumer the consumer of the batches
+	 * @return the number of elements read
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 * @see JsonArrayIterator#forEachBatch(int, Consumer)
+	 */
+	public static <T> long forEachBatch(Path path, Class<T> cls, int batchSize, Consumer<? super List<T>> consumer)
+			throws IOException {
+		try (JsonArrayIterator<T> iterator = parseIterator(path, cls)) {
+			return iterator.forEachBatch(batchSize, consumer);
+		}
+	}
+
+	/**
+	 * Reads a JSON array from a file and feeds its elements to the consumer in batches,
+	 * holding at most one batch in memory.
+	 * @param <T> the type of the elements
+	 * @param file the JSON file to read, may be null
+	 * @param cls the class of the elements to create
+	 * @param batchSize the maximum number of elements per batch
+	 * @param consumer the consumer of the batches
+	 * @return the number of elements read
+	 * @throws IOException if an I/O error occurs or the content is not a JSON array
+	 * @see JsonArrayIterator#forEachBatch(int, Consumer)
+	 */
+	public static <T> long forEachBatch(File file, Class<T> cls, int batchSize, Consumer<? super List<T>> consumer)
+			throws IOException {
+		return forEachBatch((file != null) ? file.toPath() : null, cls, batchSize, consumer);
 	}
 
 	// ============================ to toXMLString ============================
@@ -699,7 +1030,7 @@ public class JacksonUtils {
 	public static String toXMLStringPretty(String text, Class<?> cls, JsonInclude.Include include,
 			ObjectMapper objectMapper, XmlMapper xmlMapper) {
 		Object object = parseObject(text, cls, objectMapper);
-		ObjectWriter objectWriter = xmlMapper.setSerializationInclusion(include).writerWithDefaultPrettyPrinter();
+		ObjectWriter objectWriter = ObjectMapperRegistry.of(xmlMapper).getWriter(include, true);
 		try {
 			return StringUtil.trimToEmpty(objectWriter.writeValueAsString(object));
 		}
@@ -737,7 +1068,7 @@ public class JacksonUtils {
 			return null;
 		}
 		try {
-			return xmlMapper.readValue(xml, typeReference);
+			return ObjectMapperRegistry.of(xmlMapper).getReader(typeReference).readValue(xml);
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
@@ -771,7 +1102,7 @@ public class JacksonUtils {
 			return null;
 		}
 		try {
-			return xmlMapper.readValue(xml, cls);
+			return ObjectMapperRegistry.of(xmlMapper).getReader(cls).readValue(xml);
 		}
 		catch (JsonProcessingException ex) {
 			throw new JacksonException(ex);
@@ -809,7 +1140,7 @@ public class JacksonUtils {
 			return Optional.empty();
 		}
 		try {
-			return Optional.ofNullable(xmlMapper.readValue(xml, typeReference));
+			return Optional.ofNullable(ObjectMapperRegistry.of(xmlMapper).getReader(typeReference).readValue(xml));
 		}
 		catch (JsonProcessingException ex) {
 			log.error("xml parse error, xml: {}", xml, ex);
@@ -845,7 +1176,7 @@ public class JacksonUtils {
 			return Optional.empty();
 		}
 		try {
-			return Optional.ofNullable(xmlMapper.readValue(xml, clazz));
+			return Optional.ofNullable(ObjectMapperRegistry.of(xmlMapper).getReader(clazz).readValue(xml));
 		}
 		catch (JsonProcessingException ex) {
 			log.error("xml parse error, xml: {}", xml, ex);
@@ -856,11 +1187,7 @@ public class JacksonUtils {
 	// ============================ private ============================
 
 	private static ObjectWriter getObjectWriter(JsonInclude.Include include, ObjectMapper objectMapper) {
-		return objectMapper.setSerializationInclusion(include).writer();
-	}
-
-	private static ObjectWriter getObjectWriter(JsonInclude.Include include, XmlMapper xmlMapper) {
-		return xmlMapper.setSerializationInclusion(include).writer();
+		return ObjectMapperRegistry.of(objectMapper).getWriter(include, false);
 	}
 
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.json.jackson.mapper;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import space.x9x.radp.commons.lang.ClassLoaderUtils;
+
+/**
+ * Bytecode acceleration of Jackson bean (de)serialization.
+ * <p>
+ * Blackbird and Afterburner replace the reflective property access of bean serializers
+ * and deserializers with generated accessors. Blackbird is built on
+ * {@code MethodHandles.privateLookupIn} and therefore needs Java 9 or later, Afterburner
+ * is its Java 8 counterpart. Both are optional: the modules are created reflectively and
+ * a mode whose module is not on the class path leaves the mapper unchanged.
+ * <p>
+ * The mode of the {@link DefaultObjectMapper} is read from the {@value #PROPERTY}
+ * system property when the mapper is created and defaults to {@link #NONE}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 21:40
+ */
+@Slf4j
+public enum BytecodeAcceleration {
+
+	/**
+	 * Plain reflective (de)serialization.
+	 */
+	NONE(null),
+
+	/**
+	 * Blackbird on Java 9 or later, otherwise Afterburner, whichever is available.
+	 */
+	AUTO(null),
+
+	/**
+	 * Blackbird, requires Java 9 or later.
+	 */
+	BLACKBIRD("com.fasterxml.jackson.module.blackbird.BlackbirdModule"),
+
+	/**
+	 * Afterburner.
+	 */
+	AFTERBURNER("com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+
+	/**
+	 * System property selecting the mode of the {@link DefaultObjectMapper}.
+	 */
+	public static final String PROPERTY = "radp.json.jackson.bytecode-acceleration";
+
+	private static final boolean PRIVATE_LOOKUP_SUPPORTED = isPrivateLookupSupported();
+
+	private final String moduleClassName;
+
+	BytecodeAcceleration(String moduleClassName) {
+		this.moduleClassName = moduleClassName;
+	}
+
+	/**
+	 * Resolves a mode by its case-insensitive name.
+	 * @param value the name of the mode, may be {@code null}
+	 * @return the mode, {@link #NONE} if the value is empty or unknown
+	 */
+	public static BytecodeAcceleration of(String value) {
+		if (value == null || value.trim().isEmpty()) {
+			return NONE;
+		}
+		try {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT));
+		}
+		catch (IllegalArgumentException ex) {
+			log.warn("Unknown {} '{}', falling back to {}", PROPERTY, value, NONE);
+			return NONE;
+		}
+	}
+
+	/**
+	 * Resolves the mode configured by the {@value #PROPERTY} system property.
+	 * @return the configured mode, {@link #NONE} if not configured
+	 */
+	public static BytecodeAcceleration fromSystemProperty() {
+		return of(System.getProperty(PROPERTY));
+	}
+
+	/**
+	 * Registers the module of this mode on the mapper. Must be called while the mapper is
+	 * configured, before it is used.
+	 * @param objectMapper the mapper to register the module on
+	 * @return {@code true} if a module was registered
+	 */
+	public boolean register(ObjectMapper objectMapper) {
+		Module module = createModule();
+		if (module == null) {
+			return false;
+		}
+		objectMapper.registerModule(module);
+		log.debug("Registered Jackson {} module on {}", module.getModuleName(), objectMapper.getClass().getName());
+		return true;
+	}
+
+	/**
+	 * Creates the module of this mode.
+	 * @return the module, or {@code null} for {@link #NONE} or if the module is not
+	 * available on the class path or on this Java version
+	 */
+	public Module createModule() {
+		if (this == NONE) {
+			return null;
+		}
+		if (this == BLACKBIRD && !PRIVATE_LOOKUP_SUPPORTED) {
+			log.warn("Jackson Blackbird requires Java 9 or later, use {} on Java 8", AFTERBURNER);
+			return null;
+		}
+		Module module;
+		if (this == AUTO) {
+			module = (PRIVATE_LOOKUP_SUPPORTED) ? BLACKBIRD.instantiate() : null;
+			if (module == null) {
+				module = AFTERBURNER.instantiate();
+			}
+		}
+		else {
+			module = instantiate();
+		}
+		if (module == null) {
+			log.warn("No Jackson module available for {} {}, (de)serialization stays reflective", PROPERTY, this);
+		}
+		return module;
+	}
+
+	private Module instantiate() {
+		try {
+			Class<?> moduleClass = Class.forName(this.moduleClassName, true,
+					ClassLoaderUtils.getClassLoader(BytecodeAcceleration.class));
+			return (Module) moduleClass.getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException | LinkageError ex) {
+			log.debug("Jackson {} module is not available: {}", this, ex.toString());
+			return null;
+		}
+	}
+
+	private static boolean isPrivateLookupSupported() {
+		try {
+			MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+			return true;
+		}
+		catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+
+}
@@ -46,9 +46,20 @@ public class DefaultObjectMapper extends ObjectMapper {
 	 * <li>Configures dates to be serialized as ISO-8601 strings rather than
 	 * timestamps</li>
 	 * <li>Registers JavaTimeModule for Java 8 date/time API support</li>
+	 * <li>Registers the bytecode acceleration module selected by the
+	 * {@value BytecodeAcceleration#PROPERTY} system property, if any</li>
 	 * </ul>
 	 */
 	public DefaultObjectMapper() {
+		this(BytecodeAcceleration.fromSystemProperty());
+	}
+
+	/**
+	 * Constructs a new DefaultObjectMapper with pre-configured settings and the given
+	 * bytecode acceleration.
+	 * @param acceleration the bytecode acceleration of bean (de)serialization
+	 */
+	public DefaultObjectMapper(BytecodeAcceleration acceleration) {
 		super();
 
 		// 设置序列化时包含哪些属性 (默认值就是 Always, 硬编码在这里, 是为了更明显的告知使用者)
@@ -61,6 +72,22 @@ public class DefaultObjectMapper extends ObjectMapper {
 		this.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
 		// 添加对 Java8 时间 API 的支持 (如: LocalDateTime)
 		this.registerModule(new JavaTimeModule());
+		// 按需注册字节码加速模块 (Blackbird/Afterburner), 默认关闭
+		acceleration.register(this);
+	}
+
+	/**
+	 * Copy constructor used by {@link #copy()}.
+	 * @param src the mapper to copy the configuration from
+	 */
+	protected DefaultObjectMapper(DefaultObjectMapper src) {
+		super(src);
+	}
+
+	@Override
+	public ObjectMapper copy() {
+		_checkInvalidCopy(DefaultObjectMapper.class);
+		return new DefaultObjectMapper(this);
 	}
 
 }
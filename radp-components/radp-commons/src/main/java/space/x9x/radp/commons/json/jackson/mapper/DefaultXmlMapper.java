@@ -52,4 +52,18 @@ public class DefaultXmlMapper extends XmlMapper {
 		this.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
 	}
 
+	/**
+	 * Copy constructor used by {@link #copy()}.
+	 * @param src the mapper to copy the configuration from
+	 */
+	protected DefaultXmlMapper(DefaultXmlMapper src) {
+		super(src);
+	}
+
+	@Override
+	public XmlMapper copy() {
+		_checkInvalidCopy(DefaultXmlMapper.class);
+		return new DefaultXmlMapper(this);
+	}
+
 }
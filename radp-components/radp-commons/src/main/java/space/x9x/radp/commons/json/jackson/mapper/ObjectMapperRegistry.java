@@ -0,0 +1,202 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.json.jackson.mapper;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of pre-built {@link ObjectWriter} and {@link ObjectReader} instances of an
+ * {@link ObjectMapper}. Writers and readers are immutable and thread-safe, so they are
+ * built once and shared instead of reconfiguring the mapper on every call.
+ * <p>
+ * The mapper itself is never modified. A writer for a serialization inclusion other than
+ * the one the mapper is configured with is created from a {@link ObjectMapper#copy()
+ * copy} of the mapper, because the inclusion is a mapper-wide setting that is also baked
+ * into its cached serializers. {@link JsonInclude.Include#USE_DEFAULTS} uses the mapper
+ * as configured. Readers are cached per target type, with the {@code JavaType} resolved
+ * once, including the {@code List<T>} types used to parse JSON arrays. Writers and readers
+ * leave streams passed by the caller open.
+ * <p>
+ * Mappers registered here must not be reconfigured afterwards: writers derived from
+ * copies would not see the changes.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 19:50
+ */
+@Slf4j
+public final class ObjectMapperRegistry {
+
+	/**
+	 * Maximum number of registered mappers. Further mappers get an unregistered
+	 * registry, so that mappers created per call cannot accumulate.
+	 */
+	static final int MAXIMUM_REGISTRIES = 64;
+
+	/**
+	 * Maximum number of cached readers per mapper, further types are not cached.
+	 */
+	static final int MAXIMUM_READERS = 1024;
+
+	private static final ConcurrentMap<ObjectMapper, ObjectMapperRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+	private static final JsonInclude.Include[] INCLUDES = JsonInclude.Include.values();
+
+	/**
+	 * The mapper the writers and readers are derived from.
+	 */
+	@Getter
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Writers indexed by {@code include.ordinal() * 2 + (pretty ? 1 : 0)}.
+	 */
+	private final AtomicReferenceArray<ObjectWriter> writers = new AtomicReferenceArray<>(INCLUDES.length * 2);
+
+	private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+
+	private ObjectMapperRegistry(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Gets the registry of the given mapper.
+	 * @param objectMapper the mapper, {@code XmlMapper} included
+	 * @return the registry of the mapper
+	 */
+	public static ObjectMapperRegistry of(ObjectMapper objectMapper) {
+		ObjectMapperRegistry registry = REGISTRIES.get(objectMapper);
+		if (registry != null) {
+			return registry;
+		}
+		if (REGISTRIES.size() >= MAXIMUM_REGISTRIES) {
+			return new ObjectMapperRegistry(objectMapper);
+		}
+		return REGISTRIES.computeIfAbsent(objectMapper, ObjectMapperRegistry::new);
+	}
+
+	/**
+	 * Gets the writer for the given serialization inclusion.
+	 * @param include the inclusion strategy for properties, {@code null} for
+	 * {@link JsonInclude.Include#USE_DEFAULTS}
+	 * @param pretty whether to use the default pretty printer
+	 * @return the shared writer
+	 */
+	public ObjectWriter getWriter(JsonInclude.Include include, boolean pretty) {
+		if (include == null) {
+			include = JsonInclude.Include.USE_DEFAULTS;
+		}
+		int index = include.ordinal() * 2 + (pretty ? 1 : 0);
+		ObjectWriter writer = this.writers.get(index);
+		if (writer == null) {
+			writer = (pretty) ? getWriter(include, false).withDefaultPrettyPrinter()
+					: createWriter(include).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			// 并发创建时以先发布者为准, 落选的副本直接丢弃
+			if (!this.writers.compareAndSet(index, null, writer)) {
+				writer = this.writers.get(index);
+			}
+		}
+		return writer;
+	}
+
+	/**
+	 * Gets the reader for the given type.
+	 * @param type the target type
+	 * @return the shared reader
+	 */
+	public ObjectReader getReader(Class<?> type) {
+		return resolveReader(type);
+	}
+
+	/**
+	 * Gets the reader for the given type reference.
+	 * @param typeReference the type reference describing the target type
+	 * @return the shared reader
+	 */
+	public ObjectReader getReader(TypeReference<?> typeReference) {
+		return resolveReader(typeReference.getType());
+	}
+
+	/**
+	 * Gets the reader for a {@code List} of the given element type.
+	 * @param elementType the element type
+	 * @return the shared reader
+	 */
+	public ObjectReader getListReader(Class<?> elementType) {
+		ObjectReader reader = this.listReaders.get(elementType);
+		if (reader == null) {
+			reader = this.objectMapper
+				.readerFor(this.objectMapper.getTypeFactory().constructCollectionType(List.class, elementType))
+				.without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			reader = cache(this.listReaders, elementType, reader);
+		}
+		return reader;
+	}
+
+	private ObjectReader resolveReader(Type type) {
+		ObjectReader reader = this.readers.get(type);
+		if (reader == null) {
+			reader = this.objectMapper.readerFor(this.objectMapper.getTypeFactory().constructType(type))
+				.without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			reader = cache(this.readers, type, reader);
+		}
+		return reader;
+	}
+
+	private ObjectWriter createWriter(JsonInclude.Include include) {
+		JsonInclude.Value configured = this.objectMapper.getSerializationConfig().getDefaultPropertyInclusion();
+		if (include == JsonInclude.Include.USE_DEFAULTS
+				|| JsonInclude.Value.construct(include, include).equals(configured)) {
+			return this.objectMapper.writer();
+		}
+		ObjectMapper copy;
+		try {
+			copy = this.objectMapper.copy();
+		}
+		catch (IllegalStateException ex) {
+			// 子类未覆盖 copy() 时无法派生副本, 退回映射器自身的配置而不是修改共享实例
+			log.warn("{} does not support copy(), serialization inclusion {} is ignored",
+					this.objectMapper.getClass().getName(), include);
+			return this.objectMapper.writer();
+		}
+		return copy.setSerializationInclusion(include).writer();
+	}
+
+	private static <K> ObjectReader cache(ConcurrentMap<K, ObjectReader> readers, K key, ObjectReader reader) {
+		if (readers.size() >= MAXIMUM_READERS) {
+			return reader;
+		}
+		ObjectReader previous = readers.putIfAbsent(key, reader);
+		return (previous != null) ? previous : reader;
+	}
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.json.jackson.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Incremental iterator over the elements of a root-level JSON array.
+ * <p>
+ * The parser is advanced past the opening {@code [} and every element is bound on its
+ * own through a {@link MappingIterator}, so only the current element and the parser
+ * buffers are held in memory regardless of the size of the document. This makes it
+ * suitable for imports of large files, for example feeding
+ * {@code BaseMapperX#insertBatch} through {@link #forEachBatch(int, Consumer)}.
+ * <p>
+ * The iterator must be closed once done with. Closing releases the parser and closes the
+ * underlying source if the iterator opened it; streams supplied by the caller are left
+ * open.
+ *
+ * @param <T> the type of the elements
+ * @author RADP x9x
+ * @since 2026-10-17 21:20
+ * @see space.x9x.radp.commons.json.JacksonUtils#parseIterator(InputStream, Class)
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+	private final JsonParser parser;
+
+	private final MappingIterator<T> values;
+
+	private final Closeable source;
+
+	private JsonArrayIterator(JsonParser parser, MappingIterator<T> values, Closeable source) {
+		this.parser = parser;
+		this.values = values;
+		this.source = source;
+	}
+
+	/**
+	 * Opens an iterator over the JSON array read from the given stream.
+	 * @param reader the reader binding a single element
+	 * @param in the stream to read from, may be {@code null} for an empty iterator
+	 * @param closeSource whether closing the iterator also closes the stream
+	 * @param <T> the type of the elements
+	 * @return the iterator, positioned before the first element
+	 * @throws IOException if the stream cannot be read or does not start with a JSON
+	 * array
+	 */
+	public static <T> JsonArrayIterator<T> open(ObjectReader reader, InputStream in, boolean closeSource)
+			throws IOException {
+		if (in == null) {
+			return new JsonArrayIterator<>(null, null, null);
+		}
+		Closeable source = (closeSource) ? in : null;
+		JsonParser parser = null;
+		try {
+			parser = reader.createParser(in);
+			JsonToken token = parser.nextToken();
+			if (token == null) {
+				return new JsonArrayIterator<>(parser, null, source);
+			}
+			if (token != JsonToken.START_ARRAY) {
+				throw MismatchedInputException.from(parser, reader.getValueType(),
+						"Expected a JSON array of " + reader.getValueType() + " but found " + token);
+			}
+			if (parser.nextToken() == JsonToken.END_ARRAY) {
+				return new JsonArrayIterator<>(parser, null, source);
+			}
+			return new JsonArrayIterator<>(parser, reader.readValues(parser), source);
+		}
+		catch (IOException | RuntimeException ex) {
+			closeQuietly(parser, ex);
+			closeQuietly(source, ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Checks whether another element is available, propagating I/O and binding errors.
+	 * @return {@code true} if another element is available
+	 * @throws IOException if the content cannot be read or parsed
+	 */
+	public boolean hasNextValue() throws IOException {
+		return (this.values != null) && this.values.hasNextValue();
+	}
+
+	/**
+	 * Reads the next element, propagating I/O and binding errors.
+	 * @return the next element
+	 * @throws IOException if the content cannot be read or bound
+	 * @throws NoSuchElementException if there are no more elements
+	 */
+	public T nextValue() throws IOException {
+		if (this.values == null) {
+			throw new NoSuchElementException();
+		}
+		return this.values.nextValue();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return (this.values != null) && this.values.hasNext();
+	}
+
+	@Override
+	public T next() {
+		if (this.values == null) {
+			throw new NoSuchElementException();
+		}
+		return this.values.next();
+	}
+
+	/**
+	 * Feeds the remaining elements to the consumer in batches of at most
+	 * {@code batchSize} elements. Each batch is a new list, so the consumer may keep it;
+	 * the iterator itself never holds more than one batch.
+	 * @param batchSize the maximum number of elements per batch
+	 * @param consumer the consumer of the batches
+	 * @return the number of elements consumed
+	 * @throws IOException if the content cannot be read or bound
+	 * @throws IllegalArgumentException if {@code batchSize} is not positive
+	 */
+	public long forEachBatch(int batchSize, Consumer<? super List<T>> consumer) throws IOException {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+		}
+		long count = 0;
+		List<T> batch = new ArrayList<>(batchSize);
+		while (hasNextValue()) {
+			batch.add(nextValue());
+			count++;
+			if (batch.size() == batchSize) {
+				consumer.accept(batch);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+		if (!batch.isEmpty()) {
+			consumer.accept(batch);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns a sequential stream over the remaining elements. Closing the stream closes
+	 * this iterator.
+	 * @return the stream of the remaining elements
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+			.onClose(() -> {
+				try {
+					close();
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			if (this.parser != null) {
+				this.parser.close();
+			}
+		}
+		finally {
+			if (this.source != null) {
+				this.source.close();
+			}
+		}
+	}
+
+	private static void closeQuietly(Closeable closeable, Exception cause) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			}
+			catch (IOException ex) {
+				cause.addSuppressed(ex);
+			}
+		}
+	}
+
+}
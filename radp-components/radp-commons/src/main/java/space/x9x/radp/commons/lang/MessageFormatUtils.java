@@ -19,6 +19,7 @@ package space.x9x.radp.commons.lang;
 import lombok.experimental.UtilityClass;
 
 import space.x9x.radp.commons.lang.format.MessageFormatter;
+import space.x9x.radp.commons.lang.format.MessageTemplate;
 
 /**
  * Utility class for formatting messages with placeholders. This class provides a
@@ -35,13 +36,14 @@ public class MessageFormatUtils {
 	 * Formats a message by replacing placeholders with the provided values.
 	 * <p>
 	 * This method is a convenience wrapper around {@link MessageFormatter#arrayFormat}
-	 * that directly returns the formatted message string.
+	 * that directly returns the formatted message string, using the cached
+	 * {@link MessageTemplate} of the message.
 	 * @param message the message pattern containing placeholders (e.g., "Hello, {}!")
 	 * @param placeholders the values to replace the placeholders with
 	 * @return the formatted message with placeholders replaced by the provided values
 	 */
 	public static String format(String message, Object... placeholders) {
-		return MessageFormatter.arrayFormat(message, placeholders).getMessage();
+		return (message != null) ? MessageTemplate.of(message).format(placeholders) : null;
 	}
 
 }
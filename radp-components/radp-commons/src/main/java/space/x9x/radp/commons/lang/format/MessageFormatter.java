@@ -65,11 +65,9 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class MessageFormatter {
 
-	private static final String DELIM_START = "{";
+	static final String DELIM_START = "{";
 
-	private static final String DELIM_STOP = "}";
-
-	private static final String DELIM_STR = "{}";
+	static final String DELIM_STR = "{}";
 
 	private static final char ESCAPE_CHAR = '\\';
 
@@ -127,46 +125,8 @@ public class MessageFormatter {
 			return new FormattingTuple(messagePattern);
 		}
 
-		int i = 0;
-		int j;
-		StringBuilder stringBuilder = new StringBuilder(messagePattern.length() + 50);
-
-		int L;
-		for (L = 0; L < argArray.length; L++) {
-			j = messagePattern.indexOf(DELIM_STR, i);
-
-			if (j == -1) {
-				if (i == 0) {
-					return new FormattingTuple(messagePattern, argArray, throwable);
-				}
-				else {
-					stringBuilder.append(messagePattern, i, messagePattern.length());
-					return new FormattingTuple(stringBuilder.toString(), argArray, throwable);
-				}
-			}
-			else {
-				if (isEscapedDelimeter(messagePattern, j)) {
-					if (!isDoubleEscaped(messagePattern, j)) {
-						L--;
-						stringBuilder.append(messagePattern, i, j - 1);
-						stringBuilder.append(DELIM_START);
-						i = j + 1;
-					}
-					else {
-						stringBuilder.append(messagePattern, i, j - 1);
-						deeplyAppendParameter(stringBuilder, argArray[L], new HashMap<>());
-						i = j + 2;
-					}
-				}
-				else {
-					stringBuilder.append(messagePattern, i, j);
-					deeplyAppendParameter(stringBuilder, argArray[L], new HashMap<>());
-					i = j + 2;
-				}
-			}
-		}
-		stringBuilder.append(messagePattern, i, messagePattern.length());
-		return new FormattingTuple(stringBuilder.toString(), argArray, throwable);
+		String message = MessageTemplate.of(messagePattern).format(argArray, argArray.length);
+		return new FormattingTuple(message, argArray, throwable);
 	}
 
 	/**
@@ -175,7 +135,7 @@ public class MessageFormatter {
 	 * @param delimiterStartIndex 占位符起始位置
 	 * @return 是否被双转义
 	 */
-	private static boolean isEscapedDelimeter(String messagePattern, int delimiterStartIndex) {
+	static boolean isEscapedDelimeter(String messagePattern, int delimiterStartIndex) {
 		if (delimiterStartIndex == 0) {
 			return false;
 		}
@@ -193,6 +153,23 @@ public class MessageFormatter {
 		return delimiterStartIndex >= 2 && messagePattern.charAt(delimiterStartIndex - 2) == ESCAPE_CHAR;
 	}
 
+	/**
+	 * 追加参数到字符串构建器中. 标量参数直接追加, 只有对象数组才需要分配循环检测的映射。
+	 * @param stringBuilder 字符串构建器
+	 * @param o 参数
+	 */
+	static void appendParameter(StringBuilder stringBuilder, Object o) {
+		if (o instanceof String) {
+			stringBuilder.append((String) o);
+		}
+		else if (o == null || !o.getClass().isArray()) {
+			deeplyAppendParameter(stringBuilder, o, null);
+		}
+		else {
+			deeplyAppendParameter(stringBuilder, o, (o instanceof Object[]) ? new HashMap<>() : null);
+		}
+	}
+
 	/**
 	 * 递归处理参数并追加到字符串构建器中。
 	 * @param stringBuilder 字符串构建器
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.lang.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编译的消息模板.
+ * <p>
+ * Compiled form of a {@link MessageFormatter} pattern: the pattern is scanned once for
+ * {@code {}} placeholders and escapes, and formatting only appends precomputed literal
+ * segments and arguments. Scalar arguments are appended directly; the map used to detect
+ * cycles is only allocated for nested {@code Object[]} arguments.
+ * <p>
+ * Formatting follows {@link MessageFormatter#arrayFormat(String, Object[])}: surplus
+ * arguments are ignored, surplus placeholders are kept as is, and a trailing
+ * {@link Throwable} argument is not used as a placeholder value.
+ *
+ * <pre>{@code
+ * MessageTemplate template = MessageTemplate.of("User {} not found in {}");
+ * String message = template.format("alice", "tenant-1");
+ * template.appendTo(builder, "bob", "tenant-2");
+ * }</pre>
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 19:00
+ */
+public final class MessageTemplate {
+
+	/**
+	 * Maximum number of cached templates. Patterns are usually constants or resource
+	 * bundle entries, but callers may also format dynamic messages; once the cache is
+	 * full further patterns are compiled without being cached.
+	 */
+	static final int MAXIMUM_CACHE_SIZE = 4096;
+
+	private static final ConcurrentHashMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+	private static final int SLOT = 0;
+
+	private static final int ESCAPED = 1;
+
+	private static final int DOUBLE_ESCAPED = 2;
+
+	private final String pattern;
+
+	/**
+	 * Literal text appended before each event, escapes already resolved.
+	 */
+	private final String[] segments;
+
+	/**
+	 * Kind of each event: a placeholder, an escaped placeholder or a placeholder preceded
+	 * by an escaped backslash.
+	 */
+	private final int[] kinds;
+
+	/**
+	 * Offset in the pattern where the text before each event starts, used when the
+	 * arguments run out before the event.
+	 */
+	private final int[] offsets;
+
+	/**
+	 * Offset in the pattern of the text following the last event.
+	 */
+	private final int tailOffset;
+
+	private final int placeholderCount;
+
+	private MessageTemplate(String pattern, String[] segments, int[] kinds, int[] offsets, int tailOffset) {
+		this.pattern = pattern;
+		this.segments = segments;
+		this.kinds = kinds;
+		this.offsets = offsets;
+		this.tailOffset = tailOffset;
+		int count = 0;
+		for (int kind : kinds) {
+			if (kind != ESCAPED) {
+				count++;
+			}
+		}
+		this.placeholderCount = count;
+	}
+
+	/**
+	 * Returns the cached template of the given pattern, compiling it on first use.
+	 * @param pattern the message pattern
+	 * @return the compiled template
+	 */
+	public static MessageTemplate of(String pattern) {
+		MessageTemplate template = CACHE.get(pattern);
+		if (template == null) {
+			template = compile(pattern);
+			if (CACHE.size() < MAXIMUM_CACHE_SIZE) {
+				MessageTemplate existing = CACHE.putIfAbsent(pattern, template);
+				if (existing != null) {
+					template = existing;
+				}
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Compiles the given pattern without caching it.
+	 * @param pattern the message pattern
+	 * @return the compiled template
+	 */
+	public static MessageTemplate compile(String pattern) {
+		if (pattern == null) {
+			throw new IllegalArgumentException("pattern cannot be null.");
+		}
+		List<String> segments = new ArrayList<>();
+		List<int[]> events = new ArrayList<>();
+		int i = 0;
+		int j;
+		while ((j = pattern.indexOf(MessageFormatter.DELIM_STR, i)) != -1) {
+			if (MessageFormatter.isEscapedDelimeter(pattern, j)) {
+				if (!MessageFormatter.isDoubleEscaped(pattern, j)) {
+					segments.add(pattern.substring(i, j - 1) + MessageFormatter.DELIM_START);
+					events.add(new int[] { ESCAPED, i });
+					i = j + 1;
+				}
+				else {
+					segments.add(pattern.substring(i, j - 1));
+					events.add(new int[] { DOUBLE_ESCAPED, i });
+					i = j + 2;
+				}
+			}
+			else {
+				segments.add(pattern.substring(i, j));
+				events.add(new int[] { SLOT, i });
+				i = j + 2;
+			}
+		}
+		int[] kinds = new int[events.size()];
+		int[] offsets = new int[events.size()];
+		for (int k = 0; k < kinds.length; k++) {
+			kinds[k] = events.get(k)[0];
+			offsets[k] = events.get(k)[1];
+		}
+		return new MessageTemplate(pattern, segments.toArray(new String[0]), kinds, offsets, i);
+	}
+
+	/**
+	 * Returns the message pattern.
+	 * @return the pattern
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * Returns the number of placeholders.
+	 * @return the number of placeholders
+	 */
+	public int getPlaceholderCount() {
+		return this.placeholderCount;
+	}
+
+	/**
+	 * Formats the template.
+	 * @param args the placeholder values, a trailing {@link Throwable} is ignored
+	 * @return the formatted message, the pattern itself if {@code args} is {@code null}
+	 */
+	public String format(Object... args) {
+		return format(args, argumentCount(args));
+	}
+
+	/**
+	 * Appends the formatted template to the given builder.
+	 * @param builder the builder to append to
+	 * @param args the placeholder values, a trailing {@link Throwable} is ignored
+	 * @return the given builder
+	 */
+	public StringBuilder appendTo(StringBuilder builder, Object... args) {
+		int count = argumentCount(args);
+		if (count == 0) {
+			return builder.append(this.pattern);
+		}
+		return appendTo(builder, args, count);
+	}
+
+	/**
+	 * Formats the template using the first {@code count} arguments.
+	 * @param args the placeholder values
+	 * @param count the number of arguments to use
+	 * @return the formatted message
+	 */
+	String format(Object[] args, int count) {
+		if (count == 0 || this.kinds.length == 0) {
+			return this.pattern;
+		}
+		return appendTo(new StringBuilder(this.pattern.length() + 50), args, count).toString();
+	}
+
+	/**
+	 * Appends the formatted template using the first {@code count} arguments.
+	 * @param builder the builder to append to
+	 * @param args the placeholder values
+	 * @param count the number of arguments to use
+	 * @return the given builder
+	 */
+	StringBuilder appendTo(StringBuilder builder, Object[] args, int count) {
+		int arg = 0;
+		for (int k = 0; k < this.kinds.length; k++) {
+			if (arg >= count) {
+				// 参数已用完, 余下部分 (包括转义符) 原样输出
+				return builder.append(this.pattern, this.offsets[k], this.pattern.length());
+			}
+			builder.append(this.segments[k]);
+			if (this.kinds[k] != ESCAPED) {
+				MessageFormatter.appendParameter(builder, args[arg++]);
+			}
+		}
+		return builder.append(this.pattern, this.tailOffset, this.pattern.length());
+	}
+
+	private static int argumentCount(Object[] args) {
+		if (args == null) {
+			return 0;
+		}
+		int count = args.length;
+		return (count > 0 && args[count - 1] instanceof Throwable) ? count - 1 : count;
+	}
+
+	@Override
+	public String toString() {
+		return this.pattern;
+	}
+
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.net;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable set of IPv4 and IPv6 CIDR blocks with fast membership queries.
+ * <p>
+ * Addresses are parsed from their literal form only, without {@link java.net.InetAddress}
+ * and therefore without DNS lookups: IPv4 addresses as unsigned 32-bit values, IPv6
+ * addresses as two 64-bit halves. The blocks are merged into disjoint, sorted ranges on
+ * construction, so a query is a binary search over the ranges regardless of how the
+ * blocks overlap. IPv4-mapped IPv6 addresses ({@code ::ffff:a.b.c.d}) are matched
+ * against the IPv4 blocks.
+ * <p>
+ * Strings that are not IP literals, such as host names, never match.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:20
+ */
+public final class CidrMatcher {
+
+	private static final CidrMatcher EMPTY = new CidrMatcher(new long[0], new long[0]);
+
+	private static final long IPV4_MASK = 0xFFFFFFFFL;
+
+	private static final long IPV4_MAPPED_PREFIX = 0xFFFFL << 32;
+
+	/**
+	 * Inclusive IPv4 ranges, {@code [start, end]} pairs sorted by start.
+	 */
+	private final long[] ipv4Ranges;
+
+	/**
+	 * Inclusive IPv6 ranges, {@code [startHigh, startLow, endHigh, endLow]} quadruples
+	 * sorted by start, compared as unsigned values.
+	 */
+	private final long[] ipv6Ranges;
+
+	private CidrMatcher(long[] ipv4Ranges, long[] ipv6Ranges) {
+		this.ipv4Ranges = ipv4Ranges;
+		this.ipv6Ranges = ipv6Ranges;
+	}
+
+	/**
+	 * Creates a matcher of the given CIDR blocks.
+	 * @param cidrs the blocks, such as {@code 10.0.0.0/8}, {@code 2001:db8::/32} or a
+	 * single address
+	 * @return the matcher
+	 * @throws IllegalArgumentException if a block is not a valid CIDR literal
+	 */
+	public static CidrMatcher of(String... cidrs) {
+		return of(Arrays.asList(cidrs));
+	}
+
+	/**
+	 * Creates a matcher of the given CIDR blocks.
+	 * @param cidrs the blocks, such as {@code 10.0.0.0/8}, {@code 2001:db8::/32} or a
+	 * single address; blank entries are ignored
+	 * @return the matcher
+	 * @throws IllegalArgumentException if a block is not a valid CIDR literal
+	 */
+	public static CidrMatcher of(Collection<String> cidrs) {
+		List<long[]> ipv4 = new ArrayList<>();
+		List<long[]> ipv6 = new ArrayList<>();
+		for (String cidr : cidrs) {
+			if (cidr == null || cidr.trim().isEmpty()) {
+				continue;
+			}
+			String block = cidr.trim();
+			int slash = block.indexOf('/');
+			int end = (slash >= 0) ? slash : block.length();
+			long address = parseIpv4(block, 0, end);
+			if (address >= 0) {
+				ipv4.add(ipv4Range(address, parsePrefixLength(block, slash, 32)));
+				continue;
+			}
+			long[] address6 = parseIpv6(block, 0, end);
+			if (address6 == null) {
+				throw new IllegalArgumentException("Invalid CIDR block '" + cidr + "'");
+			}
+			ipv6.add(ipv6Range(address6[0], address6[1], parsePrefixLength(block, slash, 128)));
+		}
+		if (ipv4.isEmpty() && ipv6.isEmpty()) {
+			return EMPTY;
+		}
+		return new CidrMatcher(mergeIpv4(ipv4), mergeIpv6(ipv6));
+	}
+
+	/**
+	 * Creates a matcher of the subnet of the given address.
+	 * @param ip the IPv4 or IPv6 address literal
+	 * @param prefixLength the prefix length of the subnet
+	 * @return the matcher of the subnet
+	 * @throws IllegalArgumentException if the address is not an IP literal or the prefix
+	 * length is out of range
+	 */
+	public static CidrMatcher subnetOf(String ip, int prefixLength) {
+		return of(ip + "/" + prefixLength);
+	}
+
+	/**
+	 * Returns an empty matcher.
+	 * @return the empty matcher
+	 */
+	public static CidrMatcher empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Checks whether the address is in one of the blocks.
+	 * @param ip the address literal, may be {@code null}
+	 * @return {@code true} if the address is an IP literal within one of the blocks
+	 */
+	public boolean matches(CharSequence ip) {
+		return (ip != null) && matches(ip, 0, ip.length());
+	}
+
+	/**
+	 * Checks whether the address held by a region of a character sequence is in one of
+	 * the blocks, without extracting the region.
+	 * @param text the character sequence
+	 * @param from the start of the address, inclusive
+	 * @param to the end of the address, exclusive
+	 * @return {@code true} if the region is an IP literal within one of the blocks
+	 */
+	public boolean matches(CharSequence text, int from, int to) {
+		long address = parseIpv4(text, from, to);
+		if (address >= 0) {
+			return matchesIpv4(address);
+		}
+		if (isEmpty()) {
+			return false;
+		}
+		long[] address6 = parseIpv6(text, from, to);
+		if (address6 == null) {
+			return false;
+		}
+		if (address6[0] == 0 && (address6[1] & ~IPV4_MASK) == IPV4_MAPPED_PREFIX) {
+			return matchesIpv4(address6[1] & IPV4_MASK);
+		}
+		return matchesIpv6(address6[0], address6[1]);
+	}
+
+	/**
+	 * Checks whether the matcher has no blocks.
+	 * @return {@code true} if nothing matches
+	 */
+	public boolean isEmpty() {
+		return this.ipv4Ranges.length == 0 && this.ipv6Ranges.length == 0;
+	}
+
+	private boolean matchesIpv4(long address) {
+		long[] ranges = this.ipv4Ranges;
+		int low = 0;
+		int high = ranges.length / 2 - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (address < ranges[mid * 2]) {
+				high = mid - 1;
+			}
+			else if (address > ranges[mid * 2 + 1]) {
+				low = mid + 1;
+			}
+			else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean matchesIpv6(long addressHigh, long addressLow) {
+		long[] ranges = this.ipv6Ranges;
+		int low = 0;
+		int high = ranges.length / 4 - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int i = mid * 4;
+			if (compare(addressHigh, addressLow, ranges[i], ranges[i + 1]) < 0) {
+				high = mid - 1;
+			}
+			else if (compare(addressHigh, addressLow, ranges[i + 2], ranges[i + 3]) > 0) {
+				low = mid + 1;
+			}
+			else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "CidrMatcher[" + this.ipv4Ranges.length / 2 + " IPv4 ranges, " + this.ipv6Ranges.length / 4
+				+ " IPv6 ranges]";
+	}
+
+	// ============================ literals ============================
+
+	/**
+	 * Checks whether the string is an IPv4 or IPv6 address literal. Never performs a DNS
+	 * lookup.
+	 * @param ip the string to check, may be {@code null}
+	 * @return {@code true} if the string is an IP address literal
+	 */
+	public static boolean isIpAddress(CharSequence ip) {
+		return (ip != null) && isIpAddress(ip, 0, ip.length());
+	}
+
+	/**
+	 * Checks whether a region of a character sequence is an IPv4 or IPv6 address
+	 * literal.
+	 * @param text the character sequence
+	 * @param from the start of the region, inclusive
+	 * @param to the end of the region, exclusive
+	 * @return {@code true} if the region is an IP address literal
+	 */
+	public static boolean isIpAddress(CharSequence text, int from, int to) {
+		return parseIpv4(text, from, to) >= 0 || parseIpv6(text, from, to) != null;
+	}
+
+	/**
+	 * Parses a dotted-quad IPv4 literal.
+	 * @param text the character sequence
+	 * @param from the start of the literal, inclusive
+	 * @param to the end of the literal, exclusive
+	 * @return the address as an unsigned 32-bit value, or {@code -1} if the region is not
+	 * an IPv4 literal
+	 */
+	public static long parseIpv4(CharSequence text, int from, int to) {
+		int length = to - from;
+		if (length < 7 || length > 15) {
+			return -1;
+		}
+		long address = 0;
+		int parts = 0;
+		int value = 0;
+		int digits = 0;
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (digits == 3) {
+					return -1;
+				}
+				value = value * 10 + (c - '0');
+				digits++;
+			}
+			else if (c == '.' && digits > 0 && parts < 3 && value <= 255) {
+				address = (address << 8) | value;
+				parts++;
+				value = 0;
+				digits = 0;
+			}
+			else {
+				return -1;
+			}
+		}
+		if (digits == 0 || parts != 3 || value > 255) {
+			return -1;
+		}
+		return (address << 8) | value;
+	}
+
+	/**
+	 * Parses an IPv6 literal, including the {@code ::} compressed form, an embedded
+	 * dotted-quad IPv4 suffix and a {@code %zone} suffix, which is ignored.
+	 * @param text the character sequence
+	 * @param from the start of the literal, inclusive
+	 * @param to the end of the literal, exclusive
+	 * @return the high and low 64 bits of the address, or {@code null} if the region is
+	 * not an IPv6 literal
+	 */
+	public static long[] parseIpv6(CharSequence text, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (text.charAt(i) == '%') {
+				to = i;
+				break;
+			}
+		}
+		if (to - from < 2 || to - from > 45) {
+			return null;
+		}
+		int[] groups = new int[8];
+		int count = 0;
+		int compressAt = -1;
+		int i = from;
+		if (text.charAt(i) == ':') {
+			if (text.charAt(i + 1) != ':') {
+				return null;
+			}
+			compressAt = 0;
+			i += 2;
+		}
+		while (i < to) {
+			if (count == 8) {
+				return null;
+			}
+			int start = i;
+			int value = 0;
+			int digit;
+			while (i < to && i - start < 4 && (digit = Character.digit(text.charAt(i), 16)) >= 0) {
+				value = (value << 4) | digit;
+				i++;
+			}
+			if (i < to && text.charAt(i) == '.') {
+				long ipv4 = (count <= 6) ? parseIpv4(text, start, to) : -1;
+				if (ipv4 < 0) {
+					return null;
+				}
+				groups[count++] = (int) (ipv4 >>> 16);
+				groups[count++] = (int) (ipv4 & 0xFFFF);
+				break;
+			}
+			if (i == start) {
+				return null;
+			}
+			groups[count++] = value;
+			if (i == to) {
+				break;
+			}
+			if (text.charAt(i) != ':' || ++i == to) {
+				return null;
+			}
+			if (text.charAt(i) == ':') {
+				if (compressAt >= 0) {
+					return null;
+				}
+				compressAt = count;
+				i++;
+			}
+		}
+		if ((compressAt < 0) ? count != 8 : count == 8) {
+			return null;
+		}
+		long high = 0;
+		long low = 0;
+		int zeros = 8 - count;
+		int group = 0;
+		for (int slot = 0; slot < 8; slot++) {
+			int value;
+			if (compressAt >= 0 && slot >= compressAt && slot < compressAt + zeros) {
+				value = 0;
+			}
+			else {
+				value = groups[group++];
+			}
+			if (slot < 4) {
+				high = (high << 16) | value;
+			}
+			else {
+				low = (low << 16) | value;
+			}
+		}
+		return new long[] { high, low };
+	}
+
+	// ============================ private ============================
+
+	private static int parsePrefixLength(String block, int slash, int maximum) {
+		if (slash < 0) {
+			return maximum;
+		}
+		int prefixLength = 0;
+		int length = block.length();
+		if (slash + 1 == length || length - slash > 4) {
+			throw new IllegalArgumentException("Invalid prefix length in CIDR block '" + block + "'");
+		}
+		for (int i = slash + 1; i < length; i++) {
+			char c = block.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new IllegalArgumentException("Invalid prefix length in CIDR block '" + block + "'");
+			}
+			prefixLength = prefixLength * 10 + (c - '0');
+		}
+		if (prefixLength > maximum) {
+			throw new IllegalArgumentException(
+					"Prefix length of CIDR block '" + block + "' must be at most " + maximum);
+		}
+		return prefixLength;
+	}
+
+	private static long[] ipv4Range(long address, int prefixLength) {
+		long mask = (prefixLength == 0) ? 0 : (IPV4_MASK << (32 - prefixLength)) & IPV4_MASK;
+		long start = address & mask;
+		return new long[] { start, start | (~mask & IPV4_MASK) };
+	}
+
+	private static long[] ipv6Range(long high, long low, int prefixLength) {
+		long highMask = (prefixLength >= 64) ? -1L : ((prefixLength == 0) ? 0 : -1L << (64 - prefixLength));
+		long lowMask = (prefixLength <= 64) ? 0 : -1L << (128 - prefixLength);
+		long startHigh = high & highMask;
+		long startLow = low & lowMask;
+		return new long[] { startHigh, startLow, startHigh | ~highMask, startLow | ~lowMask };
+	}
+
+	private static long[] mergeIpv4(List<long[]> ranges) {
+		Collections.sort(ranges, (a, b) -> Long.compare(a[0], b[0]));
+		long[] merged = new long[ranges.size() * 2];
+		int size = 0;
+		for (long[] range : ranges) {
+			// 与上一区间重叠或相邻时合并
+			if (size > 0 && range[0] <= merged[size - 1] + 1) {
+				merged[size - 1] = Math.max(merged[size - 1], range[1]);
+			}
+			else {
+				merged[size++] = range[0];
+				merged[size++] = range[1];
+			}
+		}
+		return Arrays.copyOf(merged, size);
+	}
+
+	private static long[] mergeIpv6(List<long[]> ranges) {
+		Collections.sort(ranges, (a, b) -> compare(a[0], a[1], b[0], b[1]));
+		long[] merged = new long[ranges.size() * 4];
+		int size = 0;
+		for (long[] range : ranges) {
+			if (size > 0 && isAdjacentOrOverlapping(merged[size - 2], merged[size - 1], range[0], range[1])) {
+				if (compare(range[2], range[3], merged[size - 2], merged[size - 1]) > 0) {
+					merged[size - 2] = range[2];
+					merged[size - 1] = range[3];
+				}
+			}
+			else {
+				System.arraycopy(range, 0, merged, size, 4);
+				size += 4;
+			}
+		}
+		return Arrays.copyOf(merged, size);
+	}
+
+	private static boolean isAdjacentOrOverlapping(long endHigh, long endLow, long startHigh, long startLow) {
+		if (compare(startHigh, startLow, endHigh, endLow) <= 0) {
+			return true;
+		}
+		// start == end + 1
+		long nextLow = endLow + 1;
+		long nextHigh = (nextLow == 0) ? endHigh + 1 : endHigh;
+		return nextHigh == startHigh && nextLow == startLow && !(endHigh == -1L && endLow == -1L);
+	}
+
+	private static int compare(long high1, long low1, long high2, long low2) {
+		int result = Long.compareUnsigned(high1, high2);
+		return (result != 0) ? result : Long.compareUnsigned(low1, low2);
+	}
+
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.net;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import space.x9x.radp.commons.lang.StringUtil;
+
+/**
+ * Resolves the client IP address of a request that may have passed through reverse
+ * proxies.
+ * <p>
+ * Forwarding headers are only believed when the request was received from a trusted
+ * proxy, and only the forwarding header the proxies are known to set is read, by default
+ * {@code X-Forwarded-For}. Any other forwarding header is passed through by such proxies
+ * unchanged and therefore fully controlled by the client. The chain of the trusted header,
+ * either an {@code X-Forwarded-For} style address list or the {@code Forwarded} (RFC 7239)
+ * header, is walked from right to left, skipping hops that are trusted proxies
+ * themselves; the first untrusted hop is the client. A hop that is not an IP literal,
+ * such as {@code unknown} or an obfuscated identifier, ends the walk at the last trusted
+ * hop, since nothing to its left can be verified. Addresses spoofed by the client at the
+ * left of the chain are therefore never returned. In {@code X-Forwarded-For} mode the
+ * legacy {@code Proxy-Client-IP} and {@code WL-Proxy-Client-IP} headers are read if the
+ * trusted header is absent.
+ * <p>
+ * The headers are scanned in place, without regular expressions, splitting or DNS
+ * lookups, and the result is cached as the {@value #ATTRIBUTE} request attribute, so
+ * every component asking for the client IP of the same request shares one resolution.
+ * <p>
+ * The trusted proxies of the {@linkplain #getDefault() default resolver} are read from
+ * the {@value #PROPERTY} system property, a comma separated list of CIDR blocks, and
+ * default to the loopback, private, carrier-grade NAT and link-local networks. Its
+ * trusted header is read from the {@value #HEADER_PROPERTY} system property.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:55
+ */
+@Slf4j
+public final class ClientIpResolver {
+
+	/**
+	 * System property listing the trusted proxies of the default resolver.
+	 */
+	public static final String PROPERTY = "radp.net.trusted-proxies";
+
+	/**
+	 * System property naming the forwarding header set by the trusted proxies of the
+	 * default resolver, {@value #X_FORWARDED_FOR} if not set.
+	 */
+	public static final String HEADER_PROPERTY = "radp.net.trusted-header";
+
+	/**
+	 * The RFC 7239 forwarding header.
+	 */
+	public static final String FORWARDED = "Forwarded";
+
+	/**
+	 * The de-facto standard forwarding header, trusted by default.
+	 */
+	public static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+	/**
+	 * Request attribute caching the resolved client IP address.
+	 */
+	public static final String ATTRIBUTE = ClientIpResolver.class.getName() + ".CLIENT_IP";
+
+	/**
+	 * Trusted proxies of the default resolver if {@value #PROPERTY} is not set: the
+	 * loopback, private, carrier-grade NAT and link-local networks.
+	 */
+	public static final List<String> DEFAULT_TRUSTED_PROXIES = Collections.unmodifiableList(
+			Arrays.asList("127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "100.64.0.0/10",
+					"169.254.0.0/16", "::1/128", "fc00::/7", "fe80::/10"));
+
+	private static final String PROXY_CLIENT_IP = "Proxy-Client-IP";
+
+	private static final String WL_PROXY_CLIENT_IP = "WL-Proxy-Client-IP";
+
+	private static final String FOR = "for=";
+
+	private static volatile ClientIpResolver defaultResolver;
+
+	private final CidrMatcher trustedProxies;
+
+	private final String trustedHeader;
+
+	private final boolean forwarded;
+
+	private ClientIpResolver(CidrMatcher trustedProxies, String trustedHeader) {
+		this.trustedProxies = trustedProxies;
+		this.forwarded = FORWARDED.equalsIgnoreCase(trustedHeader);
+		this.trustedHeader = (this.forwarded) ? FORWARDED : trustedHeader;
+	}
+
+	/**
+	 * Creates a resolver believing the {@code X-Forwarded-For} header set by the given
+	 * proxies.
+	 * @param trustedProxies the trusted proxies
+	 * @return the resolver
+	 */
+	public static ClientIpResolver of(CidrMatcher trustedProxies) {
+		return of(trustedProxies, X_FORWARDED_FOR);
+	}
+
+	/**
+	 * Creates a resolver believing the given forwarding header set by the given proxies.
+	 * @param trustedProxies the trusted proxies
+	 * @param trustedHeader the forwarding header set by the proxies, {@value #FORWARDED}
+	 * or an {@code X-Forwarded-For} style header
+	 * @return the resolver
+	 */
+	public static ClientIpResolver of(CidrMatcher trustedProxies, String trustedHeader) {
+		if (StringUtil.isBlank(trustedHeader)) {
+			throw new IllegalArgumentException("Trusted header must not be blank");
+		}
+		return new ClientIpResolver(trustedProxies, trustedHeader.trim());
+	}
+
+	/**
+	 * Returns the resolver trusting the proxies configured by the {@value #PROPERTY}
+	 * system property, or the {@link #DEFAULT_TRUSTED_PROXIES} if not configured, and the
+	 * header configured by the {@value #HEADER_PROPERTY} system property, or
+	 * {@value #X_FORWARDED_FOR} if not configured.
+	 * @return the default resolver
+	 */
+	public static ClientIpResolver getDefault() {
+		ClientIpResolver resolver = defaultResolver;
+		if (resolver == null) {
+			String trustedHeader = System.getProperty(HEADER_PROPERTY);
+			resolver = new ClientIpResolver(trustedProxiesFromSystemProperty(),
+					StringUtil.isBlank(trustedHeader) ? X_FORWARDED_FOR : trustedHeader.trim());
+			defaultResolver = resolver;
+		}
+		return resolver;
+	}
+
+	/**
+	 * Resolves the client IP address of a request, at most once per request.
+	 * @param request the request
+	 * @return the client IP address, the remote address of the request if it was not
+	 * received from a trusted proxy or carries no usable forwarding header
+	 */
+	public String resolve(HttpServletRequest request) {
+		Object cached = request.getAttribute(ATTRIBUTE);
+		if (cached instanceof String) {
+			return (String) cached;
+		}
+		String remoteAddr = request.getRemoteAddr();
+		String ip = remoteAddr;
+		if (this.trustedProxies.matches(remoteAddr)) {
+			String header = getHeader(request, this.trustedHeader);
+			if (header == null && !this.forwarded) {
+				header = getHeader(request, PROXY_CLIENT_IP);
+				if (header == null) {
+					header = getHeader(request, WL_PROXY_CLIENT_IP);
+				}
+			}
+			ip = resolve(remoteAddr, header);
+		}
+		if (ip != null) {
+			request.setAttribute(ATTRIBUTE, ip);
+		}
+		return ip;
+	}
+
+	/**
+	 * Resolves the client IP address from the remote address and the trusted forwarding
+	 * header of a request.
+	 * @param remoteAddr the address the request was received from
+	 * @param header the value of the trusted forwarding header, may be {@code null}
+	 * @return the client IP address
+	 */
+	public String resolve(String remoteAddr, String header) {
+		if (!this.trustedProxies.matches(remoteAddr)) {
+			return remoteAddr;
+		}
+		String ip = (header != null) ? resolveChain(header) : null;
+		return (ip != null) ? ip : remoteAddr;
+	}
+
+	/**
+	 * Checks whether the address is a trusted proxy.
+	 * @param ip the address literal, may be {@code null}
+	 * @return {@code true} if forwarding headers set by the address are believed
+	 */
+	public boolean isTrustedProxy(CharSequence ip) {
+		return this.trustedProxies.matches(ip);
+	}
+
+	private String resolveChain(String header) {
+		int trustedFrom = -1;
+		int trustedTo = -1;
+		int end = header.length();
+		while (end >= 0) {
+			int separator = lastIndexOf(header, ',', 0, end);
+			int from = trimStart(header, separator + 1, end);
+			int to = trimEnd(header, from, end);
+			end = separator;
+			if (from == to) {
+				continue;
+			}
+			long node = (this.forwarded) ? forwardedNode(header, from, to) : node(header, from, to);
+			if (node < 0) {
+				break;
+			}
+			int nodeFrom = (int) (node >>> 32);
+			int nodeTo = (int) node;
+			if (!this.trustedProxies.matches(header, nodeFrom, nodeTo)) {
+				return header.substring(nodeFrom, nodeTo);
+			}
+			trustedFrom = nodeFrom;
+			trustedTo = nodeTo;
+		}
+		return (trustedFrom >= 0) ? header.substring(trustedFrom, trustedTo) : null;
+	}
+
+	/**
+	 * Locates the {@code for} parameter of a {@code Forwarded} element, such as
+	 * {@code for="[2001:db8::1]:4711";proto=https}.
+	 */
+	private static long forwardedNode(String header, int from, int to) {
+		while (from < to) {
+			int separator = indexOf(header, ';', from, to);
+			int pairEnd = (separator >= 0) ? separator : to;
+			int pairFrom = trimStart(header, from, pairEnd);
+			if (pairEnd - pairFrom > FOR.length() && header.regionMatches(true, pairFrom, FOR, 0, FOR.length())) {
+				int valueFrom = pairFrom + FOR.length();
+				int valueTo = trimEnd(header, valueFrom, pairEnd);
+				if (valueTo - valueFrom >= 2 && header.charAt(valueFrom) == '"' && header.charAt(valueTo - 1) == '"') {
+					valueFrom++;
+					valueTo--;
+				}
+				return node(header, valueFrom, valueTo);
+			}
+			from = pairEnd + 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Locates the address of a node, stripping the brackets of an IPv6 address and the
+	 * port.
+	 * @return the start and end of the address packed into a long, or {@code -1} if the
+	 * node is not an IP literal
+	 */
+	private static long node(String header, int from, int to) {
+		if (from == to) {
+			return -1;
+		}
+		if (header.charAt(from) == '[') {
+			to = indexOf(header, ']', from + 1, to);
+			if (to < 0) {
+				return -1;
+			}
+			from++;
+		}
+		else {
+			int colon = indexOf(header, ':', from, to);
+			if (colon >= 0 && indexOf(header, ':', colon + 1, to) < 0) {
+				to = colon;
+			}
+		}
+		if (!CidrMatcher.isIpAddress(header, from, to)) {
+			return -1;
+		}
+		return ((long) from << 32) | to;
+	}
+
+	/**
+	 * Finds the last separator before {@code to} that is not within a quoted string.
+	 */
+	private static int lastIndexOf(String header, char separator, int from, int to) {
+		boolean quoted = false;
+		for (int i = to - 1; i >= from; i--) {
+			char c = header.charAt(i);
+			if (c == '"') {
+				quoted = !quoted;
+			}
+			else if (c == separator && !quoted) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the first separator from {@code from} that is not within a quoted string.
+	 */
+	private static int indexOf(String header, char separator, int from, int to) {
+		boolean quoted = false;
+		for (int i = from; i < to; i++) {
+			char c = header.charAt(i);
+			if (c == '"') {
+				quoted = !quoted;
+			}
+			else if (c == separator && !quoted) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int trimStart(String header, int from, int to) {
+		while (from < to && isWhitespace(header.charAt(from))) {
+			from++;
+		}
+		return from;
+	}
+
+	private static int trimEnd(String header, int from, int to) {
+		while (to > from && isWhitespace(header.charAt(to - 1))) {
+			to--;
+		}
+		return to;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t';
+	}
+
+	/**
+	 * Returns the value of a header, the comma separated concatenation of its values if
+	 * it is repeated.
+	 */
+	private static String getHeader(HttpServletRequest request, String name) {
+		Enumeration<String> values = request.getHeaders(name);
+		if (values == null) {
+			String value = request.getHeader(name);
+			return StringUtil.isBlank(value) ? null : value;
+		}
+		if (!values.hasMoreElements()) {
+			return null;
+		}
+		String value = values.nextElement();
+		if (!values.hasMoreElements()) {
+			return StringUtil.isBlank(value) ? null : value;
+		}
+		StringBuilder builder = new StringBuilder(value);
+		while (values.hasMoreElements()) {
+			builder.append(',').append(values.nextElement());
+		}
+		return builder.toString();
+	}
+
+	private static CidrMatcher trustedProxiesFromSystemProperty() {
+		String value = System.getProperty(PROPERTY);
+		if (StringUtil.isBlank(value)) {
+			return CidrMatcher.of(DEFAULT_TRUSTED_PROXIES);
+		}
+		try {
+			return CidrMatcher.of(StringUtil.split(value, ","));
+		}
+		catch (IllegalArgumentException ex) {
+			log.warn("Invalid {} '{}', trusting {}: {}", PROPERTY, value, DEFAULT_TRUSTED_PROXIES, ex.getMessage());
+			return CidrMatcher.of(DEFAULT_TRUSTED_PROXIES);
+		}
+	}
+
+}
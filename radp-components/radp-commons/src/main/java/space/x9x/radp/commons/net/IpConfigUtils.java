@@ -31,7 +31,6 @@ import lombok.experimental.UtilityClass;
 
 import space.x9x.radp.commons.collections.CollectionUtils;
 import space.x9x.radp.commons.lang.StringConstants;
-import space.x9x.radp.commons.lang.StringUtil;
 
 /**
  * Utility class for IP address operations and network-related functionality.
@@ -42,24 +41,6 @@ import space.x9x.radp.commons.lang.StringUtil;
 @UtilityClass
 public class IpConfigUtils {
 
-	/**
-	 * HTTP header name for forwarded client IP addresses. This header is commonly used by
-	 * proxies to pass the original client IP.
-	 */
-	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
-
-	/**
-	 * HTTP header name for proxy client IP address. This header is used by some proxy
-	 * servers to indicate the client's IP address.
-	 */
-	private static final String PROXY_CLIENT_IP = "Proxy-Client-IP";
-
-	/**
-	 * HTTP header name for WebLogic proxy client IP address. This header is specific to
-	 * WebLogic proxy servers.
-	 */
-	private static final String WL_PROXY_CLIENT_IP = "WL-Proxy-Client-IP";
-
 	/**
 	 * The cached IP address of the local machine. This value is determined when the class
 	 * is loaded.
@@ -72,6 +53,11 @@ public class IpConfigUtils {
 	 */
 	private static final String SUBNET_MASK = "255.255.255.0";
 
+	/**
+	 * Prefix length of the default subnet mask.
+	 */
+	private static final int SUBNET_PREFIX_LENGTH = 24;
+
 	/**
 	 * Returns the IP address of the local machine.
 	 *
@@ -145,31 +131,34 @@ public class IpConfigUtils {
 	 * Extracts the client IP address from an HTTP request.
 	 *
 	 * <p>
-	 * This method attempts to find the client IP address by checking various HTTP headers
-	 * that might contain the original client IP when the request passes through proxies.
-	 * It checks the following headers in order:
-	 * <ol>
-	 * <li>X-Forwarded-For</li>
-	 * <li>Proxy-Client-IP</li>
-	 * <li>WL-Proxy-Client-IP</li>
-	 * </ol>
-	 * If none of these headers contain a valid IP, it falls back to the remote address
-	 * from the request.
+	 * Only the trusted forwarding header of the
+	 * {@linkplain ClientIpResolver#getDefault() default resolver} is read, by default
+	 * {@code X-Forwarded-For} with the legacy {@code Proxy-Client-IP} and
+	 * {@code WL-Proxy-Client-IP} headers as fallbacks, or {@code Forwarded} if configured.
+	 * It is only believed when the request was received from a trusted proxy, and its chain
+	 * is walked from right to left up to the first untrusted hop. The address is resolved
+	 * once per request and cached as a request attribute.
 	 * @param request the HTTP servlet request
-	 * @return the client IP address
+	 * @return the client IP address, the remote address of the request if it was not
+	 * received from a trusted proxy
+	 * @see ClientIpResolver
 	 */
 	public static String parseIpAddress(HttpServletRequest request) {
-		String ip = request.getHeader(X_FORWARDED_FOR);
-		if (StringUtil.isEmpty(ip) || IpConfig.UNKNOWN_IP.equalsIgnoreCase(ip)) {
-			ip = request.getHeader(PROXY_CLIENT_IP);
-		}
-		if (StringUtil.isEmpty(ip) || IpConfig.UNKNOWN_IP.equalsIgnoreCase(ip)) {
-			ip = request.getHeader(WL_PROXY_CLIENT_IP);
-		}
-		if (StringUtil.isEmpty(ip) || IpConfig.UNKNOWN_IP.equalsIgnoreCase(ip)) {
-			ip = request.getRemoteAddr();
+		return ClientIpResolver.getDefault().resolve(request);
+	}
+
+	/**
+	 * Returns the subnet of an IPv4 address under the default subnet mask
+	 * (255.255.255.0), for repeated {@link #isSameSubnet(String, String)} checks against
+	 * the same address.
+	 * @param ip the IPv4 address literal, may be {@code null}
+	 * @return the matcher of the subnet, empty if the address is not an IPv4 literal
+	 */
+	public static CidrMatcher getSubnet(String ip) {
+		if (ip == null || CidrMatcher.parseIpv4(ip, 0, ip.length()) < 0) {
+			return CidrMatcher.empty();
 		}
-		return ip;
+		return CidrMatcher.subnetOf(ip, SUBNET_PREFIX_LENGTH);
 	}
 
 	/**
@@ -181,7 +170,7 @@ public class IpConfigUtils {
 	 * @param ip1 the first IP address
 	 * @param ip2 the second IP address
 	 * @return true if both IP addresses are in the same subnet, false otherwise
-	 * @throws UnknownHostException if either IP address cannot be resolved
+	 * @throws UnknownHostException if either IP address is not an IP literal
 	 */
 	public static boolean isSameSubnet(String ip1, String ip2) throws UnknownHostException {
 		return isSameSubnet(ip1, ip2, SUBNET_MASK);
@@ -193,26 +182,46 @@ public class IpConfigUtils {
 	 * <p>
 	 * This method determines if the two provided IP addresses belong to the same subnet
 	 * by applying the specified subnet mask to both addresses and comparing the results.
+	 * The addresses and the mask are parsed as literals by {@link CidrMatcher}, host names
+	 * are not resolved.
 	 * @param ip1 the first IP address
 	 * @param ip2 the second IP address
 	 * @param subnetMask the subnet mask to use for the comparison
 	 * @return true if both IP addresses are in the same subnet, false otherwise
-	 * @throws UnknownHostException if an IP address or subnet mask cannot be resolved
+	 * @throws UnknownHostException if an IP address or the subnet mask is not an IP
+	 * literal, or they are not of the same address family
 	 */
 	public static boolean isSameSubnet(String ip1, String ip2, String subnetMask) throws UnknownHostException {
-		InetAddress address1 = InetAddress.getByName(ip1);
-		InetAddress address2 = InetAddress.getByName(ip2);
-		InetAddress subnet = InetAddress.getByName(subnetMask);
-
-		byte[] b1 = address1.getAddress();
-		byte[] b2 = address2.getAddress();
-		byte[] b3 = subnet.getAddress();
-		for (int i = 0; i < b1.length; i++) {
-			if ((b1[i] & b3[i]) != (b2[i] & b3[i])) {
-				return false;
-			}
+		long mask = CidrMatcher.parseIpv4(subnetMask, 0, subnetMask.length());
+		if (mask >= 0) {
+			return (toIpv4(ip1) & mask) == (toIpv4(ip2) & mask);
+		}
+		long[] mask6 = toIpv6(subnetMask);
+		long[] address1 = toIpv6(ip1);
+		long[] address2 = toIpv6(ip2);
+		return (address1[0] & mask6[0]) == (address2[0] & mask6[0])
+				&& (address1[1] & mask6[1]) == (address2[1] & mask6[1]);
+	}
+
+	private static long toIpv4(String ip) throws UnknownHostException {
+		long address = CidrMatcher.parseIpv4(ip, 0, ip.length());
+		if (address >= 0) {
+			return address;
+		}
+		// 与 InetAddress 一致, IPv4-mapped IPv6 地址视为 IPv4 地址
+		long[] address6 = CidrMatcher.parseIpv6(ip, 0, ip.length());
+		if (address6 != null && address6[0] == 0 && (address6[1] >>> 32) == 0xFFFFL) {
+			return address6[1] & 0xFFFFFFFFL;
+		}
+		throw new UnknownHostException(ip + ": not an IPv4 address literal");
+	}
+
+	private static long[] toIpv6(String ip) throws UnknownHostException {
+		long[] address = CidrMatcher.parseIpv6(ip, 0, ip.length());
+		if (address == null) {
+			throw new UnknownHostException(ip + ": not an IPv6 address literal");
 		}
-		return true;
+		return address;
 	}
 
 }
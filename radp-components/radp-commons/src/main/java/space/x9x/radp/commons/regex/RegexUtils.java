@@ -56,6 +56,7 @@ import space.x9x.radp.commons.regex.pattern.RegexCache;
  * @author RADP x9x
  * @since 2024-12-27 12:50
  * @see space.x9x.radp.commons.regex.pattern.Regex
+ * @see RegexCache
  */
 @UtilityClass
 public class RegexUtils {
@@ -75,6 +76,7 @@ public class RegexUtils {
 	 * @param regex the regular expression pattern
 	 * @param input the character sequence to be searched
 	 * @return true if the pattern is found in the input sequence
+	 * @throws IllegalArgumentException if the regex is rejected by the {@link RegexCache}
 	 */
 	public static boolean find(String regex, CharSequence input) {
 		Pattern pattern = RegexCache.get(regex, Pattern.CASE_INSENSITIVE);
@@ -86,6 +88,7 @@ public class RegexUtils {
 	 * @param regex the regular expression pattern with capturing groups
 	 * @param input the character sequence to be searched
 	 * @return a list of all captured group values
+	 * @throws IllegalArgumentException if the regex is rejected by the {@link RegexCache}
 	 */
 	public static List<String> group(String regex, CharSequence input) {
 		List<String> matches = new ArrayList<>();
@@ -105,6 +108,7 @@ public class RegexUtils {
 	 * @param regex the regular expression pattern with capturing groups
 	 * @param input the character sequence to be searched
 	 * @return the value of the first capturing group, or null if no match is found
+	 * @throws IllegalArgumentException if the regex is rejected by the {@link RegexCache}
 	 */
 	public static String groupFirst(String regex, CharSequence input) {
 		return group(regex, input, 1);
@@ -117,6 +121,7 @@ public class RegexUtils {
 	 * @param input the character sequence to be searched
 	 * @param groupIndex the index of the capturing group to extract
 	 * @return the value of the specified capturing group, or null if no match is found
+	 * @throws IllegalArgumentException if the regex is rejected by the {@link RegexCache}
 	 */
 	public static String group(String regex, CharSequence input, int groupIndex) {
 		Pattern pattern = RegexCache.get(regex, Pattern.DOTALL);
@@ -146,6 +151,7 @@ public class RegexUtils {
 	 * @param input the character sequence to be processed
 	 * @param replacement the string to replace the first match with
 	 * @return the resulting string after replacement
+	 * @throws IllegalArgumentException if the regex is rejected by the {@link RegexCache}
 	 */
 	public static String replaceFirst(String regex, CharSequence input, String replacement) {
 		Pattern pattern = RegexCache.get(regex, Pattern.DOTALL);
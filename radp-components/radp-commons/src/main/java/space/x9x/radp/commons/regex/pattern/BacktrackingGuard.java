@@ -0,0 +1,284 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.regex.pattern;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 灾难性回溯检查.
+ * <p>
+ * Conservative static check for regular expressions prone to catastrophic backtracking.
+ * A pattern is rejected when an unbounded quantifier ({@code *}, {@code +},
+ * {@code {n,}}) applies to a group that itself contains an unbounded quantifier, i.e. a
+ * star height greater than one such as {@code (a+)+} or {@code (\w+\s?)*}, unless every
+ * repetition of the group has to consume a mandatory literal, as in
+ * {@code ([\w-]+\.)+}. Possessive quantifiers and atomic groups do not backtrack and are
+ * not counted.
+ * <p>
+ * The check does not detect every exponential pattern (e.g. overlapping alternations like
+ * {@code (a|a)*}, or a delimiter a character class also matches) and may reject some
+ * safe ones; it is meant as a cheap guard for patterns from untrusted input, not a proof
+ * of safety.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 18:30
+ */
+final class BacktrackingGuard {
+
+	private static final String LITERAL_ESCAPES = "ntrfae";
+
+	private BacktrackingGuard() {
+	}
+
+	/**
+	 * Checks the given regex.
+	 * @param regex the regex
+	 * @return the reason the regex is rejected, or {@code null} if it passes
+	 */
+	static String check(String regex) {
+		Deque<Group> groups = new ArrayDeque<>();
+		Group current = new Group(false);
+		// 上一个可被量词修饰的元素: 刚结束的分组, 或其它原子
+		Group lastGroup = null;
+		boolean lastIsAtom = false;
+		// 上一个原子是字面字符, 且尚未确定是否可选
+		boolean pendingLiteral = false;
+		int length = regex.length();
+		int i = 0;
+		while (i < length) {
+			char c = regex.charAt(i);
+			int end = quantifierEnd(regex, i);
+			if (end > i) {
+				boolean optional = c == '*' || c == '?' || regex.startsWith("{0", i);
+				boolean unbounded = isUnbounded(regex, i, end);
+				boolean possessive = end < length && regex.charAt(end) == '+';
+				if (unbounded && !possessive) {
+					if (lastGroup != null && lastGroup.isAmbiguous()) {
+						return "nested quantifier at index " + i;
+					}
+					if (lastGroup != null || lastIsAtom) {
+						current.unbounded = true;
+					}
+					if (lastIsAtom && regex.charAt(i - 1) == '.' && (i < 2 || regex.charAt(i - 2) != '\\')) {
+						current.wildcard = true;
+					}
+				}
+				// 可选或可重复的字面字符不能作为分隔符
+				pendingLiteral = pendingLiteral && !optional && !unbounded;
+				i = (end < length && (regex.charAt(end) == '+' || regex.charAt(end) == '?')) ? end + 1 : end;
+				lastGroup = null;
+				lastIsAtom = false;
+				continue;
+			}
+			if (pendingLiteral) {
+				current.delimited = true;
+				pendingLiteral = false;
+			}
+			lastGroup = null;
+			lastIsAtom = true;
+			if (c == '\\') {
+				if (i + 1 < length && regex.charAt(i + 1) == 'Q') {
+					int quoteEnd = regex.indexOf("\\E", i + 2);
+					pendingLiteral = quoteEnd != i + 2;
+					i = (quoteEnd < 0) ? length : quoteEnd + 2;
+				}
+				else {
+					pendingLiteral = i + 1 < length && isLiteralEscape(regex.charAt(i + 1));
+					i += 2;
+				}
+			}
+			else if (c == '[') {
+				i = skipCharacterClass(regex, i);
+			}
+			else if (c == '(') {
+				groups.push(current);
+				current = new Group(regex.startsWith("(?>", i));
+				lastIsAtom = false;
+				i = groupBodyStart(regex, i);
+			}
+			else if (c == ')') {
+				Group closed = current;
+				current = groups.isEmpty() ? new Group(false) : groups.pop();
+				if (closed.unbounded && !closed.atomic) {
+					current.unbounded = true;
+					current.wildcard |= closed.wildcard;
+				}
+				lastGroup = closed;
+				lastIsAtom = false;
+				i++;
+			}
+			else {
+				if (c == '|') {
+					current.alternation = true;
+				}
+				lastIsAtom = c != '|' && c != '^' && c != '$';
+				pendingLiteral = lastIsAtom && c != '.';
+				i++;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the index of the first character of the body of the group opening at the
+	 * given index, skipping the {@code (?:}, {@code (?>}, {@code (?=}, {@code (?!},
+	 * {@code (?<=}, {@code (?<!}, {@code (?<name>} and inline flag prefixes. Flags without
+	 * a body, as in {@code (?i)}, leave an empty group.
+	 */
+	private static int groupBodyStart(String regex, int start) {
+		int length = regex.length();
+		if (!regex.startsWith("(?", start) || start + 2 >= length) {
+			return start + 1;
+		}
+		char kind = regex.charAt(start + 2);
+		if (kind == ':' || kind == '>' || kind == '=' || kind == '!') {
+			return start + 3;
+		}
+		if (kind == '<') {
+			if (regex.startsWith("=", start + 3) || regex.startsWith("!", start + 3)) {
+				return start + 4;
+			}
+			int close = regex.indexOf('>', start + 3);
+			return (close < 0) ? length : close + 1;
+		}
+		// 内联标志 (?idmsuxU-idmsuxU) 或 (?idmsuxU-idmsuxU:X)
+		int i = start + 2;
+		while (i < length && (Character.isLetter(regex.charAt(i)) || regex.charAt(i) == '-')) {
+			i++;
+		}
+		return (i < length && regex.charAt(i) == ':') ? i + 1 : i;
+	}
+
+	private static boolean isLiteralEscape(char c) {
+		return !Character.isLetterOrDigit(c) || LITERAL_ESCAPES.indexOf(c) >= 0;
+	}
+
+	private static int skipCharacterClass(String regex, int start) {
+		int depth = 0;
+		int i = start;
+		while (i < regex.length()) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i += 2;
+				continue;
+			}
+			if (c == '[') {
+				depth++;
+				// 开头的 ']' 或 '^]' 是字面字符
+				if (regex.startsWith("]", i + 1)) {
+					i++;
+				}
+				else if (regex.startsWith("^]", i + 1)) {
+					i += 2;
+				}
+			}
+			else if (c == ']' && --depth == 0) {
+				return i + 1;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the end (exclusive) of the quantifier starting at the given index, or the
+	 * index itself if there is none.
+	 */
+	private static int quantifierEnd(String regex, int i) {
+		char c = regex.charAt(i);
+		if (c == '*' || c == '+' || c == '?') {
+			return i + 1;
+		}
+		if (c == '{') {
+			int close = regex.indexOf('}', i);
+			if (close > i + 1 && isRepetition(regex, i + 1, close)) {
+				return close + 1;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Checks whether the range is a repetition count: {@code n}, {@code n,} or
+	 * {@code n,m}.
+	 */
+	private static boolean isRepetition(String regex, int from, int to) {
+		int i = from;
+		while (i < to && Character.isDigit(regex.charAt(i))) {
+			i++;
+		}
+		if (i == from) {
+			return false;
+		}
+		if (i < to && regex.charAt(i) == ',') {
+			i++;
+			while (i < to && Character.isDigit(regex.charAt(i))) {
+				i++;
+			}
+		}
+		return i == to;
+	}
+
+	private static boolean isUnbounded(String regex, int start, int end) {
+		char c = regex.charAt(start);
+		if (c == '*' || c == '+') {
+			return true;
+		}
+		// {n,} 无上限
+		return c == '{' && regex.charAt(end - 2) == ',';
+	}
+
+	private static final class Group {
+
+		private final boolean atomic;
+
+		/**
+		 * Whether the group contains an unbounded, backtracking quantifier.
+		 */
+		private boolean unbounded;
+
+		/**
+		 * Whether the group contains a mandatory literal at its top level.
+		 */
+		private boolean delimited;
+
+		/**
+		 * Whether the group has an alternation at its top level.
+		 */
+		private boolean alternation;
+
+		/**
+		 * Whether the group contains an unbounded {@code .}, which also matches any
+		 * delimiter.
+		 */
+		private boolean wildcard;
+
+		Group(boolean atomic) {
+			this.atomic = atomic;
+		}
+
+		/**
+		 * Whether repeating the group can split the same input in many ways.
+		 */
+		boolean isAmbiguous() {
+			return this.unbounded && !this.atomic && (!this.delimited || this.alternation || this.wildcard);
+		}
+
+	}
+
+}
@@ -16,7 +16,11 @@
 
 package space.x9x.radp.commons.regex.pattern;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 import lombok.experimental.UtilityClass;
@@ -25,6 +29,11 @@ import lombok.experimental.UtilityClass;
  * Regular expression pattern cache. This utility class provides pre-compiled Pattern
  * objects for commonly used regular expressions and a caching mechanism to improve
  * performance when compiling frequently used patterns.
+ * <p>
+ * The cache is keyed by regex and flags and bounded by {@link #setMaximumSize(int)}.
+ * Since patterns may come from untrusted input, overlong patterns and patterns prone to
+ * catastrophic backtracking (see {@link BacktrackingGuard}) are rejected before
+ * compilation.
  *
  * @author RADP x9x
  * @since 2024-12-27 12:55
@@ -251,38 +260,103 @@ public class RegexCache {
 	public static final Pattern FLOAT_NEGATIVE = Pattern.compile(Regex.FLOAT_NEGATIVE);
 
 	/**
-	 * Regular expression pattern compilation cache. Stores compiled patterns to improve
-	 * performance by avoiding repeated compilation.
+	 * 默认缓存的最大正则个数.
+	 * <p>
+	 * Default maximum number of cached patterns.
 	 */
-	private static final ConcurrentHashMap<String, Pattern> CACHE = new ConcurrentHashMap<>();
+	public static final int DEFAULT_MAXIMUM_SIZE = 512;
 
 	/**
-	 * Gets a pattern from the cache, compiling and storing it if not found. This method
-	 * improves performance by reusing compiled patterns.
-	 * @param regex the regular expression string
-	 * @param flags the compilation flags
-	 * @return the compiled Pattern object
+	 * 默认允许缓存的最大正则长度.
+	 * <p>
+	 * Default maximum length of a cached regex.
+	 */
+	public static final int DEFAULT_MAXIMUM_REGEX_LENGTH = 1024;
+
+	private static final ConcurrentHashMap<PatternKey, Entry> CACHE = new ConcurrentHashMap<>();
+
+	private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
+	private static final LongAdder HITS = new LongAdder();
+
+	private static final LongAdder MISSES = new LongAdder();
+
+	private static final LongAdder EVICTIONS = new LongAdder();
+
+	private static final LongAdder REJECTIONS = new LongAdder();
+
+	private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	private static volatile int maximumRegexLength = DEFAULT_MAXIMUM_REGEX_LENGTH;
+
+	private static volatile boolean backtrackingGuardEnabled = true;
+
+	/**
+	 * 获取编译后的正则, 以 (regex, flags) 为键缓存. 同一个键在并发下只编译一次, 缓存超过
+	 * {@link #setMaximumSize(int) 最大个数} 时按近似 LRU (second chance) 淘汰.
+	 * <p>
+	 * Gets the compiled pattern, cached by regex and flags. A key is compiled once even
+	 * under contention, and once the cache exceeds its
+	 * {@link #setMaximumSize(int) maximum size} patterns are evicted in approximate LRU
+	 * (second chance) order.
+	 * @param regex the regular expression
+	 * @param flags the compilation flags, see {@link Pattern#compile(String, int)}
+	 * @return the compiled pattern
+	 * @throws IllegalArgumentException if the regex exceeds the maximum length or may
+	 * cause catastrophic backtracking
+	 * @throws java.util.regex.PatternSyntaxException if the regex is invalid
 	 */
 	public static Pattern get(String regex, int flags) {
-		Pattern pattern = CACHE.get(regex);
-		if (pattern == null) {
-			pattern = Pattern.compile(regex, flags);
-			CACHE.put(regex, pattern);
+		PatternKey key = new PatternKey(regex, flags);
+		Entry entry = CACHE.get(key);
+		if (entry != null) {
+			HITS.increment();
+			entry.touch();
+			return entry.pattern;
+		}
+		MISSES.increment();
+		entry = CACHE.computeIfAbsent(key, RegexCache::compile);
+		if (CACHE.size() > maximumSize) {
+			evict();
 		}
-		return pattern;
+		return entry.pattern;
 	}
 
 	/**
-	 * Removes a pattern from the cache. This method can be used to free memory or force
-	 * recompilation of a pattern.
-	 * @param regex the regular expression string to remove
-	 * @return the removed Pattern object, or null if not found
+	 * 移除正则以任意编译标志缓存的所有实例.
+	 * <p>
+	 * Removes the patterns of the regex cached with any flags.
+	 * @param regex the regular expression to remove
+	 * @return one of the removed patterns, or {@code null} if not found
 	 */
 	public static Pattern remove(String regex) {
-		return CACHE.remove(regex);
+		Pattern removed = null;
+		for (Iterator<Map.Entry<PatternKey, Entry>> it = CACHE.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<PatternKey, Entry> entry = it.next();
+			if (entry.getKey().regex.equals(regex)) {
+				removed = entry.getValue().pattern;
+				it.remove();
+			}
+		}
+		return removed;
 	}
 
 	/**
+	 * 移除以指定编译标志缓存的正则.
+	 * <p>
+	 * Removes the pattern of the regex cached with the given flags.
+	 * @param regex the regular expression to remove
+	 * @param flags the compilation flags
+	 * @return the removed pattern, or {@code null} if not found
+	 */
+	public static Pattern remove(String regex, int flags) {
+		Entry entry = CACHE.remove(new PatternKey(regex, flags));
+		return (entry != null) ? entry.pattern : null;
+	}
+
+	/**
+	 * 清空缓存.
+	 * <p>
 	 * Clears all patterns from the cache. This method removes all compiled patterns from
 	 * the cache, freeing memory.
 	 */
@@ -290,4 +364,204 @@ public class RegexCache {
 		CACHE.clear();
 	}
 
+	/**
+	 * 设置缓存的最大正则个数.
+	 * <p>
+	 * Sets the maximum number of cached patterns, evicting patterns beyond it.
+	 * @param maximumSize the maximum number of cached patterns
+	 * @throws IllegalArgumentException if the maximum size is not positive
+	 */
+	public static void setMaximumSize(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be greater than zero.");
+		}
+		RegexCache.maximumSize = maximumSize;
+		evict();
+	}
+
+	/**
+	 * 设置允许缓存的最大正则长度, 更长的正则直接拒绝.
+	 * <p>
+	 * Sets the maximum length of a cached regex, longer ones are rejected.
+	 * @param maximumRegexLength the maximum regex length
+	 * @throws IllegalArgumentException if the maximum length is not positive
+	 */
+	public static void setMaximumRegexLength(int maximumRegexLength) {
+		if (maximumRegexLength <= 0) {
+			throw new IllegalArgumentException("maximumRegexLength must be greater than zero.");
+		}
+		RegexCache.maximumRegexLength = maximumRegexLength;
+	}
+
+	/**
+	 * 启用或禁用灾难性回溯检查, 默认启用.
+	 * <p>
+	 * Enables or disables the catastrophic backtracking check, enabled by default.
+	 * @param enabled whether the check is enabled
+	 * @see BacktrackingGuard
+	 */
+	public static void setBacktrackingGuardEnabled(boolean enabled) {
+		backtrackingGuardEnabled = enabled;
+	}
+
+	/**
+	 * 当前缓存的正则个数.
+	 * <p>
+	 * Returns the number of cached patterns.
+	 * @return the number of cached patterns
+	 */
+	public static int size() {
+		return CACHE.size();
+	}
+
+	/**
+	 * 命中次数.
+	 * <p>
+	 * Returns the number of cache hits.
+	 * @return the number of hits
+	 */
+	public static long getHitCount() {
+		return HITS.sum();
+	}
+
+	/**
+	 * 未命中次数.
+	 * <p>
+	 * Returns the number of cache misses.
+	 * @return the number of misses
+	 */
+	public static long getMissCount() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * 淘汰次数.
+	 * <p>
+	 * Returns the number of evicted patterns.
+	 * @return the number of evictions
+	 */
+	public static long getEvictionCount() {
+		return EVICTIONS.sum();
+	}
+
+	/**
+	 * 因超长或可能导致灾难性回溯而被拒绝的次数.
+	 * <p>
+	 * Returns the number of regexes rejected for their length or for possible
+	 * catastrophic backtracking.
+	 * @return the number of rejections
+	 */
+	public static long getRejectionCount() {
+		return REJECTIONS.sum();
+	}
+
+	private static Entry compile(PatternKey key) {
+		if (key.regex.length() > maximumRegexLength) {
+			REJECTIONS.increment();
+			throw new IllegalArgumentException("Regex length " + key.regex.length()
+					+ " exceeds the maximum length " + maximumRegexLength);
+		}
+		if (backtrackingGuardEnabled && (key.flags & Pattern.LITERAL) == 0) {
+			String reason = BacktrackingGuard.check(key.regex);
+			if (reason != null) {
+				REJECTIONS.increment();
+				throw new IllegalArgumentException("Regex '" + key.regex + "' may cause catastrophic backtracking: "
+						+ reason);
+			}
+		}
+		return new Entry(Pattern.compile(key.regex, key.flags));
+	}
+
+	/**
+	 * 近似 LRU 淘汰: 遍历缓存, 最近访问过的正则清除访问标记获得第二次机会, 其余淘汰. 同一时刻只有一个线程
+	 * 执行淘汰, 其它线程不等待.
+	 */
+	private static void evict() {
+		if (!EVICTING.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// 最多两轮: 第一轮清除访问标记, 第二轮必然可以淘汰
+			for (int round = 0; round < 2 && CACHE.size() > maximumSize; round++) {
+				for (Iterator<Entry> it = CACHE.values().iterator(); it.hasNext() && CACHE.size() > maximumSize;) {
+					Entry entry = it.next();
+					if (entry.referenced) {
+						entry.referenced = false;
+					}
+					else {
+						it.remove();
+						EVICTIONS.increment();
+					}
+				}
+			}
+		}
+		finally {
+			EVICTING.set(false);
+		}
+	}
+
+	/**
+	 * 缓存键
+	 */
+	private static final class PatternKey {
+
+		private final String regex;
+
+		private final int flags;
+
+		private final int hash;
+
+		PatternKey(String regex, int flags) {
+			if (regex == null) {
+				throw new IllegalArgumentException("regex cannot be null.");
+			}
+			this.regex = regex;
+			this.flags = flags;
+			this.hash = 31 * regex.hashCode() + flags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PatternKey)) {
+				return false;
+			}
+			PatternKey other = (PatternKey) obj;
+			return this.flags == other.flags && this.regex.equals(other.regex);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+	}
+
+	/**
+	 * 缓存项
+	 */
+	private static final class Entry {
+
+		private final Pattern pattern;
+
+		/**
+		 * 上次淘汰扫描后是否被访问过
+		 */
+		private volatile boolean referenced;
+
+		Entry(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		void touch() {
+			// 已标记时不再写入, 避免热点正则的缓存行在多核间来回失效
+			if (!this.referenced) {
+				this.referenced = true;
+			}
+		}
+
+	}
+
 }
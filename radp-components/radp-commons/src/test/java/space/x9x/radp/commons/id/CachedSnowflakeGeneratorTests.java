@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.id;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CachedSnowflakeGenerator}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 17:55
+ */
+class CachedSnowflakeGeneratorTests {
+
+	@Test
+	void bufferIsPaddedOnCreation() {
+		try (CachedSnowflakeGenerator generator = CachedSnowflakeGenerator.builder()
+			.dataCenterId(1)
+			.workerId(1)
+			.bufferSize(5000)
+			.build()) {
+			assertThat(generator.getCapacity()).isEqualTo(8192);
+			assertThat(generator.getSize()).isEqualTo(8192);
+			assertThat(generator.getFillRatio()).isEqualTo(1.0);
+			assertThat(generator.getRefills()).isEqualTo(1);
+			assertThat(generator.take()).isLessThan(generator.take());
+		}
+	}
+
+	@Test
+	void takeIsUniqueAcrossThreads() throws InterruptedException {
+		try (CachedSnowflakeGenerator generator = CachedSnowflakeGenerator.builder()
+			.dataCenterId(2)
+			.workerId(3)
+			.bufferSize(4096)
+			.build()) {
+			int threads = 8;
+			int perThread = 20_000;
+			Set<Long> ids = ConcurrentHashMap.newKeySet();
+			CountDownLatch done = new CountDownLatch(threads);
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			for (int t = 0; t < threads; t++) {
+				executor.execute(() -> {
+					for (int i = 0; i < perThread; i++) {
+						ids.add(generator.take());
+					}
+					done.countDown();
+				});
+			}
+			assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+			executor.shutdown();
+			assertThat(ids).hasSize(threads * perThread);
+			assertThat(generator.getRefills()).isGreaterThan(1);
+			assertThat(generator.getBorrowedMillis()).isLessThanOrEqualTo(1000);
+		}
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> CachedSnowflakeGenerator.builder().bufferSize(0).build());
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> CachedSnowflakeGenerator.builder().paddingFactor(100).build());
+	}
+
+}
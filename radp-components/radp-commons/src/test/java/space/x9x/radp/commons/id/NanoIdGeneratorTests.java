@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.id;
+
+import java.security.SecureRandom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link NanoIdGenerator}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 18:10
+ */
+class NanoIdGeneratorTests {
+
+	private static final String BASE62 = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+	@Test
+	void defaultSpec() {
+		NanoIdGenerator.Spec spec = NanoIdGenerator.DEFAULT_SPEC;
+		assertThat(spec.getSize()).isEqualTo(21);
+		assertThat(spec.getMask()).isEqualTo(63);
+		assertThat(spec.getStep()).isEqualTo(34);
+		assertThat(NanoIdGenerator.randomNanoId()).hasSize(21).matches("[_\\-0-9a-zA-Z]+");
+	}
+
+	@Test
+	void customSpec() {
+		NanoIdGenerator.Spec spec = NanoIdGenerator.Spec.of(BASE62, 16);
+		assertThat(spec.getMask()).isEqualTo(63);
+		assertThat(NanoIdGenerator.randomNanoId(spec)).hasSize(16).matches("[0-9a-zA-Z]+");
+		assertThat(NanoIdGenerator.randomNanoId(spec, NanoIdGenerator.EntropySource.of(new SecureRandom())))
+			.hasSize(16)
+			.matches("[0-9a-zA-Z]+");
+		assertThat(NanoIdGenerator.Spec.of("a", 5).getMask()).isEqualTo(1);
+		assertThat(NanoIdGenerator.randomNanoId(new SecureRandom(), "a".toCharArray(), 5)).isEqualTo("aaaaa");
+	}
+
+	@Test
+	void fill() {
+		String[] ids = new String[1000];
+		NanoIdGenerator.fill(ids, NanoIdGenerator.Spec.of(BASE62, 12),
+				NanoIdGenerator.EntropySource.threadLocal(SecureRandom::new));
+		assertThat(ids).doesNotContainNull().doesNotHaveDuplicates().allMatch((id) -> id.length() == 12);
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThatIllegalArgumentException().isThrownBy(() -> NanoIdGenerator.Spec.of("", 21));
+		assertThatIllegalArgumentException().isThrownBy(() -> NanoIdGenerator.Spec.of(BASE62, 0));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> NanoIdGenerator.randomNanoId(null, BASE62.toCharArray(), 21));
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.id;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SnowflakeGenerator}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 17:05
+ */
+class SnowflakeGeneratorTests {
+
+	@Test
+	void nextIdIsUniqueAcrossThreads() throws InterruptedException {
+		SnowflakeGenerator generator = new SnowflakeGenerator(1, 1);
+		int threads = 8;
+		int perThread = 20_000;
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		CountDownLatch done = new CountDownLatch(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++) {
+			executor.execute(() -> {
+				for (int i = 0; i < perThread; i++) {
+					ids.add(generator.nextId());
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(ids).hasSize(threads * perThread);
+	}
+
+	@Test
+	void nextIdsReservesIncreasingRangeBeyondOneMillisecond() {
+		SnowflakeGenerator generator = new SnowflakeGenerator(3, 7);
+		long before = generator.nextId();
+		long[] ids = generator.nextIds(10_000);
+		assertThat(ids).hasSize(10_000);
+		assertThat(ids[0]).isGreaterThan(before);
+		for (int i = 1; i < ids.length; i++) {
+			assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+		}
+		assertThat(generator.nextId()).isGreaterThan(ids[ids.length - 1]);
+		// 数据中心 ID 与机器 ID 保持不变
+		assertThat((ids[ids.length - 1] >> 12) & 0x3FF).isEqualTo((3L << 5) | 7L);
+	}
+
+	@Test
+	void idStreamMatchesReservation() {
+		SnowflakeGenerator generator = SnowflakeGenerator.builder()
+			.dataCenterId(1)
+			.workerId(2)
+			.clockBackwardsPolicy(SnowflakeGenerator.ClockBackwardsPolicy.BORROW)
+			.maxBackward(Duration.ofMillis(10))
+			.build();
+		long[] ids = generator.idStream(5000).toArray();
+		assertThat(ids).hasSize(5000).doesNotHaveDuplicates();
+		assertThat(generator.idStream(0).count()).isZero();
+		assertThat(generator.nextIds(0)).isEmpty();
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SnowflakeGenerator(32, 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> new SnowflakeGenerator(0, -1));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SnowflakeGenerator(0, 0, null, Duration.ofMillis(-1)));
+		SnowflakeGenerator generator = new SnowflakeGenerator(0, 0);
+		assertThatIllegalArgumentException().isThrownBy(() -> generator.nextIds(-1));
+		assertThatIllegalArgumentException().isThrownBy(() -> generator.idStream(-1));
+		assertThat(generator.nextIds(0)).isEmpty();
+		assertThat(generator.idStream(0)).isEmpty();
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.io;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link TruncatingOutputStream}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:50
+ */
+class TruncatingOutputStreamTests {
+
+	@Test
+	void keepsTextWithinLimit() throws LimitExceededException {
+		TruncatingOutputStream out = new TruncatingOutputStream(16);
+		out.write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+		assertThat(out).hasToString("{\"id\":1}");
+		assertThat(out.isTruncated()).isFalse();
+	}
+
+	@Test
+	void countsCharactersNotBytes() {
+		TruncatingOutputStream out = new TruncatingOutputStream(3);
+		byte[] text = "中文字符".getBytes(StandardCharsets.UTF_8);
+		assertThatExceptionOfType(LimitExceededException.class).isThrownBy(() -> out.write(text));
+		assertThat(out).hasToString("中文字");
+		assertThat(out.isTruncated()).isTrue();
+	}
+
+	@Test
+	void growsBeyondInitialBuffer() throws LimitExceededException {
+		TruncatingOutputStream out = new TruncatingOutputStream(1000);
+		for (int i = 0; i < 1000; i++) {
+			out.write('a');
+		}
+		assertThat(out.toString()).hasSize(1000);
+		assertThatExceptionOfType(LimitExceededException.class).isThrownBy(() -> out.write('b'));
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link TruncatingWriter}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:50
+ */
+class TruncatingWriterTests {
+
+	@Test
+	void keepsTextWithinLimit() throws IOException {
+		TruncatingWriter writer = new TruncatingWriter(10);
+		writer.write("hello");
+		writer.append(' ').append("world", 0, 4);
+		assertThat(writer).hasToString("hello worl");
+		assertThat(writer.isTruncated()).isFalse();
+	}
+
+	@Test
+	void keepsPrefixAndSignalsLimit() {
+		TruncatingWriter writer = new TruncatingWriter(8);
+		assertThatExceptionOfType(LimitExceededException.class).isThrownBy(() -> writer.write("hello world"));
+		assertThat(writer).hasToString("hello wo");
+		assertThat(writer.isTruncated()).isTrue();
+		assertThatExceptionOfType(LimitExceededException.class).isThrownBy(() -> writer.write('!'));
+		assertThat(writer.length()).isEqualTo(8);
+	}
+
+	@Test
+	void recognizesWrappedSignal() {
+		LimitExceededException signal = new LimitExceededException(8);
+		assertThat(signal.getStackTrace()).isEmpty();
+		assertThat(LimitExceededException.isCause(new UncheckedIOException(signal))).isTrue();
+		assertThat(LimitExceededException.isCause(new IOException("broken pipe"))).isFalse();
+		assertThat(LimitExceededException.isCause(null)).isFalse();
+	}
+
+}
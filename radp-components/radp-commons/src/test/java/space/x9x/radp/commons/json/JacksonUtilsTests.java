@@ -0,0 +1,271 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.google.common.io.CountingOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import space.x9x.radp.commons.json.jackson.mapper.ObjectMapperRegistry;
+import space.x9x.radp.commons.json.jackson.stream.JsonArrayIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link JacksonUtils}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 20:10
+ */
+class JacksonUtilsTests {
+
+	@Test
+	void inclusionDoesNotReconfigureSharedMapper() {
+		JsonInclude.Value configured = JacksonUtils.getDefaultObjectMapper()
+			.getSerializationConfig()
+			.getDefaultPropertyInclusion();
+		assertThat(JacksonUtils.toJSONString(new User("alice"), JsonInclude.Include.NON_NULL))
+			.isEqualTo("{\"name\":\"alice\"}");
+		assertThat(JacksonUtils.toJSONString(new User("alice"))).isEqualTo("{\"name\":\"alice\",\"email\":null}");
+		assertThat(JacksonUtils.toJSONStringPretty(new User("alice"), JsonInclude.Include.NON_NULL))
+			.doesNotContain("email");
+		assertThat(JacksonUtils.getDefaultObjectMapper().getSerializationConfig().getDefaultPropertyInclusion())
+			.isEqualTo(configured);
+		assertThat(JacksonUtils.toXMLString(new User("alice"))).contains("<name>alice</name>");
+	}
+
+	@Test
+	void concurrentInclusionsDoNotCrossTalk() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Integer>> mismatches = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				JsonInclude.Include include = (i % 2 == 0) ? JsonInclude.Include.NON_NULL
+						: JsonInclude.Include.ALWAYS;
+				String expected = (include == JsonInclude.Include.NON_NULL) ? "{\"name\":\"alice\"}"
+						: "{\"name\":\"alice\",\"email\":null}";
+				mismatches.add(executor.submit(() -> {
+					start.await();
+					int count = 0;
+					for (int n = 0; n < 10_000; n++) {
+						if (!expected.equals(JacksonUtils.toJSONString(new User("alice"), include))) {
+							count++;
+						}
+					}
+					return count;
+				}));
+			}
+			start.countDown();
+			for (Future<Integer> future : mismatches) {
+				assertThat(future.get(30, TimeUnit.SECONDS)).isZero();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void writersAndReadersAreShared() {
+		ObjectMapperRegistry registry = ObjectMapperRegistry.of(JacksonUtils.getDefaultObjectMapper());
+		assertThat(registry.getWriter(JsonInclude.Include.NON_EMPTY, true))
+			.isSameAs(registry.getWriter(JsonInclude.Include.NON_EMPTY, true));
+		assertThat(registry.getReader(User.class)).isSameAs(registry.getReader(User.class));
+		assertThat(registry.getReader(new TypeReference<List<User>>() {
+		})).isSameAs(registry.getReader(new TypeReference<List<User>>() {
+		}));
+		assertThat(registry.getListReader(User.class)).isSameAs(registry.getListReader(User.class));
+		assertThat(ObjectMapperRegistry.of(JacksonUtils.getDefaultObjectMapper())).isSameAs(registry);
+	}
+
+	@Test
+	void parse() {
+		List<User> users = JacksonUtils.parseList("[{\"name\":\"alice\",\"age\":1},{\"name\":\"bob\"}]", User.class);
+		assertThat(users).extracting(User::getName).containsExactly("alice", "bob");
+		assertThat(JacksonUtils.parseList("", User.class)).isEmpty();
+		assertThat(JacksonUtils.parseList("[\"a\",\"b\"]", String.class)).containsExactly("a", "b");
+		Map<String, Object> map = JacksonUtils.parseMap("{\"a\":1}");
+		assertThat(map).containsEntry("a", 1);
+		List<User> typed = JacksonUtils.parseObject("[{\"name\":\"alice\"}]", new TypeReference<List<User>>() {
+		});
+		assertThat(typed.get(0).getName()).isEqualTo("alice");
+	}
+
+	@Test
+	void parseIteratorLeavesCallerStreamOpen() throws IOException {
+		ClosingAwareInputStream in = new ClosingAwareInputStream(
+				"[{\"name\":\"alice\"},{\"name\":\"bob\"}]".getBytes(StandardCharsets.UTF_8));
+		try (Stream<User> users = JacksonUtils.parseStream(in, User.class)) {
+			assertThat(users.map(User::getName).collect(Collectors.toList())).containsExactly("alice", "bob");
+		}
+		assertThat(in.closed).isFalse();
+		try (JsonArrayIterator<User> iterator = JacksonUtils.parseIterator(stream("[]"), User.class)) {
+			assertThat(iterator.hasNext()).isFalse();
+		}
+		try (JsonArrayIterator<User> iterator = JacksonUtils.parseIterator(stream(""), User.class)) {
+			assertThat(iterator.hasNext()).isFalse();
+		}
+		assertThatExceptionOfType(MismatchedInputException.class)
+			.isThrownBy(() -> JacksonUtils.parseIterator(stream("{\"name\":\"alice\"}"), User.class));
+	}
+
+	@Test
+	void forEachBatch(@TempDir Path directory) throws IOException {
+		Path path = directory.resolve("users.json");
+		writeUsers(path, 25);
+		List<Integer> sizes = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		long count = JacksonUtils.forEachBatch(path, User.class, 10, (batch) -> {
+			sizes.add(batch.size());
+			batch.forEach((user) -> names.add(user.getName()));
+		});
+		assertThat(count).isEqualTo(25);
+		assertThat(sizes).containsExactly(10, 10, 5);
+		assertThat(names).hasSize(25).startsWith("user-0", "user-1").endsWith("user-24");
+		assertThat(JacksonUtils.forEachBatch((File) null, User.class, 10, (batch) -> sizes.add(-1))).isZero();
+		assertThat(sizes).containsExactly(10, 10, 5);
+	}
+
+	/**
+	 * Streams a generated 1 GiB array in a JVM limited to a 256 MiB heap. Opt in with
+	 * {@code -Dradp.test.large-json=true}.
+	 */
+	@Test
+	@EnabledIfSystemProperty(named = "radp.test.large-json", matches = "true")
+	void forEachBatchStreamsLargeFileWithBoundedHeap(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("users.json");
+		long count = writeUsers(path, 1L << 30);
+		Process process = new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin" + File.separator
+				+ "java", "-Xmx256m", "-cp", System.getProperty("java.class.path"), LargeArrayReader.class.getName(),
+				path.toString(), String.valueOf(count))
+			.inheritIO()
+			.start();
+		assertThat(process.waitFor(10, TimeUnit.MINUTES)).isTrue();
+		assertThat(process.exitValue()).isZero();
+	}
+
+	private static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes users to a JSON array until either {@code limit} users or {@code limit}
+	 * bytes have been written, whichever is reached first.
+	 */
+	private static long writeUsers(Path path, long limit) throws IOException {
+		long count = 0;
+		try (CountingOutputStream out = new CountingOutputStream(Files.newOutputStream(path));
+				JsonGenerator generator = JacksonUtils.getDefaultObjectMapper().getFactory().createGenerator(out)) {
+			generator.writeStartArray();
+			while (count < limit && out.getCount() + generator.getOutputBuffered() < limit) {
+				generator.writeStartObject();
+				generator.writeStringField("name", "user-" + count);
+				generator.writeStringField("email", "user-" + count + "@x9x.space");
+				generator.writeEndObject();
+				count++;
+			}
+			generator.writeEndArray();
+		}
+		return count;
+	}
+
+	static class LargeArrayReader {
+
+		public static void main(String[] args) throws IOException {
+			AtomicLong names = new AtomicLong();
+			long count = JacksonUtils.forEachBatch(new File(args[0]), User.class, 1000,
+					(batch) -> batch.forEach((user) -> names.addAndGet((user.getName() != null) ? 1 : 0)));
+			System.exit((count == Long.parseLong(args[1]) && names.get() == count) ? 0 : 1);
+		}
+
+	}
+
+	static class ClosingAwareInputStream extends ByteArrayInputStream {
+
+		private boolean closed;
+
+		ClosingAwareInputStream(byte[] bytes) {
+			super(bytes);
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.closed = true;
+			super.close();
+		}
+
+	}
+
+	static class User {
+
+		private String name;
+
+		private String email;
+
+		User() {
+		}
+
+		User(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.json.jackson.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BytecodeAcceleration}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:15
+ */
+class BytecodeAccelerationTests {
+
+	@Test
+	void of() {
+		assertThat(BytecodeAcceleration.of(null)).isEqualTo(BytecodeAcceleration.NONE);
+		assertThat(BytecodeAcceleration.of(" afterburner ")).isEqualTo(BytecodeAcceleration.AFTERBURNER);
+		assertThat(BytecodeAcceleration.of("Blackbird")).isEqualTo(BytecodeAcceleration.BLACKBIRD);
+		assertThat(BytecodeAcceleration.of("turbo")).isEqualTo(BytecodeAcceleration.NONE);
+	}
+
+	@Test
+	void defaultObjectMapperIsNotAcceleratedByDefault() {
+		assertThat(new DefaultObjectMapper().getRegisteredModuleIds()).hasSize(1);
+		assertThat(BytecodeAcceleration.NONE.register(new ObjectMapper())).isFalse();
+	}
+
+	@Test
+	void acceleratedMapperRoundTrips() throws Exception {
+		ObjectMapper objectMapper = new DefaultObjectMapper(BytecodeAcceleration.AUTO);
+		assertThat(objectMapper.getRegisteredModuleIds()).hasSize(2);
+		Item item = objectMapper.readValue("{\"name\":\"alice\",\"quantity\":3}", Item.class);
+		assertThat(item.getName()).isEqualTo("alice");
+		assertThat(item.getQuantity()).isEqualTo(3);
+		assertThat(objectMapper.writeValueAsString(item)).isEqualTo("{\"name\":\"alice\",\"quantity\":3}");
+	}
+
+	public static class Item {
+
+		private String name;
+
+		private int quantity;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+	}
+
+}
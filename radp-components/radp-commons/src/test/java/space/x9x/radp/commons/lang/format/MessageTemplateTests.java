@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.lang.format;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MessageTemplate}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 19:20
+ */
+class MessageTemplateTests {
+
+	@Test
+	void format() {
+		MessageTemplate template = MessageTemplate.of("User {} not found in {}");
+		assertThat(template.getPlaceholderCount()).isEqualTo(2);
+		assertThat(template.format("alice", 42)).isEqualTo("User alice not found in 42");
+		assertThat(template.format("alice")).isEqualTo("User alice not found in {}");
+		assertThat(template.format("alice", 42, "extra")).isEqualTo("User alice not found in 42");
+		assertThat(template.format((Object[]) null)).isEqualTo("User {} not found in {}");
+		assertThat(MessageTemplate.of("User {} not found in {}")).isSameAs(template);
+	}
+
+	@Test
+	void formatArguments() {
+		MessageTemplate template = MessageTemplate.of("{} {} {}");
+		Object[] cyclic = new Object[1];
+		cyclic[0] = cyclic;
+		assertThat(template.format(null, new int[] { 1, 2 }, cyclic)).isEqualTo("null [1, 2] [[...]]");
+		assertThat(template.format("a", new IllegalStateException("ignored"))).isEqualTo("a {} {}");
+	}
+
+	@Test
+	void escapes() {
+		assertThat(MessageTemplate.of("a \\{} b {}").format("x")).isEqualTo("a {} b x");
+		assertThat(MessageTemplate.of("a \\\\{} b").format("x")).isEqualTo("a \\x b");
+		// 参数用完后, 余下的转义符原样保留, 与 MessageFormatter 一致
+		assertThat(MessageTemplate.of("{} \\{}").format("x")).isEqualTo("x \\{}");
+		assertThat(MessageTemplate.of("\\{}").format()).isEqualTo("\\{}");
+	}
+
+	@Test
+	void appendTo() {
+		MessageTemplate template = MessageTemplate.of("[{}]");
+		StringBuilder builder = new StringBuilder("prefix ");
+		template.appendTo(builder, 1);
+		template.appendTo(builder, 2);
+		assertThat(builder).hasToString("prefix [1][2]");
+		assertThat(MessageFormatter.arrayFormat("[{}]", new Object[] { 3 }).getMessage()).isEqualTo("[3]");
+	}
+
+}
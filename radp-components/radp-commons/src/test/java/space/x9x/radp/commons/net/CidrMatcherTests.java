@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CidrMatcher}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:35
+ */
+class CidrMatcherTests {
+
+	@Test
+	void parseLiterals() {
+		assertThat(CidrMatcher.parseIpv4("192.168.1.10", 0, 12)).isEqualTo(0xC0A8010AL);
+		assertThat(CidrMatcher.parseIpv4("255.255.255.255", 0, 15)).isEqualTo(0xFFFFFFFFL);
+		assertThat(CidrMatcher.parseIpv6("2001:db8::1", 0, 11)).containsExactly(0x20010DB800000000L, 1L);
+		assertThat(CidrMatcher.parseIpv6("::ffff:10.0.0.1", 0, 15)).containsExactly(0L, 0xFFFF0A000001L);
+		assertThat(CidrMatcher.parseIpv6("fe80::1%eth0", 0, 12)).containsExactly(0xFE80000000000000L, 1L);
+		assertThat(CidrMatcher.isIpAddress("::")).isTrue();
+		for (String invalid : new String[] { "", "localhost", "1.2.3", "256.1.1.1", "1..2.3", "1.2.3.4.5", "1::2::3",
+				"12345::", "1:2:3:4:5:6:7:8:9", ":1::", "1:2:3:4:5:6:7:8::" }) {
+			assertThat(CidrMatcher.isIpAddress(invalid)).as(invalid).isFalse();
+		}
+	}
+
+	@Test
+	void matches() {
+		CidrMatcher matcher = CidrMatcher.of("10.0.0.0/8", "192.168.1.0/24", "172.16.0.1", "2001:db8::/32");
+		assertThat(matcher.matches("10.255.0.1")).isTrue();
+		assertThat(matcher.matches("192.168.1.255")).isTrue();
+		assertThat(matcher.matches("192.168.2.1")).isFalse();
+		assertThat(matcher.matches("172.16.0.1")).isTrue();
+		assertThat(matcher.matches("172.16.0.2")).isFalse();
+		assertThat(matcher.matches("::ffff:10.1.2.3")).isTrue();
+		assertThat(matcher.matches("2001:db8:ffff::1")).isTrue();
+		assertThat(matcher.matches("2001:db9::1")).isFalse();
+		assertThat(matcher.matches("localhost")).isFalse();
+		assertThat(matcher.matches(null)).isFalse();
+		assertThat(matcher.matches("for=10.0.0.1;", 4, 12)).isTrue();
+		assertThat(CidrMatcher.of("0.0.0.0/0").matches("8.8.8.8")).isTrue();
+		assertThat(CidrMatcher.of("::/0").matches("::1")).isTrue();
+		assertThat(CidrMatcher.empty().matches("10.0.0.1")).isFalse();
+	}
+
+	@Test
+	void overlappingBlocksAreMerged() {
+		CidrMatcher matcher = CidrMatcher.of("10.0.0.0/9", "10.128.0.0/9", "10.0.0.0/16", "", "::/1", "8000::/1");
+		assertThat(matcher).hasToString("CidrMatcher[1 IPv4 ranges, 1 IPv6 ranges]");
+		assertThat(matcher.matches("10.200.0.1")).isTrue();
+		assertThat(matcher.matches("ffff::1")).isTrue();
+	}
+
+	@Test
+	void matchesLikeLinearScan() {
+		Random random = new Random(20261017);
+		List<String> cidrs = new ArrayList<>();
+		List<long[]> blocks = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			long address = random.nextInt() & 0xFFFFFFFFL;
+			int prefixLength = 8 + random.nextInt(25);
+			long mask = (0xFFFFFFFFL << (32 - prefixLength)) & 0xFFFFFFFFL;
+			cidrs.add(toString(address) + "/" + prefixLength);
+			blocks.add(new long[] { address & mask, mask });
+		}
+		CidrMatcher matcher = CidrMatcher.of(cidrs);
+		for (int i = 0; i < 100_000; i++) {
+			long address = (i % 2 == 0) ? (blocks.get(random.nextInt(1000))[0] + random.nextInt(512)) & 0xFFFFFFFFL
+					: random.nextInt() & 0xFFFFFFFFL;
+			boolean expected = blocks.stream().anyMatch((block) -> (address & block[1]) == block[0]);
+			assertThat(matcher.matches(toString(address))).as(toString(address)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void invalidBlocks() {
+		for (String invalid : new String[] { "10.0.0.0/33", "10.0.0.0/", "::/129", "example.com/8", "1.2.3.4/x" }) {
+			assertThatIllegalArgumentException().as(invalid).isThrownBy(() -> CidrMatcher.of(invalid));
+		}
+	}
+
+	private static String toString(long address) {
+		return (address >>> 24) + "." + ((address >>> 16) & 0xFF) + "." + ((address >>> 8) & 0xFF) + "."
+				+ (address & 0xFF);
+	}
+
+}
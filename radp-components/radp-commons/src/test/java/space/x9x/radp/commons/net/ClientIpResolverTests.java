@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.net;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ClientIpResolver}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:10
+ */
+class ClientIpResolverTests {
+
+	private final ClientIpResolver resolver = ClientIpResolver
+		.of(CidrMatcher.of(ClientIpResolver.DEFAULT_TRUSTED_PROXIES));
+
+	private final ClientIpResolver forwardedResolver = ClientIpResolver
+		.of(CidrMatcher.of(ClientIpResolver.DEFAULT_TRUSTED_PROXIES), ClientIpResolver.FORWARDED);
+
+	@Test
+	void untrustedRemoteAddressIgnoresHeaders() {
+		assertThat(this.resolver.resolve("203.0.113.9", "1.2.3.4")).isEqualTo("203.0.113.9");
+		assertThat(this.forwardedResolver.resolve("203.0.113.9", "for=1.2.3.4")).isEqualTo("203.0.113.9");
+	}
+
+	@Test
+	void xForwardedFor() {
+		assertThat(this.resolver.resolve("10.0.0.1", "1.2.3.4")).isEqualTo("1.2.3.4");
+		assertThat(this.resolver.resolve("10.0.0.1", "6.6.6.6, 1.2.3.4, 10.0.0.2")).isEqualTo("1.2.3.4");
+		assertThat(this.resolver.resolve("10.0.0.1", "10.0.0.3 , 10.0.0.2")).isEqualTo("10.0.0.3");
+		assertThat(this.resolver.resolve("10.0.0.1", ",, 1.2.3.4 ,")).isEqualTo("1.2.3.4");
+		assertThat(this.resolver.resolve("10.0.0.1", "1.2.3.4:5678")).isEqualTo("1.2.3.4");
+		assertThat(this.resolver.resolve("10.0.0.1", "[2001:db8::1]:443")).isEqualTo("2001:db8::1");
+		assertThat(this.resolver.resolve("::1", "2001:db8::1")).isEqualTo("2001:db8::1");
+	}
+
+	@Test
+	void unverifiableHopEndsChain() {
+		assertThat(this.resolver.resolve("10.0.0.1", "6.6.6.6, unknown, 10.0.0.2")).isEqualTo("10.0.0.2");
+		assertThat(this.resolver.resolve("10.0.0.1", "unknown")).isEqualTo("10.0.0.1");
+		assertThat(this.forwardedResolver.resolve("10.0.0.1", "for=_hidden, for=10.0.0.5")).isEqualTo("10.0.0.5");
+		assertThat(this.forwardedResolver.resolve("10.0.0.1", "proto=https")).isEqualTo("10.0.0.1");
+	}
+
+	@Test
+	void forwarded() {
+		assertThat(this.forwardedResolver.resolve("10.0.0.1", "for=192.0.2.60;proto=http;by=203.0.113.43"))
+			.isEqualTo("192.0.2.60");
+		assertThat(this.forwardedResolver.resolve("10.0.0.1", "for=\"[2001:db8:cafe::17]:4711\""))
+			.isEqualTo("2001:db8:cafe::17");
+		assertThat(this.forwardedResolver.resolve("10.0.0.1",
+				"for=6.6.6.6, For=198.51.100.17;proto=https, for=10.0.0.5"))
+			.isEqualTo("198.51.100.17");
+		assertThat(this.forwardedResolver.resolve("10.0.0.1", "for=\"a,b\";x=1, for=1.1.1.1")).isEqualTo("1.1.1.1");
+	}
+
+	@Test
+	void spoofedForwardedBehindXForwardedForProxy() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+		when(request.getHeaders(anyString())).thenReturn(Collections.emptyEnumeration());
+		when(request.getHeaders("Forwarded")).thenReturn(Collections.enumeration(Arrays.asList("for=1.2.3.4")));
+		when(request.getHeaders("X-Forwarded-For")).thenReturn(Collections.enumeration(Arrays.asList("203.0.113.9")));
+		assertThat(this.resolver.resolve(request)).isEqualTo("203.0.113.9");
+
+		HttpServletRequest forwardedOnly = mock(HttpServletRequest.class);
+		when(forwardedOnly.getRemoteAddr()).thenReturn("10.0.0.1");
+		when(forwardedOnly.getHeaders(anyString())).thenReturn(Collections.emptyEnumeration());
+		when(forwardedOnly.getHeaders("Forwarded")).thenReturn(Collections.enumeration(Arrays.asList("for=1.2.3.4")));
+		assertThat(this.resolver.resolve(forwardedOnly)).isEqualTo("10.0.0.1");
+	}
+
+	@Test
+	void trustedForwardedIgnoresXForwardedFor() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+		when(request.getHeaders(anyString())).thenReturn(Collections.emptyEnumeration());
+		when(request.getHeaders("Forwarded")).thenReturn(Collections.enumeration(Arrays.asList("for=203.0.113.9")));
+		when(request.getHeaders("X-Forwarded-For")).thenReturn(Collections.enumeration(Arrays.asList("1.2.3.4")));
+		assertThat(this.forwardedResolver.resolve(request)).isEqualTo("203.0.113.9");
+	}
+
+	@Test
+	void resolvesOncePerRequest() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+		when(request.getHeaders(anyString())).thenReturn(Collections.emptyEnumeration());
+		when(request.getHeaders("X-Forwarded-For"))
+			.thenReturn(Collections.enumeration(Arrays.asList("6.6.6.6", "1.2.3.4, 10.0.0.2")));
+		assertThat(this.resolver.resolve(request)).isEqualTo("1.2.3.4");
+		verify(request).setAttribute(ClientIpResolver.ATTRIBUTE, "1.2.3.4");
+
+		HttpServletRequest resolved = mock(HttpServletRequest.class);
+		when(resolved.getAttribute(ClientIpResolver.ATTRIBUTE)).thenReturn("1.2.3.4");
+		assertThat(this.resolver.resolve(resolved)).isEqualTo("1.2.3.4");
+		verify(resolved, never()).getRemoteAddr();
+	}
+
+}
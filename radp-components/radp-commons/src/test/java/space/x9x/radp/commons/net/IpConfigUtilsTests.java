@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.net;
+
+import java.net.UnknownHostException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link IpConfigUtils}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:40
+ */
+class IpConfigUtilsTests {
+
+	@Test
+	void isSameSubnet() throws UnknownHostException {
+		assertThat(IpConfigUtils.isSameSubnet("192.168.1.10", "192.168.1.200")).isTrue();
+		assertThat(IpConfigUtils.isSameSubnet("192.168.1.10", "192.168.2.10")).isFalse();
+		assertThat(IpConfigUtils.isSameSubnet("192.168.1.10", "::ffff:192.168.1.20")).isTrue();
+		assertThat(IpConfigUtils.isSameSubnet("10.1.2.3", "10.1.9.9", "255.255.0.0")).isTrue();
+		assertThat(IpConfigUtils.isSameSubnet("2001:db8::1", "2001:db8::2", "ffff:ffff::")).isTrue();
+		assertThatExceptionOfType(UnknownHostException.class)
+			.isThrownBy(() -> IpConfigUtils.isSameSubnet("localhost", "127.0.0.1"));
+	}
+
+	@Test
+	void getSubnet() {
+		CidrMatcher subnet = IpConfigUtils.getSubnet("192.168.1.10");
+		assertThat(subnet.matches("192.168.1.1")).isTrue();
+		assertThat(subnet.matches("192.168.0.1")).isFalse();
+		assertThat(IpConfigUtils.getSubnet("example.com").isEmpty()).isTrue();
+		assertThat(IpConfigUtils.getSubnet(null).isEmpty()).isTrue();
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.commons.regex.pattern;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link RegexCache}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 18:45
+ */
+class RegexCacheTests {
+
+	@AfterEach
+	void reset() {
+		RegexCache.setMaximumSize(RegexCache.DEFAULT_MAXIMUM_SIZE);
+		RegexCache.setMaximumRegexLength(RegexCache.DEFAULT_MAXIMUM_REGEX_LENGTH);
+		RegexCache.setBacktrackingGuardEnabled(true);
+		RegexCache.clear();
+	}
+
+	@Test
+	void cacheIsKeyedByRegexAndFlags() {
+		Pattern sensitive = RegexCache.get("abc", 0);
+		Pattern insensitive = RegexCache.get("abc", Pattern.CASE_INSENSITIVE);
+		assertThat(RegexCache.get("abc", 0)).isSameAs(sensitive);
+		assertThat(insensitive).isNotSameAs(sensitive);
+		assertThat(insensitive.matcher("ABC").matches()).isTrue();
+		assertThat(sensitive.matcher("ABC").matches()).isFalse();
+		assertThat(RegexCache.remove("abc")).isNotNull();
+		assertThat(RegexCache.size()).isZero();
+	}
+
+	@Test
+	void cacheIsBounded() {
+		RegexCache.setMaximumSize(10);
+		long evictions = RegexCache.getEvictionCount();
+		long hits = RegexCache.getHitCount();
+		Pattern hot = RegexCache.get("hot", 0);
+		for (int i = 0; i < 100; i++) {
+			RegexCache.get("cold" + i, 0);
+			assertThat(RegexCache.get("hot", 0)).isSameAs(hot);
+		}
+		assertThat(RegexCache.size()).isLessThanOrEqualTo(10);
+		assertThat(RegexCache.getEvictionCount() - evictions).isGreaterThanOrEqualTo(90);
+		assertThat(RegexCache.getHitCount() - hits).isEqualTo(100);
+	}
+
+	@Test
+	void catastrophicBacktrackingIsRejected() {
+		long rejections = RegexCache.getRejectionCount();
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(a+)+b", 0))
+			.withMessageContaining("catastrophic backtracking");
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(\\w+\\s?)*$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(.*a){2,}", 0));
+		// 分组前缀不是量词或字面字符
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?:a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?<n>a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?=a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?!a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?<=a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?<!a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?i:a+)+$", 0));
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("(?i)(a+)+$", 0));
+		assertThat(RegexCache.getRejectionCount() - rejections).isEqualTo(11);
+		// 字面量与独占量词不会回溯
+		assertThat(RegexCache.get("(a+)+b", Pattern.LITERAL)).isNotNull();
+		assertThat(RegexCache.get("(?>a+)+b", 0)).isNotNull();
+		assertThat(RegexCache.get("([\\w-]+\\.)+[\\w-]+", 0)).isNotNull();
+		assertThat(RegexCache.get(Regex.EMAIL, 0)).isNotNull();
+		assertThat(RegexCache.get(Regex.HTTP, 0)).isNotNull();
+		assertThat(RegexCache.get("(?:[\\w-]+\\.)+[\\w-]+", 0)).isNotNull();
+		assertThat(RegexCache.get("(?<label>[\\w-]+\\.)+[\\w-]+", 0)).isNotNull();
+		assertThat(RegexCache.get("(?i)(?:[a-z]+:)+", 0)).isNotNull();
+		RegexCache.setBacktrackingGuardEnabled(false);
+		assertThat(RegexCache.get("(a+)+b", 0)).isNotNull();
+	}
+
+	@Test
+	void overlongRegexIsRejected() {
+		RegexCache.setMaximumRegexLength(8);
+		assertThatIllegalArgumentException().isThrownBy(() -> RegexCache.get("abcdefghi", 0));
+		assertThat(RegexCache.get("abcdefgh", 0)).isNotNull();
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension;
+
+import lombok.Getter;
+
+/**
+ * 默认扩展点实例句柄.
+ * <p>
+ * Resolved handle of the default extension of an extension point. Callers on hot paths
+ * can keep the handle in a static field: once resolved, {@link #get()} is a single
+ * volatile read without annotation checks, loader or holder lookups. An extension point
+ * without a default extension is resolved once as well.
+ * <p>
+ * The handle is shared per extension point type and survives
+ * {@link ExtensionLoader#reload()}, which invalidates it so that the next {@link #get()}
+ * resolves the default extension from the new extension loader.
+ *
+ * @param <T> the type of the extension point
+ * @author RADP x9x
+ * @since 2026-10-17 13:30
+ * @see ExtensionLoader#getDefaultExtensionHandle(Class)
+ */
+public final class DefaultExtensionHandle<T> {
+
+	/**
+	 * The extension point type.
+	 */
+	@Getter
+	private final Class<T> type;
+
+	/**
+	 * Marks an extension point resolved without a default extension.
+	 */
+	private static final Object NONE = new Object();
+
+	/**
+	 * The default extension, {@link #NONE} if there is none, {@code null} if not
+	 * resolved.
+	 */
+	private volatile Object extension;
+
+	DefaultExtensionHandle(Class<T> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Gets the default extension.
+	 * @return the default extension, or {@code null} if the extension point declares no
+	 * default extension
+	 */
+	@SuppressWarnings("unchecked")
+	public T get() {
+		Object extension = this.extension;
+		if (extension == null) {
+			extension = resolve();
+		}
+		return (extension != NONE) ? (T) extension : null;
+	}
+
+	private synchronized Object resolve() {
+		Object extension = this.extension;
+		if (extension == null) {
+			T defaultExtension = ExtensionLoader.getExtensionLoader(this.type).getDefaultExtension();
+			extension = (defaultExtension != null) ? defaultExtension : NONE;
+			this.extension = extension;
+		}
+		return extension;
+	}
+
+	/**
+	 * Discards the resolved extension. Synchronized with {@link #resolve()} so that a
+	 * resolution racing with a reload cannot publish an extension of a discarded loader.
+	 */
+	synchronized void invalidate() {
+		this.extension = null;
+	}
+
+}
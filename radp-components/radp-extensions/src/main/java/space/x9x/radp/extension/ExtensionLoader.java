@@ -19,20 +19,25 @@ package space.x9x.radp.extension;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -41,11 +46,14 @@ import space.x9x.radp.commons.collections.CollectionUtils;
 import space.x9x.radp.commons.lang.ArrayUtil;
 import space.x9x.radp.commons.lang.ClassLoaderUtils;
 import space.x9x.radp.commons.lang.StringUtil;
-import space.x9x.radp.commons.lang.reflect.ReflectionUtils;
 import space.x9x.radp.extension.active.ActiveExtensionLoader;
 import space.x9x.radp.extension.adaptive.AdaptiveExtensionLoader;
 import space.x9x.radp.extension.common.Constants;
 import space.x9x.radp.extension.context.Lifecycle;
+import space.x9x.radp.extension.index.ExtensionIndex;
+import space.x9x.radp.extension.index.ExtensionIndexEntry;
+import space.x9x.radp.extension.inject.InjectionPlan;
+import space.x9x.radp.extension.metrics.ExtensionLoadStatistics;
 import space.x9x.radp.extension.strategy.LoadingStrategy;
 import space.x9x.radp.extension.strategy.LoadingStrategyHolder;
 import space.x9x.radp.extension.util.Holder;
@@ -82,6 +90,22 @@ public class ExtensionLoader<T> {
 	 */
 	private static final ConcurrentMap<Class<?>, Object> EXTENSION_INSTANCES = new ConcurrentHashMap<>(64);
 
+	/**
+	 * 默认扩展点实例句柄, 在 {@link #reload()} 后仍然有效.
+	 * <p>
+	 * default extension handles, kept across {@link #reload()}.
+	 */
+	private static final ConcurrentMap<Class<?>, DefaultExtensionHandle<?>> DEFAULT_EXTENSION_HANDLES = new ConcurrentHashMap<>(
+			64);
+
+	/**
+	 * 全部扩展点实例句柄, 在 {@link #reload()} 后仍然有效.
+	 * <p>
+	 * supported extensions handles, kept across {@link #reload()}.
+	 */
+	private static final ConcurrentMap<Class<?>, SupportedExtensionsHandle<?>> SUPPORTED_EXTENSIONS_HANDLES = new ConcurrentHashMap<>(
+			64);
+
 	/**
 	 * 缓存扩展点名称.
 	 * <p>
@@ -89,6 +113,13 @@ public class ExtensionLoader<T> {
 	 */
 	private final ConcurrentMap<Class<?>, String> cachedNames = new ConcurrentHashMap<>();
 
+	/**
+	 * 缓存扩展点索引中的 @Order 值.
+	 * <p>
+	 * cache for the @Order values taken from the extension index.
+	 */
+	private final ConcurrentMap<Class<?>, Integer> cachedIndexedOrders = new ConcurrentHashMap<>();
+
 	/**
 	 * 缓存扩展点 Class (重点).
 	 * <p>
@@ -154,8 +185,25 @@ public class ExtensionLoader<T> {
 	 */
 	private final ExtensionFactory objectFactory;
 
+	/**
+	 * 扩展点加载耗时统计.
+	 * <p>
+	 * load statistics of this extension point.
+	 */
+	@Getter
+	private final ExtensionLoadStatistics loadStatistics;
+
+	/**
+	 * 加载扩展类时累计的类加载耗时, 由 cachedClasses 监视器保护.
+	 * <p>
+	 * class loading time accumulated while loading extension classes, guarded by the
+	 * cachedClasses monitor.
+	 */
+	private long classLoadNanos;
+
 	private ExtensionLoader(Class<?> type) {
 		this.type = type;
+		this.loadStatistics = new ExtensionLoadStatistics(type.getName());
 		this.objectFactory = (type == ExtensionFactory.class) ? null
 				: ExtensionLoader.getExtensionLoader(ExtensionFactory.class).getAdaptiveExtension();
 	}
@@ -168,6 +216,7 @@ public class ExtensionLoader<T> {
 	 */
 	public ExtensionLoader(Class<?> type, ExtensionFactory objectFactory) {
 		this.type = type;
+		this.loadStatistics = new ExtensionLoadStatistics(type.getName());
 		this.objectFactory = objectFactory;
 	}
 
@@ -200,6 +249,156 @@ public class ExtensionLoader<T> {
 		return loader;
 	}
 
+	/**
+	 * 获取指定类型的默认扩展点实例句柄. 句柄解析一次后即可直接返回默认扩展点实例, 适合保存在静态字段中供热点路径使用
+	 * <p>
+	 * Gets the default extension handle for the specified type. Once resolved, the handle
+	 * returns the default extension without any lookup, so it is meant to be kept in a
+	 * static field by callers on hot paths. The handle is invalidated by
+	 * {@link #reload()} only.
+	 * @param <T> the extension type parameter
+	 * @param type the extension interface type
+	 * @return the shared default extension handle of the type
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> DefaultExtensionHandle<T> getDefaultExtensionHandle(Class<T> type) {
+		DefaultExtensionHandle<T> handle = (DefaultExtensionHandle<T>) DEFAULT_EXTENSION_HANDLES.get(type);
+		if (handle == null) {
+			checkExtensionAnnotation(type);
+			DEFAULT_EXTENSION_HANDLES.putIfAbsent(type, new DefaultExtensionHandle<>(type));
+			handle = (DefaultExtensionHandle<T>) DEFAULT_EXTENSION_HANDLES.get(type);
+		}
+		return handle;
+	}
+
+	/**
+	 * 获取指定类型的全部扩展点实例句柄. 句柄解析一次后即可直接返回全部扩展点实例, 并随 {@link #reload()} 失效
+	 * <p>
+	 * Gets the handle of all supported extensions of the specified type. Once resolved,
+	 * the handle returns the extensions without any lookup until {@link #reload()}
+	 * invalidates it.
+	 * @param <T> the extension type parameter
+	 * @param type the extension interface type
+	 * @return the shared supported extensions handle of the type
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> SupportedExtensionsHandle<T> getSupportedExtensionsHandle(Class<T> type) {
+		SupportedExtensionsHandle<T> handle = (SupportedExtensionsHandle<T>) SUPPORTED_EXTENSIONS_HANDLES.get(type);
+		if (handle == null) {
+			checkExtensionAnnotation(type);
+			SUPPORTED_EXTENSIONS_HANDLES.putIfAbsent(type, new SupportedExtensionsHandle<>(type));
+			handle = (SupportedExtensionsHandle<T>) SUPPORTED_EXTENSIONS_HANDLES.get(type);
+		}
+		return handle;
+	}
+
+	/**
+	 * 重新加载扩展点. 丢弃所有扩展点加载器、扩展点实例、注入计划及扩展点索引, 并使默认扩展点实例句柄及全部扩展点实例句柄失效, 之后的访问将按当前的
+	 * LoadingStrategy 重新加载
+	 * <p>
+	 * Reloads all extension points. Discards every extension loader, extension instance,
+	 * injection plan and the extension index, and invalidates the default extension and
+	 * supported extensions handles, so that subsequent accesses load extensions again
+	 * with the current loading strategies. Instances obtained before the reload are not
+	 * affected.
+	 */
+	public static void reload() {
+		EXTENSION_LOADERS.clear();
+		EXTENSION_INSTANCES.clear();
+		ExtensionIndex.reset();
+		InjectionPlan.clear();
+		// 先清空加载器再使句柄失效, 保证句柄不会重新解析到旧的加载器
+		DEFAULT_EXTENSION_HANDLES.values().forEach(DefaultExtensionHandle::invalidate);
+		SUPPORTED_EXTENSIONS_HANDLES.values().forEach(SupportedExtensionsHandle::invalidate);
+	}
+
+	/**
+	 * 并行预热扩展点, 并行度为可用处理器数量.
+	 * <p>
+	 * Warms up the given extension points in parallel, using as many threads as there are
+	 * available processors.
+	 * @param types the extension point types to warm up
+	 * @return the load statistics of each type, in the order of the given types
+	 * @see #warmUp(Collection, int)
+	 */
+	public static List<ExtensionLoadStatistics> warmUp(Collection<Class<?>> types) {
+		return warmUp(types, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * 并行预热扩展点. 在有界线程池中加载各扩展点的扩展类并创建默认扩展点实例, 避免首次访问时在 cachedClasses 监视器中完成类路径扫描与类初始化.
+	 * 单个扩展点预热失败不影响其它扩展点, 失败原因记录在其加载统计中
+	 * <p>
+	 * Warms up the given extension points in parallel. Each type's extension classes are
+	 * loaded and its default extension is created on a bounded pool, so that the first
+	 * access does not pay for class path scanning and class initialization. A failing
+	 * type does not affect the others, its failure is recorded in its load statistics.
+	 * @param types the extension point types to warm up
+	 * @param parallelism the maximum number of warm up threads
+	 * @return the load statistics of each type, in the order of the given types
+	 */
+	public static List<ExtensionLoadStatistics> warmUp(Collection<Class<?>> types, int parallelism) {
+		if (CollectionUtils.isEmpty(types)) {
+			return Collections.emptyList();
+		}
+		int threads = Math.max(1, Math.min(parallelism, types.size()));
+		ClassLoader classLoader = ClassLoaderUtils.getClassLoader(ExtensionLoader.class);
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, (runnable) -> {
+			Thread thread = new Thread(runnable, "radp-extension-warm-up-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(classLoader);
+			return thread;
+		});
+		try {
+			List<CompletableFuture<ExtensionLoadStatistics>> futures = new ArrayList<>(types.size());
+			for (Class<?> type : types) {
+				futures.add(CompletableFuture.supplyAsync(() -> warmUp(type), executor));
+			}
+			List<ExtensionLoadStatistics> statistics = new ArrayList<>(futures.size());
+			for (CompletableFuture<ExtensionLoadStatistics> future : futures) {
+				statistics.add(future.join());
+			}
+			return statistics;
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private static ExtensionLoadStatistics warmUp(Class<?> type) {
+		ExtensionLoader<?> loader = null;
+		try {
+			loader = getExtensionLoader(type);
+			loader.getExtensionClasses();
+			getDefaultExtensionHandle(type).get();
+			loader.getLoadStatistics().recordFailure(null);
+			return loader.getLoadStatistics();
+		}
+		catch (Exception | LinkageError ex) {
+			log.warn("Failed to warm up extension {}: {}", type, ex.toString());
+			ExtensionLoadStatistics statistics = (loader != null) ? loader.getLoadStatistics()
+					: new ExtensionLoadStatistics(String.valueOf(type));
+			statistics.recordFailure(ex);
+			return statistics;
+		}
+	}
+
+	/**
+	 * 获取所有已创建的扩展点加载器的加载统计.
+	 * <p>
+	 * Gets the load statistics of every extension loader created so far.
+	 * @return the load statistics sorted by extension point type
+	 */
+	public static List<ExtensionLoadStatistics> getAllLoadStatistics() {
+		List<ExtensionLoadStatistics> statistics = new ArrayList<>();
+		for (ExtensionLoader<?> loader : EXTENSION_LOADERS.values()) {
+			statistics.add(loader.getLoadStatistics());
+		}
+		statistics.sort(Comparator.comparing(ExtensionLoadStatistics::getType));
+		return statistics;
+	}
+
 	/**
 	 * 检查扩展类型是否符合规范. 此方法用于确保传入的扩展类型（接口）符合特定的规则：非空、为接口类型且带有SPI注解
 	 * 它是为了保证扩展机制的正确性而设计的，对于不符合规范的类型，会抛出异常，阻止其被用作扩展
@@ -236,6 +435,32 @@ public class ExtensionLoader<T> {
 		return this.adaptiveExtensionLoader.getAdaptiveExtension();
 	}
 
+	/**
+	 * 获取激活的扩展点实例.
+	 * <p>
+	 * gets the activated extensions, see {@link ActiveExtensionLoader}.
+	 * @param url the URL containing parameters for extension activation
+	 * @param values the extension names to activate, may contain exclusions
+	 * @param group the group to filter extensions by, can be null for no filtering
+	 * @return an immutable list of activated extension instances
+	 */
+	public List<T> getActivateExtension(space.x9x.radp.extension.common.URL url, String[] values, String group) {
+		return this.activeExtensionLoader.getActivateExtension(url, values, group);
+	}
+
+	/**
+	 * 根据 URL 参数获取激活的扩展点实例.
+	 * <p>
+	 * gets the activated extensions named by the URL parameter of the given key.
+	 * @param url the URL containing parameters for extension activation
+	 * @param key the parameter key holding the comma separated extension names
+	 * @param group the group to filter extensions by, can be null for no filtering
+	 * @return an immutable list of activated extension instances
+	 */
+	public List<T> getActivateExtension(space.x9x.radp.extension.common.URL url, String key, String group) {
+		return this.activeExtensionLoader.getActivateExtension(url, key, group);
+	}
+
 	/**
 	 * 为给定实例中的字段注入扩展.
 	 * <p>
@@ -248,62 +473,29 @@ public class ExtensionLoader<T> {
 		if (this.objectFactory == null) {
 			return instance;
 		}
-
-		try {
-			// 遍历实例的所有方法
-			for (Method method : instance.getClass().getMethods()) {
-				// 如果方法不是 setter 方法, 则跳过
-				if (!ReflectionUtils.isSetter(method)) {
-					continue;
-				}
-
-				// 获取 setter 方法的参数类型
-				Class<?> parameterType = method.getParameterTypes()[0];
-				// 如果参数类型是基本类型, 则跳过
-				if (ReflectionUtils.isPrimitive(parameterType)) {
-					continue;
-				}
-
-				// 获取 setter 方法对应属性的名称
-				String property = ReflectionUtils.getSetterProperty(method);
-				// 获取 @Inject 注解
-				Inject inject = method.getAnnotation(Inject.class);
-				if (inject == null) {
-					// 如果没有 @Inject 注解, 直接进行值注入
-					injectValue(instance, method, parameterType, property);
-				}
-				else {
-					// 如果有 @Inject 注解
-					if (!inject.enable()) {
-						continue;
-					}
-					// 根据注解的类型进行不同的注入操作
-					if (inject.type() == Inject.InjectType.BY_TYPE) {
-						injectValue(instance, method, parameterType, null);
-					}
-					else {
-						injectValue(instance, method, parameterType, property);
-					}
-				}
-			}
-		}
-		catch (Exception ex) {
-			log.error(ex.getMessage(), ex);
+		// 注入计划按类缓存, 包含需要注入的 setter、属性名称及注入方式
+		for (InjectionPlan.InjectionPoint injectionPoint : InjectionPlan.of(instance.getClass())
+			.getInjectionPoints()) {
+			injectValue(instance, injectionPoint);
 		}
 		return instance;
 	}
 
-	private void injectValue(T instance, Method method, Class<?> parameterType, String property) {
-		Object object = this.objectFactory.getExtension(parameterType, property);
-		if (object != null) {
-			try {
-				method.invoke(instance, object);
-			}
-			catch (Exception ex) {
-				log.error("Failed to inject via method {} of interface {}: {}", method.getName(),
-						parameterType.getName(), ex.getMessage(), ex);
+	private void injectValue(T instance, InjectionPlan.InjectionPoint injectionPoint) {
+		try {
+			Object object = this.objectFactory.getExtension(injectionPoint.getParameterType(),
+					injectionPoint.getProperty());
+			if (object != null) {
+				injectionPoint.inject(instance, object);
 			}
 		}
+		catch (Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			log.error("Failed to inject via method {} of interface {}: {}", injectionPoint.getMethodName(),
+					injectionPoint.getParameterType().getName(), ex.getMessage(), ex);
+		}
 	}
 
 	/**
@@ -322,7 +514,12 @@ public class ExtensionLoader<T> {
 					// 缓存默认的扩展点名称
 					this.cacheDefaultExtensionName();
 					// 遍历 LoadingStrategy, 获取扩展点 classes
+					long start = System.nanoTime();
+					this.classLoadNanos = 0;
 					classes = this.loadExtensionClasses();
+					this.loadStatistics.recordScan(System.nanoTime() - start - this.classLoadNanos);
+					this.loadStatistics.recordClassLoad(this.classLoadNanos);
+					this.loadStatistics.recordExtensionClasses(classes.size());
 					this.cachedClasses.set(classes);
 				}
 			}
@@ -355,24 +552,99 @@ public class ExtensionLoader<T> {
 
 	private Map<String, Class<?>> loadExtensionClasses() {
 		Map<String, Class<?>> extensionClasses = new HashMap<>();
+		ExtensionIndex index = ExtensionIndex.getInstance();
 		for (LoadingStrategy strategy : LoadingStrategyHolder.strategies) {
-			loadDirectory(extensionClasses, strategy.directory(), this.type.getName(),
-					strategy.preferExtensionClassLoader(), strategy.overridden(), strategy.excludedPackages());
+			// 优先使用编译期生成的索引, 仅扫描未被索引覆盖的描述文件
+			if (index.isEnabled()) {
+				loadIndex(extensionClasses, index, strategy.directory(), this.type.getName(), strategy.overridden(),
+						strategy.excludedPackages());
+			}
+			if (index.isScanRequired()) {
+				loadDirectory(extensionClasses, index, strategy.directory(), this.type.getName(),
+						strategy.preferExtensionClassLoader(), strategy.overridden(), strategy.excludedPackages());
+			}
 		}
 		return extensionClasses;
 	}
 
+	/**
+	 * 加载扩展点索引中声明的扩展类.
+	 * @param extensionClasses 扩展类的映射表，键为扩展类的名称，值为扩展类的Class对象
+	 * @param index 扩展点索引
+	 * @param directory 扩展类文件所在的目录
+	 * @param type 扩展类的类型（通常为接口的名称）
+	 * @param overridden 是否允许已加载的类被覆盖
+	 * @param excludedPackages 被排除的包名称数组
+	 */
+	private void loadIndex(Map<String, Class<?>> extensionClasses, ExtensionIndex index, String directory, String type,
+			boolean overridden, String... excludedPackages) {
+		ClassLoader classLoader = ClassLoaderUtils.getClassLoader(ExtensionLoader.class);
+		for (ExtensionIndexEntry entry : index.getEntries(directory, type)) {
+			if (isExcluded(entry.getClassName(), excludedPackages)) {
+				continue;
+			}
+			try {
+				// 索引已在编译期校验过类的元数据, 这里延迟类的初始化到实例化时
+				long start = System.nanoTime();
+				Class<?> clazz = Class.forName(entry.getClassName(), false, classLoader);
+				this.classLoadNanos += System.nanoTime() - start;
+				loadIndexedClass(extensionClasses, entry, clazz, overridden);
+			}
+			catch (Exception | LinkageError ex) {
+				IllegalStateException illegalStateException = new IllegalStateException(
+						"Failed to load extension class (interface: " + this.type + ", class line: "
+								+ entry.getDescriptorLine() + ") in extension index, cause: " + ex.getMessage(),
+						ex);
+				this.exceptions.put(entry.getDescriptorLine(), illegalStateException);
+			}
+		}
+	}
+
+	private void loadIndexedClass(Map<String, Class<?>> extensionClasses, ExtensionIndexEntry entry, Class<?> clazz,
+			boolean overridden) {
+		if (!this.type.isAssignableFrom(clazz)) {
+			throw new IllegalArgumentException(
+					"Error occurred when loading extension class (interface: " + this.type + ", class line: "
+							+ clazz.getName() + "), class " + clazz.getName() + " is not subtype of interface.");
+		}
+		switch (entry.getKind()) {
+			case ADAPTIVE:
+				this.adaptiveExtensionLoader.cachedAdaptiveClass(clazz, overridden);
+				return;
+			case WRAPPER:
+				this.wrapperExtensionLoader.cacheWrapperClass(clazz);
+				return;
+			default:
+				break;
+		}
+		if (entry.getOrder() != null) {
+			this.cachedIndexedOrders.put(clazz, entry.getOrder());
+		}
+		String name = StringUtil.isEmpty(entry.getNames()) ? findExtensionName(clazz) : entry.getNames();
+		String[] names = Constants.COMMA_SPLIT_PATTERN.split(name);
+		if (ArrayUtil.isNotEmpty(names)) {
+			if (entry.isActivate()) {
+				this.activeExtensionLoader.cacheActiveClass(clazz, names[0]);
+			}
+			for (String n : names) {
+				saveInCacheName(clazz, n);
+				saveInExtensionClass(extensionClasses, clazz, n, overridden);
+			}
+		}
+	}
+
 	/**
 	 * 加载指定目录下的扩展类.
 	 * @param extensionClasses 扩展类的映射表，键为扩展类的名称，值为扩展类的Class对象
+	 * @param index 扩展点索引, 已被索引覆盖的描述文件不再解析
 	 * @param directory 扩展类文件所在的目录
 	 * @param type 扩展类的类型（通常为接口的名称）
 	 * @param extensionLoaderClassLoaderFirst 是否优先使用ExtensionLoader类的类加载器去加载资源
 	 * @param overridden 是否允许已加载的类被覆盖
 	 * @param excludedPackages 被排除的包名称数组
 	 */
-	private void loadDirectory(Map<String, Class<?>> extensionClasses, String directory, String type,
-			boolean extensionLoaderClassLoaderFirst, boolean overridden, String... excludedPackages) {
+	private void loadDirectory(Map<String, Class<?>> extensionClasses, ExtensionIndex index, String directory,
+			String type, boolean extensionLoaderClassLoaderFirst, boolean overridden, String... excludedPackages) {
 		// 构造资源文件的完整路径
 		String fileName = directory + type;
 		try {
@@ -401,6 +673,9 @@ public class ExtensionLoader<T> {
 			if (urls != null) {
 				while (urls.hasMoreElements()) {
 					URL resourceURL = urls.nextElement();
+					if (index.isEnabled() && index.isCovered(resourceURL)) {
+						continue;
+					}
 					// 加载并解析每个资源
 					loadResource(extensionClasses, classLoader, resourceURL, overridden, excludedPackages);
 				}
@@ -445,8 +720,10 @@ public class ExtensionLoader<T> {
 							clazz = line;
 						}
 						if (StringUtil.isNotEmpty(clazz) && !isExcluded(clazz, excludedPackages)) {
-							loadClass(extensionClasses, resourceURL, Class.forName(clazz, true, classLoader), name,
-									overridden);
+							long start = System.nanoTime();
+							Class<?> extensionClass = Class.forName(clazz, true, classLoader);
+							this.classLoadNanos += System.nanoTime() - start;
+							loadClass(extensionClasses, resourceURL, extensionClass, name, overridden);
 						}
 					}
 					catch (Exception ex) {
@@ -532,13 +809,13 @@ public class ExtensionLoader<T> {
 			extensionClasses.put(name, clazz);
 		}
 		else {
-			if (clazz.isAnnotationPresent(Order.class) || c.isAnnotationPresent(Order.class)) {
-				// 获取当前类的Order注解和值
-				Order destOrder = clazz.getAnnotation(Order.class);
-				int destValue = (destOrder != null) ? destOrder.value() : 0;
-				// 获取已存在类的Order注解和值
-				Order srcOrder = c.getAnnotation(Order.class);
-				int srcValue = (srcOrder != null) ? srcOrder.value() : 0;
+			Integer destOrder = findOrder(clazz);
+			Integer srcOrder = findOrder(c);
+			if (destOrder != null || srcOrder != null) {
+				// 获取当前类的Order值
+				int destValue = (destOrder != null) ? destOrder : 0;
+				// 获取已存在类的Order值
+				int srcValue = (srcOrder != null) ? srcOrder : 0;
 				// 如果当前类的Order值小于已存在类的Order值，则优先使用当前类
 				if (srcValue > destValue) {
 					log.debug("Compare extension {} name {} use {} instead of {}", this.type.getName(), name,
@@ -559,6 +836,20 @@ public class ExtensionLoader<T> {
 		}
 	}
 
+	/**
+	 * 获取扩展类的 Order 值, 优先使用扩展点索引中的值.
+	 * @param clazz 扩展类
+	 * @return Order 值, 如果扩展类未标注 @Order 则返回 null
+	 */
+	private Integer findOrder(Class<?> clazz) {
+		Integer order = this.cachedIndexedOrders.get(clazz);
+		if (order != null) {
+			return order;
+		}
+		Order annotation = clazz.getAnnotation(Order.class);
+		return (annotation != null) ? annotation.value() : null;
+	}
+
 	/**
 	 * Gets all supported extension names for this extension type. This method returns an
 	 * unmodifiable set of all extension names that have been loaded or can be loaded for
@@ -634,12 +925,15 @@ public class ExtensionLoader<T> {
 			throw findException(name);
 		}
 		try {
+			long start = System.nanoTime();
 			T instance = (T) EXTENSION_INSTANCES.get(clazz);
 			if (instance == null) {
 				EXTENSION_INSTANCES.putIfAbsent(clazz, clazz.getConstructor().newInstance());
 				instance = (T) EXTENSION_INSTANCES.get(clazz);
 			}
+			long instantiated = System.nanoTime();
 			injectExtension(instance);
+			long injected = System.nanoTime();
 
 			if (wrap) {
 				List<Class<?>> wrapperClassesList = new ArrayList<>();
@@ -659,8 +953,12 @@ public class ExtensionLoader<T> {
 					}
 				}
 			}
+			long wrapped = System.nanoTime();
 
 			initExtension(instance);
+			this.loadStatistics.recordInstantiate(instantiated - start + System.nanoTime() - wrapped);
+			this.loadStatistics.recordInject(injected - instantiated);
+			this.loadStatistics.recordWrap(wrapped - injected);
 			return instance;
 		}
 		catch (Exception ex) {
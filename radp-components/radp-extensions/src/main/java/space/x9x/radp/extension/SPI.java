@@ -49,4 +49,31 @@ public @interface SPI {
 	 */
 	String value() default "";
 
+	/**
+	 * Specifies how the adaptive extension is created when the extension point declares
+	 * no {@code @Adaptive} class but has {@code @Adaptive} methods.
+	 * @return the adaptive mode, {@link AdaptiveMode#COMPILER} by default
+	 */
+	AdaptiveMode adaptive() default AdaptiveMode.COMPILER;
+
+	/**
+	 * Defines how adaptive extensions are created.
+	 */
+	enum AdaptiveMode {
+
+		/**
+		 * Generate the source code of the adaptive class and compile it at runtime with
+		 * the {@code Compiler} extension. This is the default.
+		 */
+		COMPILER,
+
+		/**
+		 * Dispatch adaptive methods through cached method handles. No class is generated
+		 * or compiled at runtime, so this mode also works where defining classes at
+		 * runtime is restricted.
+		 */
+		DISPATCH
+
+	}
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 全部扩展点实例句柄.
+ * <p>
+ * Resolved handle of all supported extensions of an extension point, in the order of
+ * {@link ExtensionLoader#getSupportedExtensions()}. Once resolved, {@link #get()} is a
+ * single volatile read, like {@link DefaultExtensionHandle}.
+ * <p>
+ * The handle is shared per extension point type and survives
+ * {@link ExtensionLoader#reload()}, which invalidates it so that the next {@link #get()}
+ * resolves the extensions from the new extension loader.
+ *
+ * @param <T> the type of the extension point
+ * @author RADP x9x
+ * @since 2026-10-18 02:35
+ * @see ExtensionLoader#getSupportedExtensionsHandle(Class)
+ */
+public final class SupportedExtensionsHandle<T> {
+
+	/**
+	 * The extension point type.
+	 */
+	@Getter
+	private final Class<T> type;
+
+	/**
+	 * The supported extensions, {@code null} if not resolved.
+	 */
+	private volatile List<T> extensions;
+
+	SupportedExtensionsHandle(Class<T> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Gets the supported extensions.
+	 * @return the unmodifiable list of supported extensions, empty if there are none
+	 */
+	public List<T> get() {
+		List<T> extensions = this.extensions;
+		if (extensions == null) {
+			extensions = resolve();
+		}
+		return extensions;
+	}
+
+	private synchronized List<T> resolve() {
+		List<T> extensions = this.extensions;
+		if (extensions == null) {
+			ExtensionLoader<T> extensionLoader = ExtensionLoader.getExtensionLoader(this.type);
+			List<T> resolved = new ArrayList<>();
+			for (String name : extensionLoader.getSupportedExtensions()) {
+				resolved.add(extensionLoader.getExtension(name));
+			}
+			extensions = Collections.unmodifiableList(resolved);
+			this.extensions = extensions;
+		}
+		return extensions;
+	}
+
+	/**
+	 * Discards the resolved extensions. Synchronized with {@link #resolve()} so that a
+	 * resolution racing with a reload cannot publish extensions of a discarded loader.
+	 */
+	synchronized void invalidate() {
+		this.extensions = null;
+	}
+
+}
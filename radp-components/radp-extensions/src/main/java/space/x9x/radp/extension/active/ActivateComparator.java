@@ -45,8 +45,9 @@ public class ActivateComparator implements Comparator<Object> {
 	 * <p>
 	 * compares the activation order of two objects. if the objects have the @Activate
 	 * annotation, they are compared based on the order value in the annotation;
-	 * otherwise, the default is 0. if an object is null, it follows Java's null
-	 * comparison rules.
+	 * otherwise, the default is 0. objects with the same order are compared by class
+	 * name. extension classes can be compared directly as well. if an object is null, it
+	 * follows Java's null comparison rules.
 	 * @param o1 the first object
 	 * @param o2 the second object
 	 * @return the comparison result, -1 means o1 should come before o2, 1 means o1 should
@@ -67,7 +68,12 @@ public class ActivateComparator implements Comparator<Object> {
 			return 0;
 		}
 
-		return (getOrder(o1.getClass()) > getOrder(o2.getClass())) ? 1 : -1;
+		// 既可以比较扩展点实例, 也可以直接比较扩展点类
+		Class<?> c1 = (o1 instanceof Class) ? (Class<?>) o1 : o1.getClass();
+		Class<?> c2 = (o2 instanceof Class) ? (Class<?>) o2 : o2.getClass();
+		int result = Integer.compare(getOrder(c1), getOrder(c2));
+		// 顺序相同时按类名排序, 保证排序结果稳定且满足比较器约定
+		return (result != 0) ? result : c1.getName().compareTo(c2.getName());
 	}
 
 	/**
@@ -17,12 +17,16 @@
 package space.x9x.radp.extension.active;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +45,11 @@ import space.x9x.radp.extension.common.URL;
  * the @Activate annotation. This class provides functionality to activate extensions
  * based on specified criteria such as groups and values, and to sort them according to
  * their activation order.
+ * <p>
+ * Activation results are cached per group, requested values and the set of conditional
+ * activations matched by the URL, so repeated resolution of the same chain, e.g. per
+ * invocation of a filter chain, returns the same immutable, pre-sorted list. The cache is
+ * discarded whenever an activate class is cached.
  *
  * @param <T> the type of extension this loader handles
  * @author RADP x9x
@@ -63,6 +72,13 @@ public class ActiveExtensionLoader<T> {
 	 */
 	public static final String DEFAULT_KEY = "default";
 
+	/**
+	 * 激活结果缓存的最大条目数, 超出后清空重建.
+	 * <p>
+	 * maximum number of cached activation results, the cache is cleared when exceeded.
+	 */
+	private static final int MAX_CACHED_ACTIVATIONS = 1024;
+
 	/**
 	 * 缓存激活的扩展点.
 	 * <p>
@@ -70,6 +86,21 @@ public class ActiveExtensionLoader<T> {
 	 */
 	private final Map<String, Object> cachedActives = new ConcurrentHashMap<>();
 
+	/**
+	 * 缓存激活结果.
+	 * <p>
+	 * cache for activation results.
+	 */
+	private final Map<ActivationKey, List<T>> cachedActivations = new ConcurrentHashMap<>();
+
+	/**
+	 * 按激活顺序排序并预编译激活条件的候选扩展点, 延迟构建.
+	 * <p>
+	 * activate candidates sorted by activation order with precompiled conditions, built
+	 * lazily.
+	 */
+	private volatile List<ActivateCandidate> cachedCandidates;
+
 	/**
 	 * The extension loader instance that this active extension loader works with. This
 	 * field holds a reference to the parent extension loader that manages all extensions
@@ -88,6 +119,9 @@ public class ActiveExtensionLoader<T> {
 		Activate activate = clazz.getAnnotation(Activate.class);
 		if (activate != null) {
 			this.cachedActives.put(name, activate);
+			// 扩展类发生变化, 丢弃已排序的候选及激活结果
+			this.cachedCandidates = null;
+			this.cachedActivations.clear();
 		}
 	}
 
@@ -102,42 +136,77 @@ public class ActiveExtensionLoader<T> {
 	 * @param values the array of values to use for extension activation, may contain
 	 * exclusions
 	 * @param group the group to filter extensions by, can be null for no filtering
-	 * @return a list of activated extension instances that match the criteria
+	 * @return an immutable list of activated extension instances that match the criteria
 	 */
 	public List<T> getActivateExtension(URL url, String[] values, String group) {
-		List<T> activateExtensions = new ArrayList<>();
-		TreeMap<Class<?>, T> activateExtensionsMap = new TreeMap<>(ActivateComparator.COMPARATOR);
-		Set<String> loadedNames = new HashSet<>();
-		Set<String> names = CollectionUtils.ofSet(values);
-		if (!names.contains(REMOVE_VALUE_PREFIX + DEFAULT_KEY)) {
+		List<ActivateCandidate> candidates = getCandidates();
+		ActivationKey key = new ActivationKey(group, values, match(candidates, url));
+		List<T> activateExtensions = this.cachedActivations.get(key);
+		if (activateExtensions == null) {
+			activateExtensions = Collections.unmodifiableList(resolve(candidates, key));
+			if (this.cachedActivations.size() >= MAX_CACHED_ACTIVATIONS) {
+				this.cachedActivations.clear();
+			}
+			this.cachedActivations.putIfAbsent(key, activateExtensions);
+		}
+		return activateExtensions;
+	}
+
+	private List<ActivateCandidate> getCandidates() {
+		List<ActivateCandidate> candidates = this.cachedCandidates;
+		if (candidates == null) {
 			this.extensionLoader.getExtensionClasses();
+			List<ActivateCandidate> sorted = new ArrayList<>();
 			for (Map.Entry<String, Object> entry : this.cachedActives.entrySet()) {
-				String name = entry.getKey();
-				Object activate = entry.getValue();
-				String[] activateGroup;
-				String[] activateValue;
-				if (activate instanceof Activate) {
-					activateGroup = ((Activate) activate).groups();
-					activateValue = ((Activate) activate).value();
+				if (entry.getValue() instanceof Activate) {
+					sorted.add(new ActivateCandidate(entry.getKey(), (Activate) entry.getValue(),
+							this.extensionLoader.getExtensionClass(entry.getKey())));
 				}
-				else {
-					continue;
+			}
+			sorted.sort((c1, c2) -> ActivateComparator.COMPARATOR.compare(c1.extensionClass, c2.extensionClass));
+			// 条件激活的候选依次编号, 作为匹配结果 BitSet 的下标
+			int conditionIndex = 0;
+			for (ActivateCandidate candidate : sorted) {
+				if (candidate.condition != null) {
+					candidate.conditionIndex = conditionIndex++;
 				}
-				if (isMatchGroup(group, activateGroup) && !names.contains(name)
-						&& !names.contains(REMOVE_VALUE_PREFIX + name) && isActive(activateValue, url)
-						&& !loadedNames.contains(name)) {
-					activateExtensionsMap.put(this.extensionLoader.getExtensionClass(name),
-							this.extensionLoader.getExtension(name));
-					loadedNames.add(name);
+			}
+			candidates = Collections.unmodifiableList(sorted);
+			this.cachedCandidates = candidates;
+		}
+		return candidates;
+	}
+
+	private BitSet match(List<ActivateCandidate> candidates, URL url) {
+		BitSet matched = new BitSet();
+		if (url != null) {
+			for (ActivateCandidate candidate : candidates) {
+				if (candidate.condition != null && candidate.condition.test(url)) {
+					matched.set(candidate.conditionIndex);
 				}
 			}
-			if (!activateExtensionsMap.isEmpty()) {
-				activateExtensions.addAll(activateExtensionsMap.values());
+		}
+		return matched;
+	}
+
+	private List<T> resolve(List<ActivateCandidate> candidates, ActivationKey key) {
+		List<T> activateExtensions = new ArrayList<>();
+		Set<String> loadedNames = new HashSet<>();
+		Set<String> names = CollectionUtils.ofSet(key.values);
+		if (!names.contains(REMOVE_VALUE_PREFIX + DEFAULT_KEY)) {
+			for (ActivateCandidate candidate : candidates) {
+				String name = candidate.name;
+				if (candidate.isMatchGroup(key.group) && !names.contains(name)
+						&& !names.contains(REMOVE_VALUE_PREFIX + name)
+						&& (candidate.condition == null || key.matched.get(candidate.conditionIndex))
+						&& loadedNames.add(name)) {
+					activateExtensions.add(this.extensionLoader.getExtension(name));
+				}
 			}
 		}
 		List<T> loadedExtensions = new ArrayList<>();
 		for (String name : names) {
-			if (!name.startsWith(REMOVE_VALUE_PREFIX) && names.contains(REMOVE_VALUE_PREFIX + name)) {
+			if (!name.startsWith(REMOVE_VALUE_PREFIX) && !names.contains(REMOVE_VALUE_PREFIX + name)) {
 				if (!loadedNames.contains(name)) {
 					if (DEFAULT_KEY.equals(name)) {
 						if (!loadedExtensions.isEmpty()) {
@@ -150,12 +219,12 @@ public class ActiveExtensionLoader<T> {
 					}
 					loadedNames.add(name);
 				}
-			}
-			else {
-				String simpleName = this.extensionLoader.getExtensionClass(name).getSimpleName();
-				log.warn(
-						"Catch duplicated filter, ExtensionLoader will ignore one of them. Please check. Filter Name: {}, Ignored Class Name: {}",
-						name, simpleName);
+				else {
+					String simpleName = this.extensionLoader.getExtensionClass(name).getSimpleName();
+					log.warn(
+							"Catch duplicated filter, ExtensionLoader will ignore one of them. Please check. Filter Name: {}, Ignored Class Name: {}",
+							name, simpleName);
+				}
 			}
 		}
 		if (!loadedExtensions.isEmpty()) {
@@ -204,33 +273,112 @@ public class ActiveExtensionLoader<T> {
 		return getActivateExtension(url, values, null);
 	}
 
-	private boolean isMatchGroup(String group, String[] groups) {
-		if (StringUtil.isEmpty(group)) {
-			return true;
+	/**
+	 * 将 @Activate 的 value 预编译为 URL 条件. 任一 key 匹配即激活, key 可以是参数名 (参数值非空即匹配) 或
+	 * {@code 参数名:参数值}, 参数名同时匹配以 {@code .参数名} 结尾的参数
+	 * @param keys the activation keys of the {@code @Activate} annotation
+	 * @return the compiled condition, {@code null} if the extension is always active
+	 */
+	static Predicate<URL> compileCondition(String[] keys) {
+		Predicate<URL> condition = null;
+		for (String key : keys) {
+			Predicate<URL> keyCondition = compileKeyCondition(key);
+			condition = (condition != null) ? condition.or(keyCondition) : keyCondition;
 		}
-		if (groups != null && groups.length > 0) {
-			for (String g : groups) {
-				if (group.equals(g)) {
+		return condition;
+	}
+
+	private static Predicate<URL> compileKeyCondition(String key) {
+		int i = key.indexOf(':');
+		String name = (i >= 0) ? key.substring(0, i) : key;
+		String expectedValue = (i >= 0) ? key.substring(i + 1) : null;
+		String suffix = "." + name;
+		return (url) -> {
+			for (Map.Entry<String, String> entry : url.getParameters().entrySet()) {
+				String k = entry.getKey();
+				if ((k.equals(name) || k.endsWith(suffix)) && ((expectedValue != null)
+						? expectedValue.equals(entry.getValue()) : StringUtil.isNotEmpty(entry.getValue()))) {
 					return true;
 				}
 			}
+			return false;
+		};
+	}
+
+	/**
+	 * 预处理过的激活候选扩展点.
+	 * <p>
+	 * Preprocessed activate candidate.
+	 */
+	private static final class ActivateCandidate {
+
+		private final String name;
+
+		private final Set<String> groups;
+
+		private final Class<?> extensionClass;
+
+		/**
+		 * The compiled activation condition, {@code null} if always active.
+		 */
+		private final Predicate<URL> condition;
+
+		private int conditionIndex = -1;
+
+		ActivateCandidate(String name, Activate activate, Class<?> extensionClass) {
+			this.name = name;
+			this.groups = new HashSet<>(Arrays.asList(activate.groups()));
+			this.extensionClass = extensionClass;
+			this.condition = compileCondition(activate.value());
+		}
+
+		boolean isMatchGroup(String group) {
+			return StringUtil.isEmpty(group) || this.groups.contains(group);
 		}
-		return false;
+
 	}
 
-	private boolean isActive(String[] keys, URL url) {
-		if (keys.length == 0) {
-			return true;
+	/**
+	 * 激活结果缓存键: 分组、请求的扩展点名称以及 URL 匹配到的条件激活候选.
+	 * <p>
+	 * Activation cache key made of the group, the requested values and the conditional
+	 * candidates matched by the URL.
+	 */
+	private static final class ActivationKey {
+
+		private final String group;
+
+		private final String[] values;
+
+		private final BitSet matched;
+
+		private final int hash;
+
+		ActivationKey(String group, String[] values, BitSet matched) {
+			this.group = StringUtil.isEmpty(group) ? null : group;
+			this.values = (values != null) ? values.clone() : new String[0];
+			this.matched = matched;
+			this.hash = Objects.hash(this.group, Arrays.hashCode(this.values), matched);
 		}
-		for (String key : keys) {
-			String keyValue = null;
-			if (key.contains(":")) {
-				String[] arr = key.split(":");
-				key = arr[0];
-				keyValue = arr[1];
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
 			}
+			if (!(o instanceof ActivationKey)) {
+				return false;
+			}
+			ActivationKey that = (ActivationKey) o;
+			return Objects.equals(this.group, that.group) && Arrays.equals(this.values, that.values)
+					&& this.matched.equals(that.matched);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
 		}
-		return false;
+
 	}
 
 }
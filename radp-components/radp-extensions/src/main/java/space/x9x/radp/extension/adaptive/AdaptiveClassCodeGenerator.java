@@ -18,7 +18,6 @@ package space.x9x.radp.extension.adaptive;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.net.URL;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 import space.x9x.radp.commons.lang.StringUtil;
 import space.x9x.radp.extension.Adaptive;
 import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.common.URL;
 
 /**
  * 基于 @Adaptive 的代码生成器.
@@ -54,18 +54,18 @@ public class AdaptiveClassCodeGenerator {
 
 	private static final String FORMAT_CODE_CLASS_DECLARATION = "public class %s$Adaptive implements %s {\n";
 
-	private static final String FORMAT_CODE_METHOD_DECLARATION = "public %s %s(%s) throws %s {\n%s\n}\n";
+	private static final String FORMAT_CODE_METHOD_DECLARATION = "public %s %s(%s) %s{\n%s\n}\n";
 
 	private static final String FORMAT_CODE_METHOD_ARGUMENT = "%s arg%d";
 
-	private static final String FORMAT_CODE_METHOD_THROWS = "throw %s";
+	private static final String FORMAT_CODE_METHOD_THROWS = "throws %s ";
 
 	private static final String FORMAT_CODE_UNSUPPORTED = "throw new UnsupportedOperationException(\"The method %s of interface %s is not adaptive method !\");\n";
 
 	private static final String FORMAT_CODE_URL_NULL_CHECK = "if (arg%d == null) throw new IllegalArgumentException(\"url == null\");\n%s url = arg%d;\n";
 
 	// TODO 2024/9/24: 为什么是这个
-	private static final String CLASSNAME_INVOCATION = "org.apache.dubbo.rpc.Invocation";
+	static final String CLASSNAME_INVOCATION = "org.apache.dubbo.rpc.Invocation";
 
 	private static final String FORMAT_CODE_INVOCATION_ARGUMENT_NULL_CHECK = "if (arg%d == null) throw new IllegalArgumentException(\"invocation == null\"); "
 			+ "String methodName = arg%d.getMethodName();\n";
@@ -174,10 +174,10 @@ public class AdaptiveClassCodeGenerator {
 		for (int i = value.length - 1; i >= 0; --i) {
 			if (i == value.length - 1) {
 				if (null != this.defaultExtName) {
-					if (!"protocol".equals(value[i])) {
+					if (!URL.PROTOCOL_KEY.equals(value[i])) {
 						if (hasInvocation) {
-							getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", \"%s\")", value[i],
-									this.defaultExtName);
+							getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", %s)", value[i],
+									literal(this.defaultExtName));
 						}
 						else {
 							getNameCode = String.format("url.getParameter(\"%s\", \"%s\")", value[i],
@@ -190,10 +190,10 @@ public class AdaptiveClassCodeGenerator {
 					}
 				}
 				else {
-					if (!"protocol".equals(value[i])) {
+					if (!URL.PROTOCOL_KEY.equals(value[i])) {
 						if (hasInvocation) {
-							getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", \"%s\")", value[i],
-									this.defaultExtName);
+							getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", %s)", value[i],
+									literal(this.defaultExtName));
 						}
 						else {
 							getNameCode = String.format("url.getParameter(\"%s\")", value[i]);
@@ -205,10 +205,10 @@ public class AdaptiveClassCodeGenerator {
 				}
 			}
 			else {
-				if (!"protocol".equals(value[i])) {
+				if (!URL.PROTOCOL_KEY.equals(value[i])) {
 					if (hasInvocation) {
-						getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", \"%s\")", value[i],
-								this.defaultExtName);
+						getNameCode = String.format("url.getMethodParameter(methodName, \"%s\", %s)", value[i],
+								literal(this.defaultExtName));
 					}
 					else {
 						getNameCode = String.format("url.getParameter(\"%s\", %s)", value[i], getNameCode);
@@ -223,6 +223,10 @@ public class AdaptiveClassCodeGenerator {
 		return String.format(FORMAT_CODE_EXT_NAME_ASSIGNMENT, getNameCode);
 	}
 
+	private static String literal(String value) {
+		return (value != null) ? "\"" + value + "\"" : "null";
+	}
+
 	private String generateInvocationArgumentNullCheck(Method method) {
 		Class<?>[] parameterTypes = method.getParameterTypes();
 		return IntStream.range(0, parameterTypes.length)
@@ -252,7 +256,7 @@ public class AdaptiveClassCodeGenerator {
 		for (int i = 0; i < parameterTypes.length; i++) {
 			for (Method m : parameterTypes[i].getMethods()) {
 				String name = m.getName();
-				if ((name.startsWith("get") || name.length() > 3) && Modifier.isPublic(m.getModifiers())
+				if (name.startsWith("get") && name.length() > 3 && Modifier.isPublic(m.getModifiers())
 						&& !Modifier.isStatic(m.getModifiers()) && m.getParameterTypes().length == 0
 						&& m.getReturnType() == URL.class) {
 					getterReturnUrl.put(name, i);
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.adaptive;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import space.x9x.radp.commons.lang.StringUtil;
+import space.x9x.radp.extension.Adaptive;
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.common.URL;
+
+/**
+ * 基于 MethodHandle 的自适应扩展分发器.
+ * <p>
+ * Adaptive extension dispatcher based on method handles. It is the
+ * {@link space.x9x.radp.extension.SPI.AdaptiveMode#DISPATCH} counterpart of
+ * {@link AdaptiveClassCodeGenerator}: instead of generating and compiling an adaptive
+ * class, every {@code @Adaptive} method is analysed once into an immutable
+ * {@link AdaptiveMethod} holding the location of the {@link URL}, the lookup keys and a
+ * spread method handle of the interface method. Invocations then only resolve the
+ * extension name from the URL and invoke the cached handle on the selected extension.
+ * <p>
+ * The dispatcher is exposed through a JDK dynamic proxy, which unlike runtime compilation
+ * needs neither a {@code Compiler} extension nor a compiler on the class path.
+ *
+ * @param <T> the type of the extension point
+ * @author RADP x9x
+ * @since 2026-10-17 12:10
+ */
+public final class AdaptiveExtensionDispatcher<T> implements InvocationHandler {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final ExtensionLoader<T> extensionLoader;
+
+	private final Map<Method, AdaptiveMethod> adaptiveMethods;
+
+	private AdaptiveExtensionDispatcher(ExtensionLoader<T> extensionLoader,
+			Map<Method, AdaptiveMethod> adaptiveMethods) {
+		this.extensionLoader = extensionLoader;
+		this.adaptiveMethods = adaptiveMethods;
+	}
+
+	/**
+	 * Creates an adaptive extension dispatching to the extensions of the given loader.
+	 * @param extensionLoader the extension loader of the extension point
+	 * @param defaultExtName the default extension name, may be {@code null}
+	 * @param <T> the type of the extension point
+	 * @return the adaptive extension
+	 * @throws IllegalArgumentException if the extension point has no adaptive method or
+	 * an adaptive method has no URL parameter or URL attribute
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T create(ExtensionLoader<T> extensionLoader, String defaultExtName) {
+		Class<?> type = extensionLoader.getType();
+		Map<Method, AdaptiveMethod> adaptiveMethods = new HashMap<>();
+		for (Method method : type.getMethods()) {
+			Adaptive adaptive = method.getAnnotation(Adaptive.class);
+			if (adaptive != null) {
+				adaptiveMethods.put(method, AdaptiveMethod.of(type, method, adaptive, defaultExtName));
+			}
+		}
+		if (adaptiveMethods.isEmpty()) {
+			throw new IllegalArgumentException(
+					"No adaptive method on extension " + type.getName() + ", refused to create the adaptive class!");
+		}
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new AdaptiveExtensionDispatcher<>(extensionLoader, adaptiveMethods));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		AdaptiveMethod adaptiveMethod = this.adaptiveMethods.get(method);
+		if (adaptiveMethod != null) {
+			String extName = adaptiveMethod.getExtensionName(args);
+			return adaptiveMethod.invoke(this.extensionLoader.getExtension(extName), args);
+		}
+		if (method.getDeclaringClass() == Object.class) {
+			return invokeObjectMethod(proxy, method, args);
+		}
+		throw new UnsupportedOperationException("The method " + method + " of interface "
+				+ this.extensionLoader.getType().getName() + " is not adaptive method !");
+	}
+
+	private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return this.extensionLoader.getType().getName() + "$Adaptive";
+			default:
+				throw new UnsupportedOperationException(method.toString());
+		}
+	}
+
+	/**
+	 * Precomputed dispatch plan of a single {@code @Adaptive} method.
+	 */
+	private static final class AdaptiveMethod {
+
+		private static final MethodType METHOD_NAME_GETTER_TYPE = MethodType.methodType(String.class, Object.class);
+
+		private final Class<?> type;
+
+		private final String[] keys;
+
+		private final NameResolver nameResolver;
+
+		private final int urlIndex;
+
+		/**
+		 * Getter returning the URL of the argument at {@link #urlIndex}, {@code null} if
+		 * the argument is the URL itself.
+		 */
+		private final MethodHandle urlGetter;
+
+		private final String urlGetterName;
+
+		private final String urlArgumentName;
+
+		/**
+		 * Index of the invocation argument, {@code -1} if the method has none.
+		 */
+		private final int invocationIndex;
+
+		private final MethodHandle methodNameGetter;
+
+		/**
+		 * The interface method as {@code (Object, Object[])Object}.
+		 */
+		private final MethodHandle invoker;
+
+		private AdaptiveMethod(Class<?> type, String[] keys, NameResolver nameResolver, int urlIndex,
+				Class<?> urlArgumentType, Method urlGetter, int invocationIndex, MethodHandle methodNameGetter,
+				MethodHandle invoker) throws IllegalAccessException {
+			this.type = type;
+			this.keys = keys;
+			this.nameResolver = nameResolver;
+			this.urlIndex = urlIndex;
+			this.urlGetter = (urlGetter != null) ? MethodHandles.lookup().unreflect(urlGetter).asType(GETTER_TYPE)
+					: null;
+			this.urlGetterName = (urlGetter != null) ? urlGetter.getName() : null;
+			this.urlArgumentName = urlArgumentType.getName();
+			this.invocationIndex = invocationIndex;
+			this.methodNameGetter = methodNameGetter;
+			this.invoker = invoker;
+		}
+
+		static AdaptiveMethod of(Class<?> type, Method method, Adaptive adaptive, String defaultExtName) {
+			String[] keys = adaptive.value();
+			if (keys.length == 0) {
+				keys = new String[] { StringUtil.camelToSplitName(type.getSimpleName(), ".") };
+			}
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				if (!Modifier.isPublic(type.getModifiers())) {
+					method.setAccessible(true);
+				}
+				MethodHandle handle = lookup.unreflect(method);
+				MethodHandle invoker = handle.asType(handle.type().generic())
+					.asSpreader(Object[].class, method.getParameterCount());
+				Class<?>[] parameterTypes = method.getParameterTypes();
+				int invocationIndex = findInvocationIndex(parameterTypes);
+				MethodHandle methodNameGetter = null;
+				if (invocationIndex != -1) {
+					methodNameGetter = lookup.unreflect(parameterTypes[invocationIndex].getMethod("getMethodName"))
+						.asType(METHOD_NAME_GETTER_TYPE);
+				}
+				NameResolver nameResolver = nameResolver(keys, defaultExtName, invocationIndex != -1);
+				for (int i = 0; i < parameterTypes.length; i++) {
+					if (parameterTypes[i] == URL.class) {
+						return new AdaptiveMethod(type, keys, nameResolver, i, URL.class, null, invocationIndex,
+								methodNameGetter, invoker);
+					}
+				}
+				Method getter = findUrlGetter(type, method);
+				int index = findParameterIndex(parameterTypes, getter);
+				if (!Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+					getter.setAccessible(true);
+				}
+				return new AdaptiveMethod(type, keys, nameResolver, index, parameterTypes[index], getter,
+						invocationIndex, methodNameGetter, invoker);
+			}
+			catch (IllegalAccessException | NoSuchMethodException ex) {
+				throw new IllegalArgumentException("Failed to create adaptive dispatcher for interface "
+						+ type.getName() + ": method " + method.getName() + " is not accessible", ex);
+			}
+		}
+
+		/**
+		 * Builds the extension name resolution exactly as
+		 * {@link AdaptiveClassCodeGenerator} generates it: from the last key to the first,
+		 * each key wrapping the resolution of the following keys, the last key falling
+		 * back to the default extension name. The {@value URL#PROTOCOL_KEY} key reads
+		 * {@link URL#getProtocol()} and, with an invocation argument, every other key
+		 * reads the method parameter instead of falling back to the following keys.
+		 */
+		private static NameResolver nameResolver(String[] keys, String defaultExtName, boolean hasInvocation) {
+			NameResolver resolver = (url, methodName) -> defaultExtName;
+			for (int i = keys.length - 1; i >= 0; --i) {
+				String key = keys[i];
+				NameResolver next = resolver;
+				if (URL.PROTOCOL_KEY.equals(key)) {
+					resolver = (url, methodName) -> {
+						String protocol = url.getProtocol();
+						return (protocol != null) ? protocol : next.resolve(url, methodName);
+					};
+				}
+				else if (hasInvocation) {
+					resolver = (url, methodName) -> url.getMethodParameter(methodName, key, defaultExtName);
+				}
+				else if (i == keys.length - 1 && defaultExtName == null) {
+					resolver = (url, methodName) -> url.getParameter(key);
+				}
+				else {
+					resolver = (url, methodName) -> url.getParameter(key, next.resolve(url, methodName));
+				}
+			}
+			return resolver;
+		}
+
+		private static int findInvocationIndex(Class<?>[] parameterTypes) {
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (AdaptiveClassCodeGenerator.CLASSNAME_INVOCATION.equals(parameterTypes[i].getName())) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static Method findUrlGetter(Class<?> type, Method method) {
+			Method found = null;
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				for (Method m : parameterType.getMethods()) {
+					if (m.getName().startsWith("get") && !Modifier.isStatic(m.getModifiers())
+							&& m.getParameterCount() == 0 && m.getReturnType() == URL.class) {
+						// 与代码生成方式一致, 优先使用 getUrl()
+						if ("getUrl".equals(m.getName())) {
+							return m;
+						}
+						if (found == null) {
+							found = m;
+						}
+					}
+				}
+			}
+			if (found == null) {
+				throw new IllegalArgumentException("Failed to create adaptive class for interface " + type.getName()
+						+ ": not found url parameter or url attribute in parameters of method " + method.getName());
+			}
+			return found;
+		}
+
+		private static int findParameterIndex(Class<?>[] parameterTypes, Method getter) {
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (getter.getDeclaringClass().isAssignableFrom(parameterTypes[i])) {
+					return i;
+				}
+			}
+			throw new IllegalStateException("No parameter declares " + getter);
+		}
+
+		String getExtensionName(Object[] args) throws Throwable {
+			Object argument = args[this.urlIndex];
+			URL url;
+			if (this.urlGetter == null) {
+				if (argument == null) {
+					throw new IllegalArgumentException("url == null");
+				}
+				url = (URL) argument;
+			}
+			else {
+				if (argument == null) {
+					throw new IllegalArgumentException(this.urlArgumentName + " argument == null");
+				}
+				Object result = this.urlGetter.invokeExact(argument);
+				url = (URL) result;
+				if (url == null) {
+					throw new IllegalArgumentException(
+							this.urlArgumentName + " argument " + this.urlGetterName + "() == null");
+				}
+			}
+			String methodName = null;
+			if (this.invocationIndex != -1) {
+				Object invocation = args[this.invocationIndex];
+				if (invocation == null) {
+					throw new IllegalArgumentException("invocation == null");
+				}
+				methodName = (String) this.methodNameGetter.invokeExact(invocation);
+			}
+			String extName = this.nameResolver.resolve(url, methodName);
+			if (extName == null) {
+				throw new IllegalStateException("Failed to get extension (" + this.type.getName() + ") name from url ("
+						+ url + ") use keys(" + Arrays.toString(this.keys) + ")");
+			}
+			return extName;
+		}
+
+		Object invoke(Object extension, Object[] args) throws Throwable {
+			return this.invoker.invokeExact(extension, args);
+		}
+
+	}
+
+	/**
+	 * Resolution of the extension name of an invocation.
+	 */
+	@FunctionalInterface
+	private interface NameResolver {
+
+		String resolve(URL url, String methodName);
+
+	}
+
+}
@@ -20,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 
 import space.x9x.radp.commons.lang.ClassLoaderUtils;
 import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.SPI;
 import space.x9x.radp.extension.compile.Compiler;
 import space.x9x.radp.extension.util.Holder;
 
@@ -110,6 +111,10 @@ public class AdaptiveExtensionLoader<T> {
 	 */
 	private T createAdaptiveExtension() {
 		try {
+			if (isDispatchMode()) {
+				return AdaptiveExtensionDispatcher.create(this.extensionLoader,
+						this.extensionLoader.getCachedDefaultName());
+			}
 			return this.extensionLoader
 				.injectExtension((T) getAdaptiveExtensionClass().getDeclaredConstructor().newInstance());
 		}
@@ -120,6 +125,21 @@ public class AdaptiveExtensionLoader<T> {
 		}
 	}
 
+	/**
+	 * 判断是否通过 MethodHandle 分发自适应方法. 仅当扩展点没有声明 @Adaptive 类且 @SPI 选择了
+	 * {@link SPI.AdaptiveMode#DISPATCH} 时生效.
+	 * @return 是否使用分发模式
+	 */
+	private boolean isDispatchMode() {
+		// 确保扩展类只被加载一次
+		this.extensionLoader.getExtensionClasses();
+		if (this.cachedAdaptiveClass != null) {
+			return false;
+		}
+		SPI spi = this.extensionLoader.getType().getAnnotation(SPI.class);
+		return spi != null && spi.adaptive() == SPI.AdaptiveMode.DISPATCH;
+	}
+
 	/**
 	 * 缓存适应性类. 该方法用于缓存一个适应性类，如果已经缓存了一个不同的适应性类，则抛出异常
 	 * @param clazz 要缓存的适应性类
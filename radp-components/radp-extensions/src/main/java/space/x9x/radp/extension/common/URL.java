@@ -35,6 +35,11 @@ public class URL implements Serializable {
 
 	private static final long serialVersionUID = 6346161581235040323L;
 
+	/**
+	 * The key of the parameter holding the protocol.
+	 */
+	public static final String PROTOCOL_KEY = "protocol";
+
 	/**
 	 * The parameters map containing key-value pairs for configuration. This map stores
 	 * all the parameters associated with this URL, which can be used to configure
@@ -52,4 +57,36 @@ public class URL implements Serializable {
 		return this.parameters.get(key);
 	}
 
+	/**
+	 * Gets the value of a parameter by its key, falling back to a default value.
+	 * @param key the key of the parameter to retrieve
+	 * @param defaultValue the value to return if the parameter is missing or empty
+	 * @return the value of the parameter, or the default value
+	 */
+	public String getParameter(String key, String defaultValue) {
+		String value = getParameter(key);
+		return (value == null || value.isEmpty()) ? defaultValue : value;
+	}
+
+	/**
+	 * Gets the value of a parameter for a method, {@code method.key}, falling back to the
+	 * parameter itself and then to a default value.
+	 * @param method the name of the method
+	 * @param key the key of the parameter to retrieve
+	 * @param defaultValue the value to return if both parameters are missing or empty
+	 * @return the value of the method parameter, of the parameter, or the default value
+	 */
+	public String getMethodParameter(String method, String key, String defaultValue) {
+		String value = getParameter(method + "." + key);
+		return (value == null || value.isEmpty()) ? getParameter(key, defaultValue) : value;
+	}
+
+	/**
+	 * Gets the protocol, the value of the {@value #PROTOCOL_KEY} parameter.
+	 * @return the protocol, or null if the parameter does not exist
+	 */
+	public String getProtocol() {
+		return getParameter(PROTOCOL_KEY);
+	}
+
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import space.x9x.radp.commons.lang.ClassLoaderUtils;
+
+/**
+ * 编译期生成的扩展点索引.
+ * <p>
+ * Build-time extension index. Every jar (or class output directory) compiled with the
+ * {@code ExtensionIndexProcessor} ships a {@value #INDEX_LOCATION} resource holding the
+ * pre-parsed content of its extension description files. The extension loader reads all
+ * index resources once and only falls back to scanning description files that are not
+ * covered by an index, i.e. those of jars that ship no index.
+ * <p>
+ * The behaviour can be tuned with the {@value #MODE_PROPERTY} system property, see
+ * {@link Mode}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 10:20
+ */
+@Slf4j
+public final class ExtensionIndex {
+
+	/**
+	 * Classpath location of the extension index resource.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/radp/extension.index";
+
+	/**
+	 * System property used to select the {@link Mode}.
+	 */
+	public static final String MODE_PROPERTY = "radp.extension.index";
+
+	private static volatile ExtensionIndex instance;
+
+	/**
+	 * The mode this index was loaded with.
+	 */
+	@Getter
+	private final Mode mode;
+
+	/**
+	 * Index entries keyed by directory and extension point type name.
+	 */
+	private final Map<String, List<ExtensionIndexEntry>> entries;
+
+	/**
+	 * URLs of the description files that are covered by an index and therefore do not
+	 * need to be scanned.
+	 */
+	private final Set<String> coveredResources;
+
+	/**
+	 * Names of all indexed extension point types.
+	 */
+	private final Set<String> types;
+
+	private ExtensionIndex(Mode mode, Map<String, List<ExtensionIndexEntry>> entries, Set<String> coveredResources) {
+		this.mode = mode;
+		this.entries = entries;
+		this.coveredResources = coveredResources;
+		Set<String> indexedTypes = new TreeSet<>();
+		for (List<ExtensionIndexEntry> list : entries.values()) {
+			for (ExtensionIndexEntry entry : list) {
+				indexedTypes.add(entry.getType());
+			}
+		}
+		this.types = Collections.unmodifiableSet(indexedTypes);
+	}
+
+	/**
+	 * Gets the shared extension index, loading it from the context class loader on first
+	 * access.
+	 * @return the shared extension index
+	 */
+	public static ExtensionIndex getInstance() {
+		ExtensionIndex index = instance;
+		if (index == null) {
+			synchronized (ExtensionIndex.class) {
+				index = instance;
+				if (index == null) {
+					index = load(ClassLoaderUtils.getClassLoader(ExtensionIndex.class),
+							Mode.of(System.getProperty(MODE_PROPERTY)));
+					instance = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Discards the shared extension index so that the next {@link #getInstance()} call
+	 * reloads it, e.g. after the class path or the {@value #MODE_PROPERTY} property
+	 * changed.
+	 */
+	public static void reset() {
+		instance = null;
+	}
+
+	/**
+	 * Loads all extension index resources visible to the given class loader.
+	 * @param classLoader the class loader to read index resources from
+	 * @param mode the index mode
+	 * @return the loaded extension index, empty if the mode is {@link Mode#IGNORE}
+	 */
+	public static ExtensionIndex load(ClassLoader classLoader, Mode mode) {
+		Map<String, List<ExtensionIndexEntry>> entries = new HashMap<>();
+		Set<String> coveredResources = new HashSet<>();
+		if (mode != Mode.IGNORE) {
+			try {
+				Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+				while (urls.hasMoreElements()) {
+					loadResource(urls.nextElement(), entries, coveredResources);
+				}
+			}
+			catch (IOException ex) {
+				log.error("Exception occurred when loading extension index {}", INDEX_LOCATION, ex);
+			}
+		}
+		return new ExtensionIndex(mode, entries, coveredResources);
+	}
+
+	private static void loadResource(URL resourceURL, Map<String, List<ExtensionIndexEntry>> entries,
+			Set<String> coveredResources) {
+		String location = resourceURL.toString();
+		String root = location.substring(0, location.length() - INDEX_LOCATION.length());
+		List<ExtensionIndexEntry> loaded = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(resourceURL.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && line.charAt(0) != '#') {
+					loaded.add(ExtensionIndexEntry.parse(line));
+				}
+			}
+		}
+		catch (Exception ex) {
+			// 索引损坏时回退到扫描模式, 不标记任何已覆盖的描述文件
+			log.error("Exception occurred when loading extension index {}, falling back to scanning", resourceURL, ex);
+			return;
+		}
+		for (ExtensionIndexEntry entry : loaded) {
+			String key = key(entry.getDirectory(), entry.getType());
+			entries.computeIfAbsent(key, (k) -> new ArrayList<>()).add(entry);
+			coveredResources.add(root + key);
+		}
+	}
+
+	private static String key(String directory, String type) {
+		return directory + type;
+	}
+
+	/**
+	 * Gets the index entries declared for the given directory and extension point type.
+	 * @param directory the loading strategy directory
+	 * @param type the fully qualified name of the extension point interface
+	 * @return the matching entries in class path order, never {@code null}
+	 */
+	public List<ExtensionIndexEntry> getEntries(String directory, String type) {
+		List<ExtensionIndexEntry> list = this.entries.get(key(directory, type));
+		return (list != null) ? Collections.unmodifiableList(list) : Collections.emptyList();
+	}
+
+	/**
+	 * Gets the names of all extension point types declared in the index, e.g. to warm
+	 * them up.
+	 * @return the sorted type names, never {@code null}
+	 */
+	public Set<String> getTypes() {
+		return this.types;
+	}
+
+	/**
+	 * Determines whether the given description file is already covered by an index.
+	 * @param resourceURL the URL of an extension description file
+	 * @return {@code true} if the description file does not need to be scanned
+	 */
+	public boolean isCovered(URL resourceURL) {
+		return this.coveredResources.contains(resourceURL.toString());
+	}
+
+	/**
+	 * Determines whether index entries should be consulted.
+	 * @return {@code true} unless the mode is {@link Mode#IGNORE}
+	 */
+	public boolean isEnabled() {
+		return this.mode != Mode.IGNORE;
+	}
+
+	/**
+	 * Determines whether description files still need to be scanned.
+	 * @return {@code true} unless the mode is {@link Mode#ONLY}
+	 */
+	public boolean isScanRequired() {
+		return this.mode != Mode.ONLY;
+	}
+
+	/**
+	 * Extension index modes.
+	 */
+	public enum Mode {
+
+		/**
+		 * Ignore all indexes and scan every description file, the behaviour before the
+		 * index existed.
+		 */
+		IGNORE,
+
+		/**
+		 * Use indexes and scan only the description files of jars that ship no index.
+		 * This is the default.
+		 */
+		MIXED,
+
+		/**
+		 * Use indexes exclusively and never scan description files. Extensions of jars
+		 * that ship no index are not discovered.
+		 */
+		ONLY;
+
+		/**
+		 * Resolves a mode from its (case-insensitive) name.
+		 * @param value the mode name, may be {@code null}
+		 * @return the resolved mode, {@link #MIXED} if the value is empty or unknown
+		 */
+		public static Mode of(String value) {
+			if (value == null || value.trim().isEmpty()) {
+				return MIXED;
+			}
+			try {
+				return valueOf(value.trim().toUpperCase(Locale.ROOT));
+			}
+			catch (IllegalArgumentException ex) {
+				log.warn("Unknown extension index mode '{}', using {}", value, MIXED);
+				return MIXED;
+			}
+		}
+
+	}
+
+}
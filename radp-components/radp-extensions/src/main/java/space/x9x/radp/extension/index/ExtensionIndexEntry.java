@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 扩展点索引条目.
+ * <p>
+ * A single precomputed extension declaration of the extension index. Each entry mirrors
+ * one line of an extension description file ({@code name=class}) together with the
+ * metadata that {@code ExtensionLoader} would otherwise discover through reflection at
+ * runtime.
+ * <p>
+ * Entries are serialized as one line per entry, with fields separated by
+ * {@value #SEPARATOR}:
+ * <pre>
+ * directory|type|names|class|kind|order|activate
+ * </pre>
+ * The {@code order} field is empty when the extension class is not annotated with
+ * {@code @Order}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 10:12
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExtensionIndexEntry {
+
+	/**
+	 * Field separator used by the serialized form of an entry.
+	 */
+	public static final char SEPARATOR = '|';
+
+	private static final int FIELD_COUNT = 7;
+
+	/**
+	 * The loading strategy directory the entry was declared in, e.g.
+	 * {@code META-INF/internal/}.
+	 */
+	private final String directory;
+
+	/**
+	 * The fully qualified name of the extension point interface.
+	 */
+	private final String type;
+
+	/**
+	 * The extension name(s) as declared, possibly a comma separated list. Empty for
+	 * adaptive and wrapper classes.
+	 */
+	private final String names;
+
+	/**
+	 * The fully qualified name of the extension class.
+	 */
+	private final String className;
+
+	/**
+	 * The role of the extension class.
+	 */
+	private final Kind kind;
+
+	/**
+	 * The {@code @Order} value of the extension class, or {@code null} if not annotated.
+	 */
+	private final Integer order;
+
+	/**
+	 * Whether the extension class is annotated with {@code @Activate}.
+	 */
+	private final boolean activate;
+
+	/**
+	 * Returns the description file line this entry was generated from. Used to report
+	 * loading failures the same way as the scanning mode does.
+	 * @return the description line, {@code name=class} or {@code class}
+	 */
+	public String getDescriptorLine() {
+		return this.names.isEmpty() ? this.className : this.names + "=" + this.className;
+	}
+
+	/**
+	 * Serializes this entry into its single line index form.
+	 * @return the serialized entry
+	 */
+	public String toLine() {
+		return this.directory + SEPARATOR + this.type + SEPARATOR + this.names + SEPARATOR + this.className + SEPARATOR
+				+ this.kind.name() + SEPARATOR + ((this.order != null) ? this.order.toString() : "") + SEPARATOR
+				+ this.activate;
+	}
+
+	/**
+	 * Parses an entry from its single line index form.
+	 * @param line the serialized entry
+	 * @return the parsed entry
+	 * @throws IllegalArgumentException if the line is malformed
+	 */
+	public static ExtensionIndexEntry parse(String line) {
+		String[] fields = new String[FIELD_COUNT];
+		int start = 0;
+		for (int i = 0; i < FIELD_COUNT - 1; i++) {
+			int end = line.indexOf(SEPARATOR, start);
+			if (end < 0) {
+				throw new IllegalArgumentException("Malformed extension index line: " + line);
+			}
+			fields[i] = line.substring(start, end).trim();
+			start = end + 1;
+		}
+		fields[FIELD_COUNT - 1] = line.substring(start).trim();
+		try {
+			return new ExtensionIndexEntry(fields[0], fields[1], fields[2], fields[3], Kind.valueOf(fields[4]),
+					fields[5].isEmpty() ? null : Integer.valueOf(fields[5]), Boolean.parseBoolean(fields[6]));
+		}
+		catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Malformed extension index line: " + line, ex);
+		}
+	}
+
+	/**
+	 * The role an extension class plays for its extension point.
+	 */
+	public enum Kind {
+
+		/**
+		 * A regular named extension.
+		 */
+		EXTENSION,
+
+		/**
+		 * A class annotated with {@code @Adaptive}.
+		 */
+		ADAPTIVE,
+
+		/**
+		 * A wrapper class, i.e. a class with a public constructor taking the extension
+		 * point type.
+		 */
+		WRAPPER
+
+	}
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.index.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import space.x9x.radp.extension.index.ExtensionIndex;
+import space.x9x.radp.extension.index.ExtensionIndexEntry;
+import space.x9x.radp.extension.strategy.InternalLoadingStrategy;
+
+/**
+ * 扩展点索引注解处理器.
+ * <p>
+ * Annotation processor generating the {@link ExtensionIndex} of a compilation unit. It
+ * collects every {@code @SPI} interface implemented by the compiled classes, reads the
+ * matching extension description files from the class output (resources are copied
+ * there before compilation) and writes the pre-parsed entries, including
+ * adaptive/wrapper/activate metadata and {@code @Order} values, to
+ * {@value ExtensionIndex#INDEX_LOCATION}.
+ * <p>
+ * Supported options:
+ * <ul>
+ * <li>{@value #OPTION_DIRECTORIES}: comma separated loading strategy directories to
+ * index, defaults to {@code META-INF/internal/}</li>
+ * <li>{@value #OPTION_DISABLED}: set to {@code true} to skip index generation</li>
+ * </ul>
+ * The processor only depends on the JDK so that it can be put on the annotation
+ * processor path without further dependencies.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 10:35
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({ ExtensionIndexProcessor.OPTION_DIRECTORIES, ExtensionIndexProcessor.OPTION_DISABLED })
+public class ExtensionIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * Option holding the comma separated directories to index.
+	 */
+	public static final String OPTION_DIRECTORIES = "radp.extension.index.directories";
+
+	/**
+	 * Option disabling index generation.
+	 */
+	public static final String OPTION_DISABLED = "radp.extension.index.disabled";
+
+	private static final String SPI_ANNOTATION = "space.x9x.radp.extension.SPI";
+
+	private static final String ADAPTIVE_ANNOTATION = "space.x9x.radp.extension.Adaptive";
+
+	private static final String ACTIVATE_ANNOTATION = "space.x9x.radp.extension.Activate";
+
+	private static final String ORDER_ANNOTATION = "space.x9x.radp.extension.Order";
+
+	private final Set<String> extensionTypes = new LinkedHashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (Boolean.parseBoolean(this.processingEnv.getOptions().get(OPTION_DISABLED))) {
+			return false;
+		}
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		}
+		else {
+			for (TypeElement element : ElementFilter.typesIn(roundEnv.getRootElements())) {
+				collectExtensionTypes(element);
+			}
+		}
+		// 不声明对任何注解的所有权, 不影响其它处理器
+		return false;
+	}
+
+	private void collectExtensionTypes(TypeElement element) {
+		if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+			collectSpiInterfaces(element.asType());
+		}
+		for (TypeElement nested : ElementFilter.typesIn(element.getEnclosedElements())) {
+			collectExtensionTypes(nested);
+		}
+	}
+
+	private void collectSpiInterfaces(TypeMirror type) {
+		for (TypeMirror supertype : this.processingEnv.getTypeUtils().directSupertypes(type)) {
+			Element element = this.processingEnv.getTypeUtils().asElement(supertype);
+			if (element instanceof TypeElement) {
+				TypeElement typeElement = (TypeElement) element;
+				if (typeElement.getKind() == ElementKind.INTERFACE && hasAnnotation(typeElement, SPI_ANNOTATION)) {
+					this.extensionTypes.add(typeElement.getQualifiedName().toString());
+				}
+				collectSpiInterfaces(supertype);
+			}
+		}
+	}
+
+	private void writeIndex() {
+		List<ExtensionIndexEntry> entries = new ArrayList<>();
+		for (String directory : getDirectories()) {
+			for (String type : this.extensionTypes) {
+				readDescriptor(directory, type, entries);
+			}
+		}
+		if (entries.isEmpty()) {
+			return;
+		}
+		try {
+			FileObject resource = this.processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", ExtensionIndex.INDEX_LOCATION);
+			try (Writer writer = resource.openWriter()) {
+				writer.write("# Generated by " + getClass().getSimpleName() + ", do not edit.\n");
+				for (ExtensionIndexEntry entry : entries) {
+					writer.write(entry.toLine());
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException ex) {
+			this.processingEnv.getMessager()
+				.printMessage(Diagnostic.Kind.WARNING, "Unable to write extension index: " + ex.getMessage());
+		}
+	}
+
+	private List<String> getDirectories() {
+		String option = this.processingEnv.getOptions().get(OPTION_DIRECTORIES);
+		List<String> directories = new ArrayList<>();
+		if (option == null || option.trim().isEmpty()) {
+			directories.add(InternalLoadingStrategy.META_INF);
+			return directories;
+		}
+		for (String directory : option.split(",")) {
+			directory = directory.trim();
+			if (!directory.isEmpty()) {
+				directories.add(directory.endsWith("/") ? directory : directory + "/");
+			}
+		}
+		return directories;
+	}
+
+	private void readDescriptor(String directory, String type, List<ExtensionIndexEntry> entries) {
+		FileObject resource;
+		try {
+			resource = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", directory + type);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			return;
+		}
+		try (Reader reader = resource.openReader(true);
+				BufferedReader lines = new BufferedReader(reader)) {
+			String line;
+			while ((line = lines.readLine()) != null) {
+				int ci = line.indexOf('#');
+				if (ci >= 0) {
+					line = line.substring(0, ci);
+				}
+				line = line.trim();
+				if (!line.isEmpty()) {
+					entries.add(createEntry(directory, type, line));
+				}
+			}
+		}
+		catch (IOException ex) {
+			// 描述文件不存在, 该扩展点没有在当前目录声明扩展
+		}
+	}
+
+	private ExtensionIndexEntry createEntry(String directory, String type, String line) {
+		String name = "";
+		String className = line;
+		int i = line.indexOf('=');
+		if (i > 0) {
+			name = line.substring(0, i).trim();
+			className = line.substring(i + 1).trim();
+		}
+		TypeElement element = this.processingEnv.getElementUtils().getTypeElement(className);
+		if (element == null) {
+			// 无法解析的类照常写入索引, 由运行时按扫描模式相同的方式报告错误
+			this.processingEnv.getMessager()
+				.printMessage(Diagnostic.Kind.WARNING, "Extension class " + className + " declared in " + directory
+						+ type + " cannot be resolved");
+			return new ExtensionIndexEntry(directory, type, name, className, ExtensionIndexEntry.Kind.EXTENSION, null,
+					false);
+		}
+		ExtensionIndexEntry.Kind kind = getKind(element, type);
+		if (kind == ExtensionIndexEntry.Kind.EXTENSION && name.isEmpty()) {
+			name = findExtensionName(element, type);
+		}
+		return new ExtensionIndexEntry(directory, type, name, className, kind, getOrder(element),
+				hasAnnotation(element, ACTIVATE_ANNOTATION));
+	}
+
+	private ExtensionIndexEntry.Kind getKind(TypeElement element, String type) {
+		if (hasAnnotation(element, ADAPTIVE_ANNOTATION)) {
+			return ExtensionIndexEntry.Kind.ADAPTIVE;
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+			if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().size() == 1) {
+				TypeMirror parameterType = this.processingEnv.getTypeUtils()
+					.erasure(constructor.getParameters().get(0).asType());
+				if (parameterType instanceof DeclaredType && type.equals(
+						((TypeElement) ((DeclaredType) parameterType).asElement()).getQualifiedName().toString())) {
+					return ExtensionIndexEntry.Kind.WRAPPER;
+				}
+			}
+		}
+		return ExtensionIndexEntry.Kind.EXTENSION;
+	}
+
+	private String findExtensionName(TypeElement element, String type) {
+		String name = element.getSimpleName().toString();
+		String typeSimpleName = type.substring(type.lastIndexOf('.') + 1);
+		if (name.endsWith(typeSimpleName)) {
+			name = name.substring(0, name.length() - typeSimpleName.length());
+		}
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	private Integer getOrder(TypeElement element) {
+		AnnotationMirror order = getAnnotation(element, ORDER_ANNOTATION);
+		if (order == null) {
+			return null;
+		}
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.processingEnv
+			.getElementUtils()
+			.getElementValuesWithDefaults(order)
+			.entrySet()) {
+			if ("value".contentEquals(entry.getKey().getSimpleName())) {
+				return (Integer) entry.getValue().getValue();
+			}
+		}
+		return 0;
+	}
+
+	private boolean hasAnnotation(Element element, String annotationType) {
+		return getAnnotation(element, annotationType) != null;
+	}
+
+	private AnnotationMirror getAnnotation(Element element, String annotationType) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			Element annotationElement = annotation.getAnnotationType().asElement();
+			if (annotationType.contentEquals(((TypeElement) annotationElement).getQualifiedName())) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+}
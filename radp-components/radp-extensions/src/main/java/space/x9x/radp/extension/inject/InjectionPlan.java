@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import space.x9x.radp.commons.lang.reflect.ReflectionUtils;
+import space.x9x.radp.extension.Inject;
+
+/**
+ * 扩展点依赖注入计划.
+ * <p>
+ * Dependency injection plan of an extension class. The setters to inject, their property
+ * names and inject modes are resolved once per class and cached, and every setter is
+ * bound to a method handle, so injecting an instance no longer walks
+ * {@code getMethods()}, reads annotations or invokes through reflection.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 15:10
+ */
+@Slf4j
+public final class InjectionPlan {
+
+	private static final ConcurrentMap<Class<?>, InjectionPlan> PLANS = new ConcurrentHashMap<>(64);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * The injection points of the class, in {@code getMethods()} order.
+	 */
+	@Getter
+	private final List<InjectionPoint> injectionPoints;
+
+	private InjectionPlan(List<InjectionPoint> injectionPoints) {
+		this.injectionPoints = injectionPoints;
+	}
+
+	/**
+	 * Gets the cached injection plan of the given class, resolving it on first access.
+	 * @param clazz the extension (or wrapper) class
+	 * @return the injection plan of the class
+	 */
+	public static InjectionPlan of(Class<?> clazz) {
+		InjectionPlan plan = PLANS.get(clazz);
+		if (plan == null) {
+			PLANS.putIfAbsent(clazz, resolve(clazz));
+			plan = PLANS.get(clazz);
+		}
+		return plan;
+	}
+
+	/**
+	 * Discards all cached injection plans.
+	 */
+	public static void clear() {
+		PLANS.clear();
+	}
+
+	private static InjectionPlan resolve(Class<?> clazz) {
+		List<InjectionPoint> injectionPoints = new ArrayList<>();
+		for (Method method : clazz.getMethods()) {
+			// 仅处理 setter 方法, 且跳过基本类型参数
+			if (!ReflectionUtils.isSetter(method)) {
+				continue;
+			}
+			Class<?> parameterType = method.getParameterTypes()[0];
+			if (ReflectionUtils.isPrimitive(parameterType)) {
+				continue;
+			}
+			String property = ReflectionUtils.getSetterProperty(method);
+			Inject inject = method.getAnnotation(Inject.class);
+			if (inject != null) {
+				if (!inject.enable()) {
+					continue;
+				}
+				if (inject.type() == Inject.InjectType.BY_TYPE) {
+					property = null;
+				}
+			}
+			MethodHandle setter = unreflect(method);
+			if (setter != null) {
+				injectionPoints.add(new InjectionPoint(method.getName(), parameterType, property, setter));
+			}
+		}
+		return new InjectionPlan(Collections.unmodifiableList(injectionPoints));
+	}
+
+	private static MethodHandle unreflect(Method method) {
+		try {
+			MethodHandle handle;
+			try {
+				handle = MethodHandles.publicLookup().unreflect(method);
+			}
+			catch (IllegalAccessException ex) {
+				// public 方法声明在非 public 类中
+				method.setAccessible(true);
+				handle = MethodHandles.lookup().unreflect(method);
+			}
+			return handle.asType(SETTER_TYPE);
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			log.error("Failed to resolve inject method {} of {}: {}", method.getName(),
+					method.getDeclaringClass().getName(), ex.getMessage(), ex);
+			return null;
+		}
+	}
+
+	/**
+	 * A single setter to inject.
+	 */
+	@Getter
+	public static final class InjectionPoint {
+
+		/**
+		 * The setter method name.
+		 */
+		private final String methodName;
+
+		/**
+		 * The setter parameter type.
+		 */
+		private final Class<?> parameterType;
+
+		/**
+		 * The property name to look up, {@code null} when injecting by type.
+		 */
+		private final String property;
+
+		@Getter(AccessLevel.NONE)
+		private final MethodHandle setter;
+
+		InjectionPoint(String methodName, Class<?> parameterType, String property, MethodHandle setter) {
+			this.methodName = methodName;
+			this.parameterType = parameterType;
+			this.property = property;
+			this.setter = setter;
+		}
+
+		/**
+		 * Injects the value into the given instance.
+		 * @param instance the instance to inject into
+		 * @param value the value to inject
+		 * @throws Throwable any exception thrown by the setter
+		 */
+		public void inject(Object instance, Object value) throws Throwable {
+			this.setter.invokeExact(instance, value);
+		}
+
+	}
+
+}
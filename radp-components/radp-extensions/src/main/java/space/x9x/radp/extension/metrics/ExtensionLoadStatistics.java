@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+
+/**
+ * 扩展点加载耗时统计.
+ * <p>
+ * Load statistics of an extension point. The extension loader records how long it spent
+ * in each phase of loading its extensions:
+ * <ul>
+ * <li>scan: locating and parsing description files and index entries</li>
+ * <li>class load: loading (and initializing) the extension classes</li>
+ * <li>instantiate: constructing extension instances, including {@code Lifecycle}
+ * initialization</li>
+ * <li>inject: injecting dependencies into extension instances</li>
+ * <li>wrap: constructing and injecting wrapper instances</li>
+ * </ul>
+ * Times are exposed in microseconds.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 15:50
+ */
+public class ExtensionLoadStatistics {
+
+	/**
+	 * The fully qualified name of the extension point type.
+	 */
+	@Getter
+	private final String type;
+
+	private final LongAdder scanNanos = new LongAdder();
+
+	private final LongAdder classLoadNanos = new LongAdder();
+
+	private final LongAdder instantiateNanos = new LongAdder();
+
+	private final LongAdder injectNanos = new LongAdder();
+
+	private final LongAdder wrapNanos = new LongAdder();
+
+	private final LongAdder instances = new LongAdder();
+
+	/**
+	 * The number of loaded extension classes, {@code -1} until the classes are loaded.
+	 */
+	@Getter
+	private volatile int extensionClasses = -1;
+
+	/**
+	 * The failure message of the last warm up, {@code null} if it succeeded.
+	 */
+	@Getter
+	private volatile String failure;
+
+	/**
+	 * Creates statistics for the given extension point type.
+	 * @param type the fully qualified name of the extension point type
+	 */
+	public ExtensionLoadStatistics(String type) {
+		this.type = type;
+	}
+
+	/**
+	 * Records time spent scanning description files and index entries.
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public void recordScan(long nanos) {
+		this.scanNanos.add(nanos);
+	}
+
+	/**
+	 * Records time spent loading extension classes.
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public void recordClassLoad(long nanos) {
+		this.classLoadNanos.add(nanos);
+	}
+
+	/**
+	 * Records the creation of an extension instance.
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public void recordInstantiate(long nanos) {
+		this.instantiateNanos.add(nanos);
+		this.instances.increment();
+	}
+
+	/**
+	 * Records time spent injecting dependencies.
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public void recordInject(long nanos) {
+		this.injectNanos.add(nanos);
+	}
+
+	/**
+	 * Records time spent creating wrappers.
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public void recordWrap(long nanos) {
+		this.wrapNanos.add(nanos);
+	}
+
+	/**
+	 * Records the number of loaded extension classes.
+	 * @param extensionClasses the number of extension classes
+	 */
+	public void recordExtensionClasses(int extensionClasses) {
+		this.extensionClasses = extensionClasses;
+	}
+
+	/**
+	 * Records the failure of a warm up.
+	 * @param failure the failure, {@code null} to clear it
+	 */
+	public void recordFailure(Throwable failure) {
+		this.failure = (failure != null) ? failure.toString() : null;
+	}
+
+	public long getScanMicros() {
+		return toMicros(this.scanNanos);
+	}
+
+	public long getClassLoadMicros() {
+		return toMicros(this.classLoadNanos);
+	}
+
+	public long getInstantiateMicros() {
+		return toMicros(this.instantiateNanos);
+	}
+
+	public long getInjectMicros() {
+		return toMicros(this.injectNanos);
+	}
+
+	public long getWrapMicros() {
+		return toMicros(this.wrapNanos);
+	}
+
+	/**
+	 * Gets the total time spent in all phases.
+	 * @return the total time in microseconds
+	 */
+	public long getTotalMicros() {
+		return TimeUnit.NANOSECONDS.toMicros(this.scanNanos.sum() + this.classLoadNanos.sum()
+				+ this.instantiateNanos.sum() + this.injectNanos.sum() + this.wrapNanos.sum());
+	}
+
+	/**
+	 * Gets the number of created extension instances.
+	 * @return the number of created extension instances
+	 */
+	public long getInstances() {
+		return this.instances.sum();
+	}
+
+	private static long toMicros(LongAdder nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos.sum());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: total=%dus (scan=%dus, classLoad=%dus, instantiate=%dus, inject=%dus, wrap=%dus)",
+				this.type, getTotalMicros(), getScanMicros(), getClassLoadMicros(), getInstantiateMicros(),
+				getInjectMicros(), getWrapMicros());
+	}
+
+}
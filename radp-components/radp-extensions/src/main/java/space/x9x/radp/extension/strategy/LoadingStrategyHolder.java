@@ -24,6 +24,7 @@ import java.util.stream.StreamSupport;
 import lombok.experimental.UtilityClass;
 
 import space.x9x.radp.commons.lang.ArrayUtil;
+import space.x9x.radp.extension.ExtensionLoader;
 
 /**
  * LoadingStrategy 容器
@@ -70,13 +71,15 @@ public class LoadingStrategyHolder {
 
 	/**
 	 * Sets the loading strategies to be used by the extension system. This method
-	 * replaces the current set of strategies with the provided ones. If the provided
-	 * array is empty, no change will be made.
+	 * replaces the current set of strategies with the provided ones and reloads the
+	 * extension points, see {@link ExtensionLoader#reload()}. If the provided array is
+	 * empty, no change will be made.
 	 * @param strategies the loading strategies to set
 	 */
 	public static void setLoadingStrategies(LoadingStrategy... strategies) {
 		if (ArrayUtil.isNotEmpty(strategies)) {
 			LoadingStrategyHolder.strategies = strategies;
+			ExtensionLoader.reload();
 		}
 	}
 
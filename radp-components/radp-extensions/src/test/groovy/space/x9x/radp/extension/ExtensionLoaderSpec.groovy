@@ -16,6 +16,11 @@
 
 package space.x9x.radp.extension
 
+import space.x9x.radp.extension.active.DemoFilter
+import space.x9x.radp.extension.active.FirstDemoFilter
+import space.x9x.radp.extension.active.SecondDemoFilter
+import space.x9x.radp.extension.active.ThirdDemoFilter
+import space.x9x.radp.extension.metrics.ExtensionLoadStatistics
 import spock.lang.Specification
 
 /**
@@ -35,4 +40,75 @@ class ExtensionLoaderSpec extends Specification {
         demo2 instanceof DemoImpl2
         demo3 instanceof DemoImpl2
     }
+
+    def "test default extension handle"() {
+        given:
+        DefaultExtensionHandle<Demo> handle = ExtensionLoader.getDefaultExtensionHandle(Demo.class)
+
+        when:
+        Demo before = handle.get()
+        ExtensionLoader.reload()
+        Demo after = handle.get()
+
+        then:
+        handle.is(ExtensionLoader.getDefaultExtensionHandle(Demo.class))
+        before instanceof DemoImpl2
+        after instanceof DemoImpl2
+        !before.is(after)
+        after.is(ExtensionLoader.getExtensionLoader(Demo.class).getDefaultExtension())
+    }
+
+    def "test default extension handle without default extension"() {
+        given:
+        DefaultExtensionHandle<DemoFilter> handle = ExtensionLoader.getDefaultExtensionHandle(DemoFilter.class)
+
+        when:
+        DemoFilter first = handle.get()
+        Object resolved = handle.@extension
+        DemoFilter second = handle.get()
+
+        then:
+        first == null
+        second == null
+        resolved != null
+        handle.@extension.is(resolved)
+
+        when:
+        ExtensionLoader.reload()
+
+        then:
+        handle.@extension == null
+        handle.get() == null
+    }
+
+    def "test supported extensions handle"() {
+        given:
+        SupportedExtensionsHandle<DemoFilter> handle = ExtensionLoader.getSupportedExtensionsHandle(DemoFilter.class)
+
+        when:
+        List<DemoFilter> before = handle.get()
+        ExtensionLoader.reload()
+        List<DemoFilter> after = handle.get()
+
+        then:
+        handle.is(ExtensionLoader.getSupportedExtensionsHandle(DemoFilter.class))
+        !before.is(after)
+        after.is(handle.get())
+        after*.class == [FirstDemoFilter, SecondDemoFilter, ThirdDemoFilter]
+        !before[0].is(after[0])
+        after[0].is(ExtensionLoader.getExtensionLoader(DemoFilter.class).getExtension("first"))
+    }
+
+    def "test warm up"() {
+        when:
+        List<ExtensionLoadStatistics> statistics = ExtensionLoader.warmUp([Demo, DemoInject, String], 2)
+
+        then:
+        statistics*.type == [Demo.name, DemoInject.name, String.name]
+        statistics[0].failure == null
+        statistics[0].extensionClasses == 2
+        statistics[0].instances >= 1
+        statistics[2].failure.contains("is not interface")
+        ExtensionLoader.allLoadStatistics*.type.contains(Demo.name)
+    }
 }
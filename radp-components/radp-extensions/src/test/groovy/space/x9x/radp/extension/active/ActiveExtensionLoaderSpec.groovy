@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.active
+
+import space.x9x.radp.extension.ExtensionLoader
+import space.x9x.radp.extension.common.URL
+import spock.lang.Specification
+
+/**
+ * @author RADP x9x
+ * @since 2026-10-17 14:30
+ */
+class ActiveExtensionLoaderSpec extends Specification {
+
+    ExtensionLoader<DemoFilter> loader = ExtensionLoader.getExtensionLoader(DemoFilter)
+
+    def "test activate extensions"() {
+        expect:
+        loader.getActivateExtension(new URL(parameters), values as String[], group)*.class == result
+
+        where:
+        parameters            | values                | group      | result
+        [:]                   | []                    | null       | [FirstDemoFilter]
+        [cache: "true"]       | []                    | null       | [FirstDemoFilter, SecondDemoFilter]
+        ["demo.cache": "lru"] | []                    | null       | [FirstDemoFilter, SecondDemoFilter]
+        [cache: ""]           | []                    | null       | [FirstDemoFilter]
+        [cache: "true"]       | []                    | "provider" | [FirstDemoFilter]
+        [:]                   | ["third"]             | null       | [FirstDemoFilter, ThirdDemoFilter]
+        [:]                   | ["third", "default"]  | null       | [ThirdDemoFilter, FirstDemoFilter]
+        [cache: "true"]       | ["-first"]            | null       | [SecondDemoFilter]
+        [:]                   | ["-default", "third"] | null       | [ThirdDemoFilter]
+    }
+
+    def "test activation result is cached"() {
+        given:
+        URL url = new URL([cache: "true"])
+
+        when:
+        List<DemoFilter> first = loader.getActivateExtension(url, ["third"] as String[], null)
+        List<DemoFilter> second = loader.getActivateExtension(new URL([cache: "yes"]), ["third"] as String[], null)
+        first.add(null)
+
+        then:
+        first.is(second)
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.adaptive
+
+import space.x9x.radp.extension.ExtensionLoader
+import space.x9x.radp.extension.common.URL
+import spock.lang.Specification
+
+/**
+ * @author RADP x9x
+ * @since 2026-10-17 12:45
+ */
+class AdaptiveExtensionDispatcherSpec extends Specification {
+
+    Greeting adaptive = ExtensionLoader.getExtensionLoader(Greeting).getAdaptiveExtension()
+
+    def "test dispatch by url parameter"() {
+        expect:
+        adaptive.greet(new URL(parameters), "radp") == result
+
+        where:
+        parameters           | result
+        [greeting: "hi"]     | "Hi radp"
+        [greeting: "hello"]  | "Hello radp"
+        [:]                  | "Hello radp"
+    }
+
+    def "test dispatch by url attribute with default key"() {
+        expect:
+        adaptive.greet(new GreetingContext(new URL(["greeting": "hi"]), "radp")) == "Hi radp"
+    }
+
+    def "test non adaptive method is unsupported"() {
+        when:
+        adaptive.plain()
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "test null url is rejected"() {
+        when:
+        adaptive.greet(null as URL, "radp")
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
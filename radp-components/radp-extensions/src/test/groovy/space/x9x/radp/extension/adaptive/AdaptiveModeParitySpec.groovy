@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.adaptive
+
+import javax.tools.ToolProvider
+
+import space.x9x.radp.extension.ExtensionLoader
+import space.x9x.radp.extension.common.URL
+import spock.lang.Requires
+import spock.lang.Specification
+
+/**
+ * Runs the compiled adaptive class and the dispatcher over the same URLs.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:05
+ */
+@Requires({ ToolProvider.getSystemJavaCompiler() != null })
+class AdaptiveModeParitySpec extends Specification {
+
+    ExtensionLoader<Greeting> loader = ExtensionLoader.getExtensionLoader(Greeting)
+
+    def "test dispatch mode selects the same extension as compiler mode"() {
+        given:
+        Greeting compiled = compile(defaultExtName)
+        Greeting dispatched = AdaptiveExtensionDispatcher.create(loader, defaultExtName)
+        URL url = new URL(parameters)
+        GreetingContext context = new GreetingContext(url, "radp")
+
+        expect:
+        outcome { compiled.greet(url, "radp") } == outcome { dispatched.greet(url, "radp") }
+        outcome { compiled.salute(url, "radp") } == outcome { dispatched.salute(url, "radp") }
+        outcome { compiled.greet(context) } == outcome { dispatched.greet(context) }
+
+        where:
+        [defaultExtName, parameters] << [
+                ["hello", null],
+                [[:], [greeting: "hi"], [greeting: ""], [protocol: "hi"], [protocol: ""],
+                 [protocol: "hi", greeting: "hello"], [protocol: "hello", greeting: "hi"], [greeting: "unknown"]]
+        ].combinations()
+    }
+
+    def "test dispatch mode rejects missing urls like compiler mode"() {
+        given:
+        Greeting compiled = compile("hello")
+        Greeting dispatched = AdaptiveExtensionDispatcher.create(loader, "hello")
+
+        expect:
+        outcome { compiled.greet(null as URL, "radp") } == outcome { dispatched.greet(null as URL, "radp") }
+        outcome { compiled.greet(null as GreetingContext) } == outcome { dispatched.greet(null as GreetingContext) }
+        outcome { compiled.greet(new GreetingContext(null, "radp")) } ==
+                outcome { dispatched.greet(new GreetingContext(null, "radp")) }
+    }
+
+    private Greeting compile(String defaultExtName) {
+        String code = new AdaptiveClassCodeGenerator(Greeting, defaultExtName).generate()
+        new JdkCompiler().compile(code, Greeting.classLoader).getDeclaredConstructor().newInstance() as Greeting
+    }
+
+    private static Object outcome(Closure<?> call) {
+        try {
+            return call()
+        }
+        catch (Exception ex) {
+            return [ex.class, ex.message]
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.index
+
+import space.x9x.radp.extension.Demo
+import space.x9x.radp.extension.DemoInject
+import space.x9x.radp.extension.strategy.InternalLoadingStrategy
+import spock.lang.Specification
+
+/**
+ * @author RADP x9x
+ * @since 2026-10-17 11:05
+ */
+class ExtensionIndexSpec extends Specification {
+
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader()
+
+    def "test index covers description files of its own root"() {
+        when:
+        ExtensionIndex index = ExtensionIndex.load(classLoader, ExtensionIndex.Mode.MIXED)
+
+        then:
+        index.getEntries(InternalLoadingStrategy.META_INF, Demo.name)*.names == ["demo1", "demo2"]
+        index.isCovered(classLoader.getResource(InternalLoadingStrategy.META_INF + Demo.name))
+        !index.isCovered(classLoader.getResource(InternalLoadingStrategy.META_INF + DemoInject.name))
+        index.isScanRequired()
+    }
+
+    def "test ignore mode skips indexes"() {
+        when:
+        ExtensionIndex index = ExtensionIndex.load(classLoader, ExtensionIndex.Mode.IGNORE)
+
+        then:
+        index.getEntries(InternalLoadingStrategy.META_INF, Demo.name).isEmpty()
+        !index.isEnabled()
+    }
+
+    def "test entry round trip"() {
+        given:
+        ExtensionIndexEntry entry = new ExtensionIndexEntry(InternalLoadingStrategy.META_INF, Demo.name, "a,b",
+                "space.x9x.radp.extension.DemoImpl1", ExtensionIndexEntry.Kind.EXTENSION, -1, true)
+
+        when:
+        ExtensionIndexEntry parsed = ExtensionIndexEntry.parse(entry.toLine())
+
+        then:
+        parsed.names == "a,b"
+        parsed.order == -1
+        parsed.activate
+        parsed.descriptorLine == "a,b=space.x9x.radp.extension.DemoImpl1"
+    }
+
+    def "test mode resolution"() {
+        expect:
+        ExtensionIndex.Mode.of(value) == mode
+
+        where:
+        value    | mode
+        null     | ExtensionIndex.Mode.MIXED
+        "only"   | ExtensionIndex.Mode.ONLY
+        "IGNORE" | ExtensionIndex.Mode.IGNORE
+        "foo"    | ExtensionIndex.Mode.MIXED
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.inject
+
+import space.x9x.radp.extension.Demo
+import space.x9x.radp.extension.DemoImpl1
+import spock.lang.Specification
+
+/**
+ * @author RADP x9x
+ * @since 2026-10-17 15:30
+ */
+class InjectionPlanSpec extends Specification {
+
+    def "test plan resolves injectable setters once"() {
+        when:
+        InjectionPlan plan = InjectionPlan.of(InjectTarget)
+
+        then:
+        plan.is(InjectionPlan.of(InjectTarget))
+        plan.injectionPoints.collectEntries { [it.methodName, it.property] } == [setDemo: "demo", setByType: null]
+        plan.injectionPoints*.parameterType.every { it == Demo }
+    }
+
+    def "test injection point invokes setter"() {
+        given:
+        InjectTarget target = new InjectTarget()
+        Demo demo = new DemoImpl1()
+
+        when:
+        InjectionPlan.of(InjectTarget).injectionPoints.each { it.inject(target, demo) }
+
+        then:
+        target.demo.is(demo)
+        target.byType.is(demo)
+    }
+}
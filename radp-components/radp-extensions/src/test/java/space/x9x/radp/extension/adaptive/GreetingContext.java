@@ -0,0 +1,36 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.adaptive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import space.x9x.radp.extension.common.URL;
+
+/**
+ * @author RADP x9x
+ * @since 2026-10-17 12:40
+ */
+@Getter
+@RequiredArgsConstructor
+public class GreetingContext {
+
+	private final URL url;
+
+	private final String name;
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.adaptive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import space.x9x.radp.extension.compile.Compiler;
+
+/**
+ * In-memory {@link Compiler} backed by the JDK compiler, used to run the generated
+ * adaptive classes in tests.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:00
+ */
+public class JdkCompiler implements Compiler {
+
+	private static final Pattern PACKAGE = Pattern.compile("package\\s+([\\w.]+)\\s*;");
+
+	private static final Pattern CLASS = Pattern.compile("class\\s+([\\w$]+)");
+
+	@Override
+	public Class<?> compile(String code, ClassLoader classLoader) {
+		Matcher packageMatcher = PACKAGE.matcher(code);
+		Matcher classMatcher = CLASS.matcher(code);
+		if (!packageMatcher.find() || !classMatcher.find()) {
+			throw new IllegalArgumentException("No package or class declaration in " + code);
+		}
+		String className = packageMatcher.group(1) + "." + classMatcher.group(1);
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+		StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(null, null, null);
+		JavaFileManager fileManager = new ForwardingJavaFileManager<StandardJavaFileManager>(standardFileManager) {
+
+			@Override
+			public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind,
+					FileObject sibling) {
+				return new SimpleJavaFileObject(URI.create("mem:///" + name.replace('.', '/') + kind.extension),
+						kind) {
+
+					@Override
+					public OutputStream openOutputStream() {
+						return classes.computeIfAbsent(name, (k) -> new ByteArrayOutputStream());
+					}
+
+				};
+			}
+
+		};
+		JavaFileObject source = new SimpleJavaFileObject(
+				URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+				JavaFileObject.Kind.SOURCE) {
+
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return code;
+			}
+
+		};
+		Boolean success = compiler.getTask(null, fileManager, null, null, null, Collections.singletonList(source))
+			.call();
+		if (!Boolean.TRUE.equals(success)) {
+			throw new IllegalStateException("Failed to compile " + className + ":\n" + code);
+		}
+		ClassLoader loader = new ClassLoader(classLoader) {
+
+			@Override
+			protected Class<?> findClass(String name) throws ClassNotFoundException {
+				ByteArrayOutputStream bytes = classes.get(name);
+				if (bytes == null) {
+					throw new ClassNotFoundException(name);
+				}
+				byte[] b = bytes.toByteArray();
+				return defineClass(name, b, 0, b.length);
+			}
+
+		};
+		try {
+			return loader.loadClass(className);
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.extension.inject;
+
+import space.x9x.radp.extension.Demo;
+import space.x9x.radp.extension.Inject;
+
+/**
+ * @author RADP x9x
+ * @since 2026-10-17 15:30
+ */
+public class InjectTarget {
+
+	private Demo demo;
+
+	private Demo byType;
+
+	public Demo getDemo() {
+		return this.demo;
+	}
+
+	public void setDemo(Demo demo) {
+		this.demo = demo;
+	}
+
+	public Demo getByType() {
+		return this.byType;
+	}
+
+	@Inject(type = Inject.InjectType.BY_TYPE)
+	public void setByType(Demo byType) {
+		this.byType = byType;
+	}
+
+	@Inject(enable = false)
+	public void setDisabled(Demo disabled) {
+		throw new UnsupportedOperationException();
+	}
+
+	public void setName(String name) {
+		throw new UnsupportedOperationException();
+	}
+
+}
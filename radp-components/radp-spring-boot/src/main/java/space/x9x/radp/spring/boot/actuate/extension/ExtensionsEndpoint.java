@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.actuate.extension;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.metrics.ExtensionLoadStatistics;
+
+/**
+ * {@link Endpoint @Endpoint} exposing the load statistics of the extension points, i.e.
+ * the time spent scanning, loading classes, instantiating, injecting and wrapping per
+ * extension point type.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 16:30
+ */
+@Endpoint(id = "extensions")
+public class ExtensionsEndpoint {
+
+	/**
+	 * Returns the load statistics of every extension point loaded so far.
+	 * @return the extensions descriptor
+	 */
+	@ReadOperation
+	public ExtensionsDescriptor extensions() {
+		return new ExtensionsDescriptor(ExtensionLoader.getAllLoadStatistics());
+	}
+
+	/**
+	 * Description of the loaded extension points.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static final class ExtensionsDescriptor {
+
+		private final List<ExtensionLoadStatistics> extensions;
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.extension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import space.x9x.radp.commons.lang.ClassLoaderUtils;
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.index.ExtensionIndex;
+import space.x9x.radp.extension.metrics.ExtensionLoadStatistics;
+import space.x9x.radp.spring.boot.extension.env.ExtensionWarmUpProperties;
+
+/**
+ * 扩展点预热.
+ * <p>
+ * Warms up extension points once all singletons are instantiated, i.e. during the
+ * refresh of the application context and before it starts serving requests, and logs a
+ * summary of the per extension point load timings.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 16:25
+ * @see ExtensionLoader#warmUp(Collection, int)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ExtensionWarmUpRunner implements SmartInitializingSingleton {
+
+	private final ExtensionWarmUpProperties properties;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		Collection<Class<?>> types = resolveTypes();
+		if (types.isEmpty()) {
+			log.debug("No extension point to warm up");
+			return;
+		}
+		long start = System.nanoTime();
+		List<ExtensionLoadStatistics> statistics = ExtensionLoader.warmUp(types, this.properties.getParallelism());
+		logSummary(statistics, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	private Collection<Class<?>> resolveTypes() {
+		if (!this.properties.getTypes().isEmpty()) {
+			return this.properties.getTypes();
+		}
+		// 未配置时预热扩展点索引中声明的全部扩展点
+		ClassLoader classLoader = ClassLoaderUtils.getClassLoader(ExtensionWarmUpRunner.class);
+		List<Class<?>> types = new ArrayList<>();
+		for (String type : ExtensionIndex.getInstance().getTypes()) {
+			try {
+				types.add(Class.forName(type, false, classLoader));
+			}
+			catch (ClassNotFoundException | LinkageError ex) {
+				log.debug("Skip warming up unavailable extension point {}: {}", type, ex.toString());
+			}
+		}
+		return types;
+	}
+
+	private void logSummary(List<ExtensionLoadStatistics> statistics, long elapsedMillis) {
+		long failures = statistics.stream().filter((s) -> s.getFailure() != null).count();
+		log.info("Warmed up {} extension points in {} ms ({} failed)", statistics.size(), elapsedMillis, failures);
+		if (log.isInfoEnabled()) {
+			statistics.stream()
+				.filter((s) -> s.getFailure() == null)
+				.sorted(Comparator.comparingLong(ExtensionLoadStatistics::getTotalMicros).reversed())
+				.limit(this.properties.getSummarySize())
+				.forEach((s) -> log.info("  {}", s));
+		}
+		for (ExtensionLoadStatistics s : statistics) {
+			if (s.getFailure() != null) {
+				log.warn("  {}: {}", s.getType(), s.getFailure());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.extension.autoconfigure;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import space.x9x.radp.spring.boot.actuate.extension.ExtensionsEndpoint;
+import space.x9x.radp.spring.boot.bootstrap.constants.Conditions;
+import space.x9x.radp.spring.boot.extension.ExtensionWarmUpRunner;
+import space.x9x.radp.spring.boot.extension.env.ExtensionWarmUpProperties;
+
+/**
+ * Autoconfiguration for the extension warm up. Extension points are warmed up in
+ * parallel while the application context is refreshed, and the load statistics are
+ * exposed through the {@code extensions} actuator endpoint when Spring Boot Actuator is
+ * available. The warm up creates the default extension of every configured extension
+ * point eagerly, so it is only enabled when 'radp.extension.warm-up.enabled' is set to
+ * 'true'.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 16:35
+ */
+@ConditionalOnProperty(prefix = ExtensionWarmUpProperties.PREFIX, name = Conditions.ENABLED,
+		havingValue = Conditions.TRUE)
+@EnableConfigurationProperties(ExtensionWarmUpProperties.class)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@AutoConfiguration
+public class ExtensionWarmUpAutoConfiguration {
+
+	/**
+	 * Creates the extension warm up runner.
+	 * @param properties the warm up properties
+	 * @return the extension warm up runner
+	 */
+	@ConditionalOnMissingBean
+	@Bean
+	public ExtensionWarmUpRunner extensionWarmUpRunner(ExtensionWarmUpProperties properties) {
+		return new ExtensionWarmUpRunner(properties);
+	}
+
+	/**
+	 * Configuration of the extensions actuator endpoint.
+	 */
+	@ConditionalOnClass(value = Endpoint.class,
+			name = "org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint")
+	@Configuration(proxyBeanMethods = false)
+	static class ExtensionsEndpointConfiguration {
+
+		@ConditionalOnAvailableEndpoint(endpoint = ExtensionsEndpoint.class)
+		@ConditionalOnMissingBean
+		@Bean
+		ExtensionsEndpoint extensionsEndpoint() {
+			return new ExtensionsEndpoint();
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.extension.env;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import space.x9x.radp.spring.framework.bootstrap.constant.Globals;
+
+/**
+ * Configuration properties for the extension warm up. The warm up loads the extension
+ * classes and creates the default extension of each configured extension point while
+ * the application context is refreshed, instead of on first use.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 16:20
+ */
+@ToString
+@Setter
+@Getter
+@ConfigurationProperties(prefix = ExtensionWarmUpProperties.PREFIX)
+public class ExtensionWarmUpProperties {
+
+	/**
+	 * Configuration properties prefix.
+	 */
+	public static final String PREFIX = Globals.RADP_CONFIGURATION_PROPERTIES_PREFIX + "extension.warm-up";
+
+	/**
+	 * Flag to enable or disable the extension warm up.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * The extension point types to warm up. When empty, all extension point types
+	 * declared in the extension indexes on the class path are warmed up.
+	 */
+	private List<Class<?>> types = new ArrayList<>();
+
+	/**
+	 * The maximum number of warm up threads, defaults to the number of available
+	 * processors.
+	 */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * The number of slowest extension points listed in the startup log summary.
+	 */
+	private int summarySize = 10;
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.json;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import space.x9x.radp.commons.json.JacksonUtils;
+import space.x9x.radp.commons.json.jackson.mapper.ObjectMapperRegistry;
+import space.x9x.radp.spring.boot.json.env.ObjectMapperProperties;
+
+/**
+ * 默认 ObjectMapper 预热.
+ * <p>
+ * Builds the root serializers and deserializers of the configured types on the default
+ * object mapper once all singletons are instantiated, so that introspection and, with
+ * bytecode acceleration, accessor generation happen during startup rather than on the
+ * first requests. The warmed up readers and writers are kept by the
+ * {@link ObjectMapperRegistry} of the mapper.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:00
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ObjectMapperWarmUpRunner implements SmartInitializingSingleton {
+
+	private final ObjectMapperProperties properties;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		ObjectMapper objectMapper = JacksonUtils.getDefaultObjectMapper();
+		ObjectMapperRegistry registry = ObjectMapperRegistry.of(objectMapper);
+		long start = System.nanoTime();
+		int warmed = 0;
+		for (Class<?> type : this.properties.getWarmUpTypes()) {
+			try {
+				// forType 会预取根序列化器并缓存于 mapper 的 SerializerCache 中
+				registry.getWriter(JsonInclude.Include.USE_DEFAULTS, false).forType(type);
+				registry.getReader(type);
+				warmed++;
+			}
+			catch (RuntimeException ex) {
+				log.warn("Failed to warm up Jackson (de)serializers of {}: {}", type.getName(), ex.toString());
+			}
+		}
+		log.info("Warmed up Jackson (de)serializers of {} types in {} ms (modules: {})", warmed,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), objectMapper.getRegisteredModuleIds());
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.json.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Role;
+
+import space.x9x.radp.spring.boot.bootstrap.constants.Conditions;
+import space.x9x.radp.spring.boot.json.ObjectMapperWarmUpRunner;
+import space.x9x.radp.spring.boot.json.env.ObjectMapperProperties;
+
+/**
+ * Autoconfiguration for the warm up of the default object mapper. The serializers and
+ * deserializers of the result hierarchy are built while the application context is
+ * refreshed, unless 'radp.json.jackson.warm-up' is set to 'false'.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:05
+ */
+@ConditionalOnClass(ObjectMapper.class)
+@ConditionalOnProperty(prefix = ObjectMapperProperties.PREFIX, name = "warm-up", havingValue = Conditions.TRUE,
+		matchIfMissing = true)
+@EnableConfigurationProperties(ObjectMapperProperties.class)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+@AutoConfiguration
+public class ObjectMapperWarmUpAutoConfiguration {
+
+	/**
+	 * Creates the object mapper warm up runner.
+	 * @param properties the object mapper properties
+	 * @return the object mapper warm up runner
+	 */
+	@ConditionalOnMissingBean
+	@Bean
+	public ObjectMapperWarmUpRunner objectMapperWarmUpRunner(ObjectMapperProperties properties) {
+		return new ObjectMapperWarmUpRunner(properties);
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.json.env;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import space.x9x.radp.commons.json.jackson.mapper.BytecodeAcceleration;
+import space.x9x.radp.commons.lang.StringUtil;
+
+/**
+ * Environment post-processor publishing the configured bytecode acceleration of the
+ * default object mapper as the {@value BytecodeAcceleration#PROPERTY} system property.
+ * <p>
+ * The default object mapper is a static singleton created on first use, so the mode has
+ * to be known before any JSON is (de)serialized. A system property set on the command
+ * line takes precedence; a mapper created before this post-processor runs keeps its
+ * mode.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 21:55
+ */
+public class ObjectMapperEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		String acceleration = environment.getProperty(BytecodeAcceleration.PROPERTY);
+		if (StringUtil.isNotBlank(acceleration) && System.getProperty(BytecodeAcceleration.PROPERTY) == null) {
+			System.setProperty(BytecodeAcceleration.PROPERTY, acceleration.trim());
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.json.env;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import space.x9x.radp.commons.json.jackson.mapper.BytecodeAcceleration;
+import space.x9x.radp.spring.framework.bootstrap.constant.Globals;
+import space.x9x.radp.spring.framework.dto.MultiResult;
+import space.x9x.radp.spring.framework.dto.PageResult;
+import space.x9x.radp.spring.framework.dto.Result;
+import space.x9x.radp.spring.framework.dto.SingleResult;
+
+/**
+ * Configuration properties for the default Jackson object mapper, which backs
+ * {@code JacksonUtils} and the Jackson implementation of the JSON SPI.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 21:50
+ */
+@ToString
+@Setter
+@Getter
+@ConfigurationProperties(prefix = ObjectMapperProperties.PREFIX)
+public class ObjectMapperProperties {
+
+	/**
+	 * Configuration properties prefix.
+	 */
+	public static final String PREFIX = Globals.RADP_CONFIGURATION_PROPERTIES_PREFIX + "json.jackson";
+
+	/**
+	 * The bytecode acceleration of bean (de)serialization. Applied when the default
+	 * object mapper is created, which requires Blackbird or Afterburner on the class
+	 * path.
+	 */
+	private BytecodeAcceleration bytecodeAcceleration = BytecodeAcceleration.NONE;
+
+	/**
+	 * Flag to enable or disable building the serializers and deserializers of the warm
+	 * up types while the application context is refreshed, instead of on first use.
+	 */
+	private boolean warmUp = true;
+
+	/**
+	 * The types whose serializers and deserializers are built on warm up, defaults to
+	 * the result hierarchy returned by the web APIs.
+	 */
+	private List<Class<?>> warmUpTypes = new ArrayList<>(
+			Arrays.asList(Result.class, SingleResult.class, MultiResult.class, PageResult.class));
+
+}
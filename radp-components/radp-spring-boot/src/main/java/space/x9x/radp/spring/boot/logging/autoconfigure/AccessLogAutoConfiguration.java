@@ -18,13 +18,20 @@ package space.x9x.radp.spring.boot.logging.autoconfigure;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
 
 import space.x9x.radp.spring.boot.bootstrap.constants.Conditions;
 import space.x9x.radp.spring.boot.logging.env.AccessLogProperties;
 import space.x9x.radp.spring.framework.logging.EnableAccessLog;
+import space.x9x.radp.spring.framework.logging.access.filter.AccessLogCaptureFilter;
 
 /**
  * Autoconfiguration for access logging. This configuration class automatically enables
@@ -43,4 +50,25 @@ import space.x9x.radp.spring.framework.logging.EnableAccessLog;
 @EnableAccessLog
 public class AccessLogAutoConfiguration {
 
+	/**
+	 * Configuration of the request and response body capture, activated when
+	 * 'radp.logging.access.capture-body' is set to 'true'.
+	 */
+	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+	@ConditionalOnProperty(prefix = AccessLogProperties.PREFIX, name = "capture-body", havingValue = Conditions.TRUE)
+	@Configuration(proxyBeanMethods = false)
+	static class AccessLogCaptureConfiguration {
+
+		@ConditionalOnMissingBean(name = "accessLogCaptureFilter")
+		@Bean
+		FilterRegistrationBean<AccessLogCaptureFilter> accessLogCaptureFilter(AccessLogProperties properties) {
+			FilterRegistrationBean<AccessLogCaptureFilter> registration = new FilterRegistrationBean<>(
+					new AccessLogCaptureFilter(properties.getBodyCaptureLimit()));
+			// 早于读取请求体的过滤器, 晚于字符编码过滤器
+			registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+			return registration;
+		}
+
+	}
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.web.autoconfigure;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Role;
+
+import space.x9x.radp.spring.boot.web.env.RestExceptionProperties;
+import space.x9x.radp.spring.framework.error.StacklessExceptions;
+
+/**
+ * Autoconfiguration for the exception handling of RESTful APIs. It binds the
+ * {@link RestExceptionProperties}, injected into the
+ * {@link space.x9x.radp.spring.framework.web.rest.handler.RestExceptionHandler
+ * RestExceptionHandler}, and applies the stackless mode to {@link StacklessExceptions}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:40
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(RestExceptionProperties.class)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class RestExceptionAutoConfiguration {
+
+	/**
+	 * Constructs a new RestExceptionAutoConfiguration, applying the stackless mode of the
+	 * properties.
+	 * @param properties the properties of the exception handling
+	 */
+	public RestExceptionAutoConfiguration(RestExceptionProperties properties) {
+		StacklessExceptions.setEnabled(properties.isStackless());
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.web.env;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import space.x9x.radp.commons.net.ClientIpResolver;
+
+/**
+ * Environment post-processor publishing the configured trusted proxies and trusted
+ * forwarding header of the client IP resolution as the
+ * {@value ClientIpResolver#PROPERTY} and {@value ClientIpResolver#HEADER_PROPERTY} system
+ * properties.
+ * <p>
+ * The trusted proxies accept a comma separated string as well as a YAML list of CIDR
+ * blocks. System properties set on the command line take precedence.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:05
+ */
+public class ClientIpEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		Binder binder = Binder.get(environment);
+		if (System.getProperty(ClientIpResolver.PROPERTY) == null) {
+			binder.bind(ClientIpResolver.PROPERTY, Bindable.listOf(String.class))
+				.filter((trustedProxies) -> !trustedProxies.isEmpty())
+				.ifBound((trustedProxies) -> System.setProperty(ClientIpResolver.PROPERTY,
+						String.join(",", trustedProxies)));
+		}
+		if (System.getProperty(ClientIpResolver.HEADER_PROPERTY) == null) {
+			binder.bind(ClientIpResolver.HEADER_PROPERTY, String.class)
+				.ifBound((trustedHeader) -> System.setProperty(ClientIpResolver.HEADER_PROPERTY, trustedHeader));
+		}
+	}
+
+}
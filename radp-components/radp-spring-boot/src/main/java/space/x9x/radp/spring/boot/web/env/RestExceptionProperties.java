@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.boot.web.env;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import space.x9x.radp.spring.framework.bootstrap.constant.Globals;
+import space.x9x.radp.spring.framework.web.rest.config.RestExceptionConfig;
+
+/**
+ * Configuration properties for the exception handling of RESTful APIs. The keys match
+ * the system properties read when no Spring environment is available, so they keep
+ * being honored when passed with {@code -D}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:40
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString
+@Setter
+@Getter
+@ConfigurationProperties(prefix = RestExceptionProperties.PREFIX)
+public class RestExceptionProperties extends RestExceptionConfig {
+
+	/**
+	 * Configuration properties prefix.
+	 */
+	public static final String PREFIX = Globals.RADP_CONFIGURATION_PROPERTIES_PREFIX + "exception";
+
+}
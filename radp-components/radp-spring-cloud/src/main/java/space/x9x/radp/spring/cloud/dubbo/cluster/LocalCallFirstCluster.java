@@ -16,7 +16,6 @@
 
 package space.x9x.radp.spring.cloud.dubbo.cluster;
 
-import java.net.UnknownHostException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,6 +33,7 @@ import org.apache.dubbo.rpc.cluster.support.AbstractClusterInvoker;
 import org.apache.dubbo.rpc.cluster.support.FailoverClusterInvoker;
 
 import space.x9x.radp.commons.collections.CollectionUtils;
+import space.x9x.radp.commons.net.CidrMatcher;
 import space.x9x.radp.commons.net.IpConfigUtils;
 import space.x9x.radp.spring.cloud.dubbo.DubboAttachments;
 
@@ -52,6 +52,12 @@ public class LocalCallFirstCluster implements Cluster {
 	@Override
 	public <T> Invoker<T> join(Directory<T> directory, boolean buildFilterChain) throws RpcException {
 		return new AbstractClusterInvoker<T>(directory) {
+
+			/**
+			 * 本地主机所在子网, 本地主机地址不变时复用
+			 */
+			private volatile LocalSubnet localSubnet;
+
 			@Override
 			protected Result doInvoke(Invocation invocation, List<Invoker<T>> invokers, LoadBalance loadbalance)
 					throws RpcException {
@@ -127,30 +133,31 @@ public class LocalCallFirstCluster implements Cluster {
 
 			/**
 			 * 过滤与本地在同一子网的服务
+			 * <p>
+			 * 按字面量解析地址, 不做 DNS 解析; 主机名或本地主机不是 IPv4 地址时视为不在同一子网
 			 * @param invokers 调用者列表
 			 * @param localHost 本地主机地址
 			 * @return 过滤后的调用者列表
 			 */
 			private List<Invoker<T>> filterSameSubnetInvokers(List<Invoker<T>> invokers, String localHost) {
+				CidrMatcher subnet = getLocalSubnet(localHost);
 				return invokers.stream()
-					.filter(invoker -> !isInSameSubnet(invoker.getUrl().getHost(), localHost))
+					.filter(invoker -> !subnet.matches(invoker.getUrl().getHost()))
 					.collect(Collectors.toList());
 			}
 
 			/**
-			 * 判断两个主机是否在同一子网
-			 * @param host 主机地址
+			 * 获取本地主机所在子网
 			 * @param localHost 本地主机地址
-			 * @return 是否在同一子网
+			 * @return 本地主机所在子网
 			 */
-			private boolean isInSameSubnet(String host, String localHost) {
-				try {
-					return IpConfigUtils.isSameSubnet(host, localHost);
-				}
-				catch (UnknownHostException ex) {
-					log.warn("判断子网时发生异常: {}", ex.getMessage());
-					return false; // 发生异常时默认不在同一子网
+			private CidrMatcher getLocalSubnet(String localHost) {
+				LocalSubnet subnet = this.localSubnet;
+				if (subnet == null || !subnet.host.equals(localHost)) {
+					subnet = new LocalSubnet(localHost, IpConfigUtils.getSubnet(localHost));
+					this.localSubnet = subnet;
 				}
+				return subnet.matcher;
 			}
 
 			/**
@@ -185,4 +192,20 @@ public class LocalCallFirstCluster implements Cluster {
 		};
 	}
 
+	/**
+	 * 本地主机地址及其所在子网
+	 */
+	private static final class LocalSubnet {
+
+		private final String host;
+
+		private final CidrMatcher matcher;
+
+		LocalSubnet(String host, CidrMatcher matcher) {
+			this.host = host;
+			this.matcher = matcher;
+		}
+
+	}
+
 }
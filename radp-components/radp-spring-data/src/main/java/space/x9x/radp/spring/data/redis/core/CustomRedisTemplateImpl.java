@@ -16,6 +16,10 @@
 
 package space.x9x.radp.spring.data.redis.core;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,7 +31,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import space.x9x.radp.commons.collections.CollectionUtils;
 import space.x9x.radp.commons.lang.ObjectUtil;
@@ -39,6 +47,11 @@ import space.x9x.radp.spring.framework.json.support.JSONHelper;
  * implementations of Redis operations using Spring's StringRedisTemplate as the
  * underlying mechanism for Redis communication. It handles serialization and
  * deserialization of objects to/from JSON for storage in Redis.
+ * <p>
+ * String values are serialized to and parsed from UTF-8 JSON bytes directly, without an
+ * intermediate {@code String}, as long as the template uses the default UTF-8 string key
+ * and value serializers. With customized serializers, e.g. adding a key prefix, they go
+ * through the serializers like all other operations.
  *
  * @author RADP x9x
  * @since 2024-10-19 16:33
@@ -75,8 +88,14 @@ public class CustomRedisTemplateImpl implements CustomRedisTemplate {
 
 	@Override
 	public <T> Optional<T> get(String key, Class<T> clazz) {
-		String value = this.redisTemplate.opsForValue().get(key);
-		return toObject(value, clazz);
+		if (!isDefaultSerializers()) {
+			return toObject(this.redisTemplate.opsForValue().get(key), clazz);
+		}
+		byte[] value = getBytes(key);
+		if (isBlank(value)) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(JSONHelper.json().parseObject(value, clazz));
 	}
 
 	@Override
@@ -86,16 +105,29 @@ public class CustomRedisTemplateImpl implements CustomRedisTemplate {
 
 	@Override
 	public <T> Optional<List<T>> getForList(String key, Class<T> clazz) {
-		String value = this.redisTemplate.opsForValue().get(key);
-		if (StringUtil.isBlank(value)) {
+		byte[] value = isDefaultSerializers() ? getBytes(key)
+				: toBytes(this.redisTemplate.opsForValue().get(key));
+		if (isBlank(value)) {
 			return Optional.empty();
 		}
-		return Optional.of(JSONHelper.json().parseList(value, clazz));
+		try {
+			return Optional.of(JSONHelper.json().parseList(new ByteArrayInputStream(value), clazz));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
 	}
 
 	@Override
 	public <T> void set(String key, T value) {
-		this.redisTemplate.opsForValue().set(key, toString(value));
+		if (!isDefaultSerializers()) {
+			this.redisTemplate.opsForValue().set(key, toString(value));
+			return;
+		}
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = toBytes(value);
+		this.redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+			.set(rawKey, rawValue));
 	}
 
 	@Override
@@ -105,8 +137,15 @@ public class CustomRedisTemplateImpl implements CustomRedisTemplate {
 
 	@Override
 	public <T> void set(String key, T data, long timeout, TimeUnit unit) {
-		String value = toString(data);
-		this.redisTemplate.opsForValue().set(key, value, timeout, unit);
+		if (!isDefaultSerializers()) {
+			this.redisTemplate.opsForValue().set(key, toString(data), timeout, unit);
+			return;
+		}
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = toBytes(data);
+		Expiration expiration = Expiration.from(timeout, unit);
+		this.redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+			.set(rawKey, rawValue, expiration, RedisStringCommands.SetOption.upsert()));
 	}
 
 	// ---------------------------------- Hash 操作 ----------------------------------
@@ -195,6 +234,55 @@ public class CustomRedisTemplateImpl implements CustomRedisTemplate {
 			.map(s -> JSONHelper.json().parseObject(s, clazz));
 	}
 
+	private byte[] getBytes(String key) {
+		byte[] rawKey = rawKey(key);
+		return this.redisTemplate
+			.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+	}
+
+	/**
+	 * Whether the template uses the default UTF-8 string serializers for keys and values,
+	 * which the raw byte commands are equivalent to.
+	 */
+	private boolean isDefaultSerializers() {
+		return this.redisTemplate.getKeySerializer() == RedisSerializer.string()
+				&& this.redisTemplate.getValueSerializer() == RedisSerializer.string();
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawKey(String key) {
+		return ((RedisSerializer<String>) this.redisTemplate.getKeySerializer()).serialize(key);
+	}
+
+	private static boolean isBlank(byte[] value) {
+		if (value == null) {
+			return true;
+		}
+		for (byte b : value) {
+			if (!Character.isWhitespace(b)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Converts the given data object to UTF-8 bytes, the binary counterpart of
+	 * {@link #toString(Object)}.
+	 * @param <T> the type of the data object to be converted
+	 * @param data the data object to be converted
+	 * @return the UTF-8 bytes of the data object; returns null if the input data is null
+	 */
+	private <T> byte[] toBytes(T data) {
+		if (data == null) {
+			return null;
+		}
+		if (data instanceof CharSequence || data instanceof Character) {
+			return data.toString().getBytes(StandardCharsets.UTF_8);
+		}
+		return JSONHelper.json().toJSONBytes(data);
+	}
+
 	/**
 	 * Converts the given data object to its String representation. If the data is a
 	 * character or a CharSequence, it returns the data's toString() value. For other
@@ -18,7 +18,6 @@ package space.x9x.radp.spring.framework.dto.extension;
 
 import org.jetbrains.annotations.PropertyKey;
 
-import space.x9x.radp.extension.ExtensionLoader;
 import space.x9x.radp.extension.SPI;
 import space.x9x.radp.spring.framework.beans.ApplicationContextHelper;
 import space.x9x.radp.spring.framework.error.ErrorCode;
@@ -46,7 +45,7 @@ public interface ResponseBuilder<T> {
 		if (builder != null) {
 			return builder;
 		}
-		return ExtensionLoader.getExtensionLoader(ResponseBuilder.class).getDefaultExtension();
+		return ResponseBuilderHolder.DEFAULT_BUILDER.get();
 	}
 
 	/**
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.dto.extension;
+
+import lombok.experimental.UtilityClass;
+
+import space.x9x.radp.extension.DefaultExtensionHandle;
+import space.x9x.radp.extension.ExtensionLoader;
+
+/**
+ * Holds the default extension handle of {@link ResponseBuilder}, which as an interface
+ * cannot keep it in a private static field.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:20
+ */
+@UtilityClass
+@SuppressWarnings("rawtypes")
+class ResponseBuilderHolder {
+
+	static final DefaultExtensionHandle<ResponseBuilder> DEFAULT_BUILDER = ExtensionLoader
+		.getDefaultExtensionHandle(ResponseBuilder.class);
+
+}
@@ -162,4 +162,14 @@ public class BaseException extends RuntimeException {
 		this.params = null;
 	}
 
+	/**
+	 * Fills in the stack trace, unless this exception is created in the
+	 * {@link StacklessExceptions stackless mode}.
+	 * @return this exception
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return (StacklessExceptions.isStackless()) ? this : super.fillInStackTrace();
+	}
+
 }
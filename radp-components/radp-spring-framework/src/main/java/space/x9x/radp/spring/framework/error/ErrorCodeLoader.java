@@ -36,7 +36,7 @@ import org.jetbrains.annotations.PropertyKey;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 
-import space.x9x.radp.commons.lang.format.MessageFormatter;
+import space.x9x.radp.commons.lang.format.MessageTemplate;
 import space.x9x.radp.spring.framework.beans.ApplicationContextHelper;
 
 /**
@@ -65,6 +65,8 @@ import space.x9x.radp.spring.framework.beans.ApplicationContextHelper;
  * <li>Internal codes remain as a last resort.</li>
  * <li>Works both with and without Spring.</li>
  * </ul>
+ * Parameterized messages are formatted with the cached {@link MessageTemplate} of the
+ * resolved pattern, so each pattern (and thus each locale variant) is parsed once.
  *
  * @author RADP x9x
  * @since 2024-09-26 16:14
@@ -285,24 +287,24 @@ public class ErrorCodeLoader {
 		if (ms != null) {
 			Locale locale = LocaleContextHolder.getLocale();
 			String pattern = ms.getMessage(errCode, null, errCode, locale);
-			return MessageFormatter.arrayFormat(pattern, params).getMessage();
+			return MessageTemplate.of(pattern).format(params);
 		}
 
 		// 1. Load & query merged application messages
 		ensureAppMessagesLoaded();
 		String pattern = APP_MESSAGES.get(errCode);
 		if (pattern != null) {
-			return MessageFormatter.arrayFormat(pattern, params).getMessage();
+			return MessageTemplate.of(pattern).format(params);
 		}
 
 		// 2. Fallback to the internal bundle
 		if (INTERNAL_RESOURCE_BUNDLE.containsKey(errCode)) {
 			pattern = INTERNAL_RESOURCE_BUNDLE.getString(errCode);
-			return MessageFormatter.arrayFormat(pattern, params).getMessage();
+			return MessageTemplate.of(pattern).format(params);
 		}
 
 		// 3. If no message is found anywhere, use errCode as the pattern itself
-		return MessageFormatter.arrayFormat(errCode, params).getMessage();
+		return MessageTemplate.of(errCode).format(params);
 	}
 
 	/**
@@ -318,7 +320,7 @@ public class ErrorCodeLoader {
 		MessageSource ms = getMessageSource();
 		if (ms != null) {
 			String pattern = ms.getMessage(errCode, null, errCode, locale);
-			return MessageFormatter.arrayFormat(pattern, params).getMessage();
+			return MessageTemplate.of(pattern).format(params);
 		}
 		// Fallback to default behavior ignoring locale
 		return getErrMessage(errCode, params);
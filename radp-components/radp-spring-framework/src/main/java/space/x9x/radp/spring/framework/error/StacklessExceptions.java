@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.error;
+
+import java.util.function.Supplier;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Opt-in stackless mode of the {@link BaseException exceptions} created by the factories
+ * of {@link space.x9x.radp.spring.framework.error.util.ExceptionUtils ExceptionUtils} and
+ * {@link space.x9x.radp.spring.framework.error.asserts.BaseAssert BaseAssert}.
+ * <p>
+ * Capturing the stack trace dominates the cost of creating an exception. Business
+ * exceptions are identified by their error code, so when the mode is enabled the
+ * exceptions created through {@link #create(Supplier)} skip
+ * {@link Throwable#fillInStackTrace()}. Their causes keep their own stack traces, and
+ * exceptions created with {@code new} are not affected.
+ * <p>
+ * The mode is read from the {@value #PROPERTY} system property when this class is
+ * initialized and can be changed with {@link #setEnabled(boolean)}, which a Spring Boot
+ * application does from the {@code radp.exception.stackless} configuration property.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 01:15
+ */
+@UtilityClass
+public class StacklessExceptions {
+
+	/**
+	 * System property enabling the stackless mode.
+	 */
+	public static final String PROPERTY = "radp.exception.stackless";
+
+	private static final ThreadLocal<Boolean> CREATING = new ThreadLocal<>();
+
+	private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+	/**
+	 * Returns whether the stackless mode is enabled.
+	 * @return {@code true} if the exceptions created by the factories skip their stack
+	 * traces
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the stackless mode.
+	 * @param enabled whether the exceptions created by the factories skip their stack
+	 * traces
+	 */
+	public static void setEnabled(boolean enabled) {
+		StacklessExceptions.enabled = enabled;
+	}
+
+	/**
+	 * Creates an exception, without its stack trace if the stackless mode is enabled.
+	 * @param factory the factory creating the exception
+	 * @param <E> the type of the exception
+	 * @return the created exception
+	 */
+	public static <E extends Throwable> E create(Supplier<E> factory) {
+		if (!enabled || CREATING.get() != null) {
+			return factory.get();
+		}
+		CREATING.set(Boolean.TRUE);
+		try {
+			return factory.get();
+		}
+		finally {
+			CREATING.remove();
+		}
+	}
+
+	/**
+	 * Returns whether the exception being constructed on the current thread skips its
+	 * stack trace.
+	 * @return {@code true} inside {@link #create(Supplier)} with the mode enabled
+	 */
+	static boolean isStackless() {
+		return enabled && CREATING.get() != null;
+	}
+
+}
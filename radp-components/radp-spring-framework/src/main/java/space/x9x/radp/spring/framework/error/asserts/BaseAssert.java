@@ -23,6 +23,7 @@ import java.util.function.BiFunction;
 import org.jetbrains.annotations.PropertyKey;
 
 import space.x9x.radp.spring.framework.error.ErrorCodeLoader;
+import space.x9x.radp.spring.framework.error.StacklessExceptions;
 
 /**
  * Base an abstract class for all assertion classes with common assertion logic. This
@@ -52,14 +53,15 @@ public abstract class BaseAssert<E extends RuntimeException> extends AbstractAss
 	}
 
 	/**
-	 * Create an exception to the specific type.
+	 * Create an exception to the specific type, without its stack trace if the
+	 * {@link StacklessExceptions stackless mode} is enabled.
 	 * @param errCode the error code
 	 * @param message the error message
 	 * @return the created exception
 	 */
 	protected E createException(String errCode, String message) {
 		// Use the formatted message exception creator to avoid double formatting
-		return getFormattedMessageExceptionCreator().apply(errCode, message);
+		return StacklessExceptions.create(() -> getFormattedMessageExceptionCreator().apply(errCode, message));
 	}
 
 	/**
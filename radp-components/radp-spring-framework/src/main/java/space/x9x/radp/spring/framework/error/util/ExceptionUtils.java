@@ -25,12 +25,16 @@ import space.x9x.radp.spring.framework.error.ErrorCode;
 import space.x9x.radp.spring.framework.error.ErrorCodeLoader;
 import space.x9x.radp.spring.framework.error.GlobalResponseCode;
 import space.x9x.radp.spring.framework.error.ServerException;
+import space.x9x.radp.spring.framework.error.StacklessExceptions;
 import space.x9x.radp.spring.framework.error.ThirdServiceException;
 
 /**
  * Utility class providing factory methods for creating different types of exceptions.
  * This class simplifies the creation of ServerException, ClientException, and
  * ThirdServiceException instances with various error codes, messages, and causes.
+ * <p>
+ * The exceptions skip their stack traces when the
+ * {@link StacklessExceptions stackless mode} is enabled.
  *
  * @author RADP x9x
  * @since 2024-09-27 11:56
@@ -49,7 +53,7 @@ public class ExceptionUtils {
 	 * @return a new ServerException with the specified error code and message
 	 */
 	public static ServerException serverException(ErrorCode errorCode) {
-		return new ServerException(errorCode);
+		return StacklessExceptions.create(() -> new ServerException(errorCode));
 	}
 
 	/**
@@ -62,7 +66,7 @@ public class ExceptionUtils {
 	 * @return a new ServerException with the specified error code and formatted message
 	 */
 	public static ServerException serverException(ErrorCode errorCode, Object... params) {
-		return new ServerException(errorCode, params);
+		return StacklessExceptions.create(() -> new ServerException(errorCode, params));
 	}
 
 	/**
@@ -72,7 +76,7 @@ public class ExceptionUtils {
 	 * @return a new ServerException with an UNKNOWN error code and the specified cause
 	 */
 	public static ServerException serverException(Throwable t) {
-		return new ServerException(GlobalResponseCode.UNKNOWN.getErrorCode(), t);
+		return StacklessExceptions.create(() -> new ServerException(GlobalResponseCode.UNKNOWN.getErrorCode(), t));
 	}
 
 	/**
@@ -84,7 +88,7 @@ public class ExceptionUtils {
 	 * @return a new ServerException with the specified error code, message, and cause
 	 */
 	public static ServerException serverException(ErrorCode errorCode, Throwable t) {
-		return new ServerException(errorCode, t);
+		return StacklessExceptions.create(() -> new ServerException(errorCode, t));
 	}
 
 	/**
@@ -97,7 +101,8 @@ public class ExceptionUtils {
 	 * @return a new ServerException with an UNKNOWN error code and the formatted message
 	 */
 	public static ServerException serverException0(String messagePattern, Object... params) {
-		return new ServerException(GlobalResponseCode.UNKNOWN.code(), messagePattern, params);
+		return StacklessExceptions
+			.create(() -> new ServerException(GlobalResponseCode.UNKNOWN.code(), messagePattern, params));
 	}
 
 	/**
@@ -110,7 +115,7 @@ public class ExceptionUtils {
 	 */
 	public static ServerException serverException(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, Object... params) {
-		return new ServerException(code, params);
+		return StacklessExceptions.create(() -> new ServerException(code, params));
 	}
 
 	/**
@@ -122,7 +127,7 @@ public class ExceptionUtils {
 	 */
 	public static ServerException serverExceptionWithFormattedMessage(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, String formattedMessage) {
-		return new ServerException(code, formattedMessage);
+		return StacklessExceptions.create(() -> new ServerException(code, formattedMessage));
 	}
 
 	/**
@@ -135,7 +140,7 @@ public class ExceptionUtils {
 	 */
 	public static ServerException serverException(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, Throwable t) {
-		return new ServerException(code, t);
+		return StacklessExceptions.create(() -> new ServerException(code, t));
 	}
 
 	// ================== ClientException ==================
@@ -148,7 +153,7 @@ public class ExceptionUtils {
 	 * @return a new ClientException with the specified error code and message
 	 */
 	public static ClientException clientException(ErrorCode errorCode) {
-		return new ClientException(errorCode);
+		return StacklessExceptions.create(() -> new ClientException(errorCode));
 	}
 
 	/**
@@ -161,7 +166,7 @@ public class ExceptionUtils {
 	 * @return a new ClientException with the specified error code and formatted message
 	 */
 	public static ClientException clientException(ErrorCode errorCode, Object... params) {
-		return new ClientException(errorCode, params);
+		return StacklessExceptions.create(() -> new ClientException(errorCode, params));
 	}
 
 	/**
@@ -171,7 +176,7 @@ public class ExceptionUtils {
 	 * @return a new ClientException with an UNKNOWN error code and the specified cause
 	 */
 	public static ClientException clientException(Throwable t) {
-		return new ClientException(GlobalResponseCode.UNKNOWN.getErrorCode(), t);
+		return StacklessExceptions.create(() -> new ClientException(GlobalResponseCode.UNKNOWN.getErrorCode(), t));
 	}
 
 	/**
@@ -183,7 +188,7 @@ public class ExceptionUtils {
 	 * @return a new ClientException with the specified error code, message, and cause
 	 */
 	public static ClientException clientException(ErrorCode errorCode, Throwable t) {
-		return new ClientException(errorCode, t);
+		return StacklessExceptions.create(() -> new ClientException(errorCode, t));
 	}
 
 	/**
@@ -196,7 +201,8 @@ public class ExceptionUtils {
 	 * @return a new ClientException with an UNKNOWN error code and the formatted message
 	 */
 	public static ClientException clientException0(String messagePattern, Object... params) {
-		return new ClientException(GlobalResponseCode.UNKNOWN.code(), messagePattern, params);
+		return StacklessExceptions
+			.create(() -> new ClientException(GlobalResponseCode.UNKNOWN.code(), messagePattern, params));
 	}
 
 	/**
@@ -209,7 +215,7 @@ public class ExceptionUtils {
 	 */
 	public static ClientException clientException(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, Object... params) {
-		return new ClientException(code, params);
+		return StacklessExceptions.create(() -> new ClientException(code, params));
 	}
 
 	/**
@@ -221,7 +227,7 @@ public class ExceptionUtils {
 	 */
 	public static ClientException clientExceptionWithFormattedMessage(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, String formattedMessage) {
-		return new ClientException(code, formattedMessage);
+		return StacklessExceptions.create(() -> new ClientException(code, formattedMessage));
 	}
 
 	/**
@@ -234,7 +240,7 @@ public class ExceptionUtils {
 	 */
 	public static ClientException clientException(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, Throwable t) {
-		return new ClientException(code, t);
+		return StacklessExceptions.create(() -> new ClientException(code, t));
 	}
 
 	// ================== ThirdServiceException ==================
@@ -247,7 +253,7 @@ public class ExceptionUtils {
 	 * @return a new ThirdServiceException with the specified error code and message
 	 */
 	public static ThirdServiceException thirdServiceException(ErrorCode errorCode) {
-		return new ThirdServiceException(errorCode);
+		return StacklessExceptions.create(() -> new ThirdServiceException(errorCode));
 	}
 
 	/**
@@ -261,7 +267,7 @@ public class ExceptionUtils {
 	 * message
 	 */
 	public static ThirdServiceException thirdServiceException(ErrorCode errorCode, Object... params) {
-		return new ThirdServiceException(errorCode, params);
+		return StacklessExceptions.create(() -> new ThirdServiceException(errorCode, params));
 	}
 
 	/**
@@ -273,7 +279,8 @@ public class ExceptionUtils {
 	 * cause
 	 */
 	public static ThirdServiceException thirdServiceException(Throwable t) {
-		return new ThirdServiceException(GlobalResponseCode.UNKNOWN.getErrorCode(), t);
+		return StacklessExceptions
+			.create(() -> new ThirdServiceException(GlobalResponseCode.UNKNOWN.getErrorCode(), t));
 	}
 
 	/**
@@ -286,7 +293,7 @@ public class ExceptionUtils {
 	 * cause
 	 */
 	public static ThirdServiceException thirdServiceException(ErrorCode errorCode, Throwable t) {
-		return new ThirdServiceException(errorCode, t);
+		return StacklessExceptions.create(() -> new ThirdServiceException(errorCode, t));
 	}
 
 	/**
@@ -300,7 +307,8 @@ public class ExceptionUtils {
 	 * message
 	 */
 	public static ThirdServiceException thirdServiceException0(String messagePattern, Object... params) {
-		return new ThirdServiceException(GlobalResponseCode.UNKNOWN.code(), messagePattern, params);
+		return StacklessExceptions
+			.create(() -> new ThirdServiceException(GlobalResponseCode.UNKNOWN.code(), messagePattern, params));
 	}
 
 	/**
@@ -314,7 +322,7 @@ public class ExceptionUtils {
 	 */
 	public static ThirdServiceException thirdServiceException(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, Object... params) {
-		return new ThirdServiceException(code, params);
+		return StacklessExceptions.create(() -> new ThirdServiceException(code, params));
 	}
 
 	/**
@@ -326,7 +334,7 @@ public class ExceptionUtils {
 	 */
 	public static ThirdServiceException thirdServiceExceptionWithFormattedMessage(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, String formattedMessage) {
-		return new ThirdServiceException(code, formattedMessage);
+		return StacklessExceptions.create(() -> new ThirdServiceException(code, formattedMessage));
 	}
 
 	/**
@@ -340,7 +348,7 @@ public class ExceptionUtils {
 	 */
 	public static ThirdServiceException thirdServiceException(
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String code, Throwable t) {
-		return new ThirdServiceException(code, t);
+		return StacklessExceptions.create(() -> new ThirdServiceException(code, t));
 	}
 
 }
@@ -16,8 +16,14 @@
 
 package space.x9x.radp.spring.framework.json;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import com.google.common.io.ByteStreams;
+
 import space.x9x.radp.extension.SPI;
 
 /**
@@ -25,6 +31,12 @@ import space.x9x.radp.extension.SPI;
  * interface provides a common abstraction for different JSON libraries, allowing clients
  * to work with JSON without being tied to a specific implementation. The default
  * implementation is "jackson" as specified by the SPI annotation.
+ * <p>
+ * The byte and stream oriented methods avoid the intermediate {@code String} when the
+ * JSON goes to or comes from bytes anyway, e.g. servlet responses or Redis values. Their
+ * default implementations fall back to the {@code String} methods, the bundled
+ * implementations override them natively. All bytes are UTF-8 encoded, streams are not
+ * closed.
  *
  * @author RADP x9x
  * @since 2024-09-26 11:07
@@ -58,4 +70,60 @@ public interface JSON {
 	 */
 	<T> List<T> parseList(String text, Class<T> clazz);
 
+	/**
+	 * 将对象转换为 UTF-8 编码的 JSON 字节数组.
+	 * @param <T> 对象的类型参数
+	 * @param object 要转换的对象
+	 * @return 对象对应的JSON字节数组
+	 */
+	default <T> byte[] toJSONBytes(T object) {
+		return toJSONString(object).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 将对象以 UTF-8 编码的 JSON 写入输出流, 不关闭输出流.
+	 * @param <T> 对象的类型参数
+	 * @param object 要转换的对象
+	 * @param out 输出流
+	 * @throws IOException 写入失败
+	 */
+	default <T> void writeTo(T object, OutputStream out) throws IOException {
+		out.write(toJSONBytes(object));
+	}
+
+	/**
+	 * 将 UTF-8 编码的 JSON 字节数组解析为指定类的对象.
+	 * @param <T> 要解析的对象类型
+	 * @param bytes json字节数组
+	 * @param clazz 对象的类类型
+	 * @return 解析出来的对象
+	 */
+	default <T> T parseObject(byte[] bytes, Class<T> clazz) {
+		return parseObject(new String(bytes, StandardCharsets.UTF_8), clazz);
+	}
+
+	/**
+	 * 从输入流读取 UTF-8 编码的 JSON 并解析为指定类的对象, 不关闭输入流.
+	 * @param <T> 要解析的对象类型
+	 * @param in 输入流
+	 * @param clazz 对象的类类型
+	 * @return 解析出来的对象
+	 * @throws IOException 读取失败
+	 */
+	default <T> T parseObject(InputStream in, Class<T> clazz) throws IOException {
+		return parseObject(ByteStreams.toByteArray(in), clazz);
+	}
+
+	/**
+	 * 从输入流读取 UTF-8 编码的 JSON 并解析为指定类的列表, 不关闭输入流.
+	 * @param <T> 列表中对象的类型
+	 * @param in 输入流
+	 * @param clazz 列表中对象的类类型
+	 * @return 解析出来的对象列表
+	 * @throws IOException 读取失败
+	 */
+	default <T> List<T> parseList(InputStream in, Class<T> clazz) throws IOException {
+		return parseList(new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8), clazz);
+	}
+
 }
@@ -16,6 +16,9 @@
 
 package space.x9x.radp.spring.framework.json.fastjson;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +29,7 @@ import space.x9x.radp.commons.collections.CollectionUtils;
 import space.x9x.radp.commons.lang.ArrayUtil;
 import space.x9x.radp.extension.ExtensionLoader;
 import space.x9x.radp.spring.framework.json.JSON;
+import space.x9x.radp.spring.framework.json.support.JSONTypes;
 
 /**
  * Implementation of the JSON interface using the Alibaba Fastjson library. This class
@@ -54,6 +58,33 @@ public class Fastjson implements JSON {
 		return com.alibaba.fastjson.JSON.parseArray(text, clazz);
 	}
 
+	@Override
+	public <T> byte[] toJSONBytes(T object) {
+		SerializeFilter[] filters = loadFilters();
+		return ArrayUtil.isNotEmpty(filters) ? com.alibaba.fastjson.JSON.toJSONBytes(object, filters)
+				: com.alibaba.fastjson.JSON.toJSONBytes(object);
+	}
+
+	@Override
+	public <T> void writeTo(T object, OutputStream out) throws IOException {
+		out.write(toJSONBytes(object));
+	}
+
+	@Override
+	public <T> T parseObject(byte[] bytes, Class<T> clazz) {
+		return com.alibaba.fastjson.JSON.parseObject(bytes, clazz);
+	}
+
+	@Override
+	public <T> T parseObject(InputStream in, Class<T> clazz) throws IOException {
+		return com.alibaba.fastjson.JSON.parseObject(in, clazz);
+	}
+
+	@Override
+	public <T> List<T> parseList(InputStream in, Class<T> clazz) throws IOException {
+		return com.alibaba.fastjson.JSON.parseObject(in, JSONTypes.listOf(clazz));
+	}
+
 	private SerializeFilter[] loadFilters() {
 		ExtensionLoader<FastjsonFilter> extensionLoader = ExtensionLoader.getExtensionLoader(FastjsonFilter.class);
 		Set<String> extensions = extensionLoader.getSupportedExtensions();
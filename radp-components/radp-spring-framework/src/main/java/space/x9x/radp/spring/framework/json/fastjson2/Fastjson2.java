@@ -16,6 +16,8 @@
 
 package space.x9x.radp.spring.framework.json.fastjson2;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +28,7 @@ import space.x9x.radp.commons.collections.CollectionUtils;
 import space.x9x.radp.commons.lang.ArrayUtil;
 import space.x9x.radp.extension.ExtensionLoader;
 import space.x9x.radp.spring.framework.json.JSON;
+import space.x9x.radp.spring.framework.json.support.JSONTypes;
 
 /**
  * Implementation of the JSON interface using the Alibaba Fastjson2 library. This class
@@ -55,6 +58,33 @@ public class Fastjson2 implements JSON {
 		return com.alibaba.fastjson2.JSON.parseArray(text, clazz);
 	}
 
+	@Override
+	public <T> byte[] toJSONBytes(T object) {
+		Filter[] filters = loadFilters();
+		return ArrayUtil.isNotEmpty(filters) ? com.alibaba.fastjson2.JSON.toJSONBytes(object, filters)
+				: com.alibaba.fastjson2.JSON.toJSONBytes(object);
+	}
+
+	@Override
+	public <T> void writeTo(T object, OutputStream out) {
+		com.alibaba.fastjson2.JSON.writeTo(out, object, loadFilters());
+	}
+
+	@Override
+	public <T> T parseObject(byte[] bytes, Class<T> clazz) {
+		return com.alibaba.fastjson2.JSON.parseObject(bytes, clazz);
+	}
+
+	@Override
+	public <T> T parseObject(InputStream in, Class<T> clazz) {
+		return com.alibaba.fastjson2.JSON.parseObject(in, clazz);
+	}
+
+	@Override
+	public <T> List<T> parseList(InputStream in, Class<T> clazz) {
+		return com.alibaba.fastjson2.JSON.parseObject(in, JSONTypes.listOf(clazz));
+	}
+
 	private Filter[] loadFilters() {
 		ExtensionLoader<Fastjson2Filter> extensionLoader = ExtensionLoader.getExtensionLoader(Fastjson2Filter.class);
 		Set<String> extensions = extensionLoader.getSupportedExtensions();
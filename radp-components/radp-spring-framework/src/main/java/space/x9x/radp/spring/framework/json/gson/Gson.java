@@ -16,12 +16,22 @@
 
 package space.x9x.radp.spring.framework.json.gson;
 
-import java.lang.reflect.Type;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
-import com.google.common.reflect.TypeToken;
+import com.google.gson.JsonIOException;
 
 import space.x9x.radp.spring.framework.json.JSON;
+import space.x9x.radp.spring.framework.json.support.JSONTypes;
 
 /**
  * Implementation of the JSON interface using Google's Gson library. This class provides
@@ -50,10 +60,45 @@ public class Gson implements JSON {
 
 	@Override
 	public <T> List<T> parseList(String text, Class<T> clazz) {
-		Type listType = new TypeToken<List<T>>() {
-		}.getType();
+		return this.gson.fromJson(text, JSONTypes.listOf(clazz));
+	}
+
+	@Override
+	public <T> byte[] toJSONBytes(T object) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			writeTo(object, out);
+		}
+		catch (IOException ex) {
+			throw new JsonIOException(ex);
+		}
+		return out.toByteArray();
+	}
+
+	@Override
+	public <T> void writeTo(T object, OutputStream out) throws IOException {
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		this.gson.toJson(object, writer);
+		writer.flush();
+	}
+
+	@Override
+	public <T> T parseObject(byte[] bytes, Class<T> clazz) {
+		return parseObject(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), clazz);
+	}
+
+	@Override
+	public <T> T parseObject(InputStream in, Class<T> clazz) {
+		return parseObject(new InputStreamReader(in, StandardCharsets.UTF_8), clazz);
+	}
+
+	@Override
+	public <T> List<T> parseList(InputStream in, Class<T> clazz) {
+		return this.gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), JSONTypes.listOf(clazz));
+	}
 
-		return this.gson.fromJson(text, listType);
+	private <T> T parseObject(Reader reader, Class<T> clazz) {
+		return this.gson.fromJson(reader, clazz);
 	}
 
 }
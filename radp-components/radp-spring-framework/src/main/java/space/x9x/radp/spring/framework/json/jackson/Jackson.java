@@ -16,6 +16,9 @@
 
 package space.x9x.radp.spring.framework.json.jackson;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -47,6 +50,31 @@ public class Jackson implements JSON {
 		return JacksonUtils.parseList(text, clazz);
 	}
 
+	@Override
+	public <T> byte[] toJSONBytes(T object) {
+		return JacksonUtils.toJSONBytes(object);
+	}
+
+	@Override
+	public <T> void writeTo(T object, OutputStream out) throws IOException {
+		JacksonUtils.writeTo(object, out);
+	}
+
+	@Override
+	public <T> T parseObject(byte[] bytes, Class<T> clazz) {
+		return JacksonUtils.parseObject(bytes, clazz);
+	}
+
+	@Override
+	public <T> T parseObject(InputStream in, Class<T> clazz) throws IOException {
+		return JacksonUtils.parseObject(in, clazz);
+	}
+
+	@Override
+	public <T> List<T> parseList(InputStream in, Class<T> clazz) throws IOException {
+		return JacksonUtils.parseList(in, clazz);
+	}
+
 	/**
 	 * Returns the default ObjectMapper instance. This method provides access to the
 	 * configured Jackson ObjectMapper for custom serialization/deserialization needs.
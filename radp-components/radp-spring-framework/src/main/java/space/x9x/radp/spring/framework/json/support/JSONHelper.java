@@ -18,6 +18,7 @@ package space.x9x.radp.spring.framework.json.support;
 
 import lombok.experimental.UtilityClass;
 
+import space.x9x.radp.extension.DefaultExtensionHandle;
 import space.x9x.radp.extension.ExtensionLoader;
 import space.x9x.radp.spring.framework.json.JSON;
 
@@ -31,12 +32,15 @@ import space.x9x.radp.spring.framework.json.JSON;
 @UtilityClass
 public class JSONHelper {
 
+	private static final DefaultExtensionHandle<JSON> DEFAULT_JSON = ExtensionLoader
+		.getDefaultExtensionHandle(JSON.class);
+
 	/**
 	 * 获取默认 JSON 实现.
 	 * @return json 实例
 	 */
 	public static JSON json() {
-		return ExtensionLoader.getExtensionLoader(JSON.class).getDefaultExtension();
+		return DEFAULT_JSON.get();
 	}
 
 	/**
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.json.support;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class resolving the generic types the JSON implementations need to bind JSON
+ * arrays to typed lists.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 20:45
+ */
+@UtilityClass
+public class JSONTypes {
+
+	private static final ClassValue<Type> LIST_TYPES = new ClassValue<Type>() {
+
+		@Override
+		protected Type computeValue(Class<?> type) {
+			return listTypeOf(type);
+		}
+
+	};
+
+	/**
+	 * 获取 {@code List<T>} 类型, 按元素类型缓存.
+	 * @param elementType 列表中对象的类类型
+	 * @return {@code List<T>} 的参数化类型
+	 */
+	public static Type listOf(Class<?> elementType) {
+		return LIST_TYPES.get(elementType);
+	}
+
+	private static <T> Type listTypeOf(Class<T> elementType) {
+		return new TypeToken<List<T>>() {
+		}.where(new TypeParameter<T>() {
+		}, elementType).getType();
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.MDC;
+
+/**
+ * Immutable MDC (Mapped Diagnostic Context) snapshot of a unit of work, such as an HTTP
+ * request.
+ * <p>
+ * {@link #attach(Map)} replaces the MDC of the current thread in a single operation
+ * instead of one {@code MDC.put} per key, and the returned {@link Scope} restores the
+ * previous MDC when closed, so nothing leaks to the next unit of work on a pooled thread.
+ * While attached, the snapshot is the {@link #current()} one and {@link #wrap(Runnable)}
+ * hands the same map to tasks run on other threads, without copying the MDC at submit
+ * time.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:45
+ * @see space.x9x.radp.spring.framework.logging.bootstrap.filter.BootstrapLogHttpFilter
+ */
+@UtilityClass
+public class MdcSnapshot {
+
+	private static final ThreadLocal<Map<String, String>> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Returns the snapshot attached to the current thread.
+	 * @return the current snapshot, or {@code null} if none is attached
+	 */
+	public static Map<String, String> current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Attaches the context to the current thread, on top of the entries already in the
+	 * MDC.
+	 * @param context the entries to add, must not be modified afterwards
+	 * @return the scope restoring the previous MDC when closed
+	 */
+	public static Scope attach(Map<String, String> context) {
+		Map<String, String> previous = MDC.getCopyOfContextMap();
+		Map<String, String> snapshot;
+		if (previous == null || previous.isEmpty()) {
+			snapshot = Collections.unmodifiableMap(context);
+		}
+		else {
+			Map<String, String> merged = new HashMap<>(previous);
+			merged.putAll(context);
+			snapshot = Collections.unmodifiableMap(merged);
+		}
+		return apply(snapshot, previous);
+	}
+
+	/**
+	 * Wraps the task to run with the current snapshot attached.
+	 * @param task the task to wrap
+	 * @return the wrapped task, or the task itself if no snapshot is attached
+	 */
+	public static Runnable wrap(Runnable task) {
+		Map<String, String> snapshot = CURRENT.get();
+		if (snapshot == null || task == null) {
+			return task;
+		}
+		return () -> {
+			try (Scope ignored = apply(snapshot, MDC.getCopyOfContextMap())) {
+				task.run();
+			}
+		};
+	}
+
+	/**
+	 * Wraps the task to run with the current snapshot attached.
+	 * @param task the task to wrap
+	 * @param <T> the result type
+	 * @return the wrapped task, or the task itself if no snapshot is attached
+	 */
+	public static <T> Callable<T> wrap(Callable<T> task) {
+		Map<String, String> snapshot = CURRENT.get();
+		if (snapshot == null || task == null) {
+			return task;
+		}
+		return () -> {
+			try (Scope ignored = apply(snapshot, MDC.getCopyOfContextMap())) {
+				return task.call();
+			}
+		};
+	}
+
+	private static Scope apply(Map<String, String> snapshot, Map<String, String> previous) {
+		Scope scope = new Scope(previous, CURRENT.get());
+		MDC.setContextMap(snapshot);
+		CURRENT.set(snapshot);
+		return scope;
+	}
+
+	/**
+	 * Attachment of a snapshot, restoring the previous MDC when closed.
+	 */
+	public static final class Scope implements AutoCloseable {
+
+		private final Map<String, String> previous;
+
+		private final Map<String, String> previousSnapshot;
+
+		private Scope(Map<String, String> previous, Map<String, String> previousSnapshot) {
+			this.previous = previous;
+			this.previousSnapshot = previousSnapshot;
+		}
+
+		@Override
+		public void close() {
+			if (this.previous == null || this.previous.isEmpty()) {
+				MDC.clear();
+			}
+			else {
+				MDC.setContextMap(this.previous);
+			}
+			if (this.previousSnapshot == null) {
+				CURRENT.remove();
+			}
+			else {
+				CURRENT.set(this.previousSnapshot);
+			}
+		}
+
+	}
+
+}
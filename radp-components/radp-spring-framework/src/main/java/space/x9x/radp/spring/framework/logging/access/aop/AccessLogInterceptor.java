@@ -16,16 +16,17 @@
 
 package space.x9x.radp.spring.framework.logging.access.aop;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
-import lombok.RequiredArgsConstructor;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
 
+import space.x9x.radp.spring.framework.logging.access.async.AsyncAccessLogger;
 import space.x9x.radp.spring.framework.logging.access.config.AccessLogConfig;
+import space.x9x.radp.spring.framework.logging.access.sampling.AccessLogSampler;
 import space.x9x.radp.spring.framework.logging.access.util.AccessLogHelper;
 
 /**
@@ -34,15 +35,16 @@ import space.x9x.radp.spring.framework.logging.access.util.AccessLogHelper;
  * parameters, return values, and exceptions.
  *
  * <p>
- * The interceptor uses sampling to control the volume of logs generated and can be
- * configured to highlight slow method executions. It integrates with MDC (Mapped
- * Diagnostic Context) for correlating log entries across threads.
+ * The interceptor samples the completed invocations through an {@link AccessLogSampler}
+ * to control the volume of logs generated, keeping failed and slow method executions.
+ * It integrates with MDC (Mapped Diagnostic Context) for correlating log entries across
+ * threads. With {@link AccessLogConfig#isAsync()} the access logs are written by an
+ * {@link AsyncAccessLogger}.
  *
  * @author RADP x9x
  * @since 2024-09-30 09:52
  */
-@RequiredArgsConstructor
-public class AccessLogInterceptor implements MethodInterceptor {
+public class AccessLogInterceptor implements MethodInterceptor, DisposableBean {
 
 	/**
 	 * The configuration for access logging behavior. This holds settings that control
@@ -50,14 +52,35 @@ public class AccessLogInterceptor implements MethodInterceptor {
 	 */
 	private final AccessLogConfig accessLogConfig;
 
+	/**
+	 * The asynchronous logger, {@code null} if access logs are written on the calling
+	 * thread.
+	 */
+	private final AsyncAccessLogger asyncAccessLogger;
+
+	/**
+	 * Decides which completed invocations are logged.
+	 */
+	private final AccessLogSampler sampler;
+
+	/**
+	 * Creates the interceptor, starting an asynchronous logger if configured.
+	 * @param accessLogConfig the configuration for access logging behavior
+	 */
+	public AccessLogInterceptor(AccessLogConfig accessLogConfig) {
+		this.accessLogConfig = accessLogConfig;
+		this.sampler = new AccessLogSampler(accessLogConfig);
+		this.asyncAccessLogger = (accessLogConfig.isAsync()) ? new AsyncAccessLogger(accessLogConfig) : null;
+	}
+
 	/**
 	 * Intercepts method invocations to log access information. This method captures
 	 * execution time, parameters, return values, and exceptions if they occur.
 	 *
 	 * <p>
-	 * The method uses sampling based on the configured sample rate to determine whether
-	 * to log a particular invocation. It also detects and highlights slow method
-	 * executions based on the configured threshold.
+	 * Whether an invocation is logged is decided once it has completed, so failed and
+	 * slow executions are always logged while the others are sampled based on the
+	 * configured sample rates.
 	 * @param invocation the method invocation being intercepted
 	 * @return the result of the method invocation
 	 * @throws Throwable if the intercepted method throws an exception
@@ -69,12 +92,7 @@ public class AccessLogInterceptor implements MethodInterceptor {
 			return invocation.proceed();
 		}
 
-		// 判断是否需要输出日志
-		if (AccessLogHelper.shouldLog(this.accessLogConfig.getSampleRate())) {
-			return invocation.proceed();
-		}
-
-		Instant start = Instant.now();
+		long start = System.nanoTime();
 		Object result = null;
 		Throwable throwable = null;
 		try {
@@ -86,7 +104,30 @@ public class AccessLogInterceptor implements MethodInterceptor {
 			throw throwable;
 		}
 		finally {
-			long duration = Duration.between(start, Instant.now()).toMillis();
+			long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			// 调用结束后判断是否需要输出日志
+			if (this.sampler.shouldLog(invocation.getThis().getClass(), invocation.getMethod(), throwable != null,
+					duration)) {
+				log(invocation, result, throwable, duration);
+			}
+		}
+	}
+
+	/**
+	 * Writes the pending access logs and stops the asynchronous logger, if any.
+	 */
+	@Override
+	public void destroy() {
+		if (this.asyncAccessLogger != null) {
+			this.asyncAccessLogger.close();
+		}
+	}
+
+	private void log(MethodInvocation invocation, Object result, Throwable throwable, long duration) {
+		if (this.asyncAccessLogger != null) {
+			this.asyncAccessLogger.log(invocation, result, throwable, duration);
+		}
+		else {
 			AccessLogHelper.log(invocation, result, throwable, duration, this.accessLogConfig.isEnabledMdc(),
 					this.accessLogConfig.getMaxLength(), this.accessLogConfig.getSlowThreshold());
 		}
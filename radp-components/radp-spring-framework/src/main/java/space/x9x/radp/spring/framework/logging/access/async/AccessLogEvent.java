@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.async;
+
+import java.util.Map;
+
+import space.x9x.radp.spring.framework.logging.access.model.AccessLog;
+
+/**
+ * A preallocated slot of the {@link AccessLogRingBuffer}. The request thread only stores
+ * references into it, the consumer thread renders them and clears the slot for reuse.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:20
+ */
+final class AccessLogEvent {
+
+	/**
+	 * Position of the slot in the sequence of published events.
+	 */
+	long position;
+
+	/**
+	 * Class name of the invoked object, {@code null} for HTTP requests.
+	 */
+	String className;
+
+	String methodName;
+
+	Object[] arguments;
+
+	Object result;
+
+	Throwable throwable;
+
+	long duration;
+
+	/**
+	 * Access log captured from an HTTP request, {@code null} for method invocations.
+	 */
+	AccessLog accessLog;
+
+	/**
+	 * MDC of the request thread, {@code null} if it was empty.
+	 */
+	Map<String, String> context;
+
+	void clear() {
+		this.className = null;
+		this.methodName = null;
+		this.arguments = null;
+		this.result = null;
+		this.throwable = null;
+		this.accessLog = null;
+		this.context = null;
+	}
+
+}
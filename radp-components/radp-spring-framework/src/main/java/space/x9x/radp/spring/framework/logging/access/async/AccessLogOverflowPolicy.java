@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.async;
+
+/**
+ * What an {@link AsyncAccessLogger} does with an access log when its ring buffer is
+ * full.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:20
+ */
+public enum AccessLogOverflowPolicy {
+
+	/**
+	 * Discard the access log and count it as dropped, the request thread never waits.
+	 */
+	DROP,
+
+	/**
+	 * Wait until the consumer has freed a slot, applying backpressure to the request
+	 * thread.
+	 */
+	BLOCK,
+
+	/**
+	 * Format and write the access log on the request thread, as without the ring buffer.
+	 */
+	CALLER_RUNS
+
+}
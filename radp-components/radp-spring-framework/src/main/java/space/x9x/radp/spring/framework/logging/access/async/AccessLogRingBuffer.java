@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free multi-producer single-consumer ring buffer of preallocated
+ * {@link AccessLogEvent} slots.
+ * <p>
+ * Every slot carries a sequence number telling whose turn it is: a producer may claim the
+ * slot at position {@code p} when its sequence is {@code p}, the consumer may read it
+ * once the producer has published it by setting the sequence to {@code p + 1}, and
+ * releasing it sets the sequence to {@code p + capacity} for the next lap. Producers
+ * compete with a CAS on the tail only, the consumer owns the head.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:20
+ */
+final class AccessLogRingBuffer {
+
+	private final AccessLogEvent[] events;
+
+	private final AtomicLongArray sequences;
+
+	private final int mask;
+
+	private final AtomicLong tail = new AtomicLong();
+
+	private volatile long head;
+
+	AccessLogRingBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, Math.min(capacity, 1 << 29)) * 2 - 1);
+		this.events = new AccessLogEvent[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			this.events[i] = new AccessLogEvent();
+			this.sequences.set(i, i);
+		}
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Claims the next free slot. The slot must be {@linkplain #publish(AccessLogEvent)
+	 * published} by the caller.
+	 * @return the slot, or {@code null} if the buffer is full
+	 */
+	AccessLogEvent tryClaim() {
+		long position = this.tail.get();
+		while (true) {
+			int index = (int) position & this.mask;
+			long difference = this.sequences.get(index) - position;
+			if (difference == 0) {
+				if (this.tail.compareAndSet(position, position + 1)) {
+					AccessLogEvent event = this.events[index];
+					event.position = position;
+					return event;
+				}
+				position = this.tail.get();
+			}
+			else if (difference < 0) {
+				return null;
+			}
+			else {
+				position = this.tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Hands a claimed slot over to the consumer.
+	 * @param event the claimed slot
+	 */
+	void publish(AccessLogEvent event) {
+		this.sequences.set((int) event.position & this.mask, event.position + 1);
+	}
+
+	/**
+	 * Returns the oldest published slot, to be {@linkplain #release(AccessLogEvent)
+	 * released} after processing. Must only be called by the consumer.
+	 * @return the slot, or {@code null} if the next slot is not published yet
+	 */
+	AccessLogEvent poll() {
+		long position = this.head;
+		int index = (int) position & this.mask;
+		if (this.sequences.get(index) != position + 1) {
+			return null;
+		}
+		return this.events[index];
+	}
+
+	/**
+	 * Clears a processed slot and makes it available to producers again. Must only be
+	 * called by the consumer.
+	 * @param event the slot returned by {@link #poll()}
+	 */
+	void release(AccessLogEvent event) {
+		event.clear();
+		this.head = event.position + 1;
+		this.sequences.set((int) event.position & this.mask, event.position + this.events.length);
+	}
+
+	/**
+	 * Returns the number of claimed slots not yet released.
+	 * @return the number of pending events
+	 */
+	int size() {
+		return (int) Math.max(0, this.tail.get() - this.head);
+	}
+
+	int capacity() {
+		return this.events.length;
+	}
+
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.async;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.MDC;
+
+import space.x9x.radp.spring.framework.logging.access.config.AccessLogConfig;
+import space.x9x.radp.spring.framework.logging.access.model.AccessLog;
+import space.x9x.radp.spring.framework.logging.access.util.AccessLogHelper;
+
+/**
+ * Access logger moving the formatting, serialization and output of access logs off the
+ * request thread.
+ * <p>
+ * The request thread only captures references to the invocation, its arguments and
+ * result, and a copy of its MDC into a preallocated slot of a lock-free ring buffer. A
+ * dedicated daemon thread renders the slots through {@link AccessLogHelper} under the
+ * captured MDC. Arguments and results are therefore rendered after the invocation has
+ * returned, objects modified later may be logged in their modified state. HTTP requests
+ * are captured as an {@link AccessLog} on the request thread, since the request and
+ * response cannot be read once it has been completed.
+ * <p>
+ * Everything that may fail is computed before a slot is claimed, so a claimed slot is
+ * always published. When the ring buffer is full the configured
+ * {@link AccessLogOverflowPolicy} applies; dropped access logs are counted and reported
+ * by the consumer thread at most once per second, also while it is busy. After
+ * {@link #close()} access logs are written on the calling thread, including those
+ * published while the logger was being closed.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:25
+ */
+@Slf4j
+public class AsyncAccessLogger implements AutoCloseable {
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+	private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final AccessLogRingBuffer ringBuffer;
+
+	private final AccessLogOverflowPolicy overflowPolicy;
+
+	private final boolean enabledMdc;
+
+	private final int maxLength;
+
+	private final long slowThreshold;
+
+	private final Thread consumer;
+
+	private final LongAdder published = new LongAdder();
+
+	private final LongAdder dropped = new LongAdder();
+
+	private volatile boolean consumerWaiting;
+
+	private volatile boolean running = true;
+
+	private long reportedDropped;
+
+	private long lastReportNanos = System.nanoTime();
+
+	/**
+	 * Creates the logger and starts its consumer thread.
+	 * @param config the access log configuration providing the ring buffer size, the
+	 * overflow policy and the rendering options
+	 */
+	public AsyncAccessLogger(AccessLogConfig config) {
+		this.ringBuffer = new AccessLogRingBuffer(config.getRingBufferSize());
+		this.overflowPolicy = Objects.requireNonNull(config.getOverflowPolicy(), "overflowPolicy");
+		this.enabledMdc = config.isEnabledMdc();
+		this.maxLength = config.getMaxLength();
+		this.slowThreshold = config.getSlowThreshold();
+		this.consumer = new Thread(this::consume, "radp-access-log");
+		this.consumer.setDaemon(true);
+		this.consumer.start();
+	}
+
+	/**
+	 * Logs a method invocation asynchronously.
+	 * @param invocation the method invocation being logged
+	 * @param result the return value from the method
+	 * @param throwable the exception thrown by the method, or null if successful
+	 * @param duration the execution time in milliseconds
+	 */
+	public void log(MethodInvocation invocation, Object result, Throwable throwable, long duration) {
+		String className = Objects.requireNonNull(invocation.getThis()).getClass().getName();
+		String methodName = invocation.getMethod().getName();
+		Object[] arguments = invocation.getArguments();
+		Map<String, String> context = MDC.getCopyOfContextMap();
+		// 领取槽位后不能再抛出异常, 否则该槽位永远不会发布, 消费者将阻塞在该槽位上
+		AccessLogEvent event = claim();
+		if (event == null) {
+			if (this.overflowPolicy == AccessLogOverflowPolicy.CALLER_RUNS || !this.running) {
+				AccessLogHelper.log(className, methodName, arguments, result, throwable, duration, this.enabledMdc,
+						this.maxLength, this.slowThreshold);
+			}
+			return;
+		}
+		event.className = className;
+		event.methodName = methodName;
+		event.arguments = arguments;
+		event.result = result;
+		event.throwable = throwable;
+		event.duration = duration;
+		event.context = context;
+		publish(event);
+	}
+
+	/**
+	 * Logs an HTTP request asynchronously. The request is captured on the calling thread.
+	 * @param req the HTTP servlet request
+	 * @param resp the HTTP servlet response
+	 * @param throwable the exception thrown during processing, or null if successful
+	 * @param duration the request processing time in milliseconds
+	 */
+	public void log(HttpServletRequest req, HttpServletResponse resp, Throwable throwable, long duration) {
+		AccessLog accessLog = AccessLogHelper.capture(req, resp, throwable, duration, this.maxLength);
+		Map<String, String> context = MDC.getCopyOfContextMap();
+		AccessLogEvent event = claim();
+		if (event == null) {
+			if (this.overflowPolicy == AccessLogOverflowPolicy.CALLER_RUNS || !this.running) {
+				AccessLogHelper.log(accessLog, this.enabledMdc, this.slowThreshold);
+			}
+			return;
+		}
+		event.accessLog = accessLog;
+		event.context = context;
+		publish(event);
+	}
+
+	/**
+	 * Returns the number of access logs handed over to the consumer thread.
+	 * @return the number of published access logs
+	 */
+	public long getPublishedCount() {
+		return this.published.sum();
+	}
+
+	/**
+	 * Returns the number of access logs discarded because the ring buffer was full.
+	 * @return the number of dropped access logs
+	 */
+	public long getDroppedCount() {
+		return this.dropped.sum();
+	}
+
+	/**
+	 * Returns the number of access logs waiting for the consumer thread.
+	 * @return the number of pending access logs
+	 */
+	public int getPendingCount() {
+		return this.ringBuffer.size();
+	}
+
+	/**
+	 * Stops the consumer thread once the pending access logs are written, waiting at most
+	 * five seconds.
+	 */
+	@Override
+	public void close() {
+		if (!this.running) {
+			return;
+		}
+		this.running = false;
+		LockSupport.unpark(this.consumer);
+		try {
+			this.consumer.join(CLOSE_TIMEOUT_MILLIS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.consumer.isAlive()) {
+			log.warn("Access log consumer did not finish within {}ms, {} access logs pending", CLOSE_TIMEOUT_MILLIS,
+					getPendingCount());
+		}
+	}
+
+	/**
+	 * Claims a slot according to the overflow policy.
+	 * @return the slot, or {@code null} if the access log is to be written on the calling
+	 * thread or dropped
+	 */
+	private AccessLogEvent claim() {
+		if (!this.running) {
+			return null;
+		}
+		AccessLogEvent event = this.ringBuffer.tryClaim();
+		if (event != null) {
+			return event;
+		}
+		switch (this.overflowPolicy) {
+			case BLOCK:
+				while (event == null && this.running) {
+					LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+					event = this.ringBuffer.tryClaim();
+				}
+				return event;
+			case DROP:
+				this.dropped.increment();
+				return null;
+			default:
+				return null;
+		}
+	}
+
+	private void publish(AccessLogEvent event) {
+		this.ringBuffer.publish(event);
+		this.published.increment();
+		if (this.consumerWaiting) {
+			LockSupport.unpark(this.consumer);
+		}
+		if (!this.running) {
+			// 与 close() 竞争时消费者可能已退出, 由发布者自行写出剩余的访问日志
+			drainAfterClose();
+		}
+	}
+
+	/**
+	 * Writes the access logs left in the ring buffer once the consumer thread has
+	 * terminated, on the calling thread and under its original MDC afterwards.
+	 */
+	private void drainAfterClose() {
+		try {
+			this.consumer.join(CLOSE_TIMEOUT_MILLIS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (this.consumer.isAlive()) {
+			return;
+		}
+		Map<String, String> context = MDC.getCopyOfContextMap();
+		try {
+			synchronized (this.ringBuffer) {
+				AccessLogEvent event;
+				while ((event = this.ringBuffer.poll()) != null) {
+					process(event);
+					this.ringBuffer.release(event);
+				}
+			}
+		}
+		finally {
+			if (context != null) {
+				MDC.setContextMap(context);
+			}
+		}
+	}
+
+	private void consume() {
+		while (true) {
+			AccessLogEvent event = this.ringBuffer.poll();
+			if (event != null) {
+				process(event);
+				this.ringBuffer.release(event);
+				if (System.nanoTime() - this.lastReportNanos >= REPORT_INTERVAL_NANOS) {
+					reportDropped();
+				}
+				continue;
+			}
+			reportDropped();
+			if (!this.running && this.ringBuffer.size() == 0) {
+				return;
+			}
+			this.consumerWaiting = true;
+			if (this.ringBuffer.poll() == null && this.running) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			}
+			this.consumerWaiting = false;
+		}
+	}
+
+	private void process(AccessLogEvent event) {
+		if (event.context != null) {
+			MDC.setContextMap(event.context);
+		}
+		try {
+			if (event.accessLog != null) {
+				AccessLogHelper.log(event.accessLog, this.enabledMdc, this.slowThreshold);
+			}
+			else {
+				AccessLogHelper.log(event.className, event.methodName, event.arguments, event.result,
+						event.throwable, event.duration, this.enabledMdc, this.maxLength, this.slowThreshold);
+			}
+		}
+		catch (RuntimeException | LinkageError ex) {
+			log.warn("Failed to write access log: {}", ex.toString());
+		}
+		finally {
+			MDC.clear();
+		}
+	}
+
+	private void reportDropped() {
+		this.lastReportNanos = System.nanoTime();
+		long count = this.dropped.sum();
+		if (count != this.reportedDropped) {
+			log.warn("Dropped {} access logs, the ring buffer of {} slots was full", count - this.reportedDropped,
+					this.ringBuffer.capacity());
+			this.reportedDropped = count;
+		}
+	}
+
+}
@@ -16,11 +16,16 @@
 
 package space.x9x.radp.spring.framework.logging.access.config;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import space.x9x.radp.spring.framework.logging.access.async.AccessLogOverflowPolicy;
+
 /**
  * Configuration class for access logging aspects. This class defines various settings
  * that control the behavior of access logging, including what to log, how to log it, and
@@ -51,10 +56,25 @@ public class AccessLogConfig {
 
 	/**
 	 * Sampling rate for log output, between 0.0 and 1.0. This controls what percentage of
-	 * method invocations are logged. Default is 1.0 (log all invocations).
+	 * method invocations are logged. Failed invocations and invocations reaching the slow
+	 * threshold are always logged. Default is 1.0 (log all invocations).
 	 */
 	private double sampleRate = 1.0;
 
+	/**
+	 * Sampling rates overriding {@link #sampleRate} by location prefix, such as a package,
+	 * a class or a {@code className.methodName}. The longest matching prefix wins. Keys
+	 * containing dots are bound with brackets, e.g.
+	 * {@code sample-rates[com.example.order]=0.1}.
+	 */
+	private Map<String, Double> sampleRates = new LinkedHashMap<>();
+
+	/**
+	 * Maximum number of sampled access logs per location and second, failed and slow
+	 * invocations excepted. Default is 0 (unlimited).
+	 */
+	private int maxPerSecond = 0;
+
 	/**
 	 * Flag indicating whether to log method arguments. When enabled, the values of method
 	 * parameters are included in the log. Default is true.
@@ -79,6 +99,19 @@ public class AccessLogConfig {
 	 */
 	private int maxLength = 500;
 
+	/**
+	 * Flag indicating whether the request and response bodies of HTTP access logs are
+	 * captured by the
+	 * {@link space.x9x.radp.spring.framework.logging.access.filter.AccessLogCaptureFilter}.
+	 * Multipart and binary request bodies are never captured. Default is false.
+	 */
+	private boolean captureBody = false;
+
+	/**
+	 * Number of bytes of each request and response body captured. Default is 4096.
+	 */
+	private int bodyCaptureLimit = 4096;
+
 	/**
 	 * Threshold in milliseconds for identifying slow method executions. Methods that take
 	 * longer than this threshold are logged with a warning level. Default is 1000
@@ -86,4 +119,23 @@ public class AccessLogConfig {
 	 */
 	private long slowThreshold = 1000;
 
+	/**
+	 * Flag indicating whether access logs are formatted and written by a dedicated
+	 * thread instead of the calling thread. Arguments and return values are then rendered
+	 * after the method has returned. Default is false.
+	 */
+	private boolean async = false;
+
+	/**
+	 * Number of access logs the asynchronous logger buffers, rounded up to a power of
+	 * two. Default is 8192.
+	 */
+	private int ringBufferSize = 8192;
+
+	/**
+	 * What the asynchronous logger does when its buffer is full. Default is
+	 * {@link AccessLogOverflowPolicy#DROP}.
+	 */
+	private AccessLogOverflowPolicy overflowPolicy = AccessLogOverflowPolicy.DROP;
+
 }
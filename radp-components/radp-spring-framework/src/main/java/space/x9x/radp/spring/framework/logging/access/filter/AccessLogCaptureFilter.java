@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.filter;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.util.WebUtils;
+
+import space.x9x.radp.spring.framework.web.util.CustomHttpServletRequestWrapper;
+import space.x9x.radp.spring.framework.web.util.CustomHttpServletResponseWrapper;
+
+/**
+ * HTTP filter that captures a bounded prefix of the request and response bodies for
+ * access logging. The bodies are passed through untouched, so the application reads the
+ * request body once and the response is streamed to the client as it is written. The
+ * captured content is available through
+ * {@link space.x9x.radp.spring.framework.web.util.ServletUtils#getRequestBody} and
+ * {@link space.x9x.radp.spring.framework.web.util.ServletUtils#getResponseBody} until the
+ * filter returns.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:30
+ */
+public class AccessLogCaptureFilter extends HttpFilter {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Number of bytes of each body to capture.
+	 */
+	private final int captureLimit;
+
+	/**
+	 * Constructs a filter capturing up to the given number of bytes of each body.
+	 * @param captureLimit the number of bytes of each body to capture
+	 */
+	public AccessLogCaptureFilter(int captureLimit) {
+		this.captureLimit = captureLimit;
+	}
+
+	/**
+	 * Wraps the request and response into capturing wrappers, unless already wrapped, and
+	 * hands their buffers back once the request is complete.
+	 * @param req the HTTP servlet request being processed
+	 * @param res the HTTP servlet response being generated
+	 * @param chain the filter chain for invoking the next filter
+	 * @throws IOException if an I/O error occurs during request processing
+	 * @throws ServletException if a servlet error occurs during request processing
+	 */
+	@Override
+	protected void doFilter(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+			throws IOException, ServletException {
+		CustomHttpServletRequestWrapper request = null;
+		if (WebUtils.getNativeRequest(req, CustomHttpServletRequestWrapper.class) == null) {
+			request = new CustomHttpServletRequestWrapper(req, this.captureLimit);
+		}
+		CustomHttpServletResponseWrapper response = null;
+		if (WebUtils.getNativeResponse(res, CustomHttpServletResponseWrapper.class) == null) {
+			response = new CustomHttpServletResponseWrapper(res, this.captureLimit);
+		}
+		try {
+			chain.doFilter((request != null) ? request : req, (response != null) ? response : res);
+		}
+		finally {
+			// 异步请求仍在读写, 缓冲区交由 GC 回收
+			if (!req.isAsyncStarted()) {
+				if (request != null) {
+					request.release();
+				}
+				if (response != null) {
+					response.release();
+				}
+			}
+		}
+	}
+
+}
@@ -43,6 +43,16 @@ public class AccessLog {
 	 */
 	private String location;
 
+	/**
+	 * The remote user of an HTTP request, {@code null} for method invocations.
+	 */
+	private String remoteUser;
+
+	/**
+	 * The client IP address of an HTTP request, {@code null} for method invocations.
+	 */
+	private String remoteAddr;
+
 	/**
 	 * The arguments passed to the method or the request body. This may be truncated if it
 	 * exceeds the configured maximum length.
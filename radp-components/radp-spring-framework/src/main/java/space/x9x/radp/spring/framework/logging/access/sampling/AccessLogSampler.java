@@ -0,0 +1,154 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.sampling;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.MethodClassKey;
+
+import space.x9x.radp.commons.lang.StringConstants;
+import space.x9x.radp.spring.framework.logging.access.config.AccessLogConfig;
+
+/**
+ * Tail-based sampling of access logs: the decision is taken after the invocation, once
+ * its outcome is known.
+ * <p>
+ * Failed invocations and invocations reaching the slow threshold are always logged. The
+ * others are sampled at the rate of their location ({@code className.methodName}), the
+ * rate of the longest matching prefix in {@link AccessLogConfig#getSampleRates()} or the
+ * default {@link AccessLogConfig#getSampleRate()}, and optionally limited to
+ * {@link AccessLogConfig#getMaxPerSecond()} access logs per location and second. The
+ * policy of a location is resolved once per target class and method.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:05
+ */
+public class AccessLogSampler {
+
+	private final double defaultSampleRate;
+
+	private final Map<String, Double> sampleRates;
+
+	private final int maxPerSecond;
+
+	private final long slowThreshold;
+
+	private final Map<MethodClassKey, Location> locations = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the sampler.
+	 * @param config the access log configuration providing the sample rates, the rate
+	 * limit and the slow threshold
+	 */
+	public AccessLogSampler(AccessLogConfig config) {
+		this.defaultSampleRate = config.getSampleRate();
+		this.sampleRates = new LinkedHashMap<>(config.getSampleRates());
+		this.maxPerSecond = config.getMaxPerSecond();
+		this.slowThreshold = config.getSlowThreshold();
+	}
+
+	/**
+	 * Decides whether a completed invocation is logged.
+	 * @param targetClass the class of the invoked object
+	 * @param method the invoked method
+	 * @param failed whether the invocation threw an exception
+	 * @param duration the execution time in milliseconds
+	 * @return {@code true} if the invocation is to be logged
+	 */
+	public boolean shouldLog(Class<?> targetClass, Method method, boolean failed, long duration) {
+		if (failed || duration >= this.slowThreshold) {
+			return true;
+		}
+		MethodClassKey key = new MethodClassKey(method, targetClass);
+		Location location = this.locations.get(key);
+		if (location == null) {
+			location = this.locations.computeIfAbsent(key,
+					(k) -> resolve(targetClass.getName() + StringConstants.DOT + method.getName()));
+		}
+		return location.sample();
+	}
+
+	/**
+	 * Returns the sample rate of a location: the rate of the longest configured prefix
+	 * ending at a {@code .} boundary, or the default rate.
+	 * @param location the location, {@code className.methodName}
+	 * @return the sample rate between 0.0 and 1.0
+	 */
+	public double getSampleRate(String location) {
+		String matched = null;
+		for (String prefix : this.sampleRates.keySet()) {
+			if (location.startsWith(prefix)
+					&& (location.length() == prefix.length() || location.charAt(prefix.length()) == '.')
+					&& (matched == null || prefix.length() > matched.length())) {
+				matched = prefix;
+			}
+		}
+		return (matched != null) ? this.sampleRates.get(matched) : this.defaultSampleRate;
+	}
+
+	private Location resolve(String location) {
+		return new Location(getSampleRate(location), this.maxPerSecond);
+	}
+
+	/**
+	 * Sampling state of a location.
+	 */
+	private static final class Location {
+
+		private final double sampleRate;
+
+		private final int maxPerSecond;
+
+		private final AtomicLong second = new AtomicLong();
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		Location(double sampleRate, int maxPerSecond) {
+			this.sampleRate = sampleRate;
+			this.maxPerSecond = maxPerSecond;
+		}
+
+		boolean sample() {
+			if (this.sampleRate <= 0
+					|| (this.sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= this.sampleRate)) {
+				return false;
+			}
+			return this.maxPerSecond <= 0 || tryAcquire();
+		}
+
+		/**
+		 * Counts the access log against the budget of the current second, a fixed window
+		 * that may briefly admit a few more at its boundary.
+		 */
+		private boolean tryAcquire() {
+			long now = System.currentTimeMillis() / 1000;
+			long current = this.second.get();
+			if (current != now && this.second.compareAndSet(current, now)) {
+				this.count.set(0);
+			}
+			return this.count.incrementAndGet() <= this.maxPerSecond;
+		}
+
+	}
+
+}
@@ -16,7 +16,14 @@
 
 package space.x9x.radp.spring.framework.logging.access.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -26,6 +33,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.aopalliance.intercept.MethodInvocation;
 import org.slf4j.MDC;
 
+import space.x9x.radp.commons.io.LimitExceededException;
+import space.x9x.radp.commons.io.TruncatingOutputStream;
+import space.x9x.radp.commons.io.TruncatingWriter;
 import space.x9x.radp.commons.lang.ObjectUtil;
 import space.x9x.radp.commons.lang.StringConstants;
 import space.x9x.radp.commons.lang.StringUtil;
@@ -48,6 +58,18 @@ import space.x9x.radp.spring.framework.web.util.ServletUtils;
 @Slf4j
 public class AccessLogHelper {
 
+	/**
+	 * Maximum number of elements of a collection, map or array rendered as an argument,
+	 * the remaining elements are only counted.
+	 */
+	public static final int MAX_RENDERED_ELEMENTS = 10;
+
+	/**
+	 * Nesting depth beyond which collections, maps and arrays are elided, guarding
+	 * against self-referencing values.
+	 */
+	private static final int MAX_RENDERED_DEPTH = 8;
+
 	/**
 	 * Determines whether to log based on the sampling rate. This method implements a
 	 * probabilistic sampling strategy where the likelihood of logging is determined by
@@ -56,7 +78,7 @@ public class AccessLogHelper {
 	 * @return true if logging should occur, false otherwise
 	 */
 	public static boolean shouldLog(double sampleRate) {
-		return sampleRate >= 1.0 || Math.random() < sampleRate;
+		return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
 	}
 
 	/**
@@ -73,34 +95,37 @@ public class AccessLogHelper {
 	 */
 	public static void log(MethodInvocation invocation, Object result, Throwable throwable, long duration,
 			boolean enabledMdc, int maxLength, long slowThreshold) {
+		String className = Objects.requireNonNull(invocation.getThis()).getClass().getName();
+		log(className, invocation.getMethod().getName(), invocation.getArguments(), result, throwable, duration,
+				enabledMdc, maxLength, slowThreshold);
+	}
+
+	/**
+	 * Logs access information for a method invocation captured earlier, possibly on
+	 * another thread. The arguments are rendered and the return value is serialized here.
+	 * @param className the class name of the invoked object
+	 * @param methodName the name of the invoked method
+	 * @param args the arguments of the invocation
+	 * @param result the return value from the method
+	 * @param throwable the exception thrown by the method, or null if successful
+	 * @param duration the execution time in milliseconds
+	 * @param enabledMdc whether to store logging information in MDC
+	 * @param maxLength maximum length for logged values to prevent excessive log sizes
+	 * @param slowThreshold threshold in milliseconds for identifying slow executions
+	 */
+	public static void log(String className, String methodName, Object[] args, Object result, Throwable throwable,
+			long duration, boolean enabledMdc, int maxLength, long slowThreshold) {
 		AccessLog accessLog = new AccessLog();
 		accessLog.setThrowable(throwable);
 		accessLog.setDuration(duration);
 
-		String className = Objects.requireNonNull(invocation.getThis()).getClass().getName();
-		String methodName = invocation.getMethod().getName();
 		String location = className + StringConstants.DOT + methodName;
 		accessLog.setLocation(location);
 
-		Object[] args = invocation.getArguments();
-		StringBuilder argsBuilder = new StringBuilder();
-		for (int i = 0; i < args.length; i++) {
-			if (i > 0) {
-				argsBuilder.append(", ");
-			}
-			argsBuilder.append((args[i] != null) ? args[i].toString() : StringConstants.NULL);
-		}
-		String arguments = argsBuilder.toString();
-		if (arguments.length() > maxLength) {
-			arguments = arguments.substring(0, maxLength);
-		}
+		String arguments = renderArguments(args, maxLength);
 		accessLog.setArguments(arguments);
 
-		String returnValue = ObjectUtil.isEmpty(result) ? StringConstants.EMPTY
-				: JSONHelper.json().toJSONString(result);
-		if (returnValue.length() > maxLength) {
-			returnValue = returnValue.substring(0, maxLength);
-		}
+		String returnValue = renderReturnValue(result, maxLength);
 		accessLog.setReturnValue(returnValue);
 
 		if (enabledMdc) {
@@ -127,19 +152,34 @@ public class AccessLogHelper {
 	 */
 	public static void log(HttpServletRequest req, HttpServletResponse resp, Throwable throwable, long duration,
 			boolean enabledMdc, int maxLength, long slowThreshold) {
+		log(capture(req, resp, throwable, duration, maxLength), enabledMdc, slowThreshold);
+	}
+
+	/**
+	 * Captures the access information of an HTTP request. The request and response are
+	 * only valid on the thread processing the request, so the remote user and address and
+	 * the bodies captured by the
+	 * {@link space.x9x.radp.spring.framework.logging.access.filter.AccessLogCaptureFilter}
+	 * are read here, while formatting and output may happen later.
+	 * @param req the HTTP servlet request
+	 * @param resp the HTTP servlet response
+	 * @param throwable the exception thrown during processing, or null if successful
+	 * @param duration the request processing time in milliseconds
+	 * @param maxLength maximum length for logged values to prevent excessive log sizes
+	 * @return the access log of the request
+	 */
+	public static AccessLog capture(HttpServletRequest req, HttpServletResponse resp, Throwable throwable,
+			long duration, int maxLength) {
 		AccessLog accessLog = new AccessLog();
 		accessLog.setThrowable(throwable);
 		accessLog.setDuration(duration);
+		accessLog.setRemoteUser(ServletUtils.getRemoteUser());
+		accessLog.setRemoteAddr(IpConfigUtils.parseIpAddress(req));
+		accessLog.setLocation(req.getRequestURI());
 
-		String remoteUser = ServletUtils.getRemoteUser();
-		String remoteAddr = IpConfigUtils.parseIpAddress(req);
-		String location = req.getRequestURI();
-		accessLog.setLocation(location);
-
-		String arguments = ServletUtils.getRequestBOdy(req);
-		if (arguments != null && arguments.length() > maxLength) {
+		String arguments = ServletUtils.getRequestBody(req);
+		if (arguments.length() > maxLength) {
 			arguments = arguments.substring(0, maxLength);
-
 		}
 		accessLog.setArguments(arguments);
 
@@ -148,18 +188,147 @@ public class AccessLogHelper {
 			returnValue = returnValue.substring(0, maxLength);
 		}
 		accessLog.setReturnValue(returnValue);
+		return accessLog;
+	}
 
+	/**
+	 * Logs the access information of an HTTP request captured by
+	 * {@link #capture(HttpServletRequest, HttpServletResponse, Throwable, long, int)}.
+	 * @param accessLog the captured access log
+	 * @param enabledMdc whether to store logging information in MDC
+	 * @param slowThreshold threshold in milliseconds for identifying slow requests
+	 */
+	public static void log(AccessLog accessLog, boolean enabledMdc, long slowThreshold) {
 		if (enabledMdc) {
-			MDC.put(MdcConstants.REMOTE_USER, remoteUser);
-			MDC.put(MdcConstants.REMOTE_ADDR, remoteAddr);
-			MDC.put(MdcConstants.ARGUMENTS, StringUtil.trimToEmpty(arguments));
-			MDC.put(MdcConstants.RETURN_VALUE, StringUtil.trimToEmpty(returnValue));
-			MDC.put(MdcConstants.DURATION, String.valueOf(duration));
+			MDC.put(MdcConstants.REMOTE_USER, accessLog.getRemoteUser());
+			MDC.put(MdcConstants.REMOTE_ADDR, accessLog.getRemoteAddr());
+			MDC.put(MdcConstants.ARGUMENTS, StringUtil.trimToEmpty(accessLog.getArguments()));
+			MDC.put(MdcConstants.RETURN_VALUE, StringUtil.trimToEmpty(accessLog.getReturnValue()));
+			MDC.put(MdcConstants.DURATION, String.valueOf(accessLog.getDuration()));
 		}
 
 		log(accessLog, slowThreshold);
 	}
 
+	/**
+	 * Renders the arguments of a method invocation, stopping as soon as
+	 * {@code maxLength} characters are produced. Collections, maps and arrays show their
+	 * first {@value #MAX_RENDERED_ELEMENTS} elements and the number of the remaining ones,
+	 * other values their {@code toString()}.
+	 * @param args the arguments
+	 * @param maxLength the maximum number of characters to render
+	 * @return the rendered arguments, cut at {@code maxLength}
+	 */
+	public static String renderArguments(Object[] args, int maxLength) {
+		TruncatingWriter writer = new TruncatingWriter(maxLength);
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if (i > 0) {
+					writer.write(", ");
+				}
+				render(writer, args[i], 0);
+			}
+		}
+		catch (LimitExceededException ex) {
+			// maxLength reached
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Serializes a return value to JSON, stopping as soon as {@code maxLength} characters
+	 * are produced, provided the JSON implementation streams its output.
+	 * @param result the return value
+	 * @param maxLength the maximum number of characters to render
+	 * @return the JSON of the return value cut at {@code maxLength}, empty for an empty
+	 * value
+	 */
+	public static String renderReturnValue(Object result, int maxLength) {
+		if (ObjectUtil.isEmpty(result)) {
+			return StringConstants.EMPTY;
+		}
+		TruncatingOutputStream out = new TruncatingOutputStream(maxLength);
+		try {
+			JSONHelper.json().writeTo(result, out);
+		}
+		catch (IOException | RuntimeException ex) {
+			if (!LimitExceededException.isCause(ex)) {
+				throw (ex instanceof IOException) ? new UncheckedIOException((IOException) ex) : (RuntimeException) ex;
+			}
+		}
+		return out.toString();
+	}
+
+	private static void render(TruncatingWriter writer, Object value, int depth) throws LimitExceededException {
+		if (value == null) {
+			writer.write(StringConstants.NULL);
+		}
+		else if (value instanceof CharSequence) {
+			writer.append((CharSequence) value);
+		}
+		else if (depth > MAX_RENDERED_DEPTH
+				&& (value instanceof Collection || value instanceof Map || value.getClass().isArray())) {
+			writer.write("[...]");
+		}
+		else if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			renderElements(writer, collection.iterator(), collection.size(), '[', ']', depth);
+		}
+		else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			renderElements(writer, map.entrySet().iterator(), map.size(), '{', '}', depth);
+		}
+		else if (value instanceof Map.Entry) {
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+			render(writer, entry.getKey(), depth);
+			writer.write('=');
+			render(writer, entry.getValue(), depth);
+		}
+		else if (value.getClass().isArray()) {
+			renderArray(writer, value, depth);
+		}
+		else {
+			writer.write(String.valueOf(value));
+		}
+	}
+
+	private static void renderElements(TruncatingWriter writer, Iterator<?> elements, int size, char open,
+			char close, int depth) throws LimitExceededException {
+		writer.write(open);
+		int rendered = 0;
+		while (elements.hasNext() && rendered < MAX_RENDERED_ELEMENTS) {
+			if (rendered > 0) {
+				writer.write(", ");
+			}
+			render(writer, elements.next(), depth + 1);
+			rendered++;
+		}
+		renderRemaining(writer, size - rendered, close);
+	}
+
+	private static void renderArray(TruncatingWriter writer, Object array, int depth) throws LimitExceededException {
+		int length = Array.getLength(array);
+		int rendered = Math.min(length, MAX_RENDERED_ELEMENTS);
+		writer.write('[');
+		for (int i = 0; i < rendered; i++) {
+			if (i > 0) {
+				writer.write(", ");
+			}
+			render(writer, Array.get(array, i), depth + 1);
+		}
+		renderRemaining(writer, length - rendered, ']');
+	}
+
+	private static void renderRemaining(TruncatingWriter writer, int remaining, char close)
+			throws LimitExceededException {
+		if (remaining > 0) {
+			writer.write(", ... ");
+			writer.write(String.valueOf(remaining));
+			writer.write(" more");
+		}
+		writer.write(close);
+	}
+
 	/**
 	 * Logs the access information with the appropriate log level based on the execution
 	 * result. If an exception occurred, logs at ERROR level. If execution time exceeds
@@ -17,6 +17,8 @@
 package space.x9x.radp.spring.framework.logging.bootstrap.filter;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -24,9 +26,7 @@ import javax.servlet.http.HttpFilter;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import org.slf4j.MDC;
 
 import org.springframework.core.env.Environment;
 
@@ -35,17 +35,23 @@ import space.x9x.radp.commons.lang.StringUtil;
 import space.x9x.radp.commons.net.IpConfigUtils;
 import space.x9x.radp.spring.framework.bootstrap.constant.SpringProperties;
 import space.x9x.radp.spring.framework.logging.MdcConstants;
+import space.x9x.radp.spring.framework.logging.MdcSnapshot;
 import space.x9x.radp.spring.framework.web.util.ServletUtils;
 
 /**
  * HTTP filter that adds application and request information to the MDC (Mapped Diagnostic
  * Context) for logging purposes. This filter enriches logs with contextual information
  * such as application name, active profile, request URI, and IP addresses.
+ * <p>
+ * The application name, profile and local address do not change while the application
+ * runs and are resolved once. The per-request context is attached as one
+ * {@link MdcSnapshot}, which is also handed to tasks of the
+ * {@code TtlThreadPoolTaskExecutor}, and the previous MDC is restored when the request
+ * completes.
  *
  * @author RADP x9x
  * @since 2024-09-30 11:10
  */
-@RequiredArgsConstructor
 public class BootstrapLogHttpFilter extends HttpFilter {
 
 	private static final long serialVersionUID = 1L;
@@ -57,14 +63,34 @@ public class BootstrapLogHttpFilter extends HttpFilter {
 	private boolean enabledMdc = false;
 
 	/**
-	 * Spring environment used to retrieve application properties and profiles.
+	 * Application name, resolved once from the environment.
 	 */
-	private final Environment env;
+	private final String appName;
 
 	/**
-	 * Filters HTTP requests to add application and request information to the MDC. This
-	 * method extracts information from the request and environment, then adds it to the
-	 * MDC context for use in logging statements.
+	 * Active profiles, or the default profiles if none is active, joined by commas.
+	 */
+	private final String profile;
+
+	/**
+	 * Address of the local host.
+	 */
+	private final String localAddr;
+
+	/**
+	 * Constructs the filter, resolving the static context from the environment.
+	 * @param env Spring environment used to retrieve application properties and profiles
+	 */
+	public BootstrapLogHttpFilter(Environment env) {
+		this.appName = StringUtil.trimToEmpty(env.getProperty(SpringProperties.SPRING_APPLICATION_NAME));
+		this.profile = StringUtil.trimToEmpty(String.join(StringConstants.COMMA, getActiveProfiles(env)));
+		this.localAddr = IpConfigUtils.getIpAddress();
+	}
+
+	/**
+	 * Filters HTTP requests to add application and request information to the MDC. The
+	 * context is attached for the duration of the request and the previous MDC restored
+	 * afterwards.
 	 * @param req the HTTP servlet request being processed
 	 * @param res the HTTP servlet response being generated
 	 * @param chain the filter chain for invoking the next filter
@@ -74,24 +100,21 @@ public class BootstrapLogHttpFilter extends HttpFilter {
 	@Override
 	protected void doFilter(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
 			throws IOException, ServletException {
-
-		if (this.enabledMdc) {
-			String appName = StringUtil.trimToEmpty(this.env.getProperty(SpringProperties.SPRING_APPLICATION_NAME));
-			String profile = StringUtil.trimToEmpty(String.join(StringConstants.COMMA, getActiveProfiles(this.env)));
-			String requestURI = ServletUtils.getRequestURI(req);
-			String remoteUser = ServletUtils.getRemoteUser(req);
-			String remoteAddr = IpConfigUtils.parseIpAddress(req);
-			String localAddr = ServletUtils.getLocalAddr(req);
-
-			MDC.put(MdcConstants.APP, appName);
-			MDC.put(MdcConstants.PROFILE, profile);
-			MDC.put(MdcConstants.REQUEST_URI, requestURI);
-			MDC.put(MdcConstants.REMOTE_USER, remoteUser);
-			MDC.put(MdcConstants.REMOTE_ADDR, remoteAddr);
-			MDC.put(MdcConstants.LOCAL_ADDR, localAddr);
+		if (!this.enabledMdc) {
+			chain.doFilter(req, res);
+			return;
 		}
 
-		chain.doFilter(req, res);
+		Map<String, String> context = new HashMap<>(16);
+		context.put(MdcConstants.APP, this.appName);
+		context.put(MdcConstants.PROFILE, this.profile);
+		context.put(MdcConstants.LOCAL_ADDR, this.localAddr);
+		context.put(MdcConstants.REQUEST_URI, ServletUtils.getRequestURI(req));
+		context.put(MdcConstants.REMOTE_USER, ServletUtils.getRemoteUser(req));
+		context.put(MdcConstants.REMOTE_ADDR, IpConfigUtils.parseIpAddress(req));
+		try (MdcSnapshot.Scope ignored = MdcSnapshot.attach(context)) {
+			chain.doFilter(req, res);
+		}
 	}
 
 	/**
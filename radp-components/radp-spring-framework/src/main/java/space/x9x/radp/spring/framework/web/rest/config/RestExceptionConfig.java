@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.rest.config;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import space.x9x.radp.spring.framework.web.rest.handler.ExceptionLogLimiter;
+
+/**
+ * Configuration class for the exception handling of RESTful APIs, providing properties
+ * to limit the cost of exception storms.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:40
+ */
+@EqualsAndHashCode
+@ToString
+@Setter
+@Getter
+public class RestExceptionConfig {
+
+	/**
+	 * 异常栈的日志间隔 (秒), 间隔内同类型、错误码与位置的异常只打印一次栈, 0 表示每次都打印.
+	 */
+	private long logInterval = ExceptionLogLimiter.DEFAULT_INTERVAL;
+
+	/**
+	 * 是否开启无栈模式, 开启后由异常工厂与断言创建的业务异常不再填充栈信息.
+	 */
+	private boolean stackless = false;
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.rest.handler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the stack traces logged by the {@link RestExceptionHandler} during an exception
+ * storm.
+ * <p>
+ * Exceptions are grouped by type, error code and location. The first exception of a
+ * group in an interval is logged with its stack trace, the following ones are only
+ * counted. The counts of all groups are drained by {@link #pollSuppressed()}, meant to
+ * be called once per interval by a scheduled task logging them as a single summary line.
+ * Groups idle for two intervals are evicted, and at most {@value #MAX_GROUPS} groups
+ * are tracked: the exceptions of further groups are always logged.
+ * <p>
+ * The interval in seconds is read from the {@value #INTERVAL_PROPERTY} property, bound
+ * through {@link space.x9x.radp.spring.framework.web.rest.config.RestExceptionConfig
+ * RestExceptionConfig} in a Spring Boot application and from the system property
+ * otherwise. It defaults to {@value #DEFAULT_INTERVAL} seconds, {@code 0} logs every
+ * stack trace.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 01:20
+ */
+public class ExceptionLogLimiter {
+
+	/**
+	 * System property holding the interval in seconds.
+	 */
+	public static final String INTERVAL_PROPERTY = "radp.exception.log-interval";
+
+	/**
+	 * Default interval in seconds.
+	 */
+	public static final long DEFAULT_INTERVAL = 60;
+
+	static final int MAX_GROUPS = 1024;
+
+	private final long intervalNanos;
+
+	private final Map<Group, Window> windows = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a limiter.
+	 * @param interval the interval, {@code 0} or less logs every stack trace
+	 * @param unit the unit of the interval
+	 */
+	public ExceptionLogLimiter(long interval, TimeUnit unit) {
+		this.intervalNanos = Math.max(unit.toNanos(interval), 0);
+	}
+
+	/**
+	 * Creates a limiter with the interval of the {@value #INTERVAL_PROPERTY} system
+	 * property.
+	 * @return the limiter
+	 */
+	public static ExceptionLogLimiter fromSystemProperty() {
+		return new ExceptionLogLimiter(Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL), TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Returns the interval.
+	 * @param unit the unit to return the interval in
+	 * @return the interval, {@code 0} if disabled
+	 */
+	public long getInterval(TimeUnit unit) {
+		return unit.convert(this.intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Decides whether the stack trace of an exception is logged, counting it otherwise.
+	 * @param type the type of the exception
+	 * @param code the error code, may be {@code null}
+	 * @param location where the exception occurred, may be {@code null}
+	 * @return {@code true} if the stack trace is to be logged
+	 */
+	public boolean tryAcquire(Class<?> type, String code, Object location) {
+		if (this.intervalNanos == 0) {
+			return true;
+		}
+		long now = System.nanoTime();
+		Group group = new Group(type, code, location);
+		Window window = this.windows.get(group);
+		if (window == null) {
+			if (this.windows.size() >= MAX_GROUPS) {
+				return true;
+			}
+			window = new Window(now);
+			Window existing = this.windows.putIfAbsent(group, window);
+			if (existing == null) {
+				return true;
+			}
+			window = existing;
+		}
+		return window.tryAcquire(now, this.intervalNanos);
+	}
+
+	/**
+	 * Drains the counts of the suppressed stack traces since the last poll.
+	 * @return the suppressed counts by {@code type[code]@location}, empty if nothing was
+	 * suppressed
+	 */
+	public Map<String, Long> pollSuppressed() {
+		if (this.intervalNanos == 0) {
+			return new LinkedHashMap<>();
+		}
+		long now = System.nanoTime();
+		Map<String, Long> suppressed = new LinkedHashMap<>();
+		Iterator<Map.Entry<Group, Window>> iterator = this.windows.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Group, Window> entry = iterator.next();
+			Window window = entry.getValue();
+			long count = window.suppressed.sumThenReset();
+			if (count > 0) {
+				suppressed.put(entry.getKey().toString(), count);
+			}
+			else if (now - window.start.get() >= 2 * this.intervalNanos) {
+				iterator.remove();
+			}
+		}
+		return suppressed;
+	}
+
+	/**
+	 * Type, error code and location of an exception.
+	 */
+	private static final class Group {
+
+		private final Class<?> type;
+
+		private final String code;
+
+		private final Object location;
+
+		private final int hash;
+
+		Group(Class<?> type, String code, Object location) {
+			this.type = type;
+			this.code = code;
+			this.location = location;
+			this.hash = Objects.hash(type, code, location);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof Group)) {
+				return false;
+			}
+			Group group = (Group) other;
+			return this.type == group.type && Objects.equals(this.code, group.code)
+					&& Objects.equals(this.location, group.location);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public String toString() {
+			return this.type.getSimpleName() + "[" + this.code + "]@" + this.location;
+		}
+
+	}
+
+	/**
+	 * Current interval of a group.
+	 */
+	private static final class Window {
+
+		private final AtomicLong start;
+
+		private final LongAdder suppressed = new LongAdder();
+
+		Window(long start) {
+			this.start = new AtomicLong(start);
+		}
+
+		boolean tryAcquire(long now, long intervalNanos) {
+			long current = this.start.get();
+			if (now - current >= intervalNanos && this.start.compareAndSet(current, now)) {
+				return true;
+			}
+			this.suppressed.increment();
+			return false;
+		}
+
+	}
+
+}
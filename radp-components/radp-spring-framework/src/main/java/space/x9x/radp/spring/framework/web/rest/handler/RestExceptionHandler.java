@@ -17,13 +17,19 @@
 package space.x9x.radp.spring.framework.web.rest.handler;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -37,11 +43,12 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.HandlerMapping;
 
-import space.x9x.radp.commons.collections.CollectionUtils;
 import space.x9x.radp.commons.lang.MessageFormatUtils;
 import space.x9x.radp.commons.lang.StringUtil;
 import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.SupportedExtensionsHandle;
 import space.x9x.radp.spring.framework.dto.extension.ResponseBuilder;
 import space.x9x.radp.spring.framework.error.BaseException;
 import space.x9x.radp.spring.framework.error.ClientException;
@@ -51,19 +58,28 @@ import space.x9x.radp.spring.framework.error.ThirdServiceException;
 import space.x9x.radp.spring.framework.error.http.BadRequestException;
 import space.x9x.radp.spring.framework.error.http.ForbiddenException;
 import space.x9x.radp.spring.framework.error.http.UnauthorizedException;
+import space.x9x.radp.spring.framework.web.rest.config.RestExceptionConfig;
 import space.x9x.radp.spring.framework.web.util.ServletUtils;
 
 /**
  * Global exception handler for REST controllers. This class provides centralized
  * exception handling across all REST controllers in the application, converting various
  * exceptions into appropriate HTTP responses with standardized error formats.
+ * <p>
+ * Stack traces are limited by an {@link ExceptionLogLimiter}: during an exception storm
+ * each type, error code and location logs its stack trace once per interval, and the
+ * suppressed ones are reported in a summary line by a daemon thread, started on the
+ * first suppression and running once per interval. The location is the mapped pattern
+ * of the current request, so suppressed exceptions never materialize their stack traces;
+ * only exceptions handled outside of a request are located by their stack frames. The
+ * interval is configured through a {@link RestExceptionConfig} bean, if present.
  *
  * @author RADP x9x
  * @since 2024-09-26 23:52
  */
 @RestControllerAdvice
 @Slf4j
-public class RestExceptionHandler {
+public class RestExceptionHandler implements DisposableBean {
 
 	/**
 	 * Log message template used when catching exceptions in the handler methods. The
@@ -71,6 +87,29 @@ public class RestExceptionHandler {
 	 */
 	private static final String EXCEPTION_HANDLER_CATCH = "@RestControllerAdvice catch exception: {}";
 
+	private static final String EXCEPTION_PACKAGE = "space.x9x.radp.spring.framework.error.";
+
+	private volatile ExceptionLogLimiter logLimiter = ExceptionLogLimiter.fromSystemProperty();
+
+	private final AtomicBoolean reporterStarted = new AtomicBoolean();
+
+	private volatile ScheduledExecutorService reporter;
+
+	/**
+	 * 后置处理器, 首次处理异常时解析, 随 {@link ExtensionLoader#reload()} 失效.
+	 */
+	private final SupportedExtensionsHandle<RestExceptionPostProcessor> postProcessors = ExtensionLoader
+		.getSupportedExtensionsHandle(RestExceptionPostProcessor.class);
+
+	/**
+	 * Applies the configuration of the stack trace limiting.
+	 * @param config the configuration
+	 */
+	@Autowired(required = false)
+	public void setConfig(RestExceptionConfig config) {
+		this.logLimiter = new ExceptionLogLimiter(config.getLogInterval(), TimeUnit.SECONDS);
+	}
+
 	/**
 	 * Handles general exceptions that are not caught by more specific handlers.
 	 * @param ex the exception
@@ -78,7 +117,7 @@ public class RestExceptionHandler {
 	 */
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<?> resolveException(Exception ex) {
-		log.error(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+		this.logException(ex, null, true);
 		ResponseStatus responseStatus = AnnotationUtils.findAnnotation(ex.getClass(), ResponseStatus.class);
 		HttpStatus status = (responseStatus != null) ? responseStatus.value() : HttpStatus.INTERNAL_SERVER_ERROR;
 		String message = (responseStatus != null && StringUtil.isNotBlank(responseStatus.reason()))
@@ -108,7 +147,7 @@ public class RestExceptionHandler {
 	 */
 	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
 	public ResponseEntity<?> resolveMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
-		log.warn(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+		this.logException(ex, null, false);
 		String message = "请求参数类型错误: " + ex.getMessage();
 		return this.buildResponseEntity(HttpStatus.BAD_REQUEST, "400", message);
 	}
@@ -120,7 +159,7 @@ public class RestExceptionHandler {
 	 */
 	@ExceptionHandler(HttpRequestMethodNotSupportedException.class)
 	public ResponseEntity<?> resolveMethodNotSupportedException(HttpRequestMethodNotSupportedException ex) {
-		log.warn(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+		this.logException(ex, null, false);
 		return this.buildResponseEntity(HttpStatus.METHOD_NOT_ALLOWED,
 				GlobalResponseCode.METHOD_NOT_ALLOWED.getErrorCode().getCode(), ex.getMessage());
 	}
@@ -162,7 +201,7 @@ public class RestExceptionHandler {
 	 */
 	@ExceptionHandler(ClientException.class)
 	public ResponseEntity<?> resolveClientException(ClientException ex) {
-		log.warn(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+		this.logException(ex, ex.getErrCode(), false);
 		this.postProcess(ex);
 		return this.buildResponseEntity(HttpStatus.BAD_REQUEST, ex);
 	}
@@ -174,7 +213,7 @@ public class RestExceptionHandler {
 	 */
 	@ExceptionHandler(ServerException.class)
 	public ResponseEntity<?> resolveServerException(ServerException ex) {
-		log.error(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+		this.logException(ex, ex.getErrCode(), true);
 		this.postProcess(ex);
 		return this.buildResponseEntity(HttpStatus.INTERNAL_SERVER_ERROR, ex);
 	}
@@ -186,7 +225,7 @@ public class RestExceptionHandler {
 	 */
 	@ExceptionHandler(ThirdServiceException.class)
 	public ResponseEntity<?> resolveThirdServiceException(ThirdServiceException ex) {
-		log.error(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+		this.logException(ex, ex.getErrCode(), true);
 		this.postProcess(ex);
 		return this.buildResponseEntity(HttpStatus.INTERNAL_SERVER_ERROR, ex);
 	}
@@ -195,18 +234,89 @@ public class RestExceptionHandler {
 		return ResponseBuilder.builder();
 	}
 
-	private void postProcess(Throwable ex) {
-		ExtensionLoader<RestExceptionPostProcessor> extensionLoader = ExtensionLoader
-			.getExtensionLoader(RestExceptionPostProcessor.class);
-		Set<String> extensions = extensionLoader.getSupportedExtensions();
-		if (CollectionUtils.isNotEmpty(extensions)) {
-			HttpServletRequest request = ServletUtils.getRequest();
-			HttpServletResponse response = ServletUtils.getResponse();
-			for (String extension : extensions) {
-				RestExceptionPostProcessor processor = extensionLoader.getExtension(extension);
-				processor.postProcess(request, response, ex);
+	private void logException(Throwable ex, String errCode, boolean error) {
+		if (this.logLimiter.tryAcquire(ex.getClass(), errCode, this.location(ex))) {
+			if (error) {
+				log.error(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+			}
+			else {
+				log.warn(EXCEPTION_HANDLER_CATCH, ex.getMessage(), ex);
+			}
+		}
+		else {
+			this.startReporter();
+			if (log.isDebugEnabled()) {
+				log.debug(EXCEPTION_HANDLER_CATCH, ex.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 首次抑制异常栈时启动汇总任务, 每个周期输出一次被抑制的次数.
+	 */
+	private void startReporter() {
+		if (this.reporterStarted.get() || !this.reporterStarted.compareAndSet(false, true)) {
+			return;
+		}
+		long interval = this.logLimiter.getInterval(TimeUnit.NANOSECONDS);
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+			Thread thread = new Thread(runnable, "radp-exception-log-reporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleAtFixedRate(this::reportSuppressed, interval, interval, TimeUnit.NANOSECONDS);
+		this.reporter = executor;
+	}
+
+	private void reportSuppressed() {
+		Map<String, Long> suppressed = this.logLimiter.pollSuppressed();
+		if (!suppressed.isEmpty()) {
+			log.warn("@RestControllerAdvice suppressed repeated stack traces in the last {}s: {}",
+					this.logLimiter.getInterval(TimeUnit.SECONDS), suppressed);
+		}
+	}
+
+	/**
+	 * Stops the summary task and reports the stack traces suppressed since its last run.
+	 */
+	@Override
+	public void destroy() {
+		ScheduledExecutorService executor = this.reporter;
+		if (executor != null) {
+			executor.shutdownNow();
+			this.reportSuppressed();
+		}
+	}
+
+	/**
+	 * 异常位置: 优先取请求的映射路径, 避免为被抑制的异常生成栈信息;
+	 * 无请求时取跳过异常工厂与断言类后的首个栈帧.
+	 */
+	private Object location(Throwable ex) {
+		HttpServletRequest request = ServletUtils.getRequest();
+		if (request != null) {
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			return (pattern != null) ? pattern : request.getRequestURI();
+		}
+		for (StackTraceElement frame : ex.getStackTrace()) {
+			String className = frame.getClassName();
+			if (!className.startsWith(EXCEPTION_PACKAGE) && !className.endsWith("Assert")) {
+				return frame;
 			}
 		}
+		return null;
+	}
+
+	private void postProcess(Throwable ex) {
+		List<RestExceptionPostProcessor> processors = this.postProcessors.get();
+		if (processors.isEmpty()) {
+			return;
+		}
+		HttpServletRequest request = ServletUtils.getRequest();
+		HttpServletResponse response = ServletUtils.getResponse();
+		for (RestExceptionPostProcessor processor : processors) {
+			processor.postProcess(request, response, ex);
+		}
 	}
 
 	private boolean isSseRequest(HttpServletRequest request) {
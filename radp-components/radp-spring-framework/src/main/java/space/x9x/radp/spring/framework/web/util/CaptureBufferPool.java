@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+/**
+ * 请求/响应体捕获缓冲池.
+ * <p>
+ * Every thread keeps at most one byte buffer per {@link Role}, since the request and the
+ * response of the same exchange capture their bodies at the same time, and one char
+ * buffer, only used by responses written through a writer. A buffer taken by
+ * {@code acquire} belongs to its caller until it is handed back by {@code release}, on
+ * any thread, so a request completed asynchronously only moves the buffer to another
+ * thread. Buffers larger than {@link #MAX_POOLED_SIZE} are never pooled.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:15
+ */
+final class CaptureBufferPool {
+
+	/**
+	 * Largest buffer length kept in the pool.
+	 */
+	static final int MAX_POOLED_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<char[]> CHARS = new ThreadLocal<>();
+
+	private CaptureBufferPool() {
+	}
+
+	static byte[] acquireBytes(Role role, int size) {
+		byte[] buffer = role.bytes.get();
+		if (buffer != null && buffer.length >= size) {
+			role.bytes.set(null);
+			return buffer;
+		}
+		return new byte[size];
+	}
+
+	static void releaseBytes(Role role, byte[] buffer) {
+		if (buffer != null && buffer.length <= MAX_POOLED_SIZE && role.bytes.get() == null) {
+			role.bytes.set(buffer);
+		}
+	}
+
+	static char[] acquireChars(int size) {
+		char[] buffer = CHARS.get();
+		if (buffer != null && buffer.length >= size) {
+			CHARS.set(null);
+			return buffer;
+		}
+		return new char[size];
+	}
+
+	static void releaseChars(char[] buffer) {
+		if (buffer != null && buffer.length <= MAX_POOLED_SIZE && CHARS.get() == null) {
+			CHARS.set(buffer);
+		}
+	}
+
+	/**
+	 * The side of the exchange a byte buffer captures.
+	 */
+	enum Role {
+
+		/**
+		 * Captures the request body.
+		 */
+		REQUEST,
+
+		/**
+		 * Captures the response body.
+		 */
+		RESPONSE;
+
+		private final ThreadLocal<byte[]> bytes = new ThreadLocal<>();
+
+	}
+
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * HttpServletRequest 包装器.
+ * <p>
+ * The application reads the body once, straight from the wrapped request, while its first
+ * {@code captureLimit} bytes are copied into a pooled buffer as they pass by. Nothing is
+ * read ahead, so only what the application reads is captured, and multipart or binary
+ * bodies are not captured at all.
+ * <p>
+ * The captured content is only valid until {@link #release()} hands the buffer back to
+ * the pool, read it on the request thread before that.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:25
+ * @see CustomHttpServletResponseWrapper
+ */
+public class CustomHttpServletRequestWrapper extends HttpServletRequestWrapper {
+
+	/**
+	 * Default number of bytes captured from the body.
+	 */
+	public static final int DEFAULT_CAPTURE_LIMIT = 4096;
+
+	private static final String[] BINARY_CONTENT_TYPES = { "multipart/", "image/", "audio/", "video/", "font/",
+			"application/octet-stream", "application/zip", "application/gzip", "application/pdf" };
+
+	private final int captureLimit;
+
+	private final boolean capturable;
+
+	private ServletInputStream inputStream;
+
+	private BufferedReader reader;
+
+	private byte[] bytes;
+
+	private int captured;
+
+	private long read;
+
+	private String decoded;
+
+	private boolean released;
+
+	/**
+	 * Constructs a request adaptor wrapping the given request, capturing the first
+	 * {@value #DEFAULT_CAPTURE_LIMIT} bytes of the body.
+	 * @param request the {@link HttpServletRequest} to be wrapped.
+	 * @throws IllegalArgumentException if the request is null
+	 */
+	public CustomHttpServletRequestWrapper(HttpServletRequest request) {
+		this(request, DEFAULT_CAPTURE_LIMIT);
+	}
+
+	/**
+	 * Constructs a request adaptor wrapping the given request.
+	 * @param request the {@link HttpServletRequest} to be wrapped.
+	 * @param captureLimit the number of bytes of the body to capture
+	 * @throws IllegalArgumentException if the request is null or the limit is negative
+	 */
+	public CustomHttpServletRequestWrapper(HttpServletRequest request, int captureLimit) {
+		super(request);
+		if (captureLimit < 0) {
+			throw new IllegalArgumentException("captureLimit must not be negative: " + captureLimit);
+		}
+		this.captureLimit = captureLimit;
+		this.capturable = captureLimit > 0 && isCapturable(request.getContentType());
+	}
+
+	/**
+	 * Returns whether a body of the given content type is captured, that is whether it
+	 * is neither multipart nor binary.
+	 * @param contentType the content type of the body, may be {@code null}
+	 * @return {@code true} if the body is captured
+	 */
+	public static boolean isCapturable(String contentType) {
+		if (contentType == null) {
+			return true;
+		}
+		String type = contentType.trim().toLowerCase(Locale.ROOT);
+		for (String binary : BINARY_CONTENT_TYPES) {
+			if (type.startsWith(binary)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		if (!this.capturable) {
+			return super.getInputStream();
+		}
+		if (this.inputStream == null) {
+			this.inputStream = new TeeInputStream(super.getInputStream());
+		}
+		return this.inputStream;
+	}
+
+	@Override
+	public BufferedReader getReader() throws IOException {
+		if (!this.capturable) {
+			return super.getReader();
+		}
+		if (this.reader == null) {
+			String encoding = getCharacterEncoding();
+			Charset charset = (encoding != null) ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+			this.reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+		return this.reader;
+	}
+
+	/**
+	 * Returns the captured prefix of the body, decoded on first access with the character
+	 * encoding of the request, UTF-8 if it declares none.
+	 * @return the captured content, empty if nothing was read or the body is not captured
+	 */
+	public CharSequence getCapturedContent() {
+		return new CapturedContent();
+	}
+
+	/**
+	 * Returns the captured prefix of the body as a String.
+	 * @return the captured content
+	 * @see #getCapturedContent()
+	 */
+	public String getContent() {
+		return decode();
+	}
+
+	/**
+	 * Returns the number of bytes the application has read from the body so far,
+	 * including those beyond the capture limit.
+	 * @return the number of bytes read so far
+	 */
+	public long getContentSize() {
+		return this.read;
+	}
+
+	/**
+	 * Returns whether more of the body was read than captured.
+	 * @return {@code true} if the captured content is truncated
+	 */
+	public boolean isTruncated() {
+		return this.read > this.captured;
+	}
+
+	/**
+	 * Hands the capture buffer back to the pool. The body can still be read, but no more
+	 * content is captured.
+	 */
+	public void release() {
+		CaptureBufferPool.releaseBytes(CaptureBufferPool.Role.REQUEST, this.bytes);
+		this.bytes = null;
+		this.captured = 0;
+		this.decoded = null;
+		this.released = true;
+	}
+
+	private void capture(byte[] b, int off, int len) {
+		this.read += len;
+		int count = Math.min(len, this.captureLimit - this.captured);
+		if (this.released || count <= 0) {
+			return;
+		}
+		if (this.bytes == null) {
+			this.bytes = CaptureBufferPool.acquireBytes(CaptureBufferPool.Role.REQUEST, this.captureLimit);
+		}
+		System.arraycopy(b, off, this.bytes, this.captured, count);
+		this.captured += count;
+		this.decoded = null;
+	}
+
+	private String decode() {
+		String value = this.decoded;
+		if (value == null) {
+			if (this.bytes != null) {
+				Charset charset = getCaptureCharset();
+				int length = this.captured;
+				if (isTruncated() && StandardCharsets.UTF_8.equals(charset)) {
+					length = CustomHttpServletResponseWrapper.trimIncompleteUtf8(this.bytes, length);
+				}
+				value = new String(this.bytes, 0, length, charset);
+			}
+			else {
+				value = "";
+			}
+			this.decoded = value;
+		}
+		return value;
+	}
+
+	private Charset getCaptureCharset() {
+		String encoding = getCharacterEncoding();
+		if (encoding != null) {
+			try {
+				return Charset.forName(encoding);
+			}
+			catch (IllegalArgumentException ex) {
+				return StandardCharsets.UTF_8;
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	private final class CapturedContent implements CharSequence {
+
+		@Override
+		public int length() {
+			return decode().length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return decode().charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return decode().subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return decode();
+		}
+
+	}
+
+	private final class TeeInputStream extends ServletInputStream {
+
+		private final ServletInputStream delegate;
+
+		private final byte[] single = new byte[1];
+
+		TeeInputStream(ServletInputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = this.delegate.read();
+			if (b != -1) {
+				this.single[0] = (byte) b;
+				capture(this.single, 0, 1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = this.delegate.read(b, off, len);
+			if (count > 0) {
+				capture(b, off, count);
+			}
+			return count;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return this.delegate.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.delegate.close();
+		}
+
+		@Override
+		public boolean isFinished() {
+			return this.delegate.isFinished();
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.delegate.isReady();
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			this.delegate.setReadListener(readListener);
+		}
+
+	}
+
+}
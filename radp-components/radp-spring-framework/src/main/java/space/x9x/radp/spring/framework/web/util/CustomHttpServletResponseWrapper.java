@@ -16,15 +16,29 @@
 
 package space.x9x.radp.spring.framework.web.util;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
 /**
  * HttpServletResponse 包装器.
+ * <p>
+ * The body written through {@link #getOutputStream()} or {@link #getWriter()} goes
+ * straight to the wrapped response, only its first {@code captureLimit} bytes (or
+ * characters, when written through the writer) are copied into a pooled buffer. The
+ * memory held per response is therefore bounded whatever the size of the body, and
+ * {@link #getCapturedContent()} decodes no more than the captured prefix.
+ * <p>
+ * The captured content is only valid until {@link #release()} hands the buffer back to
+ * the pool, read it on the request thread before that.
  *
  * @author RADP x9x
  * @since 2024-09-27 20:55
@@ -32,38 +46,354 @@ import javax.servlet.http.HttpServletResponseWrapper;
 public class CustomHttpServletResponseWrapper extends HttpServletResponseWrapper {
 
 	/**
-	 * The output stream that captures the response content.
+	 * Default number of bytes or characters captured from the body.
 	 */
-	private final ByteArrayOutputStream outputStream;
+	public static final int DEFAULT_CAPTURE_LIMIT = 4096;
+
+	private final int captureLimit;
+
+	private ServletOutputStream outputStream;
+
+	private PrintWriter writer;
+
+	private byte[] bytes;
+
+	private char[] chars;
 
 	/**
-	 * The writer that writes to the output stream.
+	 * Number of bytes or characters captured so far.
 	 */
-	private final PrintWriter writer;
+	private int captured;
 
 	/**
-	 * Constructs a response adaptor wrapping the given response.
+	 * Number of bytes or characters written so far.
+	 */
+	private long written;
+
+	private String decoded;
+
+	private boolean released;
+
+	/**
+	 * Constructs a response adaptor wrapping the given response, capturing the first
+	 * {@value #DEFAULT_CAPTURE_LIMIT} bytes of the body.
 	 * @param response the {@link HttpServletResponse} to be wrapped.
 	 * @throws IllegalArgumentException if the response is null
 	 */
 	public CustomHttpServletResponseWrapper(HttpServletResponse response) {
+		this(response, DEFAULT_CAPTURE_LIMIT);
+	}
+
+	/**
+	 * Constructs a response adaptor wrapping the given response.
+	 * @param response the {@link HttpServletResponse} to be wrapped.
+	 * @param captureLimit the number of bytes or characters of the body to capture
+	 * @throws IllegalArgumentException if the response is null or the limit is negative
+	 */
+	public CustomHttpServletResponseWrapper(HttpServletResponse response, int captureLimit) {
 		super(response);
-		this.outputStream = new ByteArrayOutputStream();
-		this.writer = new PrintWriter(this.outputStream, true);
+		if (captureLimit < 0) {
+			throw new IllegalArgumentException("captureLimit must not be negative: " + captureLimit);
+		}
+		this.captureLimit = captureLimit;
 	}
 
 	@Override
-	public PrintWriter getWriter() {
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (this.outputStream == null) {
+			this.outputStream = new TeeOutputStream(super.getOutputStream());
+		}
+		return this.outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (this.writer == null) {
+			this.writer = new PrintWriter(new TeeWriter(super.getWriter()));
+		}
 		return this.writer;
 	}
 
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		clearCapture();
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		clearCapture();
+	}
+
+	/**
+	 * Returns the captured prefix of the body. The content is decoded on first access,
+	 * bytes with the charset of the content type, UTF-8 if it declares none.
+	 * @return the captured content, empty if nothing was written
+	 */
+	public CharSequence getCapturedContent() {
+		return new CapturedContent();
+	}
+
 	/**
-	 * Returns the content of the response as a String. This method converts the captured
-	 * response bytes to a String using UTF-8 encoding.
-	 * @return the content of the response as a String
+	 * Returns the captured prefix of the body as a String.
+	 * @return the captured content
+	 * @see #getCapturedContent()
 	 */
 	public String getContent() {
-		return new String(this.outputStream.toByteArray(), StandardCharsets.UTF_8);
+		return decode();
+	}
+
+	/**
+	 * Returns the number of bytes, or characters when written through the writer,
+	 * written to the body so far, including those beyond the capture limit.
+	 * @return the size of the body written so far
+	 */
+	public long getContentSize() {
+		return this.written;
+	}
+
+	/**
+	 * Returns whether the body is longer than the captured prefix.
+	 * @return {@code true} if the captured content is truncated
+	 */
+	public boolean isTruncated() {
+		return this.written > this.captured;
+	}
+
+	/**
+	 * Hands the capture buffer back to the pool. The body keeps being passed through, but
+	 * no more content is captured.
+	 */
+	public void release() {
+		releaseBuffers();
+		this.captured = 0;
+		this.decoded = null;
+		this.released = true;
+	}
+
+	private void clearCapture() {
+		// 丢弃已捕获的内容, 重置后可能改用另一种方式 (writer/stream) 输出
+		releaseBuffers();
+		this.captured = 0;
+		this.written = 0;
+		this.decoded = null;
+	}
+
+	private void releaseBuffers() {
+		CaptureBufferPool.releaseBytes(CaptureBufferPool.Role.RESPONSE, this.bytes);
+		CaptureBufferPool.releaseChars(this.chars);
+		this.bytes = null;
+		this.chars = null;
+	}
+
+	private int capacity(int len) {
+		this.written += len;
+		if (this.released) {
+			return 0;
+		}
+		int capacity = Math.min(len, this.captureLimit - this.captured);
+		if (capacity > 0) {
+			this.decoded = null;
+		}
+		return capacity;
+	}
+
+	private void capture(byte[] b, int off, int len) {
+		int count = capacity(len);
+		if (count <= 0) {
+			return;
+		}
+		if (this.bytes == null) {
+			this.bytes = CaptureBufferPool.acquireBytes(CaptureBufferPool.Role.RESPONSE, this.captureLimit);
+		}
+		System.arraycopy(b, off, this.bytes, this.captured, count);
+		this.captured += count;
+	}
+
+	private void capture(char[] c, int off, int len) {
+		int count = capacity(len);
+		if (count <= 0) {
+			return;
+		}
+		if (this.chars == null) {
+			this.chars = CaptureBufferPool.acquireChars(this.captureLimit);
+		}
+		System.arraycopy(c, off, this.chars, this.captured, count);
+		this.captured += count;
+	}
+
+	private void capture(String s, int off, int len) {
+		int count = capacity(len);
+		if (count <= 0) {
+			return;
+		}
+		if (this.chars == null) {
+			this.chars = CaptureBufferPool.acquireChars(this.captureLimit);
+		}
+		s.getChars(off, off + count, this.chars, this.captured);
+		this.captured += count;
+	}
+
+	private String decode() {
+		String value = this.decoded;
+		if (value == null) {
+			if (this.chars != null) {
+				value = new String(this.chars, 0, this.captured);
+			}
+			else if (this.bytes != null) {
+				Charset charset = getCaptureCharset();
+				int length = this.captured;
+				if (isTruncated() && StandardCharsets.UTF_8.equals(charset)) {
+					length = trimIncompleteUtf8(this.bytes, length);
+				}
+				value = new String(this.bytes, 0, length, charset);
+			}
+			else {
+				value = "";
+			}
+			this.decoded = value;
+		}
+		return value;
+	}
+
+	private Charset getCaptureCharset() {
+		String contentType = getContentType();
+		if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("charset=")) {
+			try {
+				return Charset.forName(getCharacterEncoding());
+			}
+			catch (IllegalArgumentException ex) {
+				return StandardCharsets.UTF_8;
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	/**
+	 * Drops a multi-byte sequence cut off by the capture limit.
+	 */
+	static int trimIncompleteUtf8(byte[] b, int length) {
+		int i = length - 1;
+		while (i >= 0 && length - i <= 3 && (b[i] & 0xC0) == 0x80) {
+			i--;
+		}
+		if (i < 0) {
+			return length;
+		}
+		int lead = b[i] & 0xFF;
+		int expected = (lead >= 0xF0) ? 4 : (lead >= 0xE0) ? 3 : (lead >= 0xC0) ? 2 : 1;
+		return (length - i < expected) ? i : length;
+	}
+
+	private final class CapturedContent implements CharSequence {
+
+		@Override
+		public int length() {
+			return decode().length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return decode().charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return decode().subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return decode();
+		}
+
+	}
+
+	private final class TeeOutputStream extends ServletOutputStream {
+
+		private final ServletOutputStream delegate;
+
+		private final byte[] single = new byte[1];
+
+		TeeOutputStream(ServletOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.delegate.write(b);
+			this.single[0] = (byte) b;
+			capture(this.single, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.delegate.write(b, off, len);
+			capture(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			this.delegate.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.delegate.close();
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.delegate.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			this.delegate.setWriteListener(writeListener);
+		}
+
+	}
+
+	private final class TeeWriter extends Writer {
+
+		private final PrintWriter delegate;
+
+		private final char[] single = new char[1];
+
+		TeeWriter(PrintWriter delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int c) {
+			this.delegate.write(c);
+			this.single[0] = (char) c;
+			capture(this.single, 0, 1);
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			this.delegate.write(cbuf, off, len);
+			capture(cbuf, off, len);
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+			this.delegate.write(str, off, len);
+			capture(str, off, len);
+		}
+
+		@Override
+		public void flush() {
+			this.delegate.flush();
+		}
+
+		@Override
+		public void close() {
+			this.delegate.close();
+		}
+
 	}
 
 }
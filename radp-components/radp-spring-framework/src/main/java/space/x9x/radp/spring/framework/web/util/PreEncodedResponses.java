@@ -0,0 +1,249 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+
+import space.x9x.radp.commons.lang.MessageFormatUtils;
+import space.x9x.radp.spring.framework.beans.ApplicationContextHelper;
+import space.x9x.radp.spring.framework.dto.ResultBuilder;
+import space.x9x.radp.spring.framework.dto.extension.ResponseBuilder;
+import space.x9x.radp.spring.framework.json.JSON;
+import space.x9x.radp.spring.framework.json.support.JSONHelper;
+
+/**
+ * 预编码的 JSON 响应体.
+ * <p>
+ * Keeps the UTF-8 bodies of the success response and of failures without parameters, and
+ * a template per error code for the others, split around the message so that only the
+ * message is encoded per response. The templates are derived from the serialized output
+ * of the configured {@link JSON}, whatever its property order or naming. They are only
+ * used with the default {@link ResultBuilder}, whose responses depend on nothing but the
+ * code and message; any other builder is called and its response serialized every time.
+ * <p>
+ * The response builder and JSON implementation are resolved once per bean factory.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 01:00
+ */
+final class PreEncodedResponses {
+
+	/**
+	 * Maximum number of error codes with a template.
+	 */
+	static final int MAX_TEMPLATES = 256;
+
+	/**
+	 * Maximum number of pre-encoded failure messages per error code.
+	 */
+	static final int MAX_MESSAGES = 64;
+
+	private static final String PLACEHOLDER = "RADP_PRE_ENCODED_MESSAGE_7F3A";
+
+	private static volatile PreEncodedResponses current;
+
+	private final ListableBeanFactory beanFactory;
+
+	private final JSON json;
+
+	private final ResponseBuilder<?> builder;
+
+	private final boolean preEncoded;
+
+	private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+	private volatile byte[] success;
+
+	private PreEncodedResponses(ListableBeanFactory beanFactory, JSON json) {
+		this.beanFactory = beanFactory;
+		this.json = json;
+		this.builder = ResponseBuilder.builder();
+		this.preEncoded = this.builder.getClass() == ResultBuilder.class;
+	}
+
+	static PreEncodedResponses get() {
+		ListableBeanFactory beanFactory = ApplicationContextHelper.getBeanFactory();
+		JSON json = JSONHelper.json();
+		PreEncodedResponses responses = current;
+		if (responses == null || responses.beanFactory != beanFactory || responses.json != json) {
+			responses = new PreEncodedResponses(beanFactory, json);
+			current = responses;
+		}
+		return responses;
+	}
+
+	/**
+	 * Returns the body of the success response.
+	 * @return the UTF-8 encoded body, not to be modified
+	 */
+	byte[] success() {
+		if (!this.preEncoded) {
+			return this.json.toJSONBytes(this.builder.buildSuccess());
+		}
+		byte[] body = this.success;
+		if (body == null) {
+			body = this.json.toJSONBytes(this.builder.buildSuccess());
+			this.success = body;
+		}
+		return body;
+	}
+
+	/**
+	 * Returns the body of a failure response.
+	 * @param errCode the error code
+	 * @param errMessage the error message, formatted with the parameters
+	 * @param params the parameters of the error message
+	 * @return the UTF-8 encoded body, not to be modified
+	 */
+	byte[] failure(String errCode, String errMessage, Object... params) {
+		Template template = (this.preEncoded && errMessage != null) ? getTemplate(errCode) : null;
+		if (template == null) {
+			return this.json.toJSONBytes(this.builder.buildFailure(errCode, errMessage, params));
+		}
+		if (params != null && params.length > 0) {
+			return template.encode(MessageFormatUtils.format(errMessage, params));
+		}
+		byte[] body = template.messages.get(errMessage);
+		if (body == null) {
+			body = template.encode(MessageFormatUtils.format(errMessage));
+			if (template.messages.size() < MAX_MESSAGES) {
+				template.messages.put(errMessage, body);
+			}
+		}
+		return body;
+	}
+
+	private Template getTemplate(String errCode) {
+		if (errCode == null) {
+			return null;
+		}
+		Template template = this.templates.get(errCode);
+		if (template == null) {
+			template = createTemplate(errCode);
+			if (this.templates.size() < MAX_TEMPLATES) {
+				this.templates.put(errCode, template);
+			}
+		}
+		return (template.prefix != null) ? template : null;
+	}
+
+	private Template createTemplate(String errCode) {
+		byte[] body = this.json.toJSONBytes(this.builder.buildFailure(errCode, PLACEHOLDER));
+		byte[] placeholder = PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+		int index = indexOf(body, placeholder, 0);
+		if (index < 0 || indexOf(body, placeholder, index + 1) >= 0) {
+			// 序列化结果中占位符不唯一, 无法拆分
+			return new Template(null, null);
+		}
+		byte[] prefix = new byte[index];
+		System.arraycopy(body, 0, prefix, 0, index);
+		byte[] suffix = new byte[body.length - index - placeholder.length];
+		System.arraycopy(body, index + placeholder.length, suffix, 0, suffix.length);
+		return new Template(prefix, suffix);
+	}
+
+	private static int indexOf(byte[] bytes, byte[] target, int from) {
+		outer: for (int i = from; i <= bytes.length - target.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (bytes[i + j] != target[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Escapes the characters a JSON string cannot contain as they are.
+	 */
+	static String escape(String value) {
+		int length = value.length();
+		int i = 0;
+		while (i < length) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\' || c < 0x20) {
+				break;
+			}
+			i++;
+		}
+		if (i == length) {
+			return value;
+		}
+		StringBuilder builder = new StringBuilder(length + 16).append(value, 0, i);
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append(String.format("\\u%04X", (int) c));
+					}
+					else {
+						builder.append(c);
+					}
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Failure body of an error code, split around the message.
+	 */
+	private static final class Template {
+
+		private final byte[] prefix;
+
+		private final byte[] suffix;
+
+		private final Map<String, byte[]> messages = new ConcurrentHashMap<>();
+
+		Template(byte[] prefix, byte[] suffix) {
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+
+		byte[] encode(String message) {
+			byte[] encoded = escape(message).getBytes(StandardCharsets.UTF_8);
+			byte[] body = new byte[this.prefix.length + encoded.length + this.suffix.length];
+			System.arraycopy(this.prefix, 0, body, 0, this.prefix.length);
+			System.arraycopy(encoded, 0, body, this.prefix.length, encoded.length);
+			System.arraycopy(this.suffix, 0, body, this.prefix.length + encoded.length, this.suffix.length);
+			return body;
+		}
+
+	}
+
+}
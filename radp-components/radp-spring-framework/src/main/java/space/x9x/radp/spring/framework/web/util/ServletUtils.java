@@ -18,7 +18,6 @@ package space.x9x.radp.spring.framework.web.util;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
@@ -30,12 +29,11 @@ import org.jetbrains.annotations.PropertyKey;
 import org.springframework.http.MediaType;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
 
 import space.x9x.radp.commons.lang.StringConstants;
 import space.x9x.radp.commons.lang.StringUtil;
-import space.x9x.radp.spring.framework.dto.extension.ResponseBuilder;
 import space.x9x.radp.spring.framework.error.ErrorCodeLoader;
-import space.x9x.radp.spring.framework.json.support.JSONHelper;
 
 /**
  * Utility class providing helper methods for working with HTTP servlet requests and
@@ -115,12 +113,31 @@ public class ServletUtils {
 		return StringUtil.trimToEmpty(request.getRemoteUser());
 	}
 
+	/**
+	 * Gets the body content of the HTTP servlet request, as far as it was captured by a
+	 * {@link CustomHttpServletRequestWrapper} in the wrapper chain. The body is not read
+	 * here, so it stays available to the application.
+	 * @param request the HTTP servlet request
+	 * @return the captured prefix of the request body, or empty string if not captured
+	 */
+	public static String getRequestBody(HttpServletRequest request) {
+		CustomHttpServletRequestWrapper wrapper = WebUtils.getNativeRequest(request,
+				CustomHttpServletRequestWrapper.class);
+		if (wrapper != null) {
+			return wrapper.getContent();
+		}
+		return StringConstants.EMPTY;
+	}
+
 	/**
 	 * Gets the body content of the HTTP servlet request.
 	 * @param request the HTTP servlet request
 	 * @return the request body as a string, or null if not available
 	 * @throws RuntimeException if an I/O error occurs
+	 * @deprecated the body is consumed and can no longer be read by the application, use
+	 * {@link #getRequestBody(HttpServletRequest)} instead
 	 */
+	@Deprecated
 	public static String getRequestBOdy(HttpServletRequest request) {
 		try (BufferedReader reader = request.getReader()) {
 			if (reader != null) {
@@ -134,17 +151,16 @@ public class ServletUtils {
 	}
 
 	/**
-	 * Gets the body content of the HTTP servlet response.
+	 * Gets the body content of the HTTP servlet response, as far as it was captured by a
+	 * {@link CustomHttpServletResponseWrapper} in the wrapper chain.
 	 * @param response the HTTP servlet response
-	 * @return the response body as a string, or empty string if not available
+	 * @return the captured prefix of the response body, or empty string if not captured
 	 */
 	public static String getResponseBody(HttpServletResponse response) {
-		if (response instanceof CustomHttpServletResponseWrapper) {
-			return ((CustomHttpServletResponseWrapper) response).getContent();
-		}
-		String contentType = response.getContentType();
-		if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)) {
-			return response.toString();
+		CustomHttpServletResponseWrapper wrapper = WebUtils.getNativeResponse(response,
+				CustomHttpServletResponseWrapper.class);
+		if (wrapper != null) {
+			return wrapper.getContent();
 		}
 		return StringConstants.EMPTY;
 	}
@@ -186,23 +202,20 @@ public class ServletUtils {
 	/**
 	 * Wraps the given HTTP servlet response with a success response in JSON format. This
 	 * method sets the HTTP status code, content type, and writes a default success
-	 * response as JSON to the response body.
+	 * response as JSON to the response body. The body is encoded once and reused.
 	 * @param response the HTTP servlet response object to be wrapped
 	 * @param statusCode the HTTP status code to set on the response
 	 * @throws IOException if an I/O error occurs during response writing
 	 */
 	public static void wrap(HttpServletResponse response, int statusCode) throws IOException {
-		response.setStatus(statusCode);
-		response.setContentType(APPLICATION_JSON_UTF8_VALUE);
-		PrintWriter writer = response.getWriter();
-		String result = JSONHelper.json().toJSONString(ResponseBuilder.builder().buildSuccess());
-		writer.write(result);
+		write(response, statusCode, PreEncodedResponses.get().success());
 	}
 
 	/**
 	 * Wraps the given HTTP response with JSON content representing a failure message.
 	 * This method sets the HTTP status code, content type, and writes a JSON response
-	 * containing the error code, message, and optional parameters.
+	 * containing the error code, message, and optional parameters. Bodies without
+	 * parameters are encoded once and reused, otherwise only the message is encoded.
 	 * @param response the HTTP servlet response object to be wrapped
 	 * @param statusCode the HTTP status code to set on the response
 	 * @param errCode the error code associated with the failure, derived from a resource
@@ -214,12 +227,14 @@ public class ServletUtils {
 	public static void wrap(HttpServletResponse response, int statusCode,
 			@PropertyKey(resourceBundle = ErrorCodeLoader.BUNDLE_NAME) String errCode, String errMessage,
 			Object... params) throws IOException {
+		write(response, statusCode, PreEncodedResponses.get().failure(errCode, errMessage, params));
+	}
+
+	private static void write(HttpServletResponse response, int statusCode, byte[] content) throws IOException {
 		response.setStatus(statusCode);
 		response.setContentType(APPLICATION_JSON_UTF8_VALUE);
-		PrintWriter writer = response.getWriter();
-		String result = JSONHelper.json()
-			.toJSONString(ResponseBuilder.builder().buildFailure(errCode, errMessage, params));
-		writer.write(result);
+		response.setContentLength(content.length);
+		response.getOutputStream().write(content);
 	}
 
 }
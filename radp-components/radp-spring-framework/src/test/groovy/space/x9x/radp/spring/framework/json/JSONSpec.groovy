@@ -17,6 +17,8 @@
 package space.x9x.radp.spring.framework.json
 
 
+import java.nio.charset.StandardCharsets
+
 import space.x9x.radp.spring.framework.json.fastjson.Fastjson
 import space.x9x.radp.spring.framework.json.fastjson2.Fastjson2
 import space.x9x.radp.spring.framework.json.gson.Gson
@@ -74,4 +76,26 @@ class JSONSpec extends Specification {
         "gson"      || testJson
     }
 
+    def "test bytes and streams"() {
+        given:
+        JSON json = JSONHelper.json(spi)
+        byte[] bytes = testJson.getBytes(StandardCharsets.UTF_8)
+        byte[] array = "[${testJson}]".getBytes(StandardCharsets.UTF_8)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        json.writeTo(testCase, out)
+
+        then:
+        json.toJSONBytes(testCase) == bytes
+        out.toByteArray() == bytes
+        json.parseObject(bytes, TestCase.class) == testCase
+        json.parseObject(new ByteArrayInputStream(bytes), TestCase.class) == testCase
+        json.parseList(new ByteArrayInputStream(array), TestCase.class) == [testCase]
+        json.parseList(new String(array, StandardCharsets.UTF_8), TestCase.class) == [testCase]
+
+        where:
+        spi << ["jackson", "fastjson", "fastjson2", "gson"]
+    }
+
 }
@@ -22,12 +22,14 @@ import org.junit.jupiter.api.Test;
 
 import space.x9x.radp.spring.framework.error.ClientException;
 import space.x9x.radp.spring.framework.error.ServerException;
+import space.x9x.radp.spring.framework.error.StacklessExceptions;
 import space.x9x.radp.spring.framework.error.ThirdServiceException;
 import space.x9x.radp.spring.framework.type.exception.asserts.ClientAssert;
 import space.x9x.radp.spring.framework.type.exception.asserts.ServerAssert;
 import space.x9x.radp.spring.framework.type.exception.asserts.ThirdServiceAssert;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 class ExceptionUtilsTests {
 
@@ -141,4 +143,29 @@ class ExceptionUtilsTests {
 		assertThat(thirdServiceException.getMessage()).isEqualTo("hello world");
 	}
 
+	@Test
+	void test_stacklessException() {
+		IOException cause = new IOException("ggg");
+		StacklessExceptions.setEnabled(true);
+		try {
+			ServerException serverException = ExceptionUtils.serverException("TEST_0001", "world", cause);
+			assertThat(serverException.getMessage()).isEqualTo("hello world");
+			assertThat(serverException.getStackTrace()).isEmpty();
+			assertThat(serverException.getCause()).isSameAs(cause);
+			assertThat(cause.getStackTrace()).isNotEmpty();
+			try {
+				ClientAssert.notNull(null, "TEST_0001", "world");
+				fail("ClientException expected");
+			}
+			catch (ClientException ex) {
+				assertThat(ex.getStackTrace()).isEmpty();
+			}
+			assertThat(new ServerException("TEST_0001", "world").getStackTrace()).isNotEmpty();
+		}
+		finally {
+			StacklessExceptions.setEnabled(false);
+		}
+		assertThat(ExceptionUtils.serverException("TEST_0001", "world").getStackTrace()).isNotEmpty();
+	}
+
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MdcSnapshot}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:50
+ */
+class MdcSnapshotTests {
+
+	@AfterEach
+	void clear() {
+		MDC.clear();
+	}
+
+	@Test
+	void attachesAndRestores() {
+		try (MdcSnapshot.Scope ignored = MdcSnapshot.attach(context("app", "demo"))) {
+			assertThat(MDC.get("app")).isEqualTo("demo");
+			assertThat(MdcSnapshot.current()).containsEntry("app", "demo");
+		}
+		assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+		assertThat(MdcSnapshot.current()).isNull();
+	}
+
+	@Test
+	void keepsExistingEntriesAndRestoresThem() {
+		MDC.put("traceId", "t1");
+		try (MdcSnapshot.Scope outer = MdcSnapshot.attach(context("app", "demo"))) {
+			try (MdcSnapshot.Scope inner = MdcSnapshot.attach(context("app", "nested"))) {
+				assertThat(MDC.get("app")).isEqualTo("nested");
+				assertThat(MDC.get("traceId")).isEqualTo("t1");
+			}
+			assertThat(MDC.get("app")).isEqualTo("demo");
+			assertThat(MdcSnapshot.current()).containsEntry("app", "demo");
+		}
+		assertThat(MDC.getCopyOfContextMap()).isEqualTo(Collections.singletonMap("traceId", "t1"));
+	}
+
+	@Test
+	void wrapsTasksWithCurrentSnapshot() throws Exception {
+		Runnable task = () -> {
+		};
+		assertThat(MdcSnapshot.wrap(task)).isSameAs(task);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// 先启动工作线程, 避免其继承提交线程的 MDC
+			executor.submit(task).get();
+			Map<String, String> seen = new HashMap<>();
+			try (MdcSnapshot.Scope ignored = MdcSnapshot.attach(context("app", "demo"))) {
+				executor.submit(MdcSnapshot.wrap(() -> seen.put("app", MDC.get("app")))).get();
+			}
+			assertThat(seen).containsEntry("app", "demo");
+			assertThat(executor.submit(() -> MDC.get("app")).get()).isNull();
+		}
+		finally {
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private static Map<String, String> context(String key, String value) {
+		Map<String, String> context = new HashMap<>();
+		context.put(key, value);
+		return context;
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.async;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AccessLogRingBuffer}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:35
+ */
+class AccessLogRingBufferTests {
+
+	@Test
+	void claimsUntilFull() {
+		AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(1000);
+		assertThat(ringBuffer.capacity()).isEqualTo(1024);
+		for (int i = 0; i < 1024; i++) {
+			ringBuffer.publish(ringBuffer.tryClaim());
+		}
+		assertThat(ringBuffer.tryClaim()).isNull();
+		assertThat(ringBuffer.size()).isEqualTo(1024);
+
+		AccessLogEvent event = ringBuffer.poll();
+		ringBuffer.release(event);
+		assertThat(ringBuffer.tryClaim()).isSameAs(event);
+	}
+
+	@Test
+	void pollsPublishedEventsInOrder() {
+		AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+		AccessLogEvent first = ringBuffer.tryClaim();
+		AccessLogEvent second = ringBuffer.tryClaim();
+		second.methodName = "second";
+		ringBuffer.publish(second);
+		assertThat(ringBuffer.poll()).as("first is claimed but not published").isNull();
+
+		first.methodName = "first";
+		ringBuffer.publish(first);
+		AccessLogEvent event = ringBuffer.poll();
+		assertThat(event.methodName).isEqualTo("first");
+		ringBuffer.release(event);
+		assertThat(event.methodName).isNull();
+		assertThat(ringBuffer.poll().methodName).isEqualTo("second");
+	}
+
+	@Test
+	void concurrentProducers() throws InterruptedException {
+		AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(64);
+		int producers = 4;
+		int events = 20_000;
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			long id = p;
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < events; i++) {
+					AccessLogEvent event;
+					while ((event = ringBuffer.tryClaim()) == null) {
+						Thread.yield();
+					}
+					event.duration = (id << 32) | i;
+					ringBuffer.publish(event);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		long[] next = new long[producers];
+		for (int received = 0; received < producers * events;) {
+			AccessLogEvent event = ringBuffer.poll();
+			if (event == null) {
+				Thread.yield();
+				continue;
+			}
+			int id = (int) (event.duration >>> 32);
+			assertThat(event.duration & 0xFFFFFFFFL).isEqualTo(next[id]++);
+			ringBuffer.release(event);
+			received++;
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(next).containsOnly(events);
+		assertThat(ringBuffer.size()).isZero();
+	}
+
+}
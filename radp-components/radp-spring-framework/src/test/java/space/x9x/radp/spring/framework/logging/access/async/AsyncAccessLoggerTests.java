@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.async;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import space.x9x.radp.spring.framework.logging.access.config.AccessLogConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * Tests for {@link AsyncAccessLogger}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:25
+ */
+class AsyncAccessLoggerTests {
+
+	@Test
+	@Timeout(value = 10, unit = TimeUnit.SECONDS)
+	void failedCaptureDoesNotBlockConsumer() throws NoSuchMethodException {
+		AccessLogConfig config = new AccessLogConfig();
+		config.setRingBufferSize(2);
+		config.setOverflowPolicy(AccessLogOverflowPolicy.BLOCK);
+		Method method = Object.class.getMethod("toString");
+		try (AsyncAccessLogger logger = new AsyncAccessLogger(config)) {
+			for (int i = 0; i < 4; i++) {
+				assertThatNullPointerException().isThrownBy(() -> logger.log(invocation(null, method), null, null, 1));
+			}
+			for (int i = 0; i < 8; i++) {
+				logger.log(invocation(this, method), "ok", null, 1);
+			}
+			assertThat(logger.getPublishedCount()).isEqualTo(8);
+		}
+	}
+
+	private static MethodInvocation invocation(Object target, Method method) {
+		return new MethodInvocation() {
+
+			@Override
+			public Method getMethod() {
+				return method;
+			}
+
+			@Override
+			public Object[] getArguments() {
+				return new Object[0];
+			}
+
+			@Override
+			public Object proceed() {
+				return null;
+			}
+
+			@Override
+			public Object getThis() {
+				return target;
+			}
+
+			@Override
+			public AccessibleObject getStaticPart() {
+				return method;
+			}
+
+		};
+	}
+
+}
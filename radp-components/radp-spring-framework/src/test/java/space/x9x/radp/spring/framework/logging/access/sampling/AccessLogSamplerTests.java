@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.logging.access.sampling;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import space.x9x.radp.spring.framework.logging.access.config.AccessLogConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AccessLogSampler}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:10
+ */
+class AccessLogSamplerTests {
+
+	private static final String LOCATION = AccessLogSamplerTests.class.getName() + ".target";
+
+	@Test
+	void keepsFailedAndSlowInvocations() throws NoSuchMethodException {
+		AccessLogConfig config = new AccessLogConfig();
+		config.setSampleRate(0);
+		config.setSlowThreshold(100);
+		AccessLogSampler sampler = new AccessLogSampler(config);
+		assertThat(sampler.shouldLog(getClass(), target(), false, 10)).isFalse();
+		assertThat(sampler.shouldLog(getClass(), target(), true, 10)).isTrue();
+		assertThat(sampler.shouldLog(getClass(), target(), false, 100)).isTrue();
+	}
+
+	@Test
+	void longestPrefixWins() {
+		AccessLogConfig config = new AccessLogConfig();
+		config.setSampleRate(0.5);
+		config.getSampleRates().put("space.x9x.radp", 0.2);
+		config.getSampleRates().put(AccessLogSamplerTests.class.getName(), 1.0);
+		config.getSampleRates().put(LOCATION, 0.0);
+		AccessLogSampler sampler = new AccessLogSampler(config);
+		assertThat(sampler.getSampleRate(LOCATION)).isEqualTo(0.0);
+		assertThat(sampler.getSampleRate(AccessLogSamplerTests.class.getName() + ".other")).isEqualTo(1.0);
+		assertThat(sampler.getSampleRate("space.x9x.radp.Other.method")).isEqualTo(0.2);
+		assertThat(sampler.getSampleRate("space.x9x.radpx.Other.method")).isEqualTo(0.5);
+	}
+
+	@Test
+	void limitsPerLocationAndSecond() throws NoSuchMethodException {
+		AccessLogConfig config = new AccessLogConfig();
+		config.setMaxPerSecond(3);
+		AccessLogSampler sampler = new AccessLogSampler(config);
+		int logged = 0;
+		for (int i = 0; i < 10; i++) {
+			if (sampler.shouldLog(getClass(), target(), false, 0)) {
+				logged++;
+			}
+		}
+		// 跨越秒边界时最多再放行一个窗口
+		assertThat(logged).isBetween(3, 6);
+		assertThat(sampler.shouldLog(getClass(), target(), true, 0)).isTrue();
+	}
+
+	@Test
+	void samplesAtConfiguredRate() throws NoSuchMethodException {
+		AccessLogConfig config = new AccessLogConfig();
+		config.setSampleRate(0.25);
+		AccessLogSampler sampler = new AccessLogSampler(config);
+		int logged = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (sampler.shouldLog(getClass(), target(), false, 0)) {
+				logged++;
+			}
+		}
+		assertThat(logged).isBetween(23_000, 27_000);
+	}
+
+	private static Method target() throws NoSuchMethodException {
+		return AccessLogSamplerTests.class.getDeclaredMethod("target");
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.rest.handler;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import space.x9x.radp.spring.framework.error.ClientException;
+import space.x9x.radp.spring.framework.error.ServerException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link ExceptionLogLimiter}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 01:25
+ */
+class ExceptionLogLimiterTests {
+
+	@Test
+	void logsFirstStackTraceOfEachGroupPerInterval() {
+		ExceptionLogLimiter limiter = new ExceptionLogLimiter(1, TimeUnit.HOURS);
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/orders")).isTrue();
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/orders")).isFalse();
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/orders")).isFalse();
+		assertThat(limiter.tryAcquire(ServerException.class, "A0002", "/orders")).isTrue();
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/users")).isTrue();
+		assertThat(limiter.tryAcquire(ClientException.class, "A0001", "/orders")).isTrue();
+		assertThat(limiter.tryAcquire(ClientException.class, null, null)).isTrue();
+		assertThat(limiter.tryAcquire(ClientException.class, null, null)).isFalse();
+	}
+
+	@Test
+	void drainsSuppressedStackTraceCounts() throws InterruptedException {
+		ExceptionLogLimiter limiter = new ExceptionLogLimiter(50, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 5; i++) {
+			limiter.tryAcquire(ServerException.class, "A0001", "/orders");
+		}
+		Map<String, Long> suppressed = limiter.pollSuppressed();
+		assertThat(suppressed).containsExactly(entry("ServerException[A0001]@/orders", 4L));
+		assertThat(limiter.pollSuppressed()).isEmpty();
+		Thread.sleep(60);
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/orders")).isTrue();
+	}
+
+	@Test
+	void logsEveryStackTraceWhenDisabled() {
+		ExceptionLogLimiter limiter = new ExceptionLogLimiter(0, TimeUnit.SECONDS);
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/orders")).isTrue();
+		assertThat(limiter.tryAcquire(ServerException.class, "A0001", "/orders")).isTrue();
+		assertThat(limiter.pollSuppressed()).isEmpty();
+		assertThat(limiter.getInterval(TimeUnit.SECONDS)).isZero();
+	}
+
+}
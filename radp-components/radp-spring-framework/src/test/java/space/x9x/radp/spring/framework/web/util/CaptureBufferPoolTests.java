@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+import org.junit.jupiter.api.Test;
+
+import space.x9x.radp.spring.framework.web.util.CaptureBufferPool.Role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CaptureBufferPool}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 02:30
+ */
+class CaptureBufferPoolTests {
+
+	@Test
+	void poolsOneByteBufferPerRole() {
+		byte[] request = CaptureBufferPool.acquireBytes(Role.REQUEST, 16);
+		byte[] response = CaptureBufferPool.acquireBytes(Role.RESPONSE, 16);
+		CaptureBufferPool.releaseBytes(Role.REQUEST, request);
+		CaptureBufferPool.releaseBytes(Role.RESPONSE, response);
+
+		assertThat(CaptureBufferPool.acquireBytes(Role.REQUEST, 16)).isSameAs(request);
+		assertThat(CaptureBufferPool.acquireBytes(Role.RESPONSE, 16)).isSameAs(response);
+		assertThat(CaptureBufferPool.acquireBytes(Role.RESPONSE, 16)).isNotSameAs(response);
+	}
+
+	@Test
+	void neverPoolsOversizedBuffers() {
+		byte[] buffer = CaptureBufferPool.acquireBytes(Role.REQUEST, CaptureBufferPool.MAX_POOLED_SIZE + 1);
+		CaptureBufferPool.releaseBytes(Role.REQUEST, buffer);
+
+		assertThat(CaptureBufferPool.acquireBytes(Role.REQUEST, 16)).isNotSameAs(buffer);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CustomHttpServletRequestWrapper}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:35
+ */
+class CustomHttpServletRequestWrapperTests {
+
+	@Test
+	void capturesPrefixOfWhatIsRead() throws IOException {
+		byte[] body = "{\"name\":\"中文\"}".getBytes(StandardCharsets.UTF_8);
+		CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(
+				request("application/json", "UTF-8", body), 12);
+
+		byte[] read = new byte[body.length];
+		ServletInputStream inputStream = wrapper.getInputStream();
+		read[0] = (byte) inputStream.read();
+		int count = inputStream.read(read, 1, read.length - 1);
+
+		assertThat(count).isEqualTo(body.length - 1);
+		assertThat(read).isEqualTo(body);
+		assertThat(wrapper.getContent()).isEqualTo("{\"name\":\"中");
+		assertThat(wrapper.getContentSize()).isEqualTo(body.length);
+		assertThat(wrapper.isTruncated()).isTrue();
+	}
+
+	@Test
+	void capturesThroughReader() throws IOException {
+		CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(
+				request("text/plain", "UTF-8", "line1\nline2".getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(wrapper.getReader().readLine()).isEqualTo("line1");
+		assertThat(wrapper.getReader().readLine()).isEqualTo("line2");
+		assertThat(wrapper.getContent()).isEqualTo("line1\nline2");
+		assertThat(wrapper.isTruncated()).isFalse();
+	}
+
+	@Test
+	void skipsMultipartAndBinaryBodies() throws IOException {
+		assertThat(CustomHttpServletRequestWrapper.isCapturable("multipart/form-data; boundary=x")).isFalse();
+		assertThat(CustomHttpServletRequestWrapper.isCapturable("application/octet-stream")).isFalse();
+		assertThat(CustomHttpServletRequestWrapper.isCapturable("image/png")).isFalse();
+		assertThat(CustomHttpServletRequestWrapper.isCapturable("application/json;charset=UTF-8")).isTrue();
+		assertThat(CustomHttpServletRequestWrapper.isCapturable(null)).isTrue();
+
+		HttpServletRequest request = request("application/octet-stream", null, new byte[] { 1, 2, 3 });
+		CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(request);
+		assertThat(wrapper.getInputStream()).isSameAs(request.getInputStream());
+		assertThat(wrapper.getInputStream().read()).isEqualTo(1);
+		assertThat(wrapper.getCapturedContent()).isEmpty();
+	}
+
+	@Test
+	void findsWrapperInChain() throws IOException {
+		CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(
+				request("application/json", "UTF-8", "{}".getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(ServletUtils.getRequestBody(new HttpServletRequestWrapper(wrapper))).isEmpty();
+		while (wrapper.getInputStream().read() != -1) {
+			// 读取全部请求体
+		}
+		assertThat(ServletUtils.getRequestBody(new HttpServletRequestWrapper(wrapper))).isEqualTo("{}");
+		wrapper.release();
+		assertThat(ServletUtils.getRequestBody(wrapper)).isEmpty();
+	}
+
+	private static HttpServletRequest request(String contentType, String encoding, byte[] body) {
+		ByteArrayInputStream bytes = new ByteArrayInputStream(body);
+		ServletInputStream inputStream = new ServletInputStream() {
+
+			@Override
+			public int read() {
+				return bytes.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				return bytes.read(b, off, len);
+			}
+
+			@Override
+			public boolean isFinished() {
+				return bytes.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+			}
+
+		};
+		return (HttpServletRequest) Proxy.newProxyInstance(CustomHttpServletRequestWrapperTests.class.getClassLoader(),
+				new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getInputStream":
+							return inputStream;
+						case "getContentType":
+							return contentType;
+						case "getCharacterEncoding":
+							return encoding;
+						default:
+							return null;
+					}
+				});
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CustomHttpServletResponseWrapper}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:20
+ */
+class CustomHttpServletResponseWrapperTests {
+
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+	private final StringWriter text = new StringWriter();
+
+	private String contentType;
+
+	@Test
+	void passesStreamThroughAndCapturesPrefix() throws IOException {
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response(), 4);
+		ServletOutputStream outputStream = wrapper.getOutputStream();
+		outputStream.write('{');
+		outputStream.write("\"a\":1}".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(this.body.toString("UTF-8")).isEqualTo("{\"a\":1}");
+		assertThat(wrapper.getCapturedContent().toString()).isEqualTo("{\"a\"");
+		assertThat(wrapper.getContentSize()).isEqualTo(7);
+		assertThat(wrapper.isTruncated()).isTrue();
+	}
+
+	@Test
+	void passesWriterThroughAndCapturesPrefix() throws IOException {
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response(), 5);
+		PrintWriter writer = wrapper.getWriter();
+		writer.print("hello");
+		writer.write(' ');
+		writer.print("world");
+
+		assertThat(this.text.toString()).isEqualTo("hello world");
+		assertThat(wrapper.getContent()).isEqualTo("hello");
+		assertThat(wrapper.isTruncated()).isTrue();
+	}
+
+	@Test
+	void dropsMultiByteCharacterCutOffByLimit() throws IOException {
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response(), 4);
+		wrapper.getOutputStream().write("ab中文".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(wrapper.getContent()).isEqualTo("ab");
+	}
+
+	@Test
+	void decodesWithDeclaredCharset() throws IOException {
+		this.contentType = "text/plain;charset=ISO-8859-1";
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response());
+		wrapper.getOutputStream().write(new byte[] { 'c', 'a', 'f', (byte) 0xE9 });
+
+		assertThat(wrapper.getContent()).isEqualTo("café");
+		assertThat(wrapper.isTruncated()).isFalse();
+	}
+
+	@Test
+	void stopsCapturingAfterRelease() throws IOException {
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response());
+		wrapper.getOutputStream().write('a');
+		wrapper.release();
+		wrapper.getOutputStream().write('b');
+
+		assertThat(this.body.toString("UTF-8")).isEqualTo("ab");
+		assertThat(wrapper.getCapturedContent()).isEmpty();
+	}
+
+	@Test
+	void discardsCaptureOnReset() throws IOException {
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response());
+		wrapper.getWriter().print("stale");
+		wrapper.reset();
+		wrapper.getOutputStream().write("ok".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(wrapper.getContent()).isEqualTo("ok");
+		assertThat(wrapper.getContentSize()).isEqualTo(2);
+	}
+
+	@Test
+	void findsWrapperInChain() throws IOException {
+		CustomHttpServletResponseWrapper wrapper = new CustomHttpServletResponseWrapper(response());
+		wrapper.getWriter().print("ok");
+
+		assertThat(ServletUtils.getResponseBody(new HttpServletResponseWrapper(wrapper)))
+			.isEqualTo("ok");
+		assertThat(ServletUtils.getResponseBody(response())).isEmpty();
+	}
+
+	private HttpServletResponse response() {
+		ServletOutputStream outputStream = new ServletOutputStream() {
+
+			@Override
+			public void write(int b) {
+				CustomHttpServletResponseWrapperTests.this.body.write(b);
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+			}
+
+		};
+		PrintWriter writer = new PrintWriter(this.text);
+		return (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getOutputStream":
+							return outputStream;
+						case "getWriter":
+							return writer;
+						case "getContentType":
+							return this.contentType;
+						case "getCharacterEncoding":
+							return (this.contentType != null) ? "ISO-8859-1" : "UTF-8";
+						default:
+							return null;
+					}
+				});
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.spring.framework.web.util;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import space.x9x.radp.spring.framework.dto.extension.ResponseBuilder;
+import space.x9x.radp.spring.framework.json.support.JSONHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PreEncodedResponses}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 01:05
+ */
+class PreEncodedResponsesTests {
+
+	@Test
+	void encodesSuccessOnce() {
+		PreEncodedResponses responses = PreEncodedResponses.get();
+
+		assertThat(json(responses.success()))
+			.isEqualTo(JSONHelper.json().toJSONString(ResponseBuilder.builder().buildSuccess()));
+		assertThat(responses.success()).isSameAs(responses.success());
+		assertThat(PreEncodedResponses.get()).isSameAs(responses);
+	}
+
+	@Test
+	void encodesFailuresLikeTheBuilder() {
+		PreEncodedResponses responses = PreEncodedResponses.get();
+		String[] messages = { "token is required", "say \"hi\" \\ back\n\t\u0001", "中文消息", "with {} param" };
+		for (String message : messages) {
+			assertThat(json(responses.failure("0400", message)))
+				.isEqualTo(JSONHelper.json().toJSONString(ResponseBuilder.builder().buildFailure("0400", message)));
+			assertThat(json(responses.failure("0401", message, "a\"b"))).isEqualTo(
+					JSONHelper.json().toJSONString(ResponseBuilder.builder().buildFailure("0401", message, "a\"b")));
+		}
+		assertThat(responses.failure("0400", "token is required"))
+			.isSameAs(responses.failure("0400", "token is required"));
+	}
+
+	@Test
+	void escapesJsonStrings() {
+		assertThat(PreEncodedResponses.escape("plain")).isSameAs("plain");
+		assertThat(PreEncodedResponses.escape("a\"b\\c\r\n\u001f")).isEqualTo("a\\\"b\\\\c\\r\\n\\u001F");
+	}
+
+	private static String json(byte[] body) {
+		return new String(body, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.commons.id;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.commons.id.SnowflakeGenerator;
+
+/**
+ * Throughput of the lock-free {@link SnowflakeGenerator} versus the previous
+ * {@code synchronized} implementation, run by {@link #main(String[])} at 1 to 64
+ * threads.
+ * <p>
+ * A single generator is limited to 4096 IDs per millisecond, so beyond a few threads
+ * both implementations are bounded by the sequence space. The interesting figures are
+ * the per-thread latency below that limit and the behaviour once it is reached:
+ * contended monitor inflation versus a CAS retry. {@code nextIds} reserves a batch of
+ * {@value #BATCH_SIZE} IDs in one CAS, as used for bulk inserts.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 17:25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnowflakeGeneratorBenchmark {
+
+	static final int BATCH_SIZE = 1000;
+
+	private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+	private final SynchronizedSnowflakeGenerator synchronizedGenerator = new SynchronizedSnowflakeGenerator(1, 1);
+
+	private final SnowflakeGenerator casGenerator = new SnowflakeGenerator(1, 1);
+
+	@Benchmark
+	public long synchronizedNextId() {
+		return this.synchronizedGenerator.nextId();
+	}
+
+	@Benchmark
+	public long casNextId() {
+		return this.casGenerator.nextId();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void synchronizedLoop(Blackhole blackhole) {
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			blackhole.consume(this.synchronizedGenerator.nextId());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public long[] casNextIds() {
+		return this.casGenerator.nextIds(BATCH_SIZE);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : THREADS) {
+			new Runner(new OptionsBuilder().include(SnowflakeGeneratorBenchmark.class.getSimpleName())
+				.threads(threads)
+				.build()).run();
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.commons.id;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Copy of the previous, {@code synchronized} SnowflakeGenerator implementation, kept as
+ * the baseline of {@link SnowflakeGeneratorBenchmark}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 17:20
+ */
+class SynchronizedSnowflakeGenerator {
+
+	private static final long EPOCH = 1514736000000L;
+
+	private static final long SEQUENCE_BITS = 12L;
+
+	private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+
+	private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + 5L;
+
+	private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + 10L;
+
+	private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+
+	private static final long MAX_BACKWARD_MS = 5L;
+
+	private final long workerId;
+
+	private final long dataCenterId;
+
+	private long sequence = 0L;
+
+	private long lastTimestamp = -1L;
+
+	SynchronizedSnowflakeGenerator(long dataCenterId, long workerId) {
+		this.dataCenterId = dataCenterId;
+		this.workerId = workerId;
+	}
+
+	synchronized long nextId() {
+		long ts = System.currentTimeMillis();
+		if (ts < this.lastTimestamp) {
+			long diff = this.lastTimestamp - ts;
+			if (diff <= MAX_BACKWARD_MS) {
+				ts = waitUntil(this.lastTimestamp);
+			}
+			else {
+				throw new IllegalStateException("Clock moved backwards " + diff + "ms");
+			}
+		}
+		if (ts == this.lastTimestamp) {
+			this.sequence = (this.sequence + 1) & SEQUENCE_MASK;
+			if (this.sequence == 0) {
+				ts = waitUntil(this.lastTimestamp + 1);
+			}
+		}
+		else {
+			this.sequence = 0L;
+		}
+		this.lastTimestamp = ts;
+		return ((ts - EPOCH) << TIMESTAMP_LEFT_SHIFT) | (this.dataCenterId << DATACENTER_ID_SHIFT)
+				| (this.workerId << WORKER_ID_SHIFT) | this.sequence;
+	}
+
+	private static long waitUntil(long targetTime) {
+		long now = System.currentTimeMillis();
+		while (now < targetTime) {
+			relax();
+			now = System.currentTimeMillis();
+		}
+		return now;
+	}
+
+	private static void relax() {
+		try {
+			Method method = Thread.class.getMethod("onSpinWait");
+			method.invoke(null);
+		}
+		catch (Exception ignore) {
+			LockSupport.parkNanos(100_000L);
+		}
+	}
+
+}
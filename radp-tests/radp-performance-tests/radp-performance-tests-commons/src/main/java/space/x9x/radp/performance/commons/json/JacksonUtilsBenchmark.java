@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.commons.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.commons.json.JacksonUtils;
+import space.x9x.radp.commons.json.jackson.mapper.DefaultObjectMapper;
+
+/**
+ * Throughput of {@link JacksonUtils} with writers and readers from the
+ * {@code ObjectMapperRegistry} versus the previous implementation, which reconfigured the
+ * shared mapper and built a new writer per call, and parsed lists into maps before
+ * converting every element.
+ * <p>
+ * The previous variants run against a private mapper, since they mutate it.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 20:25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class JacksonUtilsBenchmark {
+
+	private static final String LIST = "[{\"id\":1,\"name\":\"alice\",\"email\":null},"
+			+ "{\"id\":2,\"name\":\"bob\",\"email\":\"bob@x9x.space\"}]";
+
+	private final ObjectMapper previousMapper = new DefaultObjectMapper();
+
+	private final User user = new User(1L, "alice", null);
+
+	@Benchmark
+	public String previousToJSONString() throws Exception {
+		return this.previousMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL)
+			.writer()
+			.writeValueAsString(this.user);
+	}
+
+	@Benchmark
+	public String toJSONString() {
+		return JacksonUtils.toJSONString(this.user, JsonInclude.Include.NON_NULL);
+	}
+
+	@Benchmark
+	public List<User> previousParseList() throws Exception {
+		List<Map<Object, Object>> list = this.previousMapper.readValue(LIST,
+				new TypeReference<List<Map<Object, Object>>>() {
+				});
+		List<User> result = new ArrayList<>();
+		for (Map<Object, Object> map : list) {
+			result.add(this.previousMapper.convertValue(map, User.class));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<User> parseList() {
+		return JacksonUtils.parseList(LIST, User.class);
+	}
+
+	@Benchmark
+	public List<User> previousParseTypeReference() throws Exception {
+		return this.previousMapper.readValue(LIST, new TypeReference<List<User>>() {
+		});
+	}
+
+	@Benchmark
+	public List<User> parseTypeReference() {
+		return JacksonUtils.parseObject(LIST, new TypeReference<List<User>>() {
+		});
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JacksonUtilsBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	public static class User {
+
+		private Long id;
+
+		private String name;
+
+		private String email;
+
+		public User() {
+		}
+
+		User(Long id, String name, String email) {
+			this.id = id;
+			this.name = name;
+			this.email = email;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.commons.lang;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.commons.lang.format.MessageFormatter;
+import space.x9x.radp.commons.lang.format.MessageTemplate;
+
+/**
+ * Throughput of {@link MessageTemplate} versus the previous {@link MessageFormatter},
+ * which rescanned the pattern with {@code indexOf} and allocated a cycle detection map
+ * for every placeholder, and versus SLF4J's formatter as external reference.
+ * <p>
+ * {@code appendTo} reuses one {@link StringBuilder} per thread, as a logging or error
+ * rendering pipeline appending into its own buffer would.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 19:35
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageFormatBenchmark {
+
+	@Param({ "User {} not found", "Order {} of user {} failed with code {} at {}: \\{} is not allowed" })
+	public String pattern;
+
+	private final Object[] args = { "alice", 42L, 5001, "2026-10-17T19:35:00" };
+
+	private final StringBuilder builder = new StringBuilder(256);
+
+	private MessageTemplate template;
+
+	@Setup
+	public void setup() {
+		this.template = MessageTemplate.of(this.pattern);
+	}
+
+	@Benchmark
+	public String previous() {
+		return previousArrayFormat(this.pattern, this.args);
+	}
+
+	@Benchmark
+	public String messageFormatter() {
+		return MessageFormatter.arrayFormat(this.pattern, this.args).getMessage();
+	}
+
+	@Benchmark
+	public String template() {
+		return this.template.format(this.args);
+	}
+
+	@Benchmark
+	public int appendTo() {
+		this.builder.setLength(0);
+		this.template.appendTo(this.builder, this.args);
+		return this.builder.length();
+	}
+
+	@Benchmark
+	public String slf4j() {
+		return org.slf4j.helpers.MessageFormatter.arrayFormat(this.pattern, this.args).getMessage();
+	}
+
+	/**
+	 * Copy of the previous {@code MessageFormatter.arrayFormat} loop, reduced to scalar
+	 * arguments.
+	 */
+	private static String previousArrayFormat(String messagePattern, Object[] argArray) {
+		int i = 0;
+		int j;
+		StringBuilder stringBuilder = new StringBuilder(messagePattern.length() + 50);
+		int L;
+		for (L = 0; L < argArray.length; L++) {
+			j = messagePattern.indexOf("{}", i);
+			if (j == -1) {
+				if (i == 0) {
+					return messagePattern;
+				}
+				stringBuilder.append(messagePattern, i, messagePattern.length());
+				return stringBuilder.toString();
+			}
+			if (j > 0 && messagePattern.charAt(j - 1) == '\\') {
+				if (!(j >= 2 && messagePattern.charAt(j - 2) == '\\')) {
+					L--;
+					stringBuilder.append(messagePattern, i, j - 1);
+					stringBuilder.append('{');
+					i = j + 1;
+				}
+				else {
+					stringBuilder.append(messagePattern, i, j - 1);
+					previousAppendParameter(stringBuilder, argArray[L], new HashMap<>());
+					i = j + 2;
+				}
+			}
+			else {
+				stringBuilder.append(messagePattern, i, j);
+				previousAppendParameter(stringBuilder, argArray[L], new HashMap<>());
+				i = j + 2;
+			}
+		}
+		stringBuilder.append(messagePattern, i, messagePattern.length());
+		return stringBuilder.toString();
+	}
+
+	private static void previousAppendParameter(StringBuilder stringBuilder, Object o, HashMap<Object[], Object> seen) {
+		if (o == null) {
+			stringBuilder.append("null");
+		}
+		else if (!o.getClass().isArray()) {
+			stringBuilder.append(o);
+		}
+		else {
+			seen.put((Object[]) o, null);
+			stringBuilder.append("[...]");
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MessageFormatBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.commons.net;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.commons.net.CidrMatcher;
+import space.x9x.radp.commons.net.IpConfigUtils;
+
+/**
+ * Latency of subnet and allow list checks.
+ * <p>
+ * The allow list holds 1000 random IPv4 CIDR blocks, half of the probed addresses fall
+ * into one of them. {@code linearScan} tests the pre-parsed blocks one by one,
+ * {@code cidrMatcher} binary searches the merged ranges of {@link CidrMatcher}.
+ * {@code previousSameSubnet} is the previous {@code InetAddress} based
+ * {@link IpConfigUtils#isSameSubnet(String, String)}, as the Dubbo local call first
+ * cluster called it for every provider of every invocation.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:45
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CidrMatcherBenchmark {
+
+	private static final int BLOCKS = 1000;
+
+	private static final int ADDRESSES = 1024;
+
+	private static final String LOCAL_HOST = "192.168.1.10";
+
+	private final long[] networks = new long[BLOCKS];
+
+	private final long[] masks = new long[BLOCKS];
+
+	private final String[] addresses = new String[ADDRESSES];
+
+	private CidrMatcher allowList;
+
+	private CidrMatcher localSubnet;
+
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(20261017);
+		List<String> cidrs = new ArrayList<>(BLOCKS);
+		for (int i = 0; i < BLOCKS; i++) {
+			int prefixLength = 8 + random.nextInt(25);
+			this.masks[i] = (0xFFFFFFFFL << (32 - prefixLength)) & 0xFFFFFFFFL;
+			this.networks[i] = random.nextInt() & this.masks[i];
+			cidrs.add(toString(this.networks[i]) + "/" + prefixLength);
+		}
+		for (int i = 0; i < ADDRESSES; i++) {
+			long address = (i % 2 == 0) ? this.networks[random.nextInt(BLOCKS)] | (random.nextInt(256) & 0xFFL)
+					: random.nextInt() & 0xFFFFFFFFL;
+			this.addresses[i] = (i % 4 == 1) ? "192.168.1." + random.nextInt(256) : toString(address);
+		}
+		this.allowList = CidrMatcher.of(cidrs);
+		this.localSubnet = IpConfigUtils.getSubnet(LOCAL_HOST);
+	}
+
+	@Benchmark
+	public boolean linearScan() {
+		String ip = nextAddress();
+		long address = CidrMatcher.parseIpv4(ip, 0, ip.length());
+		for (int i = 0; i < BLOCKS; i++) {
+			if ((address & this.masks[i]) == this.networks[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Benchmark
+	public boolean cidrMatcher() {
+		return this.allowList.matches(nextAddress());
+	}
+
+	@Benchmark
+	public boolean previousSameSubnet() throws UnknownHostException {
+		return previousIsSameSubnet(LOCAL_HOST, nextAddress(), "255.255.255.0");
+	}
+
+	@Benchmark
+	public boolean sameSubnet() throws UnknownHostException {
+		return IpConfigUtils.isSameSubnet(LOCAL_HOST, nextAddress());
+	}
+
+	@Benchmark
+	public boolean localSubnet() {
+		return this.localSubnet.matches(nextAddress());
+	}
+
+	private String nextAddress() {
+		this.index = (this.index + 1) & (ADDRESSES - 1);
+		return this.addresses[this.index];
+	}
+
+	/**
+	 * Copy of the previous {@code IpConfigUtils.isSameSubnet}.
+	 */
+	private static boolean previousIsSameSubnet(String ip1, String ip2, String subnetMask)
+			throws UnknownHostException {
+		byte[] b1 = InetAddress.getByName(ip1).getAddress();
+		byte[] b2 = InetAddress.getByName(ip2).getAddress();
+		byte[] b3 = InetAddress.getByName(subnetMask).getAddress();
+		for (int i = 0; i < b1.length; i++) {
+			if ((b1[i] & b3[i]) != (b2[i] & b3[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String toString(long address) {
+		return (address >>> 24) + "." + ((address >>> 16) & 0xFF) + "." + ((address >>> 8) & 0xFF) + "."
+				+ (address & 0xFF);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CidrMatcherBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.extension;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.extension.DefaultExtensionHandle;
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.performance.extension.adaptive.Codec;
+
+/**
+ * Per-call cost of obtaining the default extension under 16-thread contention: the
+ * {@code getExtensionLoader(type).getDefaultExtension()} chain used by facades such as
+ * {@code JSONHelper.json()} before, versus a {@link DefaultExtensionHandle} kept in a
+ * static field.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 13:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(16)
+public class DefaultExtensionBenchmark {
+
+	private static final DefaultExtensionHandle<Codec> DEFAULT_CODEC = ExtensionLoader
+		.getDefaultExtensionHandle(Codec.class);
+
+	@Setup
+	public void setup() {
+		DEFAULT_CODEC.get();
+	}
+
+	@Benchmark
+	public Codec loaderLookup() {
+		return ExtensionLoader.getExtensionLoader(Codec.class).getDefaultExtension();
+	}
+
+	@Benchmark
+	public Codec handle() {
+		return DEFAULT_CODEC.get();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DefaultExtensionBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.extension;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.index.ExtensionIndex;
+import space.x9x.radp.extension.index.processor.ExtensionIndexProcessor;
+import space.x9x.radp.extension.strategy.InternalLoadingStrategy;
+
+/**
+ * Cold-start benchmark of extension class loading in scan mode versus index mode.
+ * <p>
+ * The trial setup generates {@value #SPI_COUNT} {@code @SPI} interfaces with two
+ * extensions each, writes their description files and compiles them with the
+ * {@link ExtensionIndexProcessor}, so the class output contains both the description
+ * files and the generated index. Each fork then measures a single, cold
+ * {@code getExtensionClasses()} pass over all types:
+ * <ul>
+ * <li>{@code ignore}: scan and parse every description file (previous behaviour)</li>
+ * <li>{@code mixed}: use the index, scan only description files of unindexed jars</li>
+ * <li>{@code only}: use the index exclusively</li>
+ * </ul>
+ * The benchmark class path is small; the scanning cost grows with the number of jars
+ * on the class path, so fat-jar deployments benefit more than shown here.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 11:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ExtensionIndexBenchmark {
+
+	static final int SPI_COUNT = 64;
+
+	private static final String PACKAGE_NAME = "space.x9x.radp.performance.extension.generated";
+
+	@Param({ "ignore", "mixed", "only" })
+	public String mode;
+
+	private Path workDirectory;
+
+	private URLClassLoader classLoader;
+
+	private List<Class<?>> types;
+
+	@Setup
+	public void setup() throws Exception {
+		this.workDirectory = Files.createTempDirectory("radp-extension-index");
+		Path sources = Files.createDirectories(this.workDirectory.resolve("src"));
+		Path classes = Files.createDirectories(this.workDirectory.resolve("classes"));
+		Path descriptors = Files.createDirectories(classes.resolve(InternalLoadingStrategy.META_INF));
+
+		List<File> sourceFiles = new ArrayList<>();
+		for (int i = 0; i < SPI_COUNT; i++) {
+			String type = String.format(Locale.ROOT, "Spi%02d", i);
+			sourceFiles.add(write(sources.resolve(type + ".java"), "package " + PACKAGE_NAME + ";\n"
+					+ "@space.x9x.radp.extension.SPI(\"first\")\npublic interface " + type + " {\n}\n"));
+			sourceFiles.add(write(sources.resolve(type + "First.java"),
+					"package " + PACKAGE_NAME + ";\npublic class " + type + "First implements " + type + " {\n}\n"));
+			sourceFiles.add(write(sources.resolve(type + "Second.java"),
+					"package " + PACKAGE_NAME + ";\npublic class " + type + "Second implements " + type + " {\n}\n"));
+			write(descriptors.resolve(PACKAGE_NAME + "." + type), "first=" + PACKAGE_NAME + "." + type + "First\n"
+					+ "second=" + PACKAGE_NAME + "." + type + "Second\n");
+		}
+		compile(sourceFiles, classes);
+
+		this.classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+				ExtensionIndexBenchmark.class.getClassLoader());
+		this.types = new ArrayList<>();
+		for (int i = 0; i < SPI_COUNT; i++) {
+			this.types.add(Class.forName(String.format(Locale.ROOT, "%s.Spi%02d", PACKAGE_NAME, i), false,
+					this.classLoader));
+		}
+		System.setProperty(ExtensionIndex.MODE_PROPERTY, this.mode);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.classLoader.close();
+		System.clearProperty(ExtensionIndex.MODE_PROPERTY);
+		ExtensionIndex.reset();
+	}
+
+	@Benchmark
+	public void loadExtensionClasses(Blackhole blackhole) {
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		thread.setContextClassLoader(this.classLoader);
+		try {
+			ExtensionIndex.reset();
+			for (Class<?> type : this.types) {
+				blackhole.consume(new ExtensionLoader<>(type, null).getExtensionClasses());
+			}
+		}
+		finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+
+	private static File write(Path path, String content) throws IOException {
+		return Files.write(path, content.getBytes(StandardCharsets.UTF_8)).toFile();
+	}
+
+	private static void compile(List<File> sourceFiles, Path classes) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			throw new IllegalStateException("ExtensionIndexBenchmark requires a JDK to generate its fixtures");
+		}
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+				StandardCharsets.UTF_8)) {
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classes.toFile()));
+			Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(sourceFiles);
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+					Arrays.asList("-classpath", System.getProperty("java.class.path")), null, units);
+			task.setProcessors(Collections.singletonList(new ExtensionIndexProcessor()));
+			if (!task.call()) {
+				throw new IllegalStateException("Failed to compile ExtensionIndexBenchmark fixtures");
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ExtensionIndexBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
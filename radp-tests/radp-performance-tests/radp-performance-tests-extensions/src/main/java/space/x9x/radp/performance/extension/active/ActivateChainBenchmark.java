@@ -0,0 +1,197 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.extension.active;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.extension.Activate;
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.SPI;
+import space.x9x.radp.extension.active.ActivateComparator;
+import space.x9x.radp.extension.common.URL;
+
+/**
+ * Resolution of a 10-extension activate filter chain, one million times per measurement
+ * iteration.
+ * <p>
+ * {@code perCall} repeats the per-call work of the previous implementation: a
+ * {@code TreeMap} sorted by activation order, name sets and the activation condition
+ * check of every candidate. {@code cached} uses the activation cache.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 14:45
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = ActivateChainBenchmark.CHAIN_RESOLUTIONS)
+@Measurement(iterations = 10, batchSize = ActivateChainBenchmark.CHAIN_RESOLUTIONS)
+@Fork(2)
+public class ActivateChainBenchmark {
+
+	static final int CHAIN_RESOLUTIONS = 1_000_000;
+
+	private static final String GROUP = "provider";
+
+	private ExtensionLoader<ChainFilter> loader;
+
+	private URL url;
+
+	private Map<String, Activate> activates;
+
+	@Setup
+	public void setup() {
+		this.loader = ExtensionLoader.getExtensionLoader(ChainFilter.class);
+		this.url = new URL(Collections.singletonMap("trace", "true"));
+		this.activates = new HashMap<>();
+		for (String name : this.loader.getSupportedExtensions()) {
+			this.activates.put(name, this.loader.getExtensionClass(name).getAnnotation(Activate.class));
+		}
+		if (cached().size() != 10 || perCall().size() != 10) {
+			throw new IllegalStateException("Expected a chain of 10 filters");
+		}
+	}
+
+	@Benchmark
+	public List<ChainFilter> cached() {
+		return this.loader.getActivateExtension(this.url, (String[]) null, GROUP);
+	}
+
+	@Benchmark
+	public List<ChainFilter> perCall() {
+		TreeMap<Class<?>, ChainFilter> chain = new TreeMap<>(ActivateComparator.COMPARATOR);
+		Set<String> loadedNames = new HashSet<>();
+		Set<String> names = new HashSet<>();
+		for (Map.Entry<String, Activate> entry : this.activates.entrySet()) {
+			String name = entry.getKey();
+			Activate activate = entry.getValue();
+			if (isMatchGroup(activate.groups()) && !names.contains(name) && !names.contains("-" + name)
+					&& isActive(activate.value()) && loadedNames.add(name)) {
+				chain.put(this.loader.getExtensionClass(name), this.loader.getExtension(name));
+			}
+		}
+		return new ArrayList<>(chain.values());
+	}
+
+	private static boolean isMatchGroup(String[] groups) {
+		for (String group : groups) {
+			if (GROUP.equals(group)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isActive(String[] keys) {
+		if (keys.length == 0) {
+			return true;
+		}
+		for (String key : keys) {
+			for (Map.Entry<String, String> entry : this.url.getParameters().entrySet()) {
+				if ((entry.getKey().equals(key) || entry.getKey().endsWith("." + key)) && !entry.getValue().isEmpty()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ActivateChainBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	/**
+	 * Extension point of the benchmarked filter chain.
+	 */
+	@SPI
+	public interface ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 0, value = "trace")
+	public static class Filter0 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 1)
+	public static class Filter1 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 2)
+	public static class Filter2 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 3, value = "trace")
+	public static class Filter3 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 4)
+	public static class Filter4 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 5)
+	public static class Filter5 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 6, value = "trace")
+	public static class Filter6 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 7)
+	public static class Filter7 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 8)
+	public static class Filter8 implements ChainFilter {
+
+	}
+
+	@Activate(groups = "provider", order = 9, value = "trace")
+	public static class Filter9 implements ChainFilter {
+
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.extension.adaptive;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.extension.ExtensionLoader;
+import space.x9x.radp.extension.common.URL;
+
+/**
+ * Per-call cost of adaptive extensions: method handle dispatch versus the class the
+ * {@code AdaptiveClassCodeGenerator} would generate, with a direct call as baseline.
+ * <p>
+ * {@link GeneratedCodecAdaptive} is a hand-written copy of the generated source, so the
+ * comparison does not depend on a {@code Compiler} extension being available.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 13:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AdaptiveDispatchBenchmark {
+
+	@Param({ "plain", "xor" })
+	public String codec;
+
+	private URL url;
+
+	private int value;
+
+	private Codec direct;
+
+	private Codec generated;
+
+	private Codec dispatch;
+
+	@Setup
+	public void setup() {
+		this.url = new URL(Collections.singletonMap("codec", this.codec));
+		this.value = 42;
+		ExtensionLoader<Codec> loader = ExtensionLoader.getExtensionLoader(Codec.class);
+		this.direct = loader.getExtension(this.codec);
+		this.generated = new GeneratedCodecAdaptive();
+		this.dispatch = loader.getAdaptiveExtension();
+	}
+
+	@Benchmark
+	public int direct() {
+		return this.direct.encode(this.url, this.value);
+	}
+
+	@Benchmark
+	public int generated() {
+		return this.generated.encode(this.url, this.value);
+	}
+
+	@Benchmark
+	public int dispatch() {
+		return this.dispatch.encode(this.url, this.value);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AdaptiveDispatchBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	/**
+	 * Equivalent of the adaptive class generated for {@link Codec}.
+	 */
+	static class GeneratedCodecAdaptive implements Codec {
+
+		@Override
+		public int encode(URL arg0, int arg1) {
+			if (arg0 == null) {
+				throw new IllegalArgumentException("url == null");
+			}
+			URL url = arg0;
+			String extName = (url.getParameter("codec") != null) ? url.getParameter("codec") : "plain";
+			Codec extension = ExtensionLoader.getExtensionLoader(Codec.class).getExtension(extName);
+			return extension.encode(arg0, arg1);
+		}
+
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.framework.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.commons.json.jackson.mapper.BytecodeAcceleration;
+import space.x9x.radp.commons.json.jackson.mapper.DefaultObjectMapper;
+import space.x9x.radp.commons.json.jackson.mapper.ObjectMapperRegistry;
+import space.x9x.radp.spring.framework.dto.PageParam;
+import space.x9x.radp.spring.framework.dto.PageResult;
+
+/**
+ * Throughput of the {@link DefaultObjectMapper} with and without bytecode acceleration
+ * for a full {@link PageResult} page ({@link PageParam#MAX_PAGE_SIZE} rows) of a typical
+ * DTO.
+ * <p>
+ * {@code BLACKBIRD} needs Java 9 or later, the trial fails on Java 8 instead of silently
+ * measuring the reflective mapper. Afterburner only optimizes public fields and
+ * accessors, the private fields of the result hierarchy itself stay reflective.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 22:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BytecodeAccelerationBenchmark {
+
+	@Param({ "NONE", "AFTERBURNER", "BLACKBIRD" })
+	public BytecodeAcceleration acceleration;
+
+	private ObjectWriter writer;
+
+	private ObjectReader reader;
+
+	private PageResult<Row> page;
+
+	private byte[] bytes;
+
+	@Setup
+	public void setup() throws IOException {
+		ObjectMapper objectMapper = new DefaultObjectMapper(BytecodeAcceleration.NONE);
+		if (this.acceleration != BytecodeAcceleration.NONE && !this.acceleration.register(objectMapper)) {
+			throw new IllegalStateException(this.acceleration + " is not available on this class path or Java version");
+		}
+		ObjectMapperRegistry registry = ObjectMapperRegistry.of(objectMapper);
+		this.writer = registry.getWriter(JsonInclude.Include.USE_DEFAULTS, false);
+		this.reader = registry.getReader(new TypeReference<PageResult<Row>>() {
+		});
+		List<Row> rows = new ArrayList<>(PageParam.MAX_PAGE_SIZE);
+		for (int i = 0; i < PageParam.MAX_PAGE_SIZE; i++) {
+			rows.add(Row.sample(i));
+		}
+		this.page = PageResult.ok(rows, 10_000L);
+		this.bytes = this.writer.writeValueAsBytes(this.page);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return this.writer.writeValueAsBytes(this.page);
+	}
+
+	@Benchmark
+	public PageResult<Row> deserialize() throws IOException {
+		return this.reader.readValue(this.bytes);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BytecodeAccelerationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	public static class Row {
+
+		private Long id;
+
+		private String username;
+
+		private String nickname;
+
+		private String email;
+
+		private String mobile;
+
+		private Integer status;
+
+		private Boolean deleted;
+
+		private Long tenantId;
+
+		private LocalDateTime createTime;
+
+		private LocalDateTime updateTime;
+
+		static Row sample(int i) {
+			Row row = new Row();
+			row.setId(100_000L + i);
+			row.setUsername("user" + i);
+			row.setNickname("用户 " + i);
+			row.setEmail("user" + i + "@x9x.space");
+			row.setMobile("1380000" + (1000 + i));
+			row.setStatus(i % 3);
+			row.setDeleted(Boolean.FALSE);
+			row.setTenantId(1L);
+			row.setCreateTime(LocalDateTime.of(2026, 10, 17, 9, 0).plusMinutes(i));
+			row.setUpdateTime(LocalDateTime.of(2026, 10, 17, 18, 0).plusMinutes(i));
+			return row;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getUsername() {
+			return this.username;
+		}
+
+		public void setUsername(String username) {
+			this.username = username;
+		}
+
+		public String getNickname() {
+			return this.nickname;
+		}
+
+		public void setNickname(String nickname) {
+			this.nickname = nickname;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public String getMobile() {
+			return this.mobile;
+		}
+
+		public void setMobile(String mobile) {
+			this.mobile = mobile;
+		}
+
+		public Integer getStatus() {
+			return this.status;
+		}
+
+		public void setStatus(Integer status) {
+			this.status = status;
+		}
+
+		public Boolean getDeleted() {
+			return this.deleted;
+		}
+
+		public void setDeleted(Boolean deleted) {
+			this.deleted = deleted;
+		}
+
+		public Long getTenantId() {
+			return this.tenantId;
+		}
+
+		public void setTenantId(Long tenantId) {
+			this.tenantId = tenantId;
+		}
+
+		public LocalDateTime getCreateTime() {
+			return this.createTime;
+		}
+
+		public void setCreateTime(LocalDateTime createTime) {
+			this.createTime = createTime;
+		}
+
+		public LocalDateTime getUpdateTime() {
+			return this.updateTime;
+		}
+
+		public void setUpdateTime(LocalDateTime updateTime) {
+			this.updateTime = updateTime;
+		}
+
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.framework.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.spring.framework.json.JSON;
+import space.x9x.radp.spring.framework.json.support.JSONHelper;
+
+/**
+ * Allocation rate and throughput of the {@link JSON} SPI on its {@code String} methods
+ * versus its byte and stream methods, for payloads that end up as bytes anyway (servlet
+ * responses, Redis values).
+ * <p>
+ * {@code main} runs with the {@link GCProfiler}, compare {@code gc.alloc.rate.norm} (bytes
+ * allocated per operation) of the {@code string*} and {@code bytes*} variants.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 21:05
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSONBenchmark {
+
+	@Param({ "jackson", "fastjson", "fastjson2", "gson" })
+	public String spi;
+
+	private JSON json;
+
+	private Order order;
+
+	private byte[] bytes;
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+	@Setup
+	public void setup() {
+		this.json = JSONHelper.json(this.spi);
+		this.order = Order.sample();
+		this.bytes = this.json.toJSONBytes(this.order);
+	}
+
+	@Benchmark
+	public byte[] stringSerialize() {
+		return this.json.toJSONString(this.order).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public byte[] bytesSerialize() {
+		return this.json.toJSONBytes(this.order);
+	}
+
+	@Benchmark
+	public int streamSerialize() throws IOException {
+		this.out.reset();
+		this.json.writeTo(this.order, this.out);
+		return this.out.size();
+	}
+
+	@Benchmark
+	public Order stringDeserialize() {
+		return this.json.parseObject(new String(this.bytes, StandardCharsets.UTF_8), Order.class);
+	}
+
+	@Benchmark
+	public Order bytesDeserialize() {
+		return this.json.parseObject(this.bytes, Order.class);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JSONBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+	public static class Order {
+
+		private Long id;
+
+		private String customer;
+
+		private String remark;
+
+		private List<Item> items;
+
+		static Order sample() {
+			Order order = new Order();
+			order.setId(20261017L);
+			order.setCustomer("张三 alice@x9x.space");
+			order.setRemark("deliver between 9:00 and 18:00, call before arrival");
+			List<Item> items = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				Item item = new Item();
+				item.setSku("SKU-" + (100000 + i));
+				item.setName("商品 " + i);
+				item.setQuantity(i + 1);
+				item.setPrice(9.99 * (i + 1));
+				items.add(item);
+			}
+			order.setItems(items);
+			return order;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getCustomer() {
+			return this.customer;
+		}
+
+		public void setCustomer(String customer) {
+			this.customer = customer;
+		}
+
+		public String getRemark() {
+			return this.remark;
+		}
+
+		public void setRemark(String remark) {
+			this.remark = remark;
+		}
+
+		public List<Item> getItems() {
+			return this.items;
+		}
+
+		public void setItems(List<Item> items) {
+			this.items = items;
+		}
+
+	}
+
+	public static class Item {
+
+		private String sku;
+
+		private String name;
+
+		private int quantity;
+
+		private double price;
+
+		public String getSku() {
+			return this.sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getQuantity() {
+			return this.quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public double getPrice() {
+			return this.price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+
+	}
+
+}
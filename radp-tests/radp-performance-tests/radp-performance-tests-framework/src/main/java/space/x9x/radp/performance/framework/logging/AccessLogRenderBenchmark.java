@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.framework.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.spring.framework.json.support.JSONHelper;
+import space.x9x.radp.spring.framework.logging.access.util.AccessLogHelper;
+
+/**
+ * Cost of rendering access log arguments and return values of growing size, cut at the
+ * default {@code maxLength} of 500 characters.
+ * <p>
+ * The {@code previous*} variants render the whole value and cut it afterwards, their cost
+ * grows with the payload. The {@code bounded*} variants of {@link AccessLogHelper} stop
+ * once the limit is reached and should stay flat across {@code size}.
+ *
+ * @author RADP x9x
+ * @since 2026-10-17 23:55
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessLogRenderBenchmark {
+
+	private static final int MAX_LENGTH = 500;
+
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	private Object[] args;
+
+	private List<Item> result;
+
+	@Setup
+	public void setup() {
+		this.result = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			this.result.add(new Item(i, "item-" + i));
+		}
+		this.args = new Object[] { "query", this.result };
+	}
+
+	@Benchmark
+	public String previousArguments() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < this.args.length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(this.args[i]);
+		}
+		String arguments = builder.toString();
+		return (arguments.length() > MAX_LENGTH) ? arguments.substring(0, MAX_LENGTH) : arguments;
+	}
+
+	@Benchmark
+	public String boundedArguments() {
+		return AccessLogHelper.renderArguments(this.args, MAX_LENGTH);
+	}
+
+	@Benchmark
+	public String previousReturnValue() {
+		String returnValue = JSONHelper.json().toJSONString(this.result);
+		return (returnValue.length() > MAX_LENGTH) ? returnValue.substring(0, MAX_LENGTH) : returnValue;
+	}
+
+	@Benchmark
+	public String boundedReturnValue() {
+		return AccessLogHelper.renderReturnValue(this.result, MAX_LENGTH);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AccessLogRenderBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+	public static class Item {
+
+		private final long id;
+
+		private final String name;
+
+		public Item(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public String toString() {
+			return "Item(id=" + this.id + ", name=" + this.name + ")";
+		}
+
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.framework.logging;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import space.x9x.radp.commons.lang.StringConstants;
+import space.x9x.radp.commons.lang.StringUtil;
+import space.x9x.radp.commons.net.IpConfigUtils;
+import space.x9x.radp.spring.framework.bootstrap.constant.SpringProperties;
+import space.x9x.radp.spring.framework.logging.MdcConstants;
+import space.x9x.radp.spring.framework.logging.MdcSnapshot;
+import space.x9x.radp.spring.framework.logging.bootstrap.filter.BootstrapLogHttpFilter;
+import space.x9x.radp.spring.framework.web.util.ServletUtils;
+
+/**
+ * Per-request overhead of the logging context of {@link BootstrapLogHttpFilter}, with
+ * Logback as MDC implementation and an empty filter chain.
+ * <p>
+ * {@code previousFilter} reproduces the former filter, which read the environment and
+ * called {@code MDC.put} six times per request and never cleaned up. {@code filter} runs
+ * the current one. The {@code *TaskCapture} variants compare handing the context to an
+ * asynchronous task by copying the MDC with handing over the attached snapshot.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:55
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BootstrapLogFilterBenchmark {
+
+	private static final FilterChain CHAIN = (request, response) -> {
+	};
+
+	private static final Runnable TASK = () -> {
+	};
+
+	private StandardEnvironment environment;
+
+	private BootstrapLogHttpFilter filter;
+
+	private HttpServletRequest request;
+
+	private HttpServletResponse response;
+
+	@Setup
+	public void setup() {
+		this.environment = new StandardEnvironment();
+		this.environment.getPropertySources()
+			.addFirst(new MapPropertySource("benchmark",
+					Collections.singletonMap(SpringProperties.SPRING_APPLICATION_NAME, "radp-benchmark")));
+		this.environment.setActiveProfiles("dev");
+		this.filter = new BootstrapLogHttpFilter(this.environment);
+		this.filter.setEnabledMdc(true);
+		this.request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getRequestURI":
+							return "/api/orders/42";
+						case "getRemoteAddr":
+							return "203.0.113.7";
+						case "getLocalAddr":
+							return "10.0.0.2";
+						default:
+							return null;
+					}
+				});
+		this.response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> null);
+	}
+
+	@Benchmark
+	public void previousFilter() throws IOException, ServletException {
+		String appName = StringUtil
+			.trimToEmpty(this.environment.getProperty(SpringProperties.SPRING_APPLICATION_NAME));
+		String[] profiles = this.environment.getActiveProfiles();
+		String profile = StringUtil.trimToEmpty(String.join(StringConstants.COMMA,
+				(profiles.length == 0) ? this.environment.getDefaultProfiles() : profiles));
+		MDC.put(MdcConstants.APP, appName);
+		MDC.put(MdcConstants.PROFILE, profile);
+		MDC.put(MdcConstants.REQUEST_URI, ServletUtils.getRequestURI(this.request));
+		MDC.put(MdcConstants.REMOTE_USER, ServletUtils.getRemoteUser(this.request));
+		MDC.put(MdcConstants.REMOTE_ADDR, IpConfigUtils.parseIpAddress(this.request));
+		MDC.put(MdcConstants.LOCAL_ADDR, ServletUtils.getLocalAddr(this.request));
+		CHAIN.doFilter(this.request, this.response);
+	}
+
+	@Benchmark
+	public void filter() throws IOException, ServletException {
+		this.filter.doFilter(this.request, this.response, CHAIN);
+	}
+
+	@Benchmark
+	public void previousTaskCapture(Blackhole blackhole) {
+		try (MdcSnapshot.Scope ignored = MdcSnapshot.attach(context())) {
+			Map<String, String> context = MDC.getCopyOfContextMap();
+			blackhole.consume((Runnable) () -> {
+				MDC.setContextMap(context);
+				TASK.run();
+			});
+		}
+	}
+
+	@Benchmark
+	public void snapshotTaskCapture(Blackhole blackhole) {
+		try (MdcSnapshot.Scope ignored = MdcSnapshot.attach(context())) {
+			blackhole.consume(MdcSnapshot.wrap(TASK));
+		}
+	}
+
+	private static Map<String, String> context() {
+		return Collections.singletonMap(MdcConstants.REQUEST_URI, "/api/orders/42");
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BootstrapLogFilterBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.framework.web;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.spring.framework.web.util.CustomHttpServletRequestWrapper;
+
+/**
+ * Throughput of reading a 100 MB request body in 8 KB chunks, the way a controller or a
+ * message converter drains an upload.
+ * <p>
+ * {@code captureOff} reads the request as is, {@code captureOn} reads it through a
+ * {@link CustomHttpServletRequestWrapper} capturing the first 4096 bytes. Both should run
+ * at the same speed and the capturing one should allocate no more than a few objects per
+ * upload, whatever the body size. With an {@code application/octet-stream} body the
+ * wrapper does not capture at all.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 00:40
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx512m")
+public class RequestBodyCaptureBenchmark {
+
+	private static final int BODY_SIZE = 100 * 1024 * 1024;
+
+	@Param({ "application/json", "application/octet-stream" })
+	public String contentType;
+
+	private byte[] body;
+
+	private byte[] chunk;
+
+	@Setup
+	public void setup() {
+		this.body = new byte[BODY_SIZE];
+		for (int i = 0; i < BODY_SIZE; i++) {
+			this.body[i] = (byte) ('a' + i % 26);
+		}
+		this.chunk = new byte[8192];
+	}
+
+	@Benchmark
+	public long captureOff() throws IOException {
+		return drain(request());
+	}
+
+	@Benchmark
+	public long captureOn() throws IOException {
+		CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(request());
+		long read = drain(wrapper);
+		wrapper.getContent();
+		wrapper.release();
+		return read;
+	}
+
+	private long drain(HttpServletRequest request) throws IOException {
+		ServletInputStream inputStream = request.getInputStream();
+		long total = 0;
+		int count;
+		while ((count = inputStream.read(this.chunk, 0, this.chunk.length)) != -1) {
+			total += count;
+		}
+		return total;
+	}
+
+	private HttpServletRequest request() {
+		ServletInputStream inputStream = new BodyInputStream(this.body);
+		return (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getInputStream":
+							return inputStream;
+						case "getContentType":
+							return this.contentType;
+						case "getCharacterEncoding":
+							return "UTF-8";
+						default:
+							return null;
+					}
+				});
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RequestBodyCaptureBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+	/**
+	 * Servlet input stream over an in-memory body, standing in for the connector.
+	 */
+	private static final class BodyInputStream extends ServletInputStream {
+
+		private final byte[] body;
+
+		private int position;
+
+		BodyInputStream(byte[] body) {
+			this.body = body;
+		}
+
+		@Override
+		public int read() {
+			return (this.position < this.body.length) ? (this.body[this.position++] & 0xFF) : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (this.position >= this.body.length) {
+				return -1;
+			}
+			int count = Math.min(len, this.body.length - this.position);
+			System.arraycopy(this.body, this.position, b, off, count);
+			this.position += count;
+			return count;
+		}
+
+		@Override
+		public boolean isFinished() {
+			return this.position >= this.body.length;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+		}
+
+	}
+
+}
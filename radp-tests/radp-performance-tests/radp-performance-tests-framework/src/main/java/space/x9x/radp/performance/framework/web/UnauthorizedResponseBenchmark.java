@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package space.x9x.radp.performance.framework.web;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import space.x9x.radp.spring.framework.dto.extension.ResponseBuilder;
+import space.x9x.radp.spring.framework.json.support.JSONHelper;
+import space.x9x.radp.spring.framework.web.util.ServletUtils;
+
+/**
+ * Throughput of rejecting unauthenticated requests with a 401 JSON body, as
+ * {@code JwtAuthorizationFilter} does for every request without a valid token.
+ * <p>
+ * {@code previous} resolves the response builder, builds the failure and serializes it
+ * for every response. {@code constantMessage} and {@code parameterizedMessage} go through
+ * {@link ServletUtils#wrap(HttpServletResponse, int, String, String, Object...)}, which
+ * reuses the encoded body or only encodes the formatted message.
+ *
+ * @author RADP x9x
+ * @since 2026-10-18 01:10
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class UnauthorizedResponseBenchmark {
+
+	private HttpServletResponse response;
+
+	private long sequence;
+
+	@Setup
+	public void setup() {
+		ServletOutputStream outputStream = new ServletOutputStream() {
+
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+			}
+
+		};
+		this.response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { HttpServletResponse.class },
+				(proxy, method, args) -> "getOutputStream".equals(method.getName()) ? outputStream : null);
+	}
+
+	@Benchmark
+	public void previous() throws IOException {
+		byte[] content = JSONHelper.json()
+			.toJSONBytes(ResponseBuilder.builder().buildFailure("0400", "token is required"));
+		this.response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+		this.response.setContentType(ServletUtils.APPLICATION_JSON_UTF8_VALUE);
+		this.response.setContentLength(content.length);
+		this.response.getOutputStream().write(content);
+	}
+
+	@Benchmark
+	public void constantMessage() throws IOException {
+		ServletUtils.wrap(this.response, HttpServletResponse.SC_UNAUTHORIZED, "0400", "token is required");
+	}
+
+	@Benchmark
+	public void parameterizedMessage() throws IOException {
+		ServletUtils.wrap(this.response, HttpServletResponse.SC_UNAUTHORIZED, "0400", "token expired at {}",
+				this.sequence++);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(UnauthorizedResponseBenchmark.class.getSimpleName())
+			.addProfiler(GCProfiler.class)
+			.build()).run();
+	}
+
+}